@@ -26,6 +26,12 @@ public enum KeycloakConfigs implements SystemProperties {
     ADMIN_REALM("keycloak.admin.realm"),
     ADMIN_CLIENT_ID("KEYCLOAK_CLIENT_ID"),
     ADMIN_CLIENT_SECRET("KEYCLOAK_SECRET"),
+    ADMIN_TOKEN_REFRESH_AHEAD("KEYCLOAK_ADMIN_TOKEN_REFRESH_AHEAD"),
+    HTTP_MAX_CONNECTIONS("KEYCLOAK_HTTP_MAX_CONNECTIONS"),
+    HTTP_MAX_CONNECTIONS_PER_ROUTE("KEYCLOAK_HTTP_MAX_CONNECTIONS_PER_ROUTE"),
+    HTTP_CONNECT_TIMEOUT("KEYCLOAK_HTTP_CONNECT_TIMEOUT"),
+    HTTP_SOCKET_TIMEOUT("KEYCLOAK_HTTP_SOCKET_TIMEOUT"),
+    HTTP_CONNECTION_TTL("KEYCLOAK_HTTP_CONNECTION_TTL"),
     APP_REALM("SCRIPT_CLIENT_ID_VALUE"),
     IDP_URL("KEYCLOAK_IDP_URL"),
     TOKEN_PATH("KEYCLOAK_TOKEN_PATH"),
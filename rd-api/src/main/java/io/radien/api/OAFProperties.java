@@ -57,6 +57,10 @@ public enum OAFProperties implements SystemProperties{
 	SYS_MAIL_STARTTLS_ENABLE("system.mail.smtp.starttls.enable"),
 	SYS_MAIL_TRANSPORT_PROTOCOL("system.mail.transport.protocol"),
 	SYS_MAIL_SMTP_PORT("system.mail.smtp.port"),
+	SYS_MAIL_POOL_MAX_CONNECTIONS("system.mail.pool.max.connections"),
+	SYS_MAIL_POOL_MAX_MESSAGES_PER_CONNECTION("system.mail.pool.max.messages.per.connection"),
+	SYS_MAIL_SENDER_THREADS("system.mail.sender.threads"),
+	SYS_MAIL_SENDER_QUEUE_CAPACITY("system.mail.sender.queue.capacity"),
 
     SYS_DB_TABLES_AUTOCREATE("system.database.tables.autocreate"),
     SYS_DB_DATA_AUTOLOAD("system.database.data.autoload"),
@@ -119,6 +123,30 @@ public enum OAFProperties implements SystemProperties{
 
     SYSTEM_MS_SECRET_ECM("system.ms.secret.ecm"),
 
+    SYSTEM_MS_CLIENT_MAX_CONNECTIONS("system.ms.client.max.connections"),
+    SYSTEM_MS_CLIENT_MAX_CONNECTIONS_PER_HOST("system.ms.client.max.connections.per.host"),
+    SYSTEM_MS_CLIENT_CONNECT_TIMEOUT("system.ms.client.connect.timeout"),
+    SYSTEM_MS_CLIENT_READ_TIMEOUT("system.ms.client.read.timeout"),
+    SYSTEM_MS_CLIENT_CONNECTION_TTL("system.ms.client.connection.ttl"),
+    SYSTEM_MS_CLIENT_STATISTICS_ENABLED("system.ms.client.statistics.enabled"),
+
+    SYSTEM_AUTHZ_CACHE_ENABLED("system.authz.cache.enabled"),
+    SYSTEM_AUTHZ_CACHE_TTL("system.authz.cache.ttl"),
+    SYSTEM_AUTHZ_CACHE_MAX_SIZE("system.authz.cache.max.size"),
+
+    SYSTEM_PAGE_COUNT_CACHE_TTL("system.page.count.cache.ttl"),
+    SYSTEM_PAGE_COUNT_CACHE_MAX_SIZE("system.page.count.cache.max.size"),
+
+    SYSTEM_BATCH_CHUNK_SIZE("system.batch.chunk.size"),
+    SYSTEM_BATCH_PARALLELISM("system.batch.parallelism"),
+
+    SYSTEM_SQS_MAX_SESSIONS("system.sqs.max.sessions"),
+    SYSTEM_SQS_BUFFER_CAPACITY("system.sqs.buffer.capacity"),
+    SYSTEM_SQS_FLUSH_INTERVAL("system.sqs.flush.interval"),
+
+    SYSTEM_ECM_CONTENT_CACHE_TTL("system.ecm.content.cache.ttl"),
+    SYSTEM_ECM_CONTENT_CACHE_MAX_SIZE("system.ecm.content.cache.max.size"),
+
     AUTH_LOGOUT_URI("auth.logoutUri"),
 
     LOGIN_HOOK_ACTIVE("login_hook_active"),
@@ -43,6 +43,8 @@ public enum SystemVariables {
     PAGE_TOTALS("totalPages", "Total Pages"),
     PAGE_TOTAL_RESULTS("totalResults", "Total Results"),
     PAGE_RESULTS("results", "Results"),
+    PAGE_NEXT_CURSOR("nextCursor", "Next Cursor"),
+    PAGE_COUNT_MODE("countMode", "Count Mode"),
     TENANT_ID("tenantId", "Tenant ID"),
     TENANT_NAME("tenantName", "Tenant Name"),
     IS_TENANT_ACTIVE("isTenantActive", "Is Tenant Active"),
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.entity;
+
+/**
+ * Describes how the total number of results of a {@link Page} is (or was) obtained.
+ * Counting requires a query with the same predicate as the page, so it can be skipped,
+ * estimated or served from a short lived cache instead of being executed on every page.
+ */
+public enum CountMode {
+    /** Count not requested, totals are {@link Page#UNKNOWN} */
+    NONE,
+    /** Exact count, executed for the page */
+    EXACT,
+    /** Estimated count, a lower bound (or a cached value) that may differ from the exact one */
+    ESTIMATED,
+    /** Count served from the cache (exact when stored, may be stale up to its time to live) */
+    CACHED
+}
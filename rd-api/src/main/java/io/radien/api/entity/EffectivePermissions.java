@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.entity;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Snapshot of the effective permissions of a user (optionally restricted to a tenant).
+ * Permission identifiers are kept as a sorted primitive array, so lookups are done by binary search.
+ * The version is derived from the content, which means that two snapshots holding the same
+ * permissions always have the same version (regardless of the node that has built them)
+ */
+public class EffectivePermissions implements Serializable {
+
+    private static final long serialVersionUID = -4290718245917153162L;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Long userId;
+    private Long tenantId;
+    private long version;
+    private long[] permissionIds;
+
+    /**
+     * Empty constructor (Required for JSON binding)
+     */
+    public EffectivePermissions() {
+        this.permissionIds = new long[0];
+        this.version = version(this.permissionIds);
+    }
+
+    /**
+     * Effective permissions constructor
+     * @param userId user identifier
+     * @param tenantId tenant identifier (null means all tenants)
+     * @param permissionIds permission identifiers (duplicates and null values are discarded)
+     */
+    public EffectivePermissions(Long userId, Long tenantId, Collection<Long> permissionIds) {
+        this.userId = userId;
+        this.tenantId = tenantId;
+        this.permissionIds = permissionIds == null ? new long[0] :
+                permissionIds.stream().filter(id -> id != null).mapToLong(Long::longValue).sorted().distinct().toArray();
+        this.version = version(this.permissionIds);
+    }
+
+    /**
+     * Checks if the given permission is part of this snapshot
+     * @param permissionId permission identifier
+     * @return true if the permission is granted, otherwise false
+     */
+    public boolean contains(Long permissionId) {
+        return permissionId != null && Arrays.binarySearch(permissionIds, permissionId) >= 0;
+    }
+
+    /**
+     * Calculates the version for a sorted set of permission identifiers (FNV-1a hash)
+     * @param sortedIds sorted permission identifiers
+     * @return the calculated version
+     */
+    public static long version(long[] sortedIds) {
+        long hash = FNV_OFFSET_BASIS;
+        for (long id : sortedIds) {
+            for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+                hash ^= (id >>> shift) & 0xff;
+                hash *= FNV_PRIME;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the user identifier
+     * @return the user identifier
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Sets the user identifier
+     * @param userId user identifier
+     */
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Gets the tenant identifier
+     * @return the tenant identifier (null means all tenants)
+     */
+    public Long getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Sets the tenant identifier
+     * @param tenantId tenant identifier
+     */
+    public void setTenantId(Long tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * Gets the version of this snapshot
+     * @return the version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the version of this snapshot
+     * @param version snapshot version
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Gets the sorted permission identifiers
+     * @return the permission identifiers
+     */
+    public long[] getPermissionIds() {
+        return permissionIds;
+    }
+
+    /**
+     * Sets the permission identifiers (they will be sorted if required)
+     * @param permissionIds permission identifiers
+     */
+    public void setPermissionIds(long[] permissionIds) {
+        this.permissionIds = permissionIds == null ? new long[0] : Arrays.stream(permissionIds).sorted().distinct().toArray();
+    }
+}
@@ -21,7 +21,11 @@ import java.util.List;
 import javax.json.JsonArray;
 
 /**
- * Page type constructor for the generic show information
+ * Page type constructor for the generic show information.
+ * Pages are requested by page number (offset mode) or by cursor (keyset mode). In keyset mode the page
+ * carries the cursor of the next page (null for the last one), and the current page and totals are
+ * {@link #UNKNOWN} unless the count was requested.
+ * The {@link CountMode} tells how the totals were obtained (exact, estimated, cached or not counted).
  *
  * @author Nuno Santana
  * @author Bruno Gama
@@ -29,11 +33,17 @@ import javax.json.JsonArray;
 public class Page<T extends Serializable> implements Serializable {
 
     private static final long serialVersionUID = 6812608123262067424L;
+
+    /** Value of the page number and totals when they are not known (keyset mode) */
+    public static final int UNKNOWN = -1;
+
     private List<? extends T> results;
     private transient JsonArray jsonValues;
     private int currentPage;
     private int totalResults;
     private int totalPages;
+    private String nextCursor;
+    private CountMode countMode = CountMode.EXACT;
 
     /**
      * Empty page constructor. Will create an empty page
@@ -152,4 +162,36 @@ public class Page<T extends Serializable> implements Serializable {
     public void setJsonValues(JsonArray jsonValues) {
         this.jsonValues = jsonValues;
     }
-}
\ No newline at end of file
+
+    /**
+     * Page getter for the cursor of the next page (keyset mode)
+     * @return the cursor of the next page, null when there is no next page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Setter for the cursor of the next page
+     * @param nextCursor to set
+     */
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Page getter for the way the totals were obtained
+     * @return the count mode
+     */
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
+    /**
+     * Setter for the way the totals were obtained
+     * @param countMode to set
+     */
+    public void setCountMode(CountMode countMode) {
+        this.countMode = countMode;
+    }
+}
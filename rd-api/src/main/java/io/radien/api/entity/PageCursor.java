@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.entity;
+
+import io.radien.exception.InvalidPageCursorException;
+import java.io.ByteArrayInputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonException;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+
+/**
+ * Cursor of a page requested in keyset (seek) mode. Holds the sort key values and the id of the
+ * last element of the previous page, so the next page is retrieved by seeking the elements after it
+ * (instead of skipping all the previous rows). Clients handle it as an opaque (url safe) string.
+ */
+public class PageCursor implements Serializable {
+
+    private static final long serialVersionUID = -2203146436917350227L;
+
+    private final List<String> values;
+    private final Long id;
+
+    /**
+     * Page cursor constructor
+     * @param values sort key values (as text) of the last element, in the sort by order
+     * @param id identifier of the last element
+     */
+    public PageCursor(List<String> values, Long id) {
+        this.values = Collections.unmodifiableList(new ArrayList<>(values));
+        this.id = id;
+    }
+
+    /**
+     * Gets the sort key values of the last element
+     * @return the sort key values
+     */
+    public List<String> getValues() {
+        return values;
+    }
+
+    /**
+     * Gets the identifier of the last element
+     * @return the identifier
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Encodes the cursor into its (url safe) string form
+     * @return the encoded cursor
+     */
+    public String encode() {
+        JsonArrayBuilder builder = Json.createArrayBuilder();
+        for (String value : values) {
+            if (value == null) {
+                builder.addNull();
+            } else {
+                builder.add(value);
+            }
+        }
+        builder.add(id);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(builder.build().toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor from its string form
+     * @param cursor encoded cursor
+     * @return the cursor, or null if no cursor was given (first page)
+     * @throws InvalidPageCursorException if the cursor is not valid
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.trim().isEmpty()) {
+            return null;
+        }
+        JsonArray array;
+        try (JsonReader reader = Json.createReader(new ByteArrayInputStream(
+                Base64.getUrlDecoder().decode(cursor.trim())))) {
+            array = reader.readArray();
+        } catch (IllegalArgumentException | JsonException e) {
+            throw new InvalidPageCursorException("Invalid page cursor " + cursor, e);
+        }
+        if (array.isEmpty() || array.get(array.size() - 1).getValueType() != JsonValue.ValueType.NUMBER) {
+            throw new InvalidPageCursorException("Invalid page cursor " + cursor);
+        }
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < array.size() - 1; i++) {
+            JsonValue value = array.get(i);
+            if (value.getValueType() == JsonValue.ValueType.NULL) {
+                values.add(null);
+            } else if (value.getValueType() == JsonValue.ValueType.STRING) {
+                values.add(array.getString(i));
+            } else {
+                throw new InvalidPageCursorException("Invalid page cursor " + cursor);
+            }
+        }
+        return new PageCursor(values, array.getJsonNumber(array.size() - 1).longValue());
+    }
+}
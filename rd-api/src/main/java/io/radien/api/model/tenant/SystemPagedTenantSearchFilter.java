@@ -25,6 +25,8 @@ public interface SystemPagedTenantSearchFilter {
     void setClientEmail(String clientEmail);
     Long getParentId();
     void setParentId(Long parentId);
+    Long getSubtreeOf();
+    void setSubtreeOf(Long subtreeOf);
     boolean isExact();
     void setExact(boolean exact);
     boolean isLogicConjunction();
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.security;
+
+import com.auth0.jwk.Jwk;
+import com.auth0.jwk.JwkException;
+import com.auth0.jwk.JwkProvider;
+import com.auth0.jwk.SigningKeyNotFoundException;
+import com.auth0.jwk.UrlJwkProvider;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link JwkProvider} that keeps the keys of a JWKS document in memory (indexed by kid).
+ * <ul>
+ *     <li>The document is fetched again once the keys time to live is over.</li>
+ *     <li>Refresh ahead: near the expiration, one single caller refreshes the keys
+ *     while the others keep using the current ones.</li>
+ *     <li>Unknown kid forces a refresh, limited by a minimum interval between fetches.</li>
+ *     <li>Kids not found even after a refresh are cached as unknown for a while (negative caching).</li>
+ * </ul>
+ * Instances are shared per JWKS url through {@link #forUrl(String)}, so every component
+ * that validates tokens against the same issuer reuses the same keys.
+ */
+public class CachingJwkProvider implements JwkProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingJwkProvider.class);
+
+    public static final long DEFAULT_TIME_TO_LIVE = 600000L;
+    public static final long DEFAULT_REFRESH_AHEAD = 60000L;
+    public static final long DEFAULT_MIN_REFRESH_INTERVAL = 30000L;
+    public static final long DEFAULT_NEGATIVE_TIME_TO_LIVE = 60000L;
+
+    private static final Map<String, CachingJwkProvider> providers = new ConcurrentHashMap<>();
+
+    private final Loader loader;
+    private final long timeToLive;
+    private final long refreshAhead;
+    private final long minRefreshInterval;
+    private final long negativeTimeToLive;
+    private final LongSupplier clock;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final Map<String, Long> unknownKids = new ConcurrentHashMap<>();
+
+    private volatile Map<String, Jwk> keys = Collections.emptyMap();
+    private volatile long loadedAt;
+    private volatile long lastFetchAt;
+    private volatile boolean loaded;
+
+    private final AtomicLong fetches = new AtomicLong();
+    private final AtomicLong fetchFailures = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong negativeHits = new AtomicLong();
+
+    /**
+     * Source of the keys (the whole JWKS document)
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Retrieves all the keys
+         * @return list of keys
+         * @throws JwkException in case of failure while retrieving the keys
+         */
+        List<Jwk> load() throws JwkException;
+    }
+
+    /**
+     * Caching jwk provider constructor
+     * @param loader source of the keys
+     * @param timeToLive time (in milliseconds) the keys are considered valid
+     * @param refreshAhead time (in milliseconds) before the expiration in which the keys get refreshed
+     * @param minRefreshInterval minimum time (in milliseconds) between two fetches triggered by unknown kids
+     * @param negativeTimeToLive time (in milliseconds) an unknown kid is remembered
+     * @param clock source of the current time in milliseconds
+     */
+    public CachingJwkProvider(Loader loader, long timeToLive, long refreshAhead, long minRefreshInterval,
+                              long negativeTimeToLive, LongSupplier clock) {
+        if (timeToLive <= 0 || refreshAhead < 0 || refreshAhead >= timeToLive) {
+            throw new IllegalArgumentException("Invalid time to live or refresh ahead settings");
+        }
+        this.loader = loader;
+        this.timeToLive = timeToLive;
+        this.refreshAhead = refreshAhead;
+        this.minRefreshInterval = minRefreshInterval;
+        this.negativeTimeToLive = negativeTimeToLive;
+        this.clock = clock;
+    }
+
+    /**
+     * Caching jwk provider constructor, using the default settings
+     * @param url JWKS document url
+     */
+    public CachingJwkProvider(URL url) {
+        this(new UrlJwkProvider(url)::getAll, DEFAULT_TIME_TO_LIVE, DEFAULT_REFRESH_AHEAD,
+                DEFAULT_MIN_REFRESH_INTERVAL, DEFAULT_NEGATIVE_TIME_TO_LIVE, System::currentTimeMillis);
+    }
+
+    /**
+     * Retrieves the shared provider for a JWKS url (creating it in the first invocation)
+     * @param jwkUrl JWKS document url
+     * @return the shared provider
+     * @throws MalformedURLException in case of invalid url
+     */
+    public static CachingJwkProvider forUrl(String jwkUrl) throws MalformedURLException {
+        CachingJwkProvider provider = providers.get(jwkUrl);
+        if (provider == null) {
+            CachingJwkProvider created = new CachingJwkProvider(new URL(jwkUrl));
+            provider = providers.putIfAbsent(jwkUrl, created);
+            if (provider == null) {
+                provider = created;
+            }
+        }
+        return provider;
+    }
+
+    /**
+     * Retrieves the key for the given kid
+     * @param keyId key identifier (kid). May be null when the document contains one single key
+     * @return the key
+     * @throws JwkException in case the key could not be found or the document could not be retrieved
+     */
+    @Override
+    public Jwk get(String keyId) throws JwkException {
+        long now = clock.getAsLong();
+        if (!loaded || now >= loadedAt + timeToLive) {
+            refresh(now, true);
+        } else if (now >= loadedAt + timeToLive - refreshAhead) {
+            refreshAhead(now);
+        }
+
+        Jwk jwk = find(keyId);
+        if (jwk != null) {
+            hits.incrementAndGet();
+            return jwk;
+        }
+        misses.incrementAndGet();
+
+        String unknownKey = String.valueOf(keyId);
+        Long unknownUntil = unknownKids.get(unknownKey);
+        if (unknownUntil != null) {
+            if (now < unknownUntil) {
+                negativeHits.incrementAndGet();
+                throw new SigningKeyNotFoundException("No key found with kid " + keyId, null);
+            }
+            unknownKids.remove(unknownKey);
+        }
+
+        if (now - lastFetchAt >= minRefreshInterval) {
+            refresh(now, false);
+            jwk = find(keyId);
+            if (jwk != null) {
+                return jwk;
+            }
+            unknownKids.put(unknownKey, now + negativeTimeToLive);
+        }
+        throw new SigningKeyNotFoundException("No key found with kid " + keyId, null);
+    }
+
+    private Jwk find(String keyId) {
+        Map<String, Jwk> current = keys;
+        if (keyId == null) {
+            return current.size() == 1 ? current.values().iterator().next() : null;
+        }
+        return current.get(keyId);
+    }
+
+    /**
+     * Refreshes the keys (only one caller fetches the document, the others wait for it)
+     * @param now current time
+     * @param ifExpired indicates that the refresh is not needed if other caller already loaded valid keys.
+     * In any case (once the keys were loaded) fetches are limited by the minimum refresh interval
+     * @throws JwkException in case the keys could not be retrieved and there are no keys to be used
+     */
+    private void refresh(long now, boolean ifExpired) throws JwkException {
+        refreshLock.lock();
+        try {
+            if (ifExpired && loaded && now < loadedAt + timeToLive) {
+                return;
+            }
+            if (loaded && now - lastFetchAt < minRefreshInterval) {
+                return;
+            }
+            fetch(now);
+        } catch (JwkException e) {
+            if (!loaded) {
+                throw e;
+            }
+            log.warn("Unable to refresh the JWKS keys, keeping the current ones", e);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Refreshes the keys only if no other caller is already doing it.
+     * Failures are ignored since the current keys are still valid
+     * @param now current time
+     */
+    private void refreshAhead(long now) {
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            if (now >= loadedAt + timeToLive - refreshAhead && now - lastFetchAt >= minRefreshInterval) {
+                fetch(now);
+            }
+        } catch (JwkException e) {
+            log.warn("Unable to refresh the JWKS keys ahead of their expiration", e);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void fetch(long now) throws JwkException {
+        lastFetchAt = now;
+        fetches.incrementAndGet();
+        List<Jwk> jwks;
+        try {
+            jwks = loader.load();
+        } catch (JwkException | RuntimeException e) {
+            fetchFailures.incrementAndGet();
+            throw e;
+        }
+        Map<String, Jwk> map = new HashMap<>();
+        for (Jwk jwk : jwks) {
+            map.put(jwk.getId(), jwk);
+        }
+        keys = Collections.unmodifiableMap(map);
+        loadedAt = now;
+        loaded = true;
+        unknownKids.clear();
+    }
+
+    /**
+     * Gets the number of times the JWKS document was fetched
+     * @return the fetch count
+     */
+    public long getFetchCount() {
+        return fetches.get();
+    }
+
+    /**
+     * Gets the number of failed fetches
+     * @return the fetch failure count
+     */
+    public long getFetchFailureCount() {
+        return fetchFailures.get();
+    }
+
+    /**
+     * Gets the number of lookups served by the cached keys
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of lookups for kids that were not among the cached keys
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of lookups rejected because the kid was known as unknown
+     * @return the negative hit count
+     */
+    public long getNegativeHitCount() {
+        return negativeHits.get();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.security;
+
+import java.io.Serializable;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.inject.Typed;
+import javax.enterprise.inject.spi.CDI;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+/**
+ * Token place holder kept for the duration of a request. Used instead of the session scoped
+ * place holder when the stateless mode is enabled (property auth.stateless.enabled), so propagating
+ * the access token never creates (or touches) the http session.
+ */
+@RequestScoped
+@Typed(RequestTokenHolder.class)
+public class RequestTokenHolder implements TokensPlaceHolder, Serializable {
+    private static final long serialVersionUID = -3361727429135402418L;
+
+    public static final String STATELESS_PROPERTY = "auth.stateless.enabled";
+
+    private String accessToken;
+    private String refreshToken;
+
+    /**
+     * Retrieves the token place holder to be used by the current request: the request scoped one in
+     * stateless mode, otherwise the default (session scoped) one
+     * @return the token place holder
+     */
+    public static TokensPlaceHolder current() {
+        if (isStateless()) {
+            return CDI.current().select(RequestTokenHolder.class).get();
+        }
+        return CDI.current().select(TokensPlaceHolder.class).get();
+    }
+
+    /**
+     * Indicates if the stateless mode (no http session) is enabled
+     * @return true if enabled, false if not enabled or the configuration is not available
+     */
+    public static boolean isStateless() {
+        try {
+            return ConfigProvider.getConfig().getOptionalValue(STATELESS_PROPERTY, Boolean.class).orElse(Boolean.FALSE);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Token place holder access token getter
+     * @return token place holder access token
+     */
+    @Override
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    /**
+     * Token place holder access token setter
+     * @param accessToken to be set
+     */
+    @Override
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
+
+    /**
+     * Token place holder refresh token getter
+     * @return token place holder refresh token
+     */
+    @Override
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    /**
+     * Token place holder refresh token setter
+     * @param refreshToken to be set
+     */
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
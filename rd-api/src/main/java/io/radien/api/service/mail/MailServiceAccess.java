@@ -17,6 +17,8 @@ package io.radien.api.service.mail;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 
 import com.healthmarketscience.rmiio.RemoteInputStream;
 
@@ -45,6 +47,22 @@ public interface MailServiceAccess extends ServiceAccess {
 	 */
 	void sendMailAsync(Mail mailMessage);
 
+	/**
+	 * Sends the emails asynchronous to receivers, informing the outcome of each one of them
+	 * @param mailMessages to be sent
+	 * @param listener informed with each email and whether it was sent
+	 */
+	void sendMailsAsync(List<? extends Mail> mailMessages, BiConsumer<Mail, Boolean> listener);
+
+	/**
+	 * Sends the emails asynchronous to receivers, informing the outcome of each one of them.
+	 * The emails that are still pending once the sending is cancelled are not sent (and informed as not sent)
+	 * @param mailMessages to be sent
+	 * @param listener informed with each email and whether it was sent
+	 * @param cancelled indicates if the pending emails should no longer be sent
+	 */
+	void sendMailsAsync(List<? extends Mail> mailMessages, BiConsumer<Mail, Boolean> listener, BooleanSupplier cancelled);
+
 	/**
 	 * Mail service creation constructor
 	 * @param users list of users to be sent
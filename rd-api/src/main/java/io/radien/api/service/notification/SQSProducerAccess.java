@@ -1,8 +1,28 @@
 package io.radien.api.service.notification;
 
+import java.util.List;
 import java.util.Map;
 
 public interface SQSProducerAccess {
 
     boolean emailNotification(String email, String notificationViewId, String language, Map<String, String> arguments);
+
+    /**
+     * Publishes the same email notification to several recipients, in batches
+     * @param emails recipients of the notification
+     * @param notificationViewId view id of the notification content
+     * @param language language of the notification content
+     * @param arguments arguments of the notification template
+     * @return the number of notifications published
+     */
+    int emailNotifications(List<String> emails, String notificationViewId, String language, Map<String, String> arguments);
+
+    /**
+     * Buffers an email notification, to be published (in batches) asynchronously
+     * @param email recipient of the notification
+     * @param notificationViewId view id of the notification content
+     * @param language language of the notification content
+     * @param arguments arguments of the notification template
+     */
+    void emailNotificationAsync(String email, String notificationViewId, String language, Map<String, String> arguments);
 }
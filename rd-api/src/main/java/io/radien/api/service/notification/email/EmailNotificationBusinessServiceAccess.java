@@ -1,5 +1,6 @@
 package io.radien.api.service.notification.email;
 
+import io.radien.api.service.notification.email.model.SystemNotificationJob;
 import java.util.List;
 import java.util.Map;
 
@@ -7,4 +8,21 @@ public interface EmailNotificationBusinessServiceAccess {
     boolean notify(String email, String notificationViewId, String language, Map<String, String> arguments);
 
     boolean notifyUsers(List<Long> userIds, String notificationViewId, String language, Map<String, String> arguments);
+
+    /**
+     * Starts a bulk notification job, the notifications being sent asynchronously
+     * @param userIds identifiers of the users to be notified
+     * @param notificationViewId view id of the notification content
+     * @param language language of the notification content
+     * @param arguments arguments of the notification template
+     * @return the identifier of the job
+     */
+    String notifyUsersAsync(List<Long> userIds, String notificationViewId, String language, Map<String, String> arguments);
+
+    /**
+     * Retrieves a bulk notification job (with its progress)
+     * @param jobId identifier of the job
+     * @return the job
+     */
+    SystemNotificationJob getJob(String jobId);
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.service.notification.email.model;
+
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * Bulk (asynchronous) email notification job, holding the progress of the sending
+ */
+public interface SystemNotificationJob extends Serializable {
+
+    /**
+     * Job identifier getter
+     * @return the job identifier
+     */
+    String getId();
+
+    /**
+     * Job status getter
+     * @return the job status
+     */
+    NotificationJobStatus getStatus();
+
+    /**
+     * Getter for the number of recipients of the notification
+     * @return the number of recipients
+     */
+    int getTotal();
+
+    /**
+     * Getter for the number of notifications sent
+     * @return the number of notifications sent
+     */
+    int getSent();
+
+    /**
+     * Getter for the number of notifications that could not be sent (including unknown recipients)
+     * @return the number of failed notifications
+     */
+    int getFailed();
+
+    /**
+     * Job creation date getter
+     * @return the job creation date
+     */
+    Date getCreateDate();
+}
@@ -16,6 +16,7 @@
 package io.radien.api.service.permission;
 
 import io.radien.api.Appframeable;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemAction;
 import io.radien.exception.SystemException;
@@ -40,6 +41,19 @@ public interface ActionRESTServiceAccess extends Appframeable {
      */
     public Page<? extends SystemAction> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending) throws SystemException;
 
+    /**
+     * Fetches all Actions
+     * @param search field value to be searched or looked up
+     * @param pageNo initial page number
+     * @param pageSize max page size
+     * @param sortBy sort by filter fields
+     * @param isAscending ascending result list or descending
+     * @param countMode how the total number of actions is counted
+     * @return List of existent Actions
+     * @throws SystemException in any other kind of system issue
+     */
+    public Page<? extends SystemAction> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException;
+
     /**
      * Retrieves a Action by Id
      * @param id of the system action to be search
@@ -15,6 +15,7 @@
  */
 package io.radien.api.service.permission;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemAction;
 import io.radien.api.model.permission.SystemActionSearchFilter;
@@ -52,10 +53,11 @@ public interface ActionServiceAccess extends ServiceAccess {
      * @param pageSize Page size
      * @param sortBy Sorting fields
      * @param isAscending Defines if ascending or descending in relation of sorting fields
+     * @param countMode how the total number of actions is counted.
      * @return a pagination of system actions
      */
     Page<SystemAction> getAll(String search, int pageNo, int pageSize,
-                              List<String> sortBy, boolean isAscending);
+                              List<String> sortBy, boolean isAscending, CountMode countMode);
 
     /**
      * Save an action (Create or Update)
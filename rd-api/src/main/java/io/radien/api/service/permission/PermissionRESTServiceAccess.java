@@ -16,6 +16,7 @@
 package io.radien.api.service.permission;
 
 import io.radien.api.Appframeable;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemPermission;
 import io.radien.exception.SystemException;
@@ -43,6 +44,19 @@ public interface PermissionRESTServiceAccess extends Appframeable {
      */
     public Page<? extends SystemPermission> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending) throws SystemException;
 
+    /**
+     * Fetches all permissions
+     * @param search value to be filtered
+     * @param pageNo of the information to be checked
+     * @param pageSize max page numbers for the necessary requested data
+     * @param sortBy list of values to sort request
+     * @param isAscending in case of true data will come ascending mode if false descending
+     * @param countMode how the total number of permissions is counted
+     * @return list of permissions
+     * @throws SystemException in case of any communication error
+     */
+    public Page<? extends SystemPermission> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException;
+
     /**
      * Fetches list of specific permissions
      * @param search search parameter for matching permissions (optional).
@@ -15,6 +15,7 @@
  */
 package io.radien.api.service.permission;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemPermission;
 import io.radien.api.model.permission.SystemPermissionSearchFilter;
@@ -57,9 +58,10 @@ public interface PermissionServiceAccess extends ServiceAccess {
      * @param pageSize total number of pages returned in the request.
      * @param sortBy sort filter criteria.
      * @param isAscending ascending filter criteria.
+     * @param countMode how the total number of permissions is counted.
      * @return a page of system Permissions.
      */
-    Page<SystemPermission> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending);
+    Page<SystemPermission> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending, CountMode countMode);
 
     /**
      * Creates the requested Permission information into the DB.
@@ -16,6 +16,7 @@
 package io.radien.api.service.permission;
 
 import io.radien.api.Appframeable;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemResource;
 import io.radien.exception.SystemException;
@@ -42,6 +43,19 @@ public interface ResourceRESTServiceAccess extends Appframeable {
      */
     public Page<? extends SystemResource> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending) throws SystemException;
 
+    /**
+     * Fetches all resources
+     * @param search value to be filtered
+     * @param pageNo of the information to be checked
+     * @param pageSize max page numbers for the necessary requested data
+     * @param sortBy list of values to sort request
+     * @param isAscending in case of true data will come ascending mode if false descending
+     * @param countMode how the total number of resources is counted
+     * @return list of resources
+     * @throws SystemException in case of token expiration or any issue on the application
+     */
+    public Page<? extends SystemResource> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException;
+
     /**
      * Retrieves a Resource by Id
      * @param id to be search for
@@ -15,6 +15,7 @@
  */
 package io.radien.api.service.permission;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemResource;
 import io.radien.api.model.permission.SystemResourceSearchFilter;
@@ -53,10 +54,11 @@ public interface ResourceServiceAccess extends ServiceAccess {
      * @param pageSize max page numbers for the necessary requested data
      * @param sortBy list of values to sort request
      * @param isAscending in case of true data will come ascending mode if false descending
+     * @param countMode how the total number of resources is counted.
      * @return list of resources
      */
     Page<SystemResource> getAll(String search, int pageNo, int pageSize,
-                              List<String> sortBy, boolean isAscending);
+                              List<String> sortBy, boolean isAscending, CountMode countMode);
 
     /**
      * Create a resource
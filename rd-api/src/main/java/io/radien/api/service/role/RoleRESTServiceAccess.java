@@ -15,6 +15,7 @@
  */
 package io.radien.api.service.role;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.Appframeable;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
@@ -44,6 +45,21 @@ public interface RoleRESTServiceAccess extends Appframeable{
     public Page<? extends SystemRole> getAll(String search, int pageNo, int pageSize,
                                              List<String> sortBy, boolean isAscending) throws SystemException;
 
+    /**
+     * Retrieves a page object containing roles that matches search parameter, counting the total
+     * number of roles by the given count mode
+     * @param search search parameter for matching roles (optional).
+     * @param pageNo page number where the user is seeing the information.
+     * @param pageSize number of roles to be showed in each page.
+     * @param sortBy Sorting fields
+     * @param isAscending Defines if ascending or descending in relation of sorting fields
+     * @param countMode how the total number of roles is counted
+     * @return page containing system roles
+     * @throws SystemException in case of token expiration or any issue on the application
+     */
+    public Page<? extends SystemRole> getAll(String search, int pageNo, int pageSize, List<String> sortBy,
+                                             boolean isAscending, CountMode countMode) throws SystemException;
+
     /**
      * Search for a role with given id
      * @param id of the role to be retrieved
@@ -15,6 +15,7 @@
  */
 package io.radien.api.service.role;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.model.role.SystemRoleSearchFilter;
@@ -46,9 +47,11 @@ public interface RoleServiceAccess extends ServiceAccess {
      * @param pageSize total number of pages returned in the request.
      * @param sortBy sort filter criteria.
      * @param isAscending ascending filter criteria.
+     * @param countMode how the total number of roles is counted.
      * @return a page of system roles.
      */
-    Page<SystemRole> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending);
+    Page<SystemRole> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending,
+                            CountMode countMode);
 
     /**
      * By a given filter object will try to find all the system roles that match that requested filter
@@ -90,6 +90,14 @@ public interface ActiveTenantRESTServiceAccess {
      */
     public boolean deleteByTenantAndUser(long tenant, long user) throws SystemException;
 
+    /**
+     * Deletes all the active tenants of a user with one single request
+     * @param user user id
+     * @return true if the request has been concluded with success or false if not
+     * @throws SystemException in case of token expiration or if URL is malformed
+     */
+    public boolean deleteByUser(long user) throws SystemException;
+
     /**
      * Updates given active tenant
      * @param activeTenant to be updated
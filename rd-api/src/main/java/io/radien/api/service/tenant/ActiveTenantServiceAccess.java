@@ -47,6 +47,19 @@ public interface ActiveTenantServiceAccess extends ServiceAccess {
      */
     public Page<SystemActiveTenant> getAll(Long tenantId, Long userId, int pageNo, int pageSize, List<String> sortBy, boolean isAscending);
 
+    /**
+     * Gets the active tenants into a pagination mode by cursor (keyset mode).
+     * @param tenantId tenant identifier (Optional)
+     * @param userId user identifier (Optional)
+     * @param cursor of the requested page, null or empty for the first page.
+     * @param pageSize total number of records returned in the request.
+     * @param sortBy sort filter criteria.
+     * @param isAscending ascending filter criteria.
+     * @param count if the total number of active tenants should be counted.
+     * @return a page of system active tenants with the cursor of the next page.
+     */
+    public Page<SystemActiveTenant> getAllByCursor(Long tenantId, Long userId, String cursor, int pageSize, List<String> sortBy, boolean isAscending, boolean count);
+
     /**
      * Gets specific active tenant by the id
      * @param activeTenantId to be searched for
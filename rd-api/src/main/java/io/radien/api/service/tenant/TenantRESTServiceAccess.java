@@ -15,6 +15,7 @@
  */
 package io.radien.api.service.tenant;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenant.SystemTenant;
 import io.radien.api.model.tenant.SystemTenantType;
@@ -55,6 +56,23 @@ public interface TenantRESTServiceAccess {
      */
     public List<? extends SystemTenant> getTenantsByIds(List<Long> ids) throws SystemException;
 
+    /**
+     * Gets all the descendants of a tenant (the whole subtree bellow it)
+     * @param tenantId of the top tenant of the hierarchy
+     * @param includeSelf if the requested tenant should be part of the result
+     * @return list containing the descendant tenants ordered by their depth
+     * @throws SystemException in case of token expiration or any issue on the application
+     */
+    public List<? extends SystemTenant> getDescendants(Long tenantId, boolean includeSelf) throws SystemException;
+
+    /**
+     * Gets all the ancestors of a tenant, starting with the top (root) tenant
+     * @param tenantId of the tenant
+     * @return list containing the ancestor tenants
+     * @throws SystemException in case of token expiration or any issue on the application
+     */
+    public List<? extends SystemTenant> getAncestors(Long tenantId) throws SystemException;
+
     /**
      * Fetches all the existent tenants
      * @param search specific value to be found
@@ -71,6 +89,24 @@ public interface TenantRESTServiceAccess {
                                                 Long parentId, int pageNo, int pageSize, List<String> sortBy, boolean isAscending,
                                                 boolean isExact, boolean isLogicalConjunction) throws SystemException;
 
+    /**
+     * Fetches all the existent tenants
+     * @param search specific value to be found
+     * @param subtreeOf id of the tenant whose descendants (itself included) should be returned, or null
+     * @param pageNo where the user currently is
+     * @param pageSize number of records to be show by page
+     * @param sortBy column to be sorted
+     * @param isAscending true in case values should come sorted in ascending way
+     * @param countMode how the total number of tenants is counted
+     * @return a page of system tenants
+     * @throws SystemException in case of token expiration or any issue on the application
+     */
+    public Page<? extends SystemTenant> getAll(Collection<Long> ids, String name, String tenantKey, SystemTenantType tenantType,
+                                                String clientAddress, String clientZipCode, String clientCity,
+                                                String clientCountry, String clientPhoneNumber, String clientEmail,
+                                                Long parentId, Long subtreeOf, int pageNo, int pageSize, List<String> sortBy, boolean isAscending,
+                                                boolean isExact, boolean isLogicalConjunction, CountMode countMode) throws SystemException;
+
     /**
      * Creates given tenant
      * @param contract to be created
@@ -15,6 +15,7 @@
  */
 package io.radien.api.service.tenant;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenant.SystemPagedTenantSearchFilter;
 import io.radien.api.model.tenant.SystemTenant;
@@ -41,9 +42,11 @@ public interface TenantServiceAccess extends ServiceAccess {
      * @param pageSize total number of pages returned in the request.
      * @param sortBy sort filter criteria.
      * @param isAscending ascending filter criteria.
+     * @param countMode how the total number of tenants is counted.
      * @return a page of system tenants.
      */
-    Page<SystemTenant> getAll(SystemPagedTenantSearchFilter filter, int pageNo, int pageSize, List<String> sortBy, boolean isAscending);
+    Page<SystemTenant> getAll(SystemPagedTenantSearchFilter filter, int pageNo, int pageSize, List<String> sortBy,
+                              boolean isAscending, CountMode countMode);
 
     /**
      * Method to get all the requested tenant children tenants
@@ -52,6 +55,27 @@ public interface TenantServiceAccess extends ServiceAccess {
      */
     List<SystemTenant> getChildren(Long tenantId);
 
+    /**
+     * Retrieves all the descendants of a tenant (using the hierarchy index)
+     * @param tenantId of the top tenant of the hierarchy
+     * @param includeSelf if the requested tenant should be part of the result
+     * @return the descendant tenants, ordered by their depth bellow the requested tenant
+     */
+    List<? extends SystemTenant> getDescendants(Long tenantId, boolean includeSelf);
+
+    /**
+     * Retrieves all the ancestors of a tenant (using the hierarchy index)
+     * @param tenantId of the tenant
+     * @return the ancestor tenants, starting with the top (root) tenant and ending with the direct parent
+     */
+    List<? extends SystemTenant> getAncestors(Long tenantId);
+
+    /**
+     * Rebuilds the hierarchy index from the tenant parent ids if it is not synchronized with the existing tenants
+     * @return true if the index has been rebuilt
+     */
+    boolean synchronizeHierarchy();
+
     /**
      * Gets specific tenant by the id
      * @param tenantId to be searched for
@@ -92,9 +116,16 @@ public interface TenantServiceAccess extends ServiceAccess {
     /**
      * Deletes a requested tenant and all the tenants bellow him
      * @param tenantId to be deleted and all his children
-     * @return true in case of success
+     * @return the ids of the deleted tenants, empty if the tenant does not exist
+     */
+    List<Long> deleteTenantHierarchy(Long tenantId);
+
+    /**
+     * Retrieves the identifiers of a tenant and all the tenants bellow him
+     * @param tenantId of the top tenant of the hierarchy
+     * @return the tenant id followed by the ids of its descendants, empty if the tenant does not exist
      */
-    boolean deleteTenantHierarchy(Long tenantId);
+    List<Long> getHierarchyIds(Long tenantId);
 
     /**
      * Deletes a collection of tenants
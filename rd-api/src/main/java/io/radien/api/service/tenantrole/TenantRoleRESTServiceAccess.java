@@ -15,10 +15,12 @@
  */
 package io.radien.api.service.tenantrole;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.model.tenantrole.SystemTenantRole;
 import io.radien.exception.SystemException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,6 +44,20 @@ public interface TenantRoleRESTServiceAccess {
     Page<? extends SystemTenantRole> getAll(Long tenantId, Long roleId, int pageNo, int pageSize,
                                             List<String> sortBy, boolean isAscending) throws SystemException;
 
+    /**
+     * Retrieves TenantRole association using pagination approach
+     * @param pageNo page number
+     * @param pageSize page size
+     * @param sortBy any specific column
+     * @param isAscending true in case records should be filter in ascending order
+     * @param countMode how the total number of associations is counted
+     * @return Page containing TenantRole associations (Chunk/Portion compatible
+     * with parameter Page number and Page size).
+     * @throws SystemException in case of any error
+     */
+    Page<? extends SystemTenantRole> getAll(Long tenantId, Long roleId, int pageNo, int pageSize,
+                                            List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException;
+
     /**
      * Obtains the TenantRole Id (for given Tenant and role identifiers)
      * @param tenant Tenant identifier (mandatory)
@@ -84,6 +100,14 @@ public interface TenantRoleRESTServiceAccess {
      */
     Boolean exists(Long tenantId, Long roleId) throws SystemException;
 
+    /**
+     * Deletes all the Tenant Role associations (and their users and permissions) of the given tenants
+     * @param tenantIds tenant identifiers
+     * @return Boolean indicating if the operation was concluded with success.
+     * @throws SystemException in case of any error
+     */
+    Boolean deleteByTenants(Collection<Long> tenantIds) throws SystemException;
+
     /**
      * Retrieves TenantRole associations that met the following parameter
      * @param tenantId Tenant identifier
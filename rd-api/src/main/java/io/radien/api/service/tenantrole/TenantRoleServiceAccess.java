@@ -15,6 +15,7 @@
  */
 package io.radien.api.service.tenantrole;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenantrole.SystemTenantRole;
 import io.radien.api.model.tenantrole.SystemTenantRoleSearchFilter;
@@ -23,6 +24,7 @@ import io.radien.api.service.ServiceAccess;
 import io.radien.exception.InvalidArgumentException;
 import io.radien.exception.UniquenessConstraintException;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,11 +43,27 @@ public interface TenantRoleServiceAccess extends ServiceAccess {
      * @param pageSize total number of pages returned in the request.
      * @param sortBy sort filter criteria (Optional).
      * @param isAscending ascending filter criteria.
+     * @param countMode how the total number of associations is counted.
      * @return a page of system tenant role associations.
      */
     Page<SystemTenantRole> getAll(Long tenantId, Long roleId,
                                   int pageNo, int pageSize, List<String> sortBy,
-                                  boolean isAscending);
+                                  boolean isAscending, CountMode countMode);
+
+    /**
+     * Gets the tenant role associations into a pagination mode by cursor (keyset mode).
+     * @param tenantId tenant identifier (Optional)
+     * @param roleId role identifier (Optional)
+     * @param cursor of the requested page, null or empty for the first page.
+     * @param pageSize total number of records returned in the request.
+     * @param sortBy sort filter criteria (Optional).
+     * @param isAscending ascending filter criteria.
+     * @param count if the total number of associations should be counted.
+     * @return a page of system tenant role associations with the cursor of the next page.
+     */
+    Page<SystemTenantRole> getAllByCursor(Long tenantId, Long roleId,
+                                          String cursor, int pageSize, List<String> sortBy,
+                                          boolean isAscending, boolean count);
 
     /**
      * Gets specific tenant role association by the id
@@ -91,6 +109,14 @@ public interface TenantRoleServiceAccess extends ServiceAccess {
      */
     boolean delete(Long tenantRoleId) throws InvalidArgumentException;
 
+    /**
+     * Deletes all the Tenant Role associations (and their users and permissions) of the given tenants
+     * @param tenantIds tenant identifiers
+     * @return the number of deleted tenant role associations
+     * @throws InvalidArgumentException in case of tenant identifiers not informed
+     */
+    int deleteByTenants(Collection<Long> tenantIds) throws InvalidArgumentException;
+
     /**
      * Retrieves the existent Roles for a User of a specific Tenant
      * @param userId User identifier
@@ -117,6 +143,32 @@ public interface TenantRoleServiceAccess extends ServiceAccess {
      */
     boolean hasPermission(Long userId, Long permissionId, Long tenantId) throws InvalidArgumentException;
 
+    /**
+     * Retrieves, among the informed Roles, the ones that a User has (Optionally for a specific Tenant)
+     * @param userId User identifier
+     * @param roleNames Role names to be evaluated
+     * @param tenantId Tenant identifier (Optional)
+     * @return List containing the granted role names
+     */
+    List<String> getGrantedRoles(Long userId, List<String> roleNames, Long tenantId) throws InvalidArgumentException;
+
+    /**
+     * Retrieves, among the informed Permissions, the ones that a User has (Optionally for a specific Tenant)
+     * @param userId User identifier
+     * @param permissionIds Permission identifiers to be evaluated
+     * @param tenantId Tenant identifier (Optional)
+     * @return List containing the granted permission identifiers
+     */
+    List<Long> getGrantedPermissions(Long userId, List<Long> permissionIds, Long tenantId) throws InvalidArgumentException;
+
+    /**
+     * Retrieves all the Permissions that a User has (Optionally for a specific Tenant)
+     * @param userId User identifier
+     * @param tenantId Tenant identifier (Optional)
+     * @return List containing the (distinct) granted permission identifiers
+     */
+    List<Long> getEffectivePermissions(Long userId, Long tenantId) throws InvalidArgumentException;
+
     /**
      * Retrieves strictly the TenantRole id basing on tenant and role
      * @param tenant tenant identifier
@@ -15,6 +15,7 @@
  */
 package io.radien.api.service.tenantrole;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.model.tenant.SystemTenant;
@@ -45,6 +46,23 @@ public interface TenantRoleUserRESTServiceAccess {
     Page<? extends SystemTenantRoleUser> getAll(Long tenantRoleId, Long userId,
                                                 int pageNo, int pageSize,
                                                 List<String> sortBy, boolean isAscending) throws SystemException;
+
+    /**
+     * Under a pagination approach, retrieves the Tenant Role Users associations that currently exist
+     * @param tenantRoleId tenant role identifier(Acting as filter)
+     * @param userId user identifier (Acting as filter)
+     * @param pageNo page number
+     * @param pageSize page size
+     * @param sortBy criteria field to be sorted
+     * @param isAscending boolean value to show the values ascending or descending way
+     * @param countMode how the total number of associations is counted
+     * @return Page containing TenantRoleUser instances
+     * @throws SystemException in case of any error
+     */
+    Page<? extends SystemTenantRoleUser> getAll(Long tenantRoleId, Long userId,
+                                                int pageNo, int pageSize,
+                                                List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException;
+
     /**
      * Under a pagination approach, retrieves the Ids for Users associations that exist
      * for a TenantRole
@@ -58,6 +76,20 @@ public interface TenantRoleUserRESTServiceAccess {
      */
     Page<Long> getUsersIds(Long tenantId, Long roleId, int pageNo, int pageSize) throws SystemException;
 
+    /**
+     * Under a pagination approach, retrieves the Ids for Users associations that exist
+     * for a TenantRole
+     * (Invokes the core method counterpart and handles TokenExpiration error)
+     * @param tenantId tenant identifier for a TenantRole (Acting as filter)
+     * @param roleId role identifier for a TenantRole (Acting as filter)
+     * @param pageNo page number
+     * @param pageSize page size
+     * @param countMode how the total number of user ids is counted
+     * @return Page containing TenantRoleUser instances
+     * @throws SystemException in case of any error
+     */
+    Page<Long> getUsersIds(Long tenantId, Long roleId, int pageNo, int pageSize, CountMode countMode) throws SystemException;
+
     /**
      * Retrieves TenantRoleUser associations that met the following parameter
      * @param tenantRoleId TenantRole identifier
@@ -104,6 +136,14 @@ public interface TenantRoleUserRESTServiceAccess {
      */
     Boolean delete(Long tenantRoleUserId) throws SystemException;
 
+    /**
+     * Deletes all the TenantRoleUser associations of a user with one single request
+     * @param userId user identifier
+     * @return Boolean indicating if operation was concluded successfully
+     * @throws SystemException in case of any error
+     */
+    Boolean deleteByUser(Long userId) throws SystemException;
+
     /**
      * Retrieves the existent Tenants for a User (Optionally for a specific role)
      * @param userId User identifier
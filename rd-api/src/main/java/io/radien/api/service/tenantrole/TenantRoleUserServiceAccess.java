@@ -15,6 +15,7 @@
  */
 package io.radien.api.service.tenantrole;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenantrole.SystemTenantRoleUser;
 import io.radien.api.model.tenantrole.SystemTenantRoleUserSearchFilter;
@@ -43,10 +44,25 @@ public interface TenantRoleUserServiceAccess extends ServiceAccess {
      * @param pageSize total number of pages returned in the request
      * @param sortBy criteria field to be sorted
      * @param isAscending boolean value to show the values ascending or descending way
+     * @param countMode how the total number of associations is counted
      * @return a page containing system tenant role user associations.
      */
     Page<SystemTenantRoleUser> getAll(Long tenantRoleId, Long userId, int pageNo, int pageSize,
-                                             List<String> sortBy, boolean isAscending);
+                                             List<String> sortBy, boolean isAscending, CountMode countMode);
+
+    /**
+     * Gets the tenant role user associations into a pagination mode by cursor (keyset mode).
+     * @param tenantRoleId search param that corresponds to the TenantRole id (Optional)
+     * @param userId search param that corresponds to the user id (Optional)
+     * @param cursor of the requested page, null or empty for the first page
+     * @param pageSize total number of records returned in the request
+     * @param sortBy criteria field to be sorted
+     * @param isAscending boolean value to show the values ascending or descending way
+     * @param count boolean value to count the total number of associations
+     * @return a page containing system tenant role user associations with the cursor of the next page.
+     */
+    Page<SystemTenantRoleUser> getAllByCursor(Long tenantRoleId, Long userId, String cursor, int pageSize,
+                                              List<String> sortBy, boolean isAscending, boolean count);
 
     /**
      * Gets all the tenant role user associations into a pagination mode.
@@ -54,9 +70,10 @@ public interface TenantRoleUserServiceAccess extends ServiceAccess {
      * @param role search param that corresponds to the TenantRole.roleId (Optional)
      * @param pageNo of the requested information. Where the tenant is.
      * @param pageSize total number of pages returned in the request.
+     * @param countMode how the total number of user ids is counted
      * @return a page containing system tenant role user associations.
      */
-    Page<Long> getAllUserIds(Long tenant, Long role, int pageNo, int pageSize);
+    Page<Long> getAllUserIds(Long tenant, Long role, int pageNo, int pageSize, CountMode countMode);
 
     /**
      * Gets specific tenant role user association by the id
@@ -113,6 +130,14 @@ public interface TenantRoleUserServiceAccess extends ServiceAccess {
      */
     boolean delete(Collection<Long> ids) throws InvalidArgumentException;
 
+    /**
+     * Deletes all the tenant role user associations of a user (with one single statement)
+     * @param userId user identifier (mandatory)
+     * @return the number of deleted associations
+     * @throws InvalidArgumentException if the user identifier is not informed
+     */
+    int deleteByUser(Long userId) throws InvalidArgumentException;
+
     /**
      * Check if an user is already assigned/associated with a tenant role
      * @param userId User identifier
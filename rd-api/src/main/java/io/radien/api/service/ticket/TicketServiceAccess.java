@@ -37,6 +37,8 @@ public interface TicketServiceAccess extends ServiceAccess {
 
     public Page<SystemTicket> getAll(SystemTicketSearchFilter filter, int pageNo, int pageSize, List<String> sortBy, boolean isAscending);
 
+    public Page<SystemTicket> getAllByCursor(SystemTicketSearchFilter filter, String cursor, int pageSize, List<String> sortBy, boolean isAscending, boolean count);
+
     public void update(SystemTicket ticket) throws UniquenessConstraintException, TicketException;
 
     public boolean delete(Long ticketId);
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Optional;
 
 import io.radien.api.Appframeable;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.user.SystemUser;
 import io.radien.exception.SystemException;
@@ -97,6 +98,21 @@ public interface UserRESTServiceAccess extends Appframeable{
                                              Boolean enabled, Boolean processingLocked, Collection<Long> ids, int pageNo, int pageSize, List<String> sortBy,
                                              boolean isAscending, boolean isExact, boolean isLogicalConjunction) throws MalformedURLException;
 
+    /**
+     * Returns all the existent System Users into a pagination format
+     * @param search in case there should only be returned a specific type of users
+     * @param pageNo where the user currently is
+     * @param pageSize number of records to be show by page
+     * @param sortBy any specific column
+     * @param isAscending true in case records should be filter in ascending order
+     * @param countMode how the total number of users is counted
+     * @return a page of all the requested system users
+     * @throws MalformedURLException in case of any issue while attempting communication with the client side
+     */
+    public Page<? extends SystemUser> getAll(String sub, String email, String logon, String firstName, String lastName,
+                                             Boolean enabled, Boolean processingLocked, Collection<Long> ids, int pageNo, int pageSize, List<String> sortBy,
+                                             boolean isAscending, boolean isExact, boolean isLogicalConjunction, CountMode countMode) throws MalformedURLException;
+
     /**
      * Send the update password email to the active/requested user
      * @param id user id to be validated his information and the email sent
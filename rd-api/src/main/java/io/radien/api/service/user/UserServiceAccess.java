@@ -19,7 +19,9 @@ import io.radien.api.model.user.SystemPagedUserSearchFilter;
 import io.radien.exception.SystemException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.user.SystemUser;
 import io.radien.api.model.user.SystemUserSearchFilter;
@@ -64,9 +66,23 @@ public interface UserServiceAccess extends ServiceAccess {
      * @param pageSize number of records per page
      * @param sortBy any type of column or field
      * @param isAscending if in case of true the records will come in ascending sorted
+     * @param countMode how the total number of users is counted
      * @return a page of requested users
      */
-    public Page<SystemUser> getAll(SystemPagedUserSearchFilter filter, int pageNo, int pageSize, List<String> sortBy, boolean isAscending);
+    public Page<SystemUser> getAll(SystemPagedUserSearchFilter filter, int pageNo, int pageSize, List<String> sortBy,
+                                   boolean isAscending, CountMode countMode);
+
+    /**
+     * Returns the requested and existent users in the db into a pagination mode by cursor (keyset mode)
+     * @param filter field to be looked up for
+     * @param cursor cursor of the requested page, null or empty for the first page
+     * @param pageSize number of records per page
+     * @param sortBy any type of column or field
+     * @param isAscending if in case of true the records will come in ascending sorted
+     * @param count if in case of true the total number of records will be counted
+     * @return a page of requested users with the cursor of the next page
+     */
+    public Page<SystemUser> getAllByCursor(SystemPagedUserSearchFilter filter, String cursor, int pageSize, List<String> sortBy, boolean isAscending, boolean count);
 
     /**
      * CREATE a User association
@@ -115,5 +131,11 @@ public interface UserServiceAccess extends ServiceAccess {
      */
     public BatchSummary create(List<? extends SystemUser> users);
 
+    /**
+     * Batch update of the user subjects (e.g. after creating the users in the IdP)
+     * @param subsById subjects to be set, by user id
+     */
+    void updateSubs(Map<Long, String> subsById);
+
     Long count();
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Defers actions (such as cache invalidations) until the current container transaction is committed.
+ * Invalidating a cache before the commit lets a concurrent request rebuild the cached value from the
+ * previous (still committed) state, which would then be kept until it expires. Without an active
+ * transaction the action is performed immediately.
+ */
+public class AfterCommit {
+
+    private static final Logger log = LoggerFactory.getLogger(AfterCommit.class);
+
+    private static final String REGISTRY_JNDI_NAME = "java:comp/TransactionSynchronizationRegistry";
+
+    /**
+     * Empty private constructor
+     */
+    private AfterCommit() {}
+
+    /**
+     * Performs the action after the current transaction is committed (not performed on rollback),
+     * or immediately if there is no active transaction
+     * @param action action to be performed
+     */
+    public static void run(Runnable action) {
+        run(action, getRegistry());
+    }
+
+    /**
+     * Performs the action after the transaction (of the given registry) is committed
+     * @param action action to be performed
+     * @param registry transaction synchronization registry, null if not available
+     */
+    static void run(Runnable action, TransactionSynchronizationRegistry registry) {
+        if (registry == null || registry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            action.run();
+            return;
+        }
+        registry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // nothing to be done before completion
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private static TransactionSynchronizationRegistry getRegistry() {
+        try {
+            return (TransactionSynchronizationRegistry) new InitialContext().lookup(REGISTRY_JNDI_NAME);
+        } catch (NamingException | RuntimeException e) {
+            log.debug("Transaction synchronization registry not available", e);
+            return null;
+        }
+    }
+}
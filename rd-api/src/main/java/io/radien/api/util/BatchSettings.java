@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import io.radien.api.OAFProperties;
+
+/**
+ * Settings of the batch (bulk) operations, read from the {@link OAFProperties} SYSTEM_BATCH_* keys.
+ * The chunk size is the number of records written (and kept in the persistence context) before a flush/clear,
+ * the parallelism is the maximum number of concurrent requests sent to a remote service (e.g. the IdP)
+ * while processing a batch.
+ */
+public class BatchSettings {
+
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    /**
+     * Empty private constructor
+     */
+    private BatchSettings() {}
+
+    /**
+     * Gets the number of records processed per chunk
+     * @return the chunk size
+     */
+    public static int getChunkSize() {
+        return ConfigSettings.getInt(OAFProperties.SYSTEM_BATCH_CHUNK_SIZE, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Gets the maximum number of concurrent remote requests of a batch
+     * @return the parallelism
+     */
+    public static int getParallelism() {
+        return ConfigSettings.getInt(OAFProperties.SYSTEM_BATCH_PARALLELISM, DEFAULT_PARALLELISM);
+    }
+}
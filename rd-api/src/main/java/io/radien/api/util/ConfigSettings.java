@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import io.radien.api.OAFAccess;
+import io.radien.api.SystemProperties;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reader of the numeric tuning settings (pool sizes, capacities, intervals...). The settings are read either
+ * from the microprofile config or from the given {@link OAFAccess}, a setting that is not defined, not numeric
+ * or not positive is replaced by the given default value.
+ */
+public class ConfigSettings {
+
+    private static final Logger log = LoggerFactory.getLogger(ConfigSettings.class);
+
+    /**
+     * Empty private constructor
+     */
+    private ConfigSettings() {}
+
+    /**
+     * Gets a positive int setting from the microprofile config
+     * @param property setting to be read
+     * @param defaultValue value to be used if the setting is not defined or not valid
+     * @return the setting value
+     */
+    public static int getInt(SystemProperties property, int defaultValue) {
+        return (int) parse(property, read(property), defaultValue, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets a positive int setting
+     * @param oaf access to the settings
+     * @param property setting to be read
+     * @param defaultValue value to be used if the setting is not defined or not valid
+     * @return the setting value
+     */
+    public static int getInt(OAFAccess oaf, SystemProperties property, int defaultValue) {
+        return (int) parse(property, oaf.getProperty(property), defaultValue, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets a positive long setting
+     * @param oaf access to the settings
+     * @param property setting to be read
+     * @param defaultValue value to be used if the setting is not defined or not valid
+     * @return the setting value
+     */
+    public static long getLong(OAFAccess oaf, SystemProperties property, long defaultValue) {
+        return parse(property, oaf.getProperty(property), defaultValue, Long.MAX_VALUE);
+    }
+
+    private static String read(SystemProperties property) {
+        try {
+            return ConfigProvider.getConfig().getOptionalValue(property.propKey(), String.class).orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Unable to read setting {}, using default", property.propKey());
+            return null;
+        }
+    }
+
+    private static long parse(SystemProperties property, String value, long defaultValue, long maxValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            if (parsed > 0 && parsed <= maxValue) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // logged below
+        }
+        log.warn("Invalid setting {}, using default", property.propKey());
+        return defaultValue;
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * Bounded, thread safe, in memory cache in which every entry has a limited time to live.
+ * When the maximum size (or the maximum weight, when a weigher is informed) is reached
+ * the least recently used entries are evicted.
+ * Hit, miss and eviction counters are kept so the cache efficiency can be monitored.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the cached values
+ */
+public class ExpiringCache<K, V> {
+
+    private final int maxSize;
+    private final long maxWeight;
+    private final long timeToLive;
+    private final ToLongBiFunction<K, V> weigher;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private long weight;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Expiring cache constructor
+     * @param maxSize maximum number of entries kept in the cache
+     * @param timeToLive default time (in milliseconds) that an entry is considered valid
+     */
+    public ExpiringCache(int maxSize, long timeToLive) {
+        this(maxSize, timeToLive, System::currentTimeMillis);
+    }
+
+    /**
+     * Expiring cache constructor
+     * @param maxSize maximum number of entries kept in the cache
+     * @param timeToLive default time (in milliseconds) that an entry is considered valid
+     * @param clock source of the current time in milliseconds
+     */
+    public ExpiringCache(int maxSize, long timeToLive, LongSupplier clock) {
+        this(maxSize, Long.MAX_VALUE, timeToLive, (key, value) -> 0L, clock);
+    }
+
+    /**
+     * Expiring cache constructor for caches limited by the (estimated) weight of the entries
+     * @param maxSize maximum number of entries kept in the cache
+     * @param maxWeight maximum sum of the entries weights (Ex: estimated size in bytes)
+     * @param timeToLive default time (in milliseconds) that an entry is considered valid
+     * @param weigher calculates the weight of an entry
+     * @param clock source of the current time in milliseconds
+     */
+    public ExpiringCache(int maxSize, long maxWeight, long timeToLive, ToLongBiFunction<K, V> weigher,
+                         LongSupplier clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache max size must be greater than zero");
+        }
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Cache max weight must be greater than zero");
+        }
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("Cache time to live must be greater than zero");
+        }
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.timeToLive = timeToLive;
+        this.weigher = weigher;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Retrieves the value stored for the given key
+     * @param key to be searched
+     * @return the value or null in case of absence or expiration
+     */
+    public V get(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            if (entry.isExpired(clock.getAsLong())) {
+                remove(key);
+                evictions.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.value;
+        }
+    }
+
+    /**
+     * Stores a value using the default time to live
+     * @param key to be used
+     * @param value to be stored
+     */
+    public void put(K key, V value) {
+        put(key, value, clock.getAsLong() + timeToLive);
+    }
+
+    /**
+     * Stores a value that will expire at a given moment. The moment is limited
+     * by the default time to live of the cache
+     * @param key to be used
+     * @param value to be stored
+     * @param expiresAt moment (epoch milliseconds) in which the entry must be discarded
+     */
+    public void put(K key, V value, long expiresAt) {
+        if (key == null || value == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        if (expiresAt <= now) {
+            return;
+        }
+        long entryWeight = weigher.applyAsLong(key, value);
+        if (entryWeight > maxWeight) {
+            return;
+        }
+        synchronized (entries) {
+            Entry<V> previous = entries.put(key, new Entry<>(value, Math.min(expiresAt, now + timeToLive), entryWeight));
+            weight += entryWeight - (previous != null ? previous.weight : 0);
+            Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+            while ((entries.size() > maxSize || weight > maxWeight) && eldest.hasNext()) {
+                weight -= eldest.next().getValue().weight;
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private void remove(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            weight -= removed.weight;
+        }
+    }
+
+    /**
+     * Discards the entry for the given key
+     * @param key to be discarded
+     */
+    public void invalidate(K key) {
+        synchronized (entries) {
+            remove(key);
+        }
+    }
+
+    /**
+     * Discards all the entries whose keys matches the given condition
+     * @param condition to be evaluated against every key
+     */
+    public void invalidateIf(Predicate<K> condition) {
+        synchronized (entries) {
+            Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<K, Entry<V>> entry = iterator.next();
+                if (condition.test(entry.getKey())) {
+                    weight -= entry.getValue().weight;
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards all the entries
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    /**
+     * Gets the current number of entries (expired ones included until they are accessed)
+     * @return the number of entries
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets the maximum number of entries
+     * @return the maximum number of entries
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the current weight (sum of the weights of the entries, expired ones included until they are accessed)
+     * @return the current weight
+     */
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    /**
+     * Gets the maximum weight
+     * @return the maximum weight
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Gets the default time to live (in milliseconds)
+     * @return the default time to live
+     */
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Gets the number of lookups that found a valid entry
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of lookups that did not find a valid entry
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of entries discarded due size limit or expiration
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Gets the ratio between hits and the total of lookups
+     * @return value between 0 and 1 (zero when no lookup was done yet)
+     */
+    public double getHitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Cache entry, holding the value, the moment of its expiration and its weight
+     * @param <V> type of the value
+     */
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+        private final long weight;
+
+        private Entry(V value, long expiresAt, long weight) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.weight = weight;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
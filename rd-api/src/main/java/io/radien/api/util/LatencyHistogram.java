@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread safe latency histogram with fixed (milliseconds) buckets.
+ * Keeps the number of samples, errors, total and maximum time, allowing to
+ * calculate the average and an (upper bound) approximation of the percentiles.
+ */
+public class LatencyHistogram {
+
+    /** Upper bounds (inclusive, in milliseconds) of the buckets, the last bucket has no bound */
+    private static final long[] BOUNDS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS.length + 1);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong totalTime = new AtomicLong();
+    private final AtomicLong maxTime = new AtomicLong();
+
+    /**
+     * Records a sample
+     * @param elapsedNanos elapsed time in nanoseconds
+     * @param error indicates if the measured operation failed
+     */
+    public void record(long elapsedNanos, boolean error) {
+        long millis = Math.max(0L, elapsedNanos / 1000000L);
+        int bucket = 0;
+        while (bucket < BOUNDS.length && millis > BOUNDS[bucket]) {
+            bucket++;
+        }
+        buckets.incrementAndGet(bucket);
+        count.incrementAndGet();
+        if (error) {
+            errors.incrementAndGet();
+        }
+        totalTime.addAndGet(elapsedNanos);
+        maxTime.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    /**
+     * Gets the number of samples
+     * @return the sample count
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Gets the number of samples of failed operations
+     * @return the error count
+     */
+    public long getErrorCount() {
+        return errors.get();
+    }
+
+    /**
+     * Gets the average time in milliseconds
+     * @return the average time
+     */
+    public double getAverageTime() {
+        long samples = count.get();
+        return samples == 0 ? 0 : totalTime.get() / (samples * 1000000.0);
+    }
+
+    /**
+     * Gets the maximum time in milliseconds
+     * @return the maximum time
+     */
+    public double getMaxTime() {
+        return maxTime.get() / 1000000.0;
+    }
+
+    /**
+     * Gets the upper bound (in milliseconds) of the bucket that contains the requested percentile
+     * @param percentile percentile (between 0 and 100)
+     * @return the percentile upper bound, the maximum time if it falls in the last bucket or 0 without samples
+     */
+    public double getPercentile(double percentile) {
+        long samples = count.get();
+        if (samples == 0) {
+            return 0;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(samples * percentile / 100.0));
+        long accumulated = 0;
+        for (int i = 0; i < BOUNDS.length; i++) {
+            accumulated += buckets.get(i);
+            if (accumulated >= rank) {
+                return BOUNDS[i];
+            }
+        }
+        return getMaxTime();
+    }
+
+    /**
+     * Gets the number of samples per bucket, the bounds being 1, 2, 5, 10, 25, 50, 100, 250, 500, 1000,
+     * 2500, 5000, 10000, 30000 milliseconds and the last bucket containing the slower samples
+     * @return the samples per bucket
+     */
+    public long[] getBuckets() {
+        long[] values = new long[buckets.length()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buckets.get(i);
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d errors=%d avg=%.1fms p50=%.0fms p95=%.0fms p99=%.0fms max=%.1fms",
+                getCount(), getErrorCount(), getAverageTime(), getPercentile(50), getPercentile(95),
+                getPercentile(99), getMaxTime());
+    }
+}
@@ -16,9 +16,21 @@
 package io.radien.api.util;
 
 import io.radien.api.SystemVariables;
+import io.radien.api.entity.CountMode;
+import io.radien.api.entity.Page;
+import io.radien.api.entity.PageCursor;
+import io.radien.exception.InvalidPageCursorException;
 import java.io.Serializable;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
@@ -96,6 +108,75 @@ public class ModelServiceUtil implements Serializable {
         return q.getSingleResult();
     }
 
+    /**
+     * Builds a page (offset mode) resolving its totals according to the count mode.
+     * The count is not executed when it can be deduced from the page itself (last page),
+     * {@link CountMode#CACHED} reuses the count stored for the same entity and filter (counting and
+     * storing it when absent), {@link CountMode#ESTIMATED} uses the stored count or a lower bound based
+     * on the retrieved results, and {@link CountMode#NONE} leaves the totals as {@link Page#UNKNOWN}.
+     * @param results retrieved results
+     * @param pageNo number of the page
+     * @param pageSize maximum number of elements of the page
+     * @param countMode how the totals should be obtained
+     * @param cache cache of counts
+     * @param entity entity (type) counted
+     * @param filter values of the filter applied to the query (must implement equals and hashCode)
+     * @param counter executes the (exact) count
+     * @param <T> page type
+     * @return the page with its totals and the way they were obtained
+     */
+    public static <T extends Serializable> Page<T> getPage(List<? extends T> results, int pageNo, int pageSize,
+                CountMode countMode, PageCountCache cache, Class<?> entity, Object filter, LongSupplier counter) {
+        Page<T> page = new Page<>(results, pageNo, Page.UNKNOWN, Page.UNKNOWN);
+        long retrieved = (long) (pageNo - 1) * pageSize + results.size();
+        long totalRecords;
+        CountMode mode = countMode;
+        if (results.size() < pageSize && (!results.isEmpty() || pageNo == 1)) {
+            // last page, no need to count
+            totalRecords = retrieved;
+            mode = CountMode.EXACT;
+            cache.put(entity, filter, totalRecords);
+        } else if (countMode == CountMode.NONE) {
+            page.setCountMode(CountMode.NONE);
+            return page;
+        } else {
+            Long cached = countMode != CountMode.EXACT ? cache.get(entity, filter) : null;
+            if (cached != null) {
+                totalRecords = Math.max(cached, retrieved);
+                mode = CountMode.CACHED;
+            } else if (countMode == CountMode.ESTIMATED) {
+                totalRecords = results.isEmpty() ? retrieved : retrieved + 1;
+            } else {
+                totalRecords = counter.getAsLong();
+                mode = CountMode.EXACT;
+                cache.put(entity, filter, totalRecords);
+            }
+        }
+        int total = Math.toIntExact(totalRecords);
+        page.setTotalResults(total);
+        page.setTotalPages(total%pageSize==0 ? total/pageSize : total/pageSize+1);
+        page.setCountMode(mode);
+        return page;
+    }
+
+    /**
+     * Builds a page (offset mode) resolving its totals through the count cache of the application
+     * @param results retrieved results
+     * @param pageNo number of the page
+     * @param pageSize maximum number of elements of the page
+     * @param countMode how the totals should be obtained
+     * @param entity entity (type) counted
+     * @param filter values of the filter applied to the query (must implement equals and hashCode)
+     * @param counter executes the (exact) count
+     * @param <T> page type
+     * @return the page with its totals and the way they were obtained
+     * @see #getPage(List, int, int, CountMode, PageCountCache, Class, Object, LongSupplier)
+     */
+    public static <T extends Serializable> Page<T> getPage(List<? extends T> results, int pageNo, int pageSize,
+                CountMode countMode, Class<?> entity, Object filter, LongSupplier counter) {
+        return getPage(results, pageNo, pageSize, countMode, PageCountCache.current(), entity, filter, counter);
+    }
+
     /**
      * Sorted list of objects based on filter
      * @param isAscending boolean value
@@ -143,4 +224,202 @@ public class ModelServiceUtil implements Serializable {
         return global;
     }
 
+    /**
+     * Retrieves a page in keyset (seek) mode. Instead of skipping the rows of the previous pages, the elements
+     * are sorted by the sort keys plus id and the query seeks the ones after the given cursor, so every page
+     * costs the same regardless of its depth. The count query is only executed when requested, otherwise the
+     * page totals are {@link Page#UNKNOWN}.
+     * Null sort key values are placed first in ascending order (and last in descending order), the null ordering
+     * being part of the order by clause so it does not depend on the default of the database.
+     * @param em entity manager object
+     * @param criteriaQuery query selecting the entity root
+     * @param objectRoot entity model root
+     * @param global filter predicate
+     * @param sortBy sort keys (entity attributes), id is always used as last key
+     * @param isAscending boolean value
+     * @param cursor cursor of the page to retrieve (null or empty for the first page)
+     * @param pageSize maximum number of elements of the page
+     * @param count indicates if the total number of results should be counted
+     * @param <T> page type
+     * @param <E> entity model type
+     * @return the page, with the cursor of the next page (null if it is the last page)
+     * @throws InvalidPageCursorException in case of invalid cursor or page size
+     */
+    public static <T extends Serializable, E extends T> Page<T> getPageByCursor(EntityManager em,
+                CriteriaQuery<E> criteriaQuery, Root<E> objectRoot, Predicate global, List<String> sortBy,
+                boolean isAscending, String cursor, int pageSize, boolean count) {
+        if (pageSize < 1) {
+            throw new InvalidPageCursorException("Invalid page size " + pageSize);
+        }
+        CriteriaBuilder criteriaBuilder = em.getCriteriaBuilder();
+        List<String> keys = sortBy != null ? sortBy : Collections.emptyList();
+        PageCursor pageCursor = PageCursor.decode(cursor);
+
+        Predicate predicate = global;
+        if (pageCursor != null) {
+            predicate = criteriaBuilder.and(global,
+                    getCursorPredicate(isAscending, objectRoot, criteriaBuilder, keys, pageCursor));
+        }
+        criteriaQuery.where(predicate);
+        List<Order> orders = new ArrayList<>();
+        for (String key : keys) {
+            Expression<?> path = objectRoot.get(key);
+            Expression<?> nullOrder = getNullOrder(criteriaBuilder, path);
+            orders.add(isAscending ? criteriaBuilder.asc(nullOrder) : criteriaBuilder.desc(nullOrder));
+            orders.add(isAscending ? criteriaBuilder.asc(path) : criteriaBuilder.desc(path));
+        }
+        orders.addAll(getListOrderSortBy(isAscending, objectRoot, criteriaBuilder,
+                Collections.singletonList(SystemVariables.ID.getFieldName())));
+        criteriaQuery.orderBy(orders);
+
+        TypedQuery<E> q = em.createQuery(criteriaQuery);
+        // one extra element tells if there is a next page
+        q.setMaxResults(pageSize + 1);
+        List<E> results = new ArrayList<>(q.getResultList());
+
+        String nextCursor = null;
+        if (results.size() > pageSize) {
+            results = new ArrayList<>(results.subList(0, pageSize));
+            nextCursor = getCursor(objectRoot, keys, results.get(pageSize - 1)).encode();
+        }
+
+        Page<T> page = new Page<>(results, Page.UNKNOWN, Page.UNKNOWN, Page.UNKNOWN);
+        if (count) {
+            int totalRecords = Math.toIntExact(getCountFromModelService(criteriaBuilder, global, objectRoot, em));
+            page.setTotalResults(totalRecords);
+            page.setTotalPages(totalRecords%pageSize==0 ? totalRecords/pageSize : totalRecords/pageSize+1);
+        }
+        page.setNextCursor(nextCursor);
+        return page;
+    }
+
+    /**
+     * Builds the expression ordering the null values of a sort key before the non null ones (0 for null, 1 otherwise)
+     * @param criteriaBuilder query builder
+     * @param path sort key
+     * @return the null ordering expression
+     */
+    public static Expression<Integer> getNullOrder(CriteriaBuilder criteriaBuilder, Expression<?> path) {
+        return criteriaBuilder.<Integer>selectCase().when(criteriaBuilder.isNull(path), 0).otherwise(1);
+    }
+
+    /**
+     * Builds the predicate that selects the elements placed after the cursor, i.e.
+     * (k1 > v1) or (k1 = v1 and k2 > v2) or ... or (k1 = v1 and ... and id > idv),
+     * a null value being lower than any other value (see {@link #getNullOrder(CriteriaBuilder, Expression)}), so
+     * (k > null) is (k is not null) and (k < v) is (k < v or k is null)
+     * @param isAscending boolean value
+     * @param objectRoot entity model root
+     * @param criteriaBuilder query builder
+     * @param sortBy sort keys
+     * @param cursor cursor with the values of the last element
+     * @return the cursor predicate
+     * @throws InvalidPageCursorException if the cursor does not match the sort keys
+     */
+    public static Predicate getCursorPredicate(boolean isAscending, Root<?> objectRoot, CriteriaBuilder criteriaBuilder,
+                                               List<String> sortBy, PageCursor cursor) {
+        if (cursor.getValues().size() != sortBy.size()) {
+            throw new InvalidPageCursorException("Page cursor does not match the sort criteria");
+        }
+        Predicate after = criteriaBuilder.disjunction();
+        Predicate previousEqual = criteriaBuilder.conjunction();
+        for (int i = 0; i < sortBy.size(); i++) {
+            Expression<?> path = objectRoot.get(sortBy.get(i));
+            Object value = toAttributeValue(cursor.getValues().get(i), path.getJavaType());
+            after = criteriaBuilder.or(after, criteriaBuilder.and(previousEqual,
+                    getAfterPredicate(isAscending, criteriaBuilder, path, value)));
+            previousEqual = criteriaBuilder.and(previousEqual, value == null ?
+                    criteriaBuilder.isNull(path) : criteriaBuilder.equal(path, value));
+        }
+        Expression<?> idPath = objectRoot.get(SystemVariables.ID.getFieldName());
+        return criteriaBuilder.or(after, criteriaBuilder.and(previousEqual,
+                getAfterPredicate(isAscending, criteriaBuilder, idPath, cursor.getId())));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate getAfterPredicate(boolean isAscending, CriteriaBuilder criteriaBuilder,
+                                               Expression path, Object value) {
+        if (value == null) {
+            // nulls are first in ascending order (every non null is after them) and last in descending order
+            return isAscending ? criteriaBuilder.isNotNull(path) : criteriaBuilder.disjunction();
+        }
+        // nulls are last in descending order, so they are also placed after the cursor
+        return isAscending ? criteriaBuilder.greaterThan(path, (Comparable) value) :
+                criteriaBuilder.or(criteriaBuilder.lessThan(path, (Comparable) value), criteriaBuilder.isNull(path));
+    }
+
+    /**
+     * Builds the cursor pointing to the given element
+     * @param objectRoot entity model root
+     * @param sortBy sort keys
+     * @param entity last element of the page
+     * @return the cursor
+     */
+    public static PageCursor getCursor(Root<?> objectRoot, List<String> sortBy, Object entity) {
+        List<String> values = new ArrayList<>();
+        for (String key : sortBy) {
+            values.add(toCursorValue(getAttributeValue(objectRoot, key, entity)));
+        }
+        Object id = getAttributeValue(objectRoot, SystemVariables.ID.getFieldName(), entity);
+        return new PageCursor(values, ((Number) id).longValue());
+    }
+
+    private static Object getAttributeValue(Root<?> objectRoot, String attribute, Object entity) {
+        Member member = objectRoot.getModel().getAttribute(attribute).getJavaMember();
+        try {
+            if (member instanceof Method) {
+                Method method = (Method) member;
+                method.setAccessible(true);
+                return method.invoke(entity);
+            }
+            Field field = (Field) member;
+            field.setAccessible(true);
+            return field.get(entity);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to read attribute " + attribute, e);
+        }
+    }
+
+    private static String toCursorValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Date) {
+            return String.valueOf(((Date) value).getTime());
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+        return value.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object toAttributeValue(String value, Class<?> type) {
+        if (value == null || type == String.class) {
+            return value;
+        }
+        try {
+            if (type == Long.class || type == long.class) {
+                return Long.valueOf(value);
+            }
+            if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(value);
+            }
+            if (type == Double.class || type == double.class) {
+                return Double.valueOf(value);
+            }
+            if (type == Boolean.class || type == boolean.class) {
+                return Boolean.valueOf(value);
+            }
+            if (Date.class.isAssignableFrom(type)) {
+                return new Date(Long.parseLong(value));
+            }
+            if (type.isEnum()) {
+                return Enum.valueOf((Class<? extends Enum>) type, value);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageCursorException("Invalid page cursor value " + value, e);
+        }
+        throw new InvalidPageCursorException("Sort key type not supported by the page cursor " + type.getName());
+    }
 }
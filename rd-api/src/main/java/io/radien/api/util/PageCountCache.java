@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import io.radien.api.OAFProperties;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.spi.CDI;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Short lived cache of the total number of records of the paged queries, kept per entity and filter.
+ * Navigating through the pages of the same query no longer executes the count on every page.
+ * Counts of an entity are invalidated when the entity is written (by the data layer of this node, after the commit), the
+ * time to live limits how long a count may be stale due to changes performed by other nodes.
+ * Settings are read from the {@link OAFProperties} SYSTEM_PAGE_COUNT_CACHE_* keys, a time to live of 0
+ * disables the cache. Without a CDI container (e.g. unit tests) {@link #current()} falls back to a disabled cache.
+ */
+@ApplicationScoped
+public class PageCountCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PageCountCache.class);
+
+    public static final long DEFAULT_TTL = 30000L;
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private static final PageCountCache DISABLED = new PageCountCache(0, 0L);
+
+    private final ExpiringCache<Key, Long> counts;
+    private final boolean enabled;
+
+    /**
+     * Page count cache constructor, based on the configuration
+     */
+    public PageCountCache() {
+        this(getMaxSize(), getTimeToLive());
+    }
+
+    /**
+     * Page count cache constructor
+     * @param maxSize maximum number of counts kept
+     * @param timeToLive time (in milliseconds) a count is considered valid, 0 disables the cache
+     */
+    public PageCountCache(int maxSize, long timeToLive) {
+        this(maxSize, timeToLive, System::currentTimeMillis);
+    }
+
+    /**
+     * Page count cache constructor
+     * @param maxSize maximum number of counts kept
+     * @param timeToLive time (in milliseconds) a count is considered valid, 0 disables the cache
+     * @param clock source of the current time (epoch milliseconds)
+     */
+    public PageCountCache(int maxSize, long timeToLive, LongSupplier clock) {
+        this.enabled = maxSize > 0 && timeToLive > 0;
+        this.counts = new ExpiringCache<>(Math.max(maxSize, 1), Math.max(timeToLive, 1L), clock);
+    }
+
+    /**
+     * Retrieves the cache of the application, or a disabled one if no CDI container is available
+     * @return the cache of the application
+     */
+    public static PageCountCache current() {
+        try {
+            Instance<PageCountCache> instance = CDI.current().select(PageCountCache.class);
+            if (instance.isResolvable()) {
+                return instance.get();
+            }
+        } catch (IllegalStateException e) {
+            log.debug("No CDI container, page counts not cached");
+        }
+        return DISABLED;
+    }
+
+    private static long getTimeToLive() {
+        try {
+            return ConfigProvider.getConfig().getOptionalValue(
+                    OAFProperties.SYSTEM_PAGE_COUNT_CACHE_TTL.propKey(), Long.class).orElse(DEFAULT_TTL);
+        } catch (RuntimeException e) {
+            log.warn("Invalid page count cache time to live, using default", e);
+            return DEFAULT_TTL;
+        }
+    }
+
+    private static int getMaxSize() {
+        try {
+            return ConfigProvider.getConfig().getOptionalValue(
+                    OAFProperties.SYSTEM_PAGE_COUNT_CACHE_MAX_SIZE.propKey(), Integer.class).orElse(DEFAULT_MAX_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("Invalid page count cache max size, using default", e);
+            return DEFAULT_MAX_SIZE;
+        }
+    }
+
+    /**
+     * Indicates if counts are being cached
+     * @return true if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Retrieves the count stored for the given entity and filter
+     * @param entity entity (type) counted
+     * @param filter values of the filter applied to the count (must implement equals and hashCode)
+     * @return the count or null in case of absence or expiration
+     */
+    public Long get(Class<?> entity, Object filter) {
+        return enabled ? counts.get(new Key(entity, filter)) : null;
+    }
+
+    /**
+     * Stores the count for the given entity and filter
+     * @param entity entity (type) counted
+     * @param filter values of the filter applied to the count (must implement equals and hashCode)
+     * @param count total number of records
+     */
+    public void put(Class<?> entity, Object filter, long count) {
+        if (enabled) {
+            counts.put(new Key(entity, filter), count);
+        }
+    }
+
+    /**
+     * Discards all the counts of an entity, to be invoked whenever the entity is written.
+     * Within a transaction the counts are discarded once it is committed, see {@link AfterCommit}
+     * @param entity entity (type) written
+     */
+    public void invalidate(Class<?> entity) {
+        if (enabled) {
+            String name = entity.getName();
+            AfterCommit.run(() -> counts.invalidateIf(key -> key.entity.equals(name)));
+        }
+    }
+
+    /**
+     * Discards all the counts
+     */
+    public void invalidateAll() {
+        counts.invalidateAll();
+    }
+
+    /**
+     * Gets the number of counts currently cached
+     * @return the number of counts
+     */
+    public int size() {
+        return counts.size();
+    }
+
+    /**
+     * Cache key, composed by the entity name and the filter values
+     */
+    private static class Key {
+        private final String entity;
+        private final Object filter;
+
+        private Key(Class<?> entity, Object filter) {
+            this.entity = entity.getName();
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return entity.equals(key.entity) && Objects.equals(filter, key.filter);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(entity, filter);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package io.radien.api.util;
 
 import io.radien.api.SystemVariables;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 
 import javax.json.JsonArray;
@@ -43,7 +44,13 @@ public class PageFactory {
         JsonArray results = FactoryUtilService.getArrayFromJson(SystemVariables.PAGE_RESULTS.getFieldName(), jsonObject);
         int totalPages = FactoryUtilService.getIntFromJson(SystemVariables.PAGE_TOTALS.getFieldName(), jsonObject);
         int totalResults = FactoryUtilService.getIntFromJson(SystemVariables.PAGE_TOTAL_RESULTS.getFieldName(), jsonObject);
-        return new Page<>(results, currentPage, totalResults, totalPages);
+        Page<?> page = new Page<>(results, currentPage, totalResults, totalPages);
+        page.setNextCursor(FactoryUtilService.getStringFromJson(SystemVariables.PAGE_NEXT_CURSOR.getFieldName(), jsonObject));
+        String countMode = FactoryUtilService.getStringFromJson(SystemVariables.PAGE_COUNT_MODE.getFieldName(), jsonObject);
+        if (countMode != null) {
+            page.setCountMode(CountMode.valueOf(countMode));
+        }
+        return page;
     }
 
 }
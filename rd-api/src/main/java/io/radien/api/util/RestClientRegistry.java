@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import io.radien.api.OAFProperties;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of MicroProfile rest clients, shared by all the client modules.
+ * Clients are built once per (endpoint url, interface) and reused, instead of rebuilding the proxy
+ * (and its providers) on every service call. Every built client is tuned with the configured timeouts
+ * and connection pool (kept alive) settings, and optionally collects statistics per endpoint.
+ * Settings are read from the {@link OAFProperties} SYSTEM_MS_CLIENT_* keys. The pool limits are set on each
+ * client (transport properties) only, the JVM wide http settings are left to the deployment configuration.
+ */
+public class RestClientRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(RestClientRegistry.class);
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 100;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 20;
+    public static final long DEFAULT_CONNECT_TIMEOUT = 5000L;
+    public static final long DEFAULT_READ_TIMEOUT = 30000L;
+    public static final long DEFAULT_CONNECTION_TTL = 60000L;
+
+    /** Connection pool settings honored by the CXF (TomEE) async http transport */
+    static final String CXF_MAX_CONNECTIONS = "org.apache.cxf.transport.http.async.MAX_CONNECTIONS";
+    static final String CXF_MAX_PER_HOST_CONNECTIONS = "org.apache.cxf.transport.http.async.MAX_PER_HOST_CONNECTIONS";
+    static final String CXF_CONNECTION_TTL = "org.apache.cxf.transport.http.async.CONNECTION_TTL";
+
+    private static final String START_TIME = RestClientRegistry.class.getName() + ".start";
+
+    private static volatile RestClientRegistry instance;
+
+    private final int maxConnections;
+    private final int maxConnectionsPerHost;
+    private final long connectTimeout;
+    private final long readTimeout;
+    private final long connectionTtl;
+    private final boolean statisticsEnabled;
+    private final Supplier<RestClientBuilder> builderFactory;
+
+    private final Map<Key, Object> clients = new ConcurrentHashMap<>();
+    private final Map<String, EndpointStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * Rest client registry constructor
+     * @param maxConnections maximum number of pooled connections
+     * @param maxConnectionsPerHost maximum number of pooled connections per endpoint host
+     * @param connectTimeout connection timeout in milliseconds
+     * @param readTimeout read timeout in milliseconds
+     * @param connectionTtl time (in milliseconds) an idle pooled connection is kept alive
+     * @param statisticsEnabled indicates if statistics per endpoint should be collected
+     * @param builderFactory source of new rest client builders
+     */
+    public RestClientRegistry(int maxConnections, int maxConnectionsPerHost, long connectTimeout, long readTimeout,
+                              long connectionTtl, boolean statisticsEnabled, Supplier<RestClientBuilder> builderFactory) {
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.connectionTtl = connectionTtl;
+        this.statisticsEnabled = statisticsEnabled;
+        this.builderFactory = builderFactory;
+    }
+
+    /**
+     * Retrieves the shared registry, creating it (in the first invocation) based on the configuration
+     * @return the shared registry
+     */
+    public static RestClientRegistry getInstance() {
+        if (instance == null) {
+            synchronized (RestClientRegistry.class) {
+                if (instance == null) {
+                    instance = create();
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static RestClientRegistry create() {
+        int maxConnections = (int) getSetting(OAFProperties.SYSTEM_MS_CLIENT_MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS);
+        int maxConnectionsPerHost = (int) getSetting(OAFProperties.SYSTEM_MS_CLIENT_MAX_CONNECTIONS_PER_HOST,
+                DEFAULT_MAX_CONNECTIONS_PER_HOST);
+        long connectTimeout = getSetting(OAFProperties.SYSTEM_MS_CLIENT_CONNECT_TIMEOUT, DEFAULT_CONNECT_TIMEOUT);
+        long readTimeout = getSetting(OAFProperties.SYSTEM_MS_CLIENT_READ_TIMEOUT, DEFAULT_READ_TIMEOUT);
+        long connectionTtl = getSetting(OAFProperties.SYSTEM_MS_CLIENT_CONNECTION_TTL, DEFAULT_CONNECTION_TTL);
+        boolean statisticsEnabled = Boolean.parseBoolean(getValue(OAFProperties.SYSTEM_MS_CLIENT_STATISTICS_ENABLED));
+
+        log.info("Rest client registry. Max connections:{} per host:{} connect timeout:{}ms read timeout:{}ms",
+                maxConnections, maxConnectionsPerHost, connectTimeout, readTimeout);
+        return new RestClientRegistry(maxConnections, maxConnectionsPerHost, connectTimeout, readTimeout,
+                connectionTtl, statisticsEnabled, RestClientBuilder::newBuilder);
+    }
+
+    private static String getValue(OAFProperties property) {
+        try {
+            return ConfigProvider.getConfig().getOptionalValue(property.propKey(), String.class).orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Configuration not available for {}, using default", property.propKey());
+            return null;
+        }
+    }
+
+    private static long getSetting(OAFProperties property, long defaultValue) {
+        String value = getValue(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            long parsed = Long.parseLong(value.trim());
+            return parsed > 0 ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Retrieves the client for the given endpoint and interface, building it in the first invocation
+     * @param urlStr url of the rest endpoint
+     * @param clazz rest client interface
+     * @param providers providers (exception mappers, message body readers and writers) to be registered
+     * @param <T> rest client type
+     * @return the (shared) rest client
+     * @throws MalformedURLException in case of any url issue
+     */
+    public <T> T getClient(String urlStr, Class<T> clazz, Class<?>... providers) throws MalformedURLException {
+        Key key = new Key(urlStr, clazz);
+        Object client = clients.get(key);
+        if (client == null) {
+            URL url = new URL(urlStr);
+            client = clients.computeIfAbsent(key, k -> build(url, clazz, providers));
+        }
+        return clazz.cast(client);
+    }
+
+    private <T> T build(URL url, Class<T> clazz, Class<?>... providers) {
+        log.info("Building rest client {} for {}", clazz.getSimpleName(), url);
+        RestClientBuilder builder = builderFactory.get()
+                .baseUrl(url)
+                .connectTimeout(connectTimeout, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeout, TimeUnit.MILLISECONDS)
+                .property(CXF_MAX_CONNECTIONS, maxConnections)
+                .property(CXF_MAX_PER_HOST_CONNECTIONS, maxConnectionsPerHost)
+                .property(CXF_CONNECTION_TTL, connectionTtl);
+        for (Class<?> provider : providers) {
+            builder = builder.register(provider);
+        }
+        if (statisticsEnabled) {
+            EndpointStatistics endpointStatistics = statistics.computeIfAbsent(url.toString(), u -> new EndpointStatistics());
+            endpointStatistics.clients.incrementAndGet();
+            builder = builder.register(new StatisticsFilter(endpointStatistics));
+        }
+        return builder.build(clazz);
+    }
+
+    /**
+     * Drops all the built clients (they will be built again on the next request)
+     */
+    public void clear() {
+        clients.clear();
+    }
+
+    /**
+     * Gets the number of built (cached) clients
+     * @return the number of clients
+     */
+    public int size() {
+        return clients.size();
+    }
+
+    /**
+     * Gets the statistics collected per endpoint url (empty if statistics are not enabled)
+     * @return the statistics per endpoint
+     */
+    public Map<String, EndpointStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Statistics of the requests performed against one endpoint
+     */
+    public static class EndpointStatistics {
+        private final AtomicLong clients = new AtomicLong();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong totalTime = new AtomicLong();
+
+        void record(int status, long elapsedNanos) {
+            requests.incrementAndGet();
+            if (status >= 400) {
+                errors.incrementAndGet();
+            }
+            totalTime.addAndGet(elapsedNanos);
+        }
+
+        /**
+         * Gets the number of clients built for the endpoint
+         * @return the client count
+         */
+        public long getClientCount() {
+            return clients.get();
+        }
+
+        /**
+         * Gets the number of requests that got a response
+         * @return the request count
+         */
+        public long getRequestCount() {
+            return requests.get();
+        }
+
+        /**
+         * Gets the number of responses with error status (4xx or 5xx)
+         * @return the error count
+         */
+        public long getErrorCount() {
+            return errors.get();
+        }
+
+        /**
+         * Gets the average time (in milliseconds) between the request and the response
+         * @return the average time
+         */
+        public double getAverageTime() {
+            long count = requests.get();
+            return count == 0 ? 0 : totalTime.get() / (count * 1000000.0);
+        }
+    }
+
+    /**
+     * Filter that measures the requests of a client
+     */
+    static class StatisticsFilter implements ClientRequestFilter, ClientResponseFilter {
+        private final EndpointStatistics endpointStatistics;
+
+        StatisticsFilter(EndpointStatistics endpointStatistics) {
+            this.endpointStatistics = endpointStatistics;
+        }
+
+        @Override
+        public void filter(ClientRequestContext requestContext) {
+            requestContext.setProperty(START_TIME, System.nanoTime());
+        }
+
+        @Override
+        public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+            Object start = requestContext.getProperty(START_TIME);
+            long elapsed = start instanceof Long ? System.nanoTime() - (Long) start : 0L;
+            endpointStatistics.record(responseContext.getStatus(), elapsed);
+        }
+    }
+
+    /**
+     * Client key, composed by endpoint url and interface
+     */
+    private static final class Key {
+        private final String url;
+        private final Class<?> clazz;
+
+        private Key(String url, Class<?> clazz) {
+            this.url = url;
+            this.clazz = clazz;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(url, key.url) && clazz.equals(key.clazz);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, clazz);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import io.radien.api.SystemVariables;
+import io.radien.api.entity.CountMode;
+import io.radien.api.entity.Page;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+import javax.json.stream.JsonParsingException;
+
+/**
+ * Event based (streaming) mapper for the json responses of the rest clients.
+ * Instead of reading the whole document into a json tree before converting it, the document is parsed
+ * while it is read, and each element of a page (or list) is converted into its entity as soon as it
+ * is complete. Only one element is materialized at a time, so large pages are no longer kept in memory twice.
+ */
+public class StreamingJsonMapper {
+
+    private static final String PAGE_RESULTS = SystemVariables.PAGE_RESULTS.getFieldName();
+    private static final String PAGE_CURRENT = SystemVariables.PAGE_CURRENT.getFieldName();
+    private static final String PAGE_TOTALS = SystemVariables.PAGE_TOTALS.getFieldName();
+    private static final String PAGE_TOTAL_RESULTS = SystemVariables.PAGE_TOTAL_RESULTS.getFieldName();
+    private static final String PAGE_NEXT_CURSOR = SystemVariables.PAGE_NEXT_CURSOR.getFieldName();
+    private static final String PAGE_COUNT_MODE = SystemVariables.PAGE_COUNT_MODE.getFieldName();
+
+    /**
+     * Empty private constructor
+     */
+    private StreamingJsonMapper() {}
+
+    /**
+     * Converter of one single json element into its entity
+     * @param <T> entity type
+     * @param <E> exception thrown by the conversion
+     */
+    @FunctionalInterface
+    public interface Converter<T, E extends Exception> {
+        /**
+         * Converts the json element
+         * @param jsonObject element to be converted
+         * @return the entity
+         * @throws E in case of conversion issues
+         */
+        T convert(JsonObject jsonObject) throws E;
+    }
+
+    /**
+     * Reads a page, converting each one of its results
+     * @param is input stream containing the page
+     * @param converter converter for the page results
+     * @param <T> entity type
+     * @param <E> exception thrown by the conversion
+     * @return the page of entities
+     * @throws E in case of conversion issues
+     */
+    public static <T extends Serializable, E extends Exception> Page<T> readPage(InputStream is,
+                                                                              Converter<? extends T, E> converter) throws E {
+        List<T> results = new ArrayList<>();
+        int currentPage = 0;
+        int totalResults = 0;
+        int totalPages = 0;
+        String nextCursor = null;
+        CountMode countMode = CountMode.EXACT;
+        try (JsonParser parser = Json.createParser(is)) {
+            expect(parser, Event.START_OBJECT);
+            Event event;
+            while ((event = parser.next()) == Event.KEY_NAME) {
+                String key = parser.getString();
+                Event value = parser.next();
+                if (PAGE_RESULTS.equals(key) && value == Event.START_ARRAY) {
+                    readElements(parser, converter, results);
+                } else if (PAGE_CURRENT.equals(key)) {
+                    currentPage = getInt(parser, value);
+                } else if (PAGE_TOTAL_RESULTS.equals(key)) {
+                    totalResults = getInt(parser, value);
+                } else if (PAGE_TOTALS.equals(key)) {
+                    totalPages = getInt(parser, value);
+                } else if (PAGE_NEXT_CURSOR.equals(key) && value == Event.VALUE_STRING) {
+                    nextCursor = parser.getString();
+                } else if (PAGE_COUNT_MODE.equals(key) && value == Event.VALUE_STRING) {
+                    countMode = CountMode.valueOf(parser.getString());
+                } else {
+                    skip(parser, value);
+                }
+            }
+            if (event != Event.END_OBJECT) {
+                throw new JsonParsingException("Unexpected event " + event, parser.getLocation());
+            }
+        }
+        Page<T> page = new Page<>(results, currentPage, totalResults, totalPages);
+        page.setNextCursor(nextCursor);
+        page.setCountMode(countMode);
+        return page;
+    }
+
+    /**
+     * Reads a list (json array), converting each one of its elements
+     * @param is input stream containing the array
+     * @param converter converter for the elements
+     * @param <T> entity type
+     * @param <E> exception thrown by the conversion
+     * @return the list of entities
+     * @throws E in case of conversion issues
+     */
+    public static <T, E extends Exception> List<T> readList(InputStream is, Converter<? extends T, E> converter) throws E {
+        List<T> results = new ArrayList<>();
+        try (JsonParser parser = Json.createParser(is)) {
+            expect(parser, Event.START_ARRAY);
+            readElements(parser, converter, results);
+        }
+        return results;
+    }
+
+    /**
+     * Reads one single entity
+     * @param is input stream containing the json object
+     * @param converter converter for the object
+     * @param <T> entity type
+     * @param <E> exception thrown by the conversion
+     * @return the entity
+     * @throws E in case of conversion issues
+     */
+    public static <T, E extends Exception> T readObject(InputStream is, Converter<T, E> converter) throws E {
+        try (JsonParser parser = Json.createParser(is)) {
+            expect(parser, Event.START_OBJECT);
+            return converter.convert(parser.getObject());
+        }
+    }
+
+    private static <T, E extends Exception> void readElements(JsonParser parser, Converter<? extends T, E> converter,
+                                                              List<T> results) throws E {
+        Event event;
+        while ((event = parser.next()) != Event.END_ARRAY) {
+            if (event == Event.START_OBJECT) {
+                results.add(converter.convert(parser.getObject()));
+            } else {
+                skip(parser, event);
+            }
+        }
+    }
+
+    private static void expect(JsonParser parser, Event expected) {
+        Event event = parser.hasNext() ? parser.next() : null;
+        if (event != expected) {
+            throw new JsonParsingException("Expected " + expected + " but found " + event, parser.getLocation());
+        }
+    }
+
+    private static int getInt(JsonParser parser, Event value) {
+        if (value == Event.VALUE_NUMBER) {
+            return parser.getInt();
+        }
+        skip(parser, value);
+        return 0;
+    }
+
+    /**
+     * Skips the current value (including nested objects and arrays)
+     * @param parser json parser
+     * @param event event of the value to be skipped
+     */
+    private static void skip(JsonParser parser, Event event) {
+        if (event != Event.START_OBJECT && event != Event.START_ARRAY) {
+            return;
+        }
+        int depth = 1;
+        while (depth > 0) {
+            Event next = parser.next();
+            if (next == Event.START_OBJECT || next == Event.START_ARRAY) {
+                depth++;
+            } else if (next == Event.END_OBJECT || next == Event.END_ARRAY) {
+                depth--;
+            }
+        }
+    }
+}
@@ -70,6 +70,8 @@ public enum GenericErrorCodeMessage {
     TENANT_ROOT_WITH_PARENT("T9", "error.tenant.root.with.parent", "Tenant root cannot have parent associated."),
     TENANT_ROOT_WITH_CLIENT("T10", "error.tenant.root.with.client", "Tenant root cannot have client associated."),
     TENANT_TYPE_NOT_FOUND("T11", "tenant.type.not.found", "No tenant type found: %s"),
+    TENANT_HIERARCHY_ROLES_NOT_DELETED("T12", "error.tenant.hierarchy.roles.not.deleted", "Unable to delete the tenant roles of the hierarchy of tenant %s."),
+    TENANT_PARENT_IN_HIERARCHY("T13", "error.tenant.parent.in.hierarchy", "Parent cannot be the tenant itself or one of its descendants."),
 
     /**
      * Tenant Role Error Code Messages
@@ -173,6 +175,7 @@ public enum GenericErrorCodeMessage {
     ERROR_SEND_EXECUTE_ACTION_EMAIL_VERIFY("KYC3", "error.send.execute.action.email.verify", "Unable to send verification email for an updated email "),
     ERROR_CHANGE_PASSWORD("KYC4", "error.change.password", "Unable to change password. Status: %s. Description: %s"),
     ERROR_INVALID_CREDENTIALS("KYC5", "error.invalid.credentials", "Invalid Credentials"),
+    ERROR_CREATE_USER("KYC6", "error.create.user", "Unable to create user in the IdP: %s"),
 
     /**
      * CMS Error Code Messages
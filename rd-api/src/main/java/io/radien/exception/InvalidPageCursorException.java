@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.exception;
+
+import javax.ejb.ApplicationException;
+
+/**
+ * Describes that the cursor of a page requested in keyset mode is not valid (malformed, or not matching
+ * the requested sort criteria), or that the requested page size is not valid. Application exception, so it
+ * reaches the resources without being wrapped by the ejb container.
+ */
+@ApplicationException
+public class InvalidPageCursorException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = -7457406870786018442L;
+
+    /**
+     * Invalid page cursor exception constructor by a given message
+     * @param message to create the exception with
+     */
+    public InvalidPageCursorException(String message) {
+        super(message);
+    }
+
+    /**
+     * Invalid page cursor exception constructor by a given message and cause
+     * @param message to create the exception with
+     * @param cause of the exception
+     */
+    public InvalidPageCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
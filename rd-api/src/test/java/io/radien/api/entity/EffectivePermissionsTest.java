@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.entity;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class that aggregates UnitTest cases for EffectivePermissions
+ */
+public class EffectivePermissionsTest {
+
+    /**
+     * Asserts that permission ids are sorted, without duplicates and null values
+     */
+    @Test
+    public void testPermissionIds() {
+        EffectivePermissions effectivePermissions = new EffectivePermissions(1L, 2L, Arrays.asList(9L, 3L, null, 3L, 7L));
+        assertArrayEquals(new long[] {3L, 7L, 9L}, effectivePermissions.getPermissionIds());
+        assertTrue(effectivePermissions.contains(7L));
+        assertFalse(effectivePermissions.contains(8L));
+        assertFalse(effectivePermissions.contains(null));
+        assertEquals(Long.valueOf(1L), effectivePermissions.getUserId());
+        assertEquals(Long.valueOf(2L), effectivePermissions.getTenantId());
+    }
+
+    /**
+     * Asserts that the version only depends on the content
+     */
+    @Test
+    public void testVersion() {
+        EffectivePermissions first = new EffectivePermissions(1L, null, Arrays.asList(1L, 2L));
+        EffectivePermissions second = new EffectivePermissions(5L, 6L, Arrays.asList(2L, 1L, 2L));
+        EffectivePermissions third = new EffectivePermissions(1L, null, Collections.singletonList(1L));
+        assertEquals(first.getVersion(), second.getVersion());
+        assertNotEquals(first.getVersion(), third.getVersion());
+        assertEquals(new EffectivePermissions().getVersion(), new EffectivePermissions(1L, 1L, null).getVersion());
+    }
+
+    /**
+     * Asserts the setters used by JSON binding
+     */
+    @Test
+    public void testSetters() {
+        EffectivePermissions effectivePermissions = new EffectivePermissions();
+        effectivePermissions.setUserId(1L);
+        effectivePermissions.setTenantId(2L);
+        effectivePermissions.setVersion(3L);
+        effectivePermissions.setPermissionIds(new long[] {5L, 4L});
+        assertEquals(3L, effectivePermissions.getVersion());
+        assertArrayEquals(new long[] {4L, 5L}, effectivePermissions.getPermissionIds());
+        effectivePermissions.setPermissionIds(null);
+        assertEquals(0, effectivePermissions.getPermissionIds().length);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.entity;
+
+import io.radien.exception.InvalidPageCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Class that aggregates UnitTest cases for PageCursor
+ */
+public class PageCursorTest {
+
+    /**
+     * Test for methods {@link PageCursor#encode()} and {@link PageCursor#decode(String)}
+     * Expected outcome: Decoded cursor equal to the encoded one
+     */
+    @Test
+    public void testEncodeDecode() {
+        PageCursor cursor = new PageCursor(Arrays.asList("first name", null, "1633084800000"), 35L);
+        String encoded = cursor.encode();
+        assertFalse(encoded.contains("="));
+        assertFalse(encoded.contains("/"));
+
+        PageCursor decoded = PageCursor.decode(encoded);
+        assertEquals(cursor.getValues(), decoded.getValues());
+        assertEquals(Long.valueOf(35L), decoded.getId());
+    }
+
+    /**
+     * Test for method {@link PageCursor#decode(String)}
+     * Scenario: First page
+     * Expected outcome: No cursor
+     */
+    @Test
+    public void testDecodeFirstPage() {
+        assertNull(PageCursor.decode(null));
+        assertNull(PageCursor.decode(" "));
+    }
+
+    /**
+     * Test for method {@link PageCursor#decode(String)}
+     * Scenario: Invalid cursors
+     * Expected outcome: InvalidPageCursorException
+     */
+    @Test
+    public void testDecodeInvalid() {
+        assertThrows(InvalidPageCursorException.class, () -> PageCursor.decode("%%%"));
+        assertThrows(InvalidPageCursorException.class, () -> PageCursor.decode(encode("{\"a\":1}")));
+        assertThrows(InvalidPageCursorException.class, () -> PageCursor.decode(encode("[]")));
+        assertThrows(InvalidPageCursorException.class, () -> PageCursor.decode(encode("[\"a\"]")));
+        assertThrows(InvalidPageCursorException.class, () -> PageCursor.decode(encode("[1, 2]")));
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
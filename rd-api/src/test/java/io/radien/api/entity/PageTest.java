@@ -71,4 +71,14 @@ public class PageTest {
         assertEquals(1, page.getTotalPages());
     }
 
-}
\ No newline at end of file
+    /**
+     * Assert method getNextCursor()
+     */
+    @Test
+    public void testNextCursor(){
+        assertNull(page.getNextCursor());
+        page.setNextCursor("cursor");
+        assertEquals("cursor", page.getNextCursor());
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.security;
+
+import com.auth0.jwk.Jwk;
+import com.auth0.jwk.JwkException;
+import com.auth0.jwk.SigningKeyNotFoundException;
+import java.net.MalformedURLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * CachingJwkProvider Test class
+ */
+public class CachingJwkProviderTest {
+
+    private AtomicLong now;
+    private List<Jwk> keys;
+    private AtomicLong loads;
+    private boolean failing;
+    private CachingJwkProvider provider;
+
+    @Before
+    public void before() {
+        now = new AtomicLong(1000L);
+        keys = new ArrayList<>(Arrays.asList(jwk("kid-1"), jwk("kid-2")));
+        loads = new AtomicLong();
+        failing = false;
+        provider = new CachingJwkProvider(() -> {
+            loads.incrementAndGet();
+            if (failing) {
+                throw new JwkException("unavailable");
+            }
+            return new ArrayList<>(keys);
+        }, 1000L, 100L, 50L, 200L, now::get);
+    }
+
+    private static Jwk jwk(String kid) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("kid", kid);
+        values.put("kty", "RSA");
+        return Jwk.fromValues(values);
+    }
+
+    /**
+     * Test for method {@link CachingJwkProvider#get(String)}
+     * Expected outcome: Document fetched only once for several lookups
+     */
+    @Test
+    public void testKeysAreCached() throws JwkException {
+        assertEquals("kid-1", provider.get("kid-1").getId());
+        assertEquals("kid-2", provider.get("kid-2").getId());
+        assertEquals("kid-1", provider.get("kid-1").getId());
+        assertEquals(1, provider.getFetchCount());
+        assertEquals(3, provider.getHitCount());
+    }
+
+    /**
+     * Test for method {@link CachingJwkProvider#get(String)}
+     * Scenario: Lookups near and after the expiration of the keys
+     * Expected outcome: Keys refreshed ahead and after the expiration
+     */
+    @Test
+    public void testRefreshAheadAndExpiration() throws JwkException {
+        provider.get("kid-1");
+        now.addAndGet(950L);
+        provider.get("kid-1");
+        assertEquals(2, provider.getFetchCount());
+
+        now.addAndGet(500L);
+        provider.get("kid-1");
+        assertEquals(2, provider.getFetchCount());
+
+        now.addAndGet(1000L);
+        provider.get("kid-1");
+        assertEquals(3, provider.getFetchCount());
+    }
+
+    /**
+     * Test for method {@link CachingJwkProvider#get(String)}
+     * Scenario: Key rotation (new kid published after the keys were cached)
+     * Expected outcome: Unknown kid forces a refresh, respecting the minimum interval between fetches
+     */
+    @Test
+    public void testUnknownKidForcesRefresh() throws JwkException {
+        provider.get("kid-1");
+        keys.add(jwk("kid-3"));
+
+        assertThrows(SigningKeyNotFoundException.class, () -> provider.get("kid-3"));
+        assertEquals(1, provider.getFetchCount());
+
+        now.addAndGet(50L);
+        assertEquals("kid-3", provider.get("kid-3").getId());
+        assertEquals(2, provider.getFetchCount());
+    }
+
+    /**
+     * Test for method {@link CachingJwkProvider#get(String)}
+     * Scenario: Kid that does not exist at all
+     * Expected outcome: Remembered as unknown, no fetch while the negative entry is valid
+     */
+    @Test
+    public void testNegativeCaching() throws JwkException {
+        provider.get("kid-1");
+        now.addAndGet(50L);
+        assertThrows(SigningKeyNotFoundException.class, () -> provider.get("bad"));
+        assertEquals(2, provider.getFetchCount());
+
+        now.addAndGet(100L);
+        assertThrows(SigningKeyNotFoundException.class, () -> provider.get("bad"));
+        assertEquals(2, provider.getFetchCount());
+        assertEquals(1, provider.getNegativeHitCount());
+
+        now.addAndGet(200L);
+        assertThrows(SigningKeyNotFoundException.class, () -> provider.get("bad"));
+        assertEquals(3, provider.getFetchCount());
+    }
+
+    /**
+     * Test for method {@link CachingJwkProvider#get(String)}
+     * Scenario: Failure while refreshing keys that are still valid, and while loading them for the first time
+     * Expected outcome: Current keys kept in the first case, exception in the second one
+     */
+    @Test
+    public void testFetchFailure() throws JwkException {
+        provider.get("kid-1");
+        failing = true;
+        now.addAndGet(950L);
+        assertEquals("kid-1", provider.get("kid-1").getId());
+        assertEquals(1, provider.getFetchFailureCount());
+
+        CachingJwkProvider other = new CachingJwkProvider(() -> {
+            throw new JwkException("unavailable");
+        }, 1000L, 100L, 50L, 200L, now::get);
+        assertThrows(JwkException.class, () -> other.get("kid-1"));
+    }
+
+    /**
+     * Test for method {@link CachingJwkProvider#get(String)}
+     * Scenario: Token without kid and document with one single key
+     * Expected outcome: The single key
+     */
+    @Test
+    public void testSingleKeyWithoutKid() throws JwkException {
+        keys.remove(1);
+        assertEquals("kid-1", provider.get(null).getId());
+    }
+
+    /**
+     * Test for method {@link CachingJwkProvider#forUrl(String)}
+     * Expected outcome: Same instance for the same url
+     */
+    @Test
+    public void testForUrl() throws MalformedURLException {
+        assertSame(CachingJwkProvider.forUrl("http://localhost/certs"), CachingJwkProvider.forUrl("http://localhost/certs"));
+        assertThrows(MalformedURLException.class, () -> CachingJwkProvider.forUrl("invalid"));
+    }
+
+    /**
+     * Test for constructor validations
+     */
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingJwkProvider(ArrayList::new, 100L, 100L, 0L, 0L, now::get));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class that aggregates UnitTest cases for AfterCommit
+ */
+public class AfterCommitTest {
+
+    /**
+     * Test for method {@link AfterCommit#run(Runnable)}
+     * Scenario: No transaction available
+     * Expected outcome: Action performed immediately
+     */
+    @Test
+    public void testRunWithoutTransaction() {
+        AtomicInteger runs = new AtomicInteger();
+        AfterCommit.run(runs::incrementAndGet);
+        AfterCommit.run(runs::incrementAndGet, null);
+        assertEquals(2, runs.get());
+    }
+
+    /**
+     * Test for method {@link AfterCommit#run(Runnable, TransactionSynchronizationRegistry)}
+     * Scenario: Active transaction, committed and rolled back
+     * Expected outcome: Action only performed after the commit
+     */
+    @Test
+    public void testRunAfterCommit() {
+        TransactionSynchronizationRegistry registry = mock(TransactionSynchronizationRegistry.class);
+        when(registry.getTransactionStatus()).thenReturn(Status.STATUS_ACTIVE);
+        AtomicInteger runs = new AtomicInteger();
+
+        AfterCommit.run(runs::incrementAndGet, registry);
+        assertEquals(0, runs.get());
+
+        ArgumentCaptor<Synchronization> captor = ArgumentCaptor.forClass(Synchronization.class);
+        verify(registry).registerInterposedSynchronization(captor.capture());
+        captor.getValue().beforeCompletion();
+        captor.getValue().afterCompletion(Status.STATUS_ROLLEDBACK);
+        assertEquals(0, runs.get());
+        captor.getValue().afterCompletion(Status.STATUS_COMMITTED);
+        assertEquals(1, runs.get());
+    }
+
+    /**
+     * Test for method {@link AfterCommit#run(Runnable, TransactionSynchronizationRegistry)}
+     * Scenario: Transaction not active
+     * Expected outcome: Action performed immediately
+     */
+    @Test
+    public void testRunTransactionNotActive() {
+        TransactionSynchronizationRegistry registry = mock(TransactionSynchronizationRegistry.class);
+        when(registry.getTransactionStatus()).thenReturn(Status.STATUS_NO_TRANSACTION);
+        AtomicInteger runs = new AtomicInteger();
+        AfterCommit.run(runs::incrementAndGet, registry);
+        assertEquals(1, runs.get());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import io.radien.api.OAFAccess;
+import io.radien.api.OAFProperties;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class that aggregates UnitTest cases for ConfigSettings
+ */
+public class ConfigSettingsTest {
+
+    /**
+     * Test for methods {@link ConfigSettings#getInt(OAFAccess, io.radien.api.SystemProperties, int)}
+     * and {@link ConfigSettings#getLong(OAFAccess, io.radien.api.SystemProperties, long)}
+     * Expected outcome: Defined positive values returned, undefined, invalid and not positive ones replaced by the default
+     */
+    @Test
+    public void testGetIntAndLong() {
+        OAFAccess oaf = mock(OAFAccess.class);
+        when(oaf.getProperty(OAFProperties.SYSTEM_SQS_MAX_SESSIONS)).thenReturn(" 12 ");
+        when(oaf.getProperty(OAFProperties.SYSTEM_SQS_BUFFER_CAPACITY)).thenReturn("many");
+        when(oaf.getProperty(OAFProperties.SYSTEM_SQS_FLUSH_INTERVAL)).thenReturn("0");
+        when(oaf.getProperty(OAFProperties.SYSTEM_ECM_CONTENT_CACHE_TTL)).thenReturn("9000000000");
+
+        assertEquals(12, ConfigSettings.getInt(oaf, OAFProperties.SYSTEM_SQS_MAX_SESSIONS, 4));
+        assertEquals(4, ConfigSettings.getInt(oaf, OAFProperties.SYSTEM_SQS_BUFFER_CAPACITY, 4));
+        assertEquals(4, ConfigSettings.getInt(oaf, OAFProperties.SYSTEM_SQS_FLUSH_INTERVAL, 4));
+        assertEquals(4, ConfigSettings.getInt(oaf, OAFProperties.SYSTEM_ECM_CONTENT_CACHE_MAX_SIZE, 4));
+        assertEquals(4, ConfigSettings.getInt(oaf, OAFProperties.SYSTEM_ECM_CONTENT_CACHE_TTL, 4));
+        assertEquals(9000000000L, ConfigSettings.getLong(oaf, OAFProperties.SYSTEM_ECM_CONTENT_CACHE_TTL, 4L));
+    }
+
+    /**
+     * Test for method {@link ConfigSettings#getInt(io.radien.api.SystemProperties, int)}
+     * Scenario: Setting not defined in the config
+     * Expected outcome: Default value returned
+     */
+    @Test
+    public void testGetIntNotDefined() {
+        assertEquals(7, ConfigSettings.getInt(OAFProperties.SYSTEM_BATCH_PARALLELISM, 7));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * ExpiringCache Test class
+ */
+public class ExpiringCacheTest {
+
+    private AtomicLong now;
+    private ExpiringCache<String, Long> cache;
+
+    @Before
+    public void before() {
+        now = new AtomicLong(1000L);
+        cache = new ExpiringCache<>(2, 100L, now::get);
+    }
+
+    /**
+     * Test for methods {@link ExpiringCache#put(Object, Object)} and {@link ExpiringCache#get(Object)}
+     * Expected outcome: Value retrieved while valid, counters updated accordingly
+     */
+    @Test
+    public void testPutAndGet() {
+        assertNull(cache.get("a"));
+        cache.put("a", 1L);
+        assertEquals(Long.valueOf(1L), cache.get("a"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRatio(), 0);
+    }
+
+    /**
+     * Test for method {@link ExpiringCache#get(Object)}
+     * Scenario: Entry accessed after its time to live
+     * Expected outcome: null and entry evicted
+     */
+    @Test
+    public void testExpiration() {
+        cache.put("a", 1L);
+        now.addAndGet(100L);
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    /**
+     * Test for method {@link ExpiringCache#put(Object, Object, long)}
+     * Scenario: Entry with an explicit expiration (lower than the default one) and one already expired
+     */
+    @Test
+    public void testPutWithExplicitExpiration() {
+        cache.put("a", 1L, 1050L);
+        cache.put("b", 2L, 900L);
+        assertNull(cache.get("b"));
+        now.addAndGet(49L);
+        assertEquals(Long.valueOf(1L), cache.get("a"));
+        now.addAndGet(1L);
+        assertNull(cache.get("a"));
+    }
+
+    /**
+     * Test for size limit
+     * Expected outcome: Least recently used entry is evicted
+     */
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        cache.put("a", 1L);
+        cache.put("b", 2L);
+        cache.get("a");
+        cache.put("c", 3L);
+        assertNull(cache.get("b"));
+        assertEquals(Long.valueOf(1L), cache.get("a"));
+        assertEquals(Long.valueOf(3L), cache.get("c"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    /**
+     * Test for weight limit
+     * Expected outcome: Least recently used entries evicted until the weight fits, too heavy entries ignored
+     */
+    @Test
+    public void testWeightEviction() {
+        ExpiringCache<String, String> weighted = new ExpiringCache<>(10, 10L, 100L,
+                (key, value) -> value.length(), now::get);
+        weighted.put("a", "aaaa");
+        weighted.put("b", "bbbb");
+        assertEquals(8, weighted.getWeight());
+        weighted.put("c", "cccc");
+        assertNull(weighted.get("a"));
+        assertEquals(8, weighted.getWeight());
+        weighted.put("d", "ddddddddddd");
+        assertNull(weighted.get("d"));
+        weighted.put("b", "b");
+        assertEquals(5, weighted.getWeight());
+        weighted.invalidate("c");
+        assertEquals(1, weighted.getWeight());
+        weighted.invalidateAll();
+        assertEquals(0, weighted.getWeight());
+    }
+
+    /**
+     * Test for methods {@link ExpiringCache#invalidate(Object)}, {@link ExpiringCache#invalidateIf}
+     * and {@link ExpiringCache#invalidateAll()}
+     */
+    @Test
+    public void testInvalidation() {
+        cache.put("a", 1L);
+        cache.put("b", 2L);
+        cache.invalidate("a");
+        assertNull(cache.get("a"));
+        cache.invalidateIf(key -> key.startsWith("b"));
+        assertEquals(0, cache.size());
+        cache.put("c", 3L);
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Test for constructor validations
+     */
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<String, String>(0, 10L));
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<String, String>(10, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<String, String>(10, 0L, 10L, (k, v) -> 1L, now::get));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Class that aggregates UnitTest cases for LatencyHistogram
+ */
+public class LatencyHistogramTest {
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Test for method {@link LatencyHistogram#record(long, boolean)}
+     * Expected outcome: Samples counted in their buckets, with the errors, average and maximum times
+     */
+    @Test
+    public void testRecord() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(millis(1), false);
+        histogram.record(millis(3), false);
+        histogram.record(millis(40), true);
+        histogram.record(millis(60000), true);
+
+        assertEquals(4, histogram.getCount());
+        assertEquals(2, histogram.getErrorCount());
+        assertEquals(15011.0, histogram.getAverageTime(), 0.001);
+        assertEquals(60000.0, histogram.getMaxTime(), 0.001);
+        long[] buckets = histogram.getBuckets();
+        assertEquals(15, buckets.length);
+        assertEquals(1, buckets[0]);
+        assertEquals(1, buckets[2]);
+        assertEquals(1, buckets[5]);
+        assertEquals(1, buckets[14]);
+    }
+
+    /**
+     * Test for method {@link LatencyHistogram#getPercentile(double)}
+     * Expected outcome: Upper bound of the bucket containing the percentile, maximum time for the slowest samples
+     */
+    @Test
+    public void testGetPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(50), 0);
+        for (int i = 0; i < 90; i++) {
+            histogram.record(millis(8), false);
+        }
+        for (int i = 0; i < 9; i++) {
+            histogram.record(millis(200), false);
+        }
+        histogram.record(millis(45000), false);
+
+        assertEquals(10, histogram.getPercentile(50), 0);
+        assertEquals(10, histogram.getPercentile(90), 0);
+        assertEquals(250, histogram.getPercentile(95), 0);
+        assertEquals(45000, histogram.getPercentile(100), 0);
+    }
+}
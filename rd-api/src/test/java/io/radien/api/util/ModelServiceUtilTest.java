@@ -15,8 +15,15 @@
  */
 package io.radien.api.util;
 
+import io.radien.api.entity.CountMode;
+import io.radien.api.entity.Page;
+import io.radien.api.entity.PageCursor;
+import io.radien.exception.InvalidPageCursorException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.persistence.EntityManager;
 import javax.persistence.criteria.CriteriaBuilder;
@@ -97,4 +104,77 @@ public class ModelServiceUtilTest {
         assertNull(ModelServiceUtil.getFieldPredicateFromModelService("", false, true,
                 criteriaBuilder, null, global));
     }
-}
\ No newline at end of file
+
+    /**
+     * Asserts getCursorPredicate() with a cursor that does not match the sort criteria
+     */
+    @Test(expected = InvalidPageCursorException.class)
+    public void testGetCursorPredicateInvalid() {
+        PageCursor cursor = new PageCursor(Arrays.asList("a", "b"), 1L);
+        ModelServiceUtil.getCursorPredicate(true, objectRoot, criteriaBuilder, Collections.singletonList("A"), cursor);
+    }
+
+    /**
+     * Asserts getPage() for the different count modes
+     */
+    @Test
+    public void testGetPage() {
+        PageCountCache cache = new PageCountCache(10, 10000L);
+        AtomicInteger counts = new AtomicInteger();
+        List<String> full = Arrays.asList("a", "b");
+
+        // last page, no count executed
+        Page<String> page = ModelServiceUtil.getPage(Collections.singletonList("c"), 3, 2, CountMode.CACHED,
+                cache, String.class, "f1", () -> counts.incrementAndGet() * 100L);
+        assertEquals(5, page.getTotalResults());
+        assertEquals(3, page.getTotalPages());
+        assertEquals(CountMode.EXACT, page.getCountMode());
+        assertEquals(0, counts.get());
+
+        // full page, count reused from the cache
+        page = ModelServiceUtil.getPage(full, 1, 2, CountMode.CACHED, cache, String.class, "f1",
+                () -> counts.incrementAndGet() * 100L);
+        assertEquals(5, page.getTotalResults());
+        assertEquals(CountMode.CACHED, page.getCountMode());
+        assertEquals(0, counts.get());
+
+        // different filter, counted and stored
+        page = ModelServiceUtil.getPage(full, 1, 2, CountMode.CACHED, cache, String.class, "f2",
+                () -> counts.incrementAndGet() * 100L);
+        assertEquals(100, page.getTotalResults());
+        assertEquals(50, page.getTotalPages());
+        assertEquals(CountMode.EXACT, page.getCountMode());
+        page = ModelServiceUtil.getPage(full, 2, 2, CountMode.CACHED, cache, String.class, "f2",
+                () -> counts.incrementAndGet() * 100L);
+        assertEquals(100, page.getTotalResults());
+        assertEquals(1, counts.get());
+
+        // exact count always executed
+        page = ModelServiceUtil.getPage(full, 1, 2, CountMode.EXACT, cache, String.class, "f2",
+                () -> counts.incrementAndGet() * 100L);
+        assertEquals(200, page.getTotalResults());
+        assertEquals(2, counts.get());
+
+        // estimation without cached count
+        page = ModelServiceUtil.getPage(full, 2, 2, CountMode.ESTIMATED, cache, String.class, "f3",
+                () -> counts.incrementAndGet() * 100L);
+        assertEquals(5, page.getTotalResults());
+        assertEquals(CountMode.ESTIMATED, page.getCountMode());
+
+        // count not requested
+        page = ModelServiceUtil.getPage(full, 2, 2, CountMode.NONE, cache, String.class, "f3",
+                () -> counts.incrementAndGet() * 100L);
+        assertEquals(Page.UNKNOWN, page.getTotalResults());
+        assertEquals(Page.UNKNOWN, page.getTotalPages());
+        assertEquals(CountMode.NONE, page.getCountMode());
+        assertEquals(2, counts.get());
+    }
+
+    /**
+     * Asserts getPageByCursor() with an invalid page size
+     */
+    @Test(expected = InvalidPageCursorException.class)
+    public void testGetPageByCursorInvalidPageSize() {
+        ModelServiceUtil.getPageByCursor(em, null, objectRoot, global, null, true, null, 0, false);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class that aggregates UnitTest cases for PageCountCache
+ */
+public class PageCountCacheTest {
+
+    /**
+     * Test for methods {@link PageCountCache#put(Class, Object, long)} and {@link PageCountCache#get(Class, Object)}
+     * Expected outcome: Counts kept per entity and filter, until expiration
+     */
+    @Test
+    public void testPutAndGet() {
+        AtomicLong now = new AtomicLong(1000L);
+        PageCountCache cache = new PageCountCache(10, 100L, now::get);
+        assertTrue(cache.isEnabled());
+
+        cache.put(String.class, Arrays.asList("a", null), 5L);
+        cache.put(String.class, null, 7L);
+        cache.put(Integer.class, null, 9L);
+
+        assertEquals(Long.valueOf(5L), cache.get(String.class, Arrays.asList("a", null)));
+        assertEquals(Long.valueOf(7L), cache.get(String.class, null));
+        assertEquals(Long.valueOf(9L), cache.get(Integer.class, null));
+        assertNull(cache.get(String.class, Arrays.asList("b", null)));
+
+        now.addAndGet(101L);
+        assertNull(cache.get(String.class, null));
+    }
+
+    /**
+     * Test for method {@link PageCountCache#invalidate(Class)}
+     * Expected outcome: Only the counts of the written entity are discarded
+     */
+    @Test
+    public void testInvalidate() {
+        PageCountCache cache = new PageCountCache(10, 10000L);
+        cache.put(String.class, "a", 5L);
+        cache.put(String.class, "b", 6L);
+        cache.put(Integer.class, "a", 9L);
+
+        cache.invalidate(String.class);
+        assertNull(cache.get(String.class, "a"));
+        assertNull(cache.get(String.class, "b"));
+        assertEquals(Long.valueOf(9L), cache.get(Integer.class, "a"));
+        assertEquals(1, cache.size());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Test for method {@link PageCountCache#isEnabled()}
+     * Scenario: Time to live equal to zero
+     * Expected outcome: Nothing is cached
+     */
+    @Test
+    public void testDisabled() {
+        PageCountCache cache = new PageCountCache(10, 0L);
+        assertFalse(cache.isEnabled());
+        cache.put(String.class, "a", 5L);
+        assertNull(cache.get(String.class, "a"));
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Test for method {@link PageCountCache#current()}
+     * Scenario: No CDI container available
+     * Expected outcome: Disabled cache returned
+     */
+    @Test
+    public void testCurrentWithoutContainer() {
+        PageCountCache cache = PageCountCache.current();
+        assertFalse(cache.isEnabled());
+        assertTrue(cache == PageCountCache.current());
+    }
+}
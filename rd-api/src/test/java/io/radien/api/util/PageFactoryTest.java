@@ -46,10 +46,12 @@ public class PageFactoryTest {
         builder.add("results",jsonArrayBuilder);
         builder.add("totalPages",1);
         builder.add("totalResults",4);
+        builder.add("nextCursor","cursor");
         Page<?> page = PageFactory.convertToPageObject(builder.build());
         assertEquals(-1,page.getCurrentPage());
         assertNull(page.getResults());
         assertEquals(1,page.getTotalPages());
         assertEquals(4,page.getTotalResults());
+        assertEquals("cursor",page.getNextCursor());
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import java.net.MalformedURLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientResponseContext;
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class that aggregates UnitTest cases for RestClientRegistry
+ */
+public class RestClientRegistryTest {
+
+    private AtomicInteger builds;
+    private RestClientBuilder builder;
+    private RestClientRegistry registry;
+
+    /**
+     * Sample rest client interface
+     */
+    public interface SampleClient {
+    }
+
+    /**
+     * Another sample rest client interface
+     */
+    public interface OtherClient {
+    }
+
+    @Before
+    public void before() {
+        builds = new AtomicInteger();
+        builder = mock(RestClientBuilder.class, Mockito.RETURNS_SELF);
+        when(builder.build(any())).thenAnswer(invocation -> {
+            builds.incrementAndGet();
+            return mock((Class<?>) invocation.getArgument(0));
+        });
+        registry = new RestClientRegistry(10, 5, 1000L, 2000L, 3000L, true, () -> builder);
+    }
+
+    /**
+     * Test for method {@link RestClientRegistry#getClient(String, Class, Class[])}
+     * Expected outcome: Client built once per url and interface, with the configured settings
+     */
+    @Test
+    public void testGetClient() throws MalformedURLException {
+        SampleClient first = registry.getClient("http://localhost:8080/a", SampleClient.class, String.class);
+        SampleClient second = registry.getClient("http://localhost:8080/a", SampleClient.class, String.class);
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+
+        assertNotSame(first, registry.getClient("http://localhost:8080/b", SampleClient.class));
+        registry.getClient("http://localhost:8080/a", OtherClient.class);
+        assertEquals(3, builds.get());
+        assertEquals(3, registry.size());
+
+        verify(builder, Mockito.times(3)).connectTimeout(1000L, TimeUnit.MILLISECONDS);
+        verify(builder, Mockito.times(3)).readTimeout(2000L, TimeUnit.MILLISECONDS);
+        verify(builder, Mockito.times(3)).property(RestClientRegistry.CXF_MAX_PER_HOST_CONNECTIONS, 5);
+        verify(builder).register(String.class);
+
+        registry.clear();
+        assertEquals(0, registry.size());
+        registry.getClient("http://localhost:8080/a", SampleClient.class);
+        assertEquals(4, builds.get());
+    }
+
+    /**
+     * Test for method {@link RestClientRegistry#getClient(String, Class, Class[])}
+     * Scenario: Invalid url
+     * Expected outcome: MalformedURLException and nothing cached
+     */
+    @Test
+    public void testGetClientInvalidUrl() {
+        assertThrows(MalformedURLException.class, () -> registry.getClient("not.a.valid.url", SampleClient.class));
+        assertEquals(0, registry.size());
+    }
+
+    /**
+     * Test for method {@link RestClientRegistry#getStatistics()}
+     * Expected outcome: Requests and errors measured per endpoint through the registered filter
+     */
+    @Test
+    public void testStatistics() throws MalformedURLException {
+        registry.getClient("http://localhost:8080/a", SampleClient.class);
+        ArgumentCaptor<Object> filterCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(builder).register(filterCaptor.capture());
+        assertTrue(filterCaptor.getValue() instanceof RestClientRegistry.StatisticsFilter);
+        RestClientRegistry.StatisticsFilter filter = (RestClientRegistry.StatisticsFilter) filterCaptor.getValue();
+
+        ClientRequestContext requestContext = mock(ClientRequestContext.class);
+        ClientResponseContext responseContext = mock(ClientResponseContext.class);
+        when(requestContext.getProperty(any())).thenReturn(System.nanoTime());
+        when(responseContext.getStatus()).thenReturn(200, 500);
+        filter.filter(requestContext);
+        filter.filter(requestContext, responseContext);
+        filter.filter(requestContext, responseContext);
+
+        RestClientRegistry.EndpointStatistics statistics = registry.getStatistics().get("http://localhost:8080/a");
+        assertEquals(1, statistics.getClientCount());
+        assertEquals(2, statistics.getRequestCount());
+        assertEquals(1, statistics.getErrorCount());
+        assertTrue(statistics.getAverageTime() >= 0);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.api.util;
+
+import io.radien.api.entity.CountMode;
+import io.radien.api.entity.Page;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.List;
+import javax.json.JsonObject;
+import javax.json.stream.JsonParsingException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class that aggregates UnitTest cases for StreamingJsonMapper
+ */
+public class StreamingJsonMapperTest {
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String name(JsonObject jsonObject) {
+        return jsonObject.getString("name");
+    }
+
+    /**
+     * Test for method {@link StreamingJsonMapper#readPage(InputStream, StreamingJsonMapper.Converter)}
+     * Expected outcome: Page information and converted results, ignoring unknown fields
+     */
+    @Test
+    public void testReadPage() {
+        String json = "{\"currentPage\": 2, \"extra\": {\"a\": [1, {\"b\": 2}]}, \"results\": [" +
+                "{\"name\": \"a\", \"nested\": {\"x\": [1, 2]}}, null, {\"name\": \"b\"}]," +
+                "\"jsonValues\": null, \"totalPages\": 3, \"totalResults\": 25, \"nextCursor\": \"abc\", \"countMode\": \"CACHED\"}";
+        Page<String> page = StreamingJsonMapper.readPage(stream(json), StreamingJsonMapperTest::name);
+        assertEquals(2, page.getCurrentPage());
+        assertEquals(3, page.getTotalPages());
+        assertEquals(25, page.getTotalResults());
+        assertEquals("abc", page.getNextCursor());
+        assertEquals(CountMode.CACHED, page.getCountMode());
+        assertEquals(2, page.getResults().size());
+        assertEquals("a", page.getResults().get(0));
+        assertEquals("b", page.getResults().get(1));
+    }
+
+    /**
+     * Test for method {@link StreamingJsonMapper#readPage(InputStream, StreamingJsonMapper.Converter)}
+     * Scenario: Page without results
+     * Expected outcome: Empty page
+     */
+    @Test
+    public void testReadEmptyPage() {
+        Page<String> page = StreamingJsonMapper.readPage(stream("{\"results\": null, \"currentPage\": 1}"),
+                StreamingJsonMapperTest::name);
+        assertEquals(1, page.getCurrentPage());
+        assertTrue(page.getResults().isEmpty());
+    }
+
+    /**
+     * Test for method {@link StreamingJsonMapper#readPage(InputStream, StreamingJsonMapper.Converter)}
+     * Scenario: Conversion failure and invalid document
+     * Expected outcome: Conversion exception propagated, parsing exception for invalid documents
+     */
+    @Test
+    public void testReadPageExceptions() {
+        assertThrows(ParseException.class, () -> StreamingJsonMapper.readPage(stream("{\"results\": [{}]}"), o -> {
+            throw new ParseException("invalid", 0);
+        }));
+        assertThrows(JsonParsingException.class, () -> StreamingJsonMapper.readPage(stream("[]"),
+                StreamingJsonMapperTest::name));
+    }
+
+    /**
+     * Test for method {@link StreamingJsonMapper#readList(InputStream, StreamingJsonMapper.Converter)}
+     * Expected outcome: Converted elements
+     */
+    @Test
+    public void testReadList() {
+        List<String> list = StreamingJsonMapper.readList(stream("[{\"name\": \"a\"}, {\"name\": \"b\"}]"),
+                StreamingJsonMapperTest::name);
+        assertEquals(2, list.size());
+        assertEquals("b", list.get(1));
+        assertThrows(JsonParsingException.class, () -> StreamingJsonMapper.readList(stream("{}"),
+                StreamingJsonMapperTest::name));
+    }
+
+    /**
+     * Test for method {@link StreamingJsonMapper#readObject(InputStream, StreamingJsonMapper.Converter)}
+     * Expected outcome: Converted object
+     */
+    @Test
+    public void testReadObject() {
+        assertEquals("a", StreamingJsonMapper.readObject(stream("{\"name\": \"a\"}"), StreamingJsonMapperTest::name));
+    }
+}
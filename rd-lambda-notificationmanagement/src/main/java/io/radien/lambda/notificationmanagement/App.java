@@ -2,22 +2,36 @@ package io.radien.lambda.notificationmanagement;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.SQSBatchResponse;
 import com.amazonaws.services.lambda.runtime.events.SQSEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import io.radien.lambda.notificationmanagement.util.email.module.EmailModule;
 import io.radien.lambda.notificationmanagement.util.email.service.EmailNotificationService;
 import io.radien.lambda.notificationmanagement.util.email.params.EmailParams;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Lambda function entry point. You can change to use other pojo type or implement
- * a different RequestHandler.
- *
- * @see <a href=https://docs.aws.amazon.com/lambda/latest/dg/java-handler.html>Lambda Java Handler</a> for more information
+ * Consumer of the notification queue. The records of a batch are sent together and only the records
+ * that could not be sent are reported as batch item failures, so only those are delivered again.
  */
-public class App implements RequestHandler<SQSEvent, Object> {
+public class App implements RequestHandler<SQSEvent, SQSBatchResponse> {
+
+    private static final Logger log = LoggerFactory.getLogger(App.class);
+
+    private static final ObjectReader PARAMS_READER = new ObjectMapper().readerFor(EmailParams.class);
+
+    /** Time kept to answer the batch before the function times out */
+    private static final long TIMEOUT_MARGIN = 5000L;
+    private static final long DEFAULT_TIMEOUT = 50000L;
 
     private final EmailNotificationService emailService;
 
@@ -27,18 +41,36 @@ public class App implements RequestHandler<SQSEvent, Object> {
     }
 
     @Override
-    public Object handleRequest(final SQSEvent input, final Context context) {
-        EmailParams params = null;
+    public SQSBatchResponse handleRequest(final SQSEvent input, final Context context) {
+        List<SQSBatchResponse.BatchItemFailure> failures = new ArrayList<>();
+        Map<EmailParams, String> messageIds = new IdentityHashMap<>();
+        List<EmailParams> batch = new ArrayList<>();
         for(SQSEvent.SQSMessage r : input.getRecords()){
+            EmailParams params = null;
             try {
-                ObjectMapper mapper = new ObjectMapper();
-                if((params = mapper.readValue(r.getBody(), EmailParams.class)) != null){
-                    emailService.notifyBehaviour(params);
-                }
+                params = r.getBody() == null ? null : PARAMS_READER.readValue(r.getBody());
             } catch (JsonProcessingException e) {
-                throw new IllegalArgumentException("Unable to extract email parameters from message body.");
+                log.error("Unable to extract email parameters from message {} body.", r.getMessageId());
             }
+            if (params == null) {
+                failures.add(new SQSBatchResponse.BatchItemFailure(r.getMessageId()));
+            } else {
+                messageIds.put(params, r.getMessageId());
+                batch.add(params);
+            }
+        }
+        if (!batch.isEmpty()) {
+            for (EmailParams failed : emailService.notifyBehaviour(batch, getTimeout(context))) {
+                failures.add(new SQSBatchResponse.BatchItemFailure(messageIds.get(failed)));
+            }
+        }
+        return new SQSBatchResponse(failures);
+    }
+
+    private static long getTimeout(Context context) {
+        if (context == null) {
+            return DEFAULT_TIMEOUT;
         }
-        return input;
+        return Math.max(context.getRemainingTimeInMillis() - TIMEOUT_MARGIN, 0L);
     }
 }
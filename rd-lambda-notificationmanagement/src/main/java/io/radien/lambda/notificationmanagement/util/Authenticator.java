@@ -13,47 +13,97 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
+/**
+ * Holds the (keycloak) access token used by the lambda to call the radien services.
+ * The token is kept across invocations of a warm container and obtained again shortly
+ * before it expires (or when it is invalidated), instead of once per container.
+ */
 @Singleton
 public class Authenticator {
-    private Map<String, String> properties;
-    private boolean initialized = false;
+    private static final long EXPIRY_MARGIN = 30000L;
+
+    private Map<String, Object> properties;
+    private long expiresAt = Long.MAX_VALUE;
 
     private final OAFAccess oaf;
+    private final LongSupplier clock;
 
     @Inject
     public Authenticator(OAFAccess oaf) {
+        this(oaf, System::currentTimeMillis);
+    }
+
+    Authenticator(OAFAccess oaf, LongSupplier clock) {
         this.oaf = oaf;
+        this.clock = clock;
     }
 
-    public void login(){
-        if(!initialized){
-            if(oaf.getProperty(OAFProperties.RADIEN_ENV, "PROD").equalsIgnoreCase("LOCAL")){
-                Unirest.config().verifySsl(false);
-            }
-            HttpResponse<?> response = Unirest.post(oaf.getProperty(KeycloakConfigs.IDP_URL).concat(
-                            oaf.getProperty(KeycloakConfigs.TOKEN_PATH)))
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED)
-                    .field("client_id", oaf.getProperty(KeycloakConfigs.ADMIN_CLIENT_ID))
-                    .field("grant_type", "password")
-                    .field("client_secret", oaf.getProperty(KeycloakConfigs.ADMIN_CLIENT_SECRET))
-                    .field("username", oaf.getProperty(KeycloakConfigs.RADIEN_USERNAME))
-                    .field("password", oaf.getProperty(KeycloakConfigs.RADIEN_PASSWORD))
-                    .asObject(HashMap.class);
-            if(!response.isSuccess()){
-                String error = response.getBody() != null ? response.getBody().toString() : response.getStatusText();
-                throw new InternalServerErrorException("Error on keycloak login: " + error);
-            }
-            properties = (Map<String, String>) response.getBody();
-            initialized = true;
+    public synchronized void login(){
+        if(properties == null || clock.getAsLong() >= expiresAt){
+            long requestedAt = clock.getAsLong();
+            properties = requestToken();
+            expiresAt = getExpiresAt(requestedAt);
+        }
+    }
+
+    /**
+     * Requests a new access token to keycloak
+     * @return the token response properties
+     */
+    Map<String, Object> requestToken(){
+        if(oaf.getProperty(OAFProperties.RADIEN_ENV, "PROD").equalsIgnoreCase("LOCAL")){
+            Unirest.config().verifySsl(false);
+        }
+        HttpResponse<?> response = Unirest.post(oaf.getProperty(KeycloakConfigs.IDP_URL).concat(
+                        oaf.getProperty(KeycloakConfigs.TOKEN_PATH)))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED)
+                .field("client_id", oaf.getProperty(KeycloakConfigs.ADMIN_CLIENT_ID))
+                .field("grant_type", "password")
+                .field("client_secret", oaf.getProperty(KeycloakConfigs.ADMIN_CLIENT_SECRET))
+                .field("username", oaf.getProperty(KeycloakConfigs.RADIEN_USERNAME))
+                .field("password", oaf.getProperty(KeycloakConfigs.RADIEN_PASSWORD))
+                .asObject(HashMap.class);
+        if(!response.isSuccess()){
+            String error = response.getBody() != null ? response.getBody().toString() : response.getStatusText();
+            throw new InternalServerErrorException("Error on keycloak login: " + error);
         }
+        return (Map<String, Object>) response.getBody();
+    }
+
+    /**
+     * Discards the current token (e.g. when it was rejected), so the next request obtains a new one
+     */
+    public synchronized void invalidate(){
+        properties = null;
     }
 
     public String getAuthorization(){
         return "Bearer ".concat(getAccessToken());
     }
 
-    public String getAccessToken(){
-        return properties.get("access_token");
+    public synchronized String getAccessToken(){
+        login();
+        return (String) properties.get("access_token");
+    }
+
+    /**
+     * Calculates when the token has to be renewed, some time before its expiration
+     * @param requestedAt time at which the token was requested
+     * @return the renewal time, or Long.MAX_VALUE if the token does not inform its expiration
+     */
+    private long getExpiresAt(long requestedAt){
+        Object expiresIn = properties.get("expires_in");
+        if(expiresIn == null){
+            return Long.MAX_VALUE;
+        }
+        try {
+            long lifetime = (expiresIn instanceof Number ? ((Number) expiresIn).longValue() :
+                    Long.parseLong(expiresIn.toString().trim())) * 1000L;
+            return requestedAt + Math.max(lifetime - EXPIRY_MARGIN, lifetime / 2);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
     }
 }
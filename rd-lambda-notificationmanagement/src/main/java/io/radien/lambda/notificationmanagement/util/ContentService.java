@@ -4,41 +4,80 @@ import com.google.inject.Singleton;
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
 import io.radien.api.service.ecm.model.EnterpriseContent;
+import io.radien.api.util.ConfigSettings;
+import io.radien.api.util.ExpiringCache;
 import io.radien.ms.ecm.client.services.EnterpriseContentMapper;
 import java.text.MessageFormat;
 import javax.inject.Inject;
+import javax.ws.rs.core.Response;
 import kong.unirest.HttpResponse;
 import kong.unirest.Unirest;
 import org.json.simple.parser.ParseException;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 
+/**
+ * Retrieves the notification contents from the ECM. Contents are kept (for a limited time) across
+ * the invocations of a warm container, so repeated notifications do not request the same content again.
+ */
 @Singleton
 public class ContentService {
 
     private static final String FALLBACK_URL = "http://host.docker.internal:8081/cms/v1";
+    private static final int DEFAULT_CACHE_MAX_SIZE = 100;
+    private static final long DEFAULT_CACHE_TTL = 300000L;
 
     private final Authenticator authenticator;
 
     private final OAFAccess oaf;
 
+    private final ExpiringCache<List<String>, EnterpriseContent> cache;
+
     @Inject
     public ContentService(Authenticator authenticator, OAFAccess oaf) {
         this.authenticator = authenticator;
         this.oaf = oaf;
+        this.cache = new ExpiringCache<>(ConfigSettings.getInt(oaf, OAFProperties.SYSTEM_ECM_CONTENT_CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE),
+                ConfigSettings.getLong(oaf, OAFProperties.SYSTEM_ECM_CONTENT_CACHE_TTL, DEFAULT_CACHE_TTL));
         authenticator.login();
     }
 
 
     public EnterpriseContent getContentByViewIdAndLanguage(String viewId, String language) throws IOException, ParseException, java.text.ParseException {
+        List<String> key = Arrays.asList(viewId, language);
+        EnterpriseContent content = cache.get(key);
+        if (content == null) {
+            content = requestContent(viewId, language);
+            if (content != null) {
+                cache.put(key, content);
+            }
+        }
+        return content;
+    }
+
+    private EnterpriseContent requestContent(String viewId, String language) throws IOException, ParseException, java.text.ParseException {
+        HttpResponse<byte[]> request = get(viewId, language);
+        if (request.getStatus() == Response.Status.UNAUTHORIZED.getStatusCode()) {
+            authenticator.invalidate();
+            request = get(viewId, language);
+        }
+        if (!request.isSuccess()) {
+            throw new IOException(MessageFormat.format("Error obtaining content {0} ({1}): {2} {3}",
+                    viewId, language, request.getStatus(), request.getStatusText()));
+        }
+        return EnterpriseContentMapper.map(new ByteArrayInputStream(request.getBody()));
+    }
+
+    private HttpResponse<byte[]> get(String viewId, String language) {
         String endpointUrl = MessageFormat.format("{0}/content/metadata", oaf.getProperty(OAFProperties.SYSTEM_MS_ENDPOINT_ECM, FALLBACK_URL));
         String authorization = authenticator.getAuthorization();
-        HttpResponse<byte[]> request = Unirest.get(endpointUrl)
+        return Unirest.get(endpointUrl)
                 .header("Authorization", authorization)
                 .queryString("viewId", viewId)
                 .queryString("lang", language)
                 .asBytes();
-        return EnterpriseContentMapper.map(new ByteArrayInputStream(request.getBody()));
     }
 }
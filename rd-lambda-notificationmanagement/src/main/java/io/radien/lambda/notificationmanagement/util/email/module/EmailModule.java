@@ -8,6 +8,8 @@ import io.radien.api.service.mail.MailServiceAccess;
 import io.radien.lambda.notificationmanagement.util.email.service.EmailNotificationService;
 import io.radien.ms.config.lib.MSOAF;
 import io.radien.ms.email.lib.MailService;
+import io.radien.ms.email.lib.MailTemplateCache;
+import io.radien.ms.email.lib.MailTransportPool;
 import io.radien.lambda.notificationmanagement.util.ContentService;
 
 public class EmailModule extends AbstractModule {
@@ -15,6 +17,8 @@ public class EmailModule extends AbstractModule {
     protected void configure() {
         bind(EmailNotificationService.class).in(Singleton.class);
         bind(MailServiceAccess.class).to(MailService.class).in(Singleton.class);
+        bind(MailTransportPool.class).in(Singleton.class);
+        bind(MailTemplateCache.class).in(Singleton.class);
         bind(Authenticator.class).in(Singleton.class);
         bind(ContentService.class).in(Singleton.class);
         bind(OAFAccess.class).to(MSOAF.class);
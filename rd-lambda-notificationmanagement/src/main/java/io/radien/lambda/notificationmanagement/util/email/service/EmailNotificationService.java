@@ -3,18 +3,38 @@ package io.radien.lambda.notificationmanagement.util.email.service;
 import com.google.inject.Singleton;
 import io.radien.api.service.ecm.model.EnterpriseContent;
 import io.radien.api.service.mail.MailServiceAccess;
+import io.radien.api.service.mail.model.Mail;
 import io.radien.exception.InternalServerErrorException;
+import io.radien.ms.email.lib.MailSettings;
 import io.radien.ms.email.lib.MailTemplate;
 import io.radien.lambda.notificationmanagement.util.email.params.EmailParams;
 import io.radien.lambda.notificationmanagement.util.ContentService;
 import javax.inject.Inject;
 import org.json.simple.parser.ParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Singleton
 public class EmailNotificationService implements EmailNotificationServiceAccess {
 
+    private static final Logger log = LoggerFactory.getLogger(EmailNotificationService.class);
+
+    private static final long IN_FLIGHT_GRACE = 2000L;
+
     private final MailServiceAccess mailService;
 
     private final ContentService contentService;
@@ -34,4 +54,85 @@ public class EmailNotificationService implements EmailNotificationServiceAccess
             throw new InternalServerErrorException("Error obtaining mail content.");
         }
     }
+
+    /**
+     * Sends the notifications of a batch of messages. The notifications are grouped by view id and language,
+     * so the content of each group is retrieved once (and its template compiled once), and the mails are sent
+     * concurrently by the shared mail sender threads.
+     * @param parameters notifications to be sent
+     * @param timeout maximum time (in milliseconds) to wait for the notifications to be sent
+     * @return the notifications that could not be sent (including the ones not sent within the timeout)
+     */
+    @Override
+    public List<EmailParams> notifyBehaviour(List<EmailParams> parameters, long timeout) {
+        Map<List<String>, List<EmailParams>> groups = new LinkedHashMap<>();
+        for (EmailParams params : parameters) {
+            groups.computeIfAbsent(Arrays.asList(params.getNotificationViewId(), params.getLanguage()),
+                    key -> new ArrayList<>()).add(params);
+        }
+        Map<Mail, EmailParams> mails = new IdentityHashMap<>();
+        for (Map.Entry<List<String>, List<EmailParams>> group : groups.entrySet()) {
+            EnterpriseContent content;
+            try {
+                content = contentService.getContentByViewIdAndLanguage(group.getKey().get(0), group.getKey().get(1));
+            } catch (IOException | ParseException | java.text.ParseException | RuntimeException e) {
+                log.error("Error obtaining mail content for view id {}", group.getKey().get(0), e);
+                continue;
+            }
+            for (EmailParams params : group.getValue()) {
+                try {
+                    mails.put(mailService.create(params.getEmail(), new MailTemplate(content, params.getArguments())), params);
+                } catch (RuntimeException e) {
+                    log.error("Error creating mail for view id {}", params.getNotificationViewId(), e);
+                }
+            }
+        }
+        Set<EmailParams> sent = send(mails, timeout);
+        List<EmailParams> failed = new ArrayList<>();
+        for (EmailParams params : parameters) {
+            if (!sent.contains(params)) {
+                failed.add(params);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Sends the mails concurrently, waiting at most the given time. Once the time elapses the sending is
+     * cancelled: the mails that did not start to be sent are no longer sent (they are reported as failed and
+     * redelivered by the queue), and the ones being sent are awaited for a short period.
+     * @param mails mails to be sent and their notification
+     * @param timeout maximum time (in milliseconds) to wait for the mails to be sent
+     * @return the notifications that were sent
+     */
+    private Set<EmailParams> send(Map<Mail, EmailParams> mails, long timeout) {
+        Set<EmailParams> sent = ConcurrentHashMap.newKeySet();
+        if (mails.isEmpty() || timeout <= 0) {
+            return sent;
+        }
+        List<Mail> pending = new ArrayList<>(mails.keySet());
+        CountDownLatch done = new CountDownLatch(pending.size());
+        AtomicBoolean cancelled = new AtomicBoolean();
+        int parts = Math.min(MailSettings.getSenderThreads(), pending.size());
+        int partSize = (pending.size() + parts - 1) / parts;
+        for (int i = 0; i < pending.size(); i += partSize) {
+            mailService.sendMailsAsync(pending.subList(i, Math.min(i + partSize, pending.size())), (mail, success) -> {
+                if (Boolean.TRUE.equals(success)) {
+                    sent.add(mails.get(mail));
+                }
+                done.countDown();
+            }, cancelled::get);
+        }
+        try {
+            if (!done.await(timeout, TimeUnit.MILLISECONDS)) {
+                cancelled.set(true);
+                log.warn("{} notifications not sent within {} ms, sending cancelled", done.getCount(), timeout);
+                done.await(IN_FLIGHT_GRACE, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            cancelled.set(true);
+            Thread.currentThread().interrupt();
+        }
+        return new HashSet<>(sent);
+    }
 }
@@ -1,8 +1,17 @@
 package io.radien.lambda.notificationmanagement.util.email.service;
 
 import io.radien.lambda.notificationmanagement.util.email.params.EmailParams;
+import java.util.List;
 
 public interface EmailNotificationServiceAccess {
 
     void notifyBehaviour(EmailParams parameters);
+
+    /**
+     * Sends the notifications of a batch of messages
+     * @param parameters notifications to be sent
+     * @param timeout maximum time (in milliseconds) to wait for the notifications to be sent
+     * @return the notifications that could not be sent
+     */
+    List<EmailParams> notifyBehaviour(List<EmailParams> parameters, long timeout);
 }
@@ -1,6 +1,7 @@
 package io.radien.lambda.notificationmanagement;
 
 
+import com.amazonaws.services.lambda.runtime.events.SQSBatchResponse;
 import com.amazonaws.services.lambda.runtime.events.SQSEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,10 +13,11 @@ import io.radien.lambda.notificationmanagement.App;
 import io.radien.lambda.notificationmanagement.util.email.params.EmailParams;
 import io.radien.lambda.notificationmanagement.util.email.service.EmailNotificationService;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.junit.AfterClass;
+import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
@@ -25,8 +27,13 @@ import org.mockito.junit.MockitoJUnit;
 
 import org.mockito.junit.MockitoRule;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,51 +63,86 @@ public class AppTest {
         }
     }
 
+    @Before
+    public void resetMocks() {
+        Mockito.reset(notificationService);
+    }
+
     @Test
     public void handleRequest_shouldReturnConstantValue() throws JsonProcessingException {
         App app = new App();
 
         SQSEvent event = new SQSEvent();
         List<SQSEvent.SQSMessage> records = new ArrayList<>();
-        EmailParams testParams = new EmailParams();
-        testParams.setArguments(new HashMap<>());
-        testParams.setLanguage("en");
-        testParams.setEmail("email@target.com");
-        testParams.setNotificationViewId("email-1");
-        ObjectMapper mapper = new ObjectMapper();
-        SQSEvent.SQSMessage record = new SQSEvent.SQSMessage();
-        record.setBody(mapper.writeValueAsString(testParams));
-        records.add(record);
+        records.add(createRecord("1", "email@target.com"));
         event.setRecords(records);
 
-        app.handleRequest(event, null);
-        verify(notificationService).notifyBehaviour(any(EmailParams.class));
+        SQSBatchResponse response = app.handleRequest(event, null);
+        verify(notificationService).notifyBehaviour(anyList(), anyLong());
+        assertTrue(response.getBatchItemFailures().isEmpty());
     }
 
-    @Test(expected = IllegalArgumentException.class)
-    public void handleRequest_illegalArgumentInvalidBody() throws JsonProcessingException {
+    @Test
+    public void handleRequest_partialBatchFailure() throws JsonProcessingException {
+        App app = new App();
+
+        SQSEvent event = new SQSEvent();
+        List<SQSEvent.SQSMessage> records = new ArrayList<>();
+        records.add(createRecord("1", "email@target.com"));
+        records.add(createRecord("2", "other@target.com"));
+        event.setRecords(records);
+        when(notificationService.notifyBehaviour(anyList(), anyLong())).thenAnswer(invocation -> {
+            List<EmailParams> batch = invocation.getArgument(0);
+            assertEquals(2, batch.size());
+            return Collections.singletonList(batch.get(1));
+        });
+
+        SQSBatchResponse response = app.handleRequest(event, null);
+        assertEquals(1, response.getBatchItemFailures().size());
+        assertEquals("2", response.getBatchItemFailures().get(0).getItemIdentifier());
+    }
+
+    @Test
+    public void handleRequest_invalidBodyReported() {
         App app = new App();
 
         SQSEvent event = new SQSEvent();
         List<SQSEvent.SQSMessage> records = new ArrayList<>();
         SQSEvent.SQSMessage record = new SQSEvent.SQSMessage();
+        record.setMessageId("1");
         record.setBody("notAJSON");
         records.add(record);
         event.setRecords(records);
 
-        app.handleRequest(event, null);
+        SQSBatchResponse response = app.handleRequest(event, null);
+        assertEquals("1", response.getBatchItemFailures().get(0).getItemIdentifier());
+        verify(notificationService, never()).notifyBehaviour(anyList(), anyLong());
     }
 
-    @Test(expected = IllegalArgumentException.class)
-    public void handleRequest_illegalArgumentNoParams() throws JsonProcessingException {
+    @Test
+    public void handleRequest_noParamsReported() {
         App app = new App();
 
         SQSEvent event = new SQSEvent();
         List<SQSEvent.SQSMessage> records = new ArrayList<>();
         SQSEvent.SQSMessage record = new SQSEvent.SQSMessage();
+        record.setMessageId("1");
         records.add(record);
         event.setRecords(records);
 
-        app.handleRequest(event, null);
+        SQSBatchResponse response = app.handleRequest(event, null);
+        assertEquals("1", response.getBatchItemFailures().get(0).getItemIdentifier());
+    }
+
+    private static SQSEvent.SQSMessage createRecord(String messageId, String email) throws JsonProcessingException {
+        EmailParams testParams = new EmailParams();
+        testParams.setArguments(new HashMap<>());
+        testParams.setLanguage("en");
+        testParams.setEmail(email);
+        testParams.setNotificationViewId("email-1");
+        SQSEvent.SQSMessage record = new SQSEvent.SQSMessage();
+        record.setMessageId(messageId);
+        record.setBody(new ObjectMapper().writeValueAsString(testParams));
+        return record;
     }
 }
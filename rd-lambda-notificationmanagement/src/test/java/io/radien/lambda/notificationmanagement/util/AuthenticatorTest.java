@@ -6,18 +6,23 @@ import io.radien.api.OAFProperties;
 import io.radien.exception.InternalServerErrorException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import kong.unirest.HttpMethod;
 import kong.unirest.MockClient;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class AuthenticatorTest {
@@ -27,13 +32,13 @@ public class AuthenticatorTest {
     @Mock
     private OAFAccess oaf;
 
-    @InjectMocks
     private Authenticator authenticator;
 
     private MockClient mock;
 
     @Before
     public void init(){
+        authenticator = new Authenticator(oaf);
         when(oaf.getProperty(OAFProperties.RADIEN_ENV, "PROD")).thenReturn("LOCAL");
         when(oaf.getProperty(KeycloakConfigs.IDP_URL)).thenReturn("https://host.docker.internal:8343");
         when(oaf.getProperty(KeycloakConfigs.TOKEN_PATH)).thenReturn("/auth/realms/radien/protocol/openid-connect/token");
@@ -68,4 +73,34 @@ public class AuthenticatorTest {
         authenticator.login();
         assertTrue(authenticator.getAuthorization().length() > "Bearer ".length());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getAccessTokenAfterInvalidate(){
+        authenticator.login();
+        authenticator.invalidate();
+        assertEquals("bearerToken", authenticator.getAccessToken());
+    }
+
+    @Test
+    public void getAccessTokenExpired(){
+        AtomicLong now = new AtomicLong(1000L);
+        Authenticator expiring = spy(new Authenticator(oaf, now::get));
+        Map<String, Object> first = new HashMap<>();
+        first.put("access_token", "firstToken");
+        first.put("expires_in", 60);
+        Map<String, Object> second = new HashMap<>();
+        second.put("access_token", "secondToken");
+        second.put("expires_in", "60");
+        doReturn(first).doReturn(second).when(expiring).requestToken();
+
+        assertEquals("firstToken", expiring.getAccessToken());
+        now.addAndGet(29999L);
+        assertEquals("firstToken", expiring.getAccessToken());
+        verify(expiring, times(1)).requestToken();
+
+        now.addAndGet(1L);
+        assertEquals("secondToken", expiring.getAccessToken());
+        assertEquals("secondToken", expiring.getAccessToken());
+        verify(expiring, times(2)).requestToken();
+    }
+}
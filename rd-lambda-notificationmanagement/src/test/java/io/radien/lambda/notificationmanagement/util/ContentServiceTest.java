@@ -19,6 +19,10 @@ import java.io.IOException;
 import org.mockito.junit.MockitoRule;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ContentServiceTest {
@@ -50,4 +54,31 @@ public class ContentServiceTest {
         assertEquals(title, mappedContent.getName());
         assertEquals(htmlContent, mappedContent.getHtmlContent());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getContentByViewIdAndLanguageCached() throws IOException, ParseException, java.text.ParseException {
+        when(oaf.getProperty(OAFProperties.SYSTEM_MS_ENDPOINT_ECM, "http://host.docker.internal:8081/cms/v1")).thenReturn("http://host.docker.internal:8081/cms/v1");
+        ObjectMapper mapper = new ObjectMapper();
+        MockClient mock = MockClient.register();
+        mock.expect(HttpMethod.GET, "http://host.docker.internal:8081/cms/v1/content/metadata")
+                .thenReturn(mapper.writeValueAsString(new Content("title", "body")));
+        EnterpriseContent first = contentService.getContentByViewIdAndLanguage("view", "en");
+
+        assertSame(first, contentService.getContentByViewIdAndLanguage("view", "en"));
+        verify(authenticator, times(1)).getAuthorization();
+    }
+
+    @Test
+    public void getContentByViewIdAndLanguageError() throws IOException, ParseException, java.text.ParseException {
+        when(oaf.getProperty(OAFProperties.SYSTEM_MS_ENDPOINT_ECM, "http://host.docker.internal:8081/cms/v1")).thenReturn("http://host.docker.internal:8081/cms/v1");
+        ObjectMapper mapper = new ObjectMapper();
+        MockClient mock = MockClient.register();
+        mock.expect(HttpMethod.GET, "http://host.docker.internal:8081/cms/v1/content/metadata")
+                .thenReturn(mapper.writeValueAsString(new Content("title", "body"))).withStatus(404);
+        assertThrows(IOException.class, () -> contentService.getContentByViewIdAndLanguage("missing", "en"));
+
+        mock.expect(HttpMethod.GET, "http://host.docker.internal:8081/cms/v1/content/metadata")
+                .thenReturn(mapper.writeValueAsString(new Content("title", "body")));
+        assertEquals("title", contentService.getContentByViewIdAndLanguage("missing", "en").getName());
+    }
+}
@@ -2,6 +2,7 @@ package io.radien.lambda.notificationmanagement.util.email.service;
 
 
 import io.radien.api.service.mail.MailServiceAccess;
+import io.radien.api.service.mail.model.Mail;
 import io.radien.lambda.notificationmanagement.util.email.params.EmailParams;
 import io.radien.exception.InternalServerErrorException;
 import io.radien.lambda.notificationmanagement.util.ContentService;
@@ -14,9 +15,25 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import org.mockito.junit.MockitoRule;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -43,4 +60,71 @@ public class EmailNotificationServiceTest {
         when(contentService.getContentByViewIdAndLanguage(null, null)).thenThrow(IOException.class);
         emailNotificationService.notifyBehaviour(new EmailParams());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void notifyBehaviourBatch() throws IOException, ParseException, java.text.ParseException {
+        Mail first = mock(Mail.class);
+        Mail second = mock(Mail.class);
+        Mail third = mock(Mail.class);
+        when(mailService.create(any(), any())).thenReturn(first, second, third);
+        doAnswer(invocation -> {
+            List<Mail> mails = invocation.getArgument(0);
+            BiConsumer<Mail, Boolean> listener = invocation.getArgument(1);
+            mails.forEach(mail -> listener.accept(mail, mail != second));
+            return null;
+        }).when(mailService).sendMailsAsync(anyList(), any(), any());
+
+        List<EmailParams> batch = Arrays.asList(params("view", "en"), params("view", "en"), params("view", "pt"));
+        List<EmailParams> failed = emailNotificationService.notifyBehaviour(batch, 1000);
+
+        assertEquals(1, failed.size());
+        assertSame(batch.get(1), failed.get(0));
+        verify(contentService, times(1)).getContentByViewIdAndLanguage("view", "en");
+        verify(contentService, times(1)).getContentByViewIdAndLanguage("view", "pt");
+    }
+
+    @Test
+    public void notifyBehaviourBatchContentException() throws IOException, ParseException, java.text.ParseException {
+        when(contentService.getContentByViewIdAndLanguage("view", "en")).thenThrow(IOException.class);
+
+        List<EmailParams> batch = Arrays.asList(params("view", "en"), params("view", "en"));
+        List<EmailParams> failed = emailNotificationService.notifyBehaviour(batch, 1000);
+
+        assertEquals(batch, failed);
+        verify(mailService, never()).sendMailsAsync(anyList(), any(), any());
+    }
+
+    @Test
+    public void notifyBehaviourBatchTimeout() {
+        when(mailService.create(any(), any())).thenReturn(mock(Mail.class));
+        List<BooleanSupplier> cancelled = new ArrayList<>();
+        doAnswer(invocation -> {
+            cancelled.add(invocation.getArgument(2));
+            return null;
+        }).when(mailService).sendMailsAsync(anyList(), any(), any());
+
+        List<EmailParams> batch = Collections.singletonList(params("view", "en"));
+        assertEquals(batch, emailNotificationService.notifyBehaviour(batch, 10));
+        assertEquals(1, cancelled.size());
+        assertTrue(cancelled.get(0).getAsBoolean());
+    }
+
+    @Test
+    public void notifyBehaviourBatchNoTimeLeft() {
+        when(mailService.create(any(), any())).thenReturn(mock(Mail.class));
+
+        List<EmailParams> batch = Collections.singletonList(params("view", "en"));
+        assertEquals(batch, emailNotificationService.notifyBehaviour(batch, 0));
+        verify(mailService, never()).sendMailsAsync(anyList(), any(), any());
+    }
+
+    private static EmailParams params(String viewId, String language) {
+        EmailParams params = new EmailParams();
+        params.setNotificationViewId(viewId);
+        params.setLanguage(language);
+        params.setEmail("email@target.com");
+        params.setArguments(new HashMap<>());
+        return params;
+    }
+}
+
@@ -84,4 +84,61 @@ public interface TenantRoleClient {
     Response checkPermissions(@QueryParam("userId") Long userId,
                               @QueryParam("roleNames") List<String> roleNames,
                               @QueryParam("tenantId") Long tenantId);
+
+    /**
+     * Evaluates, by one single request, which of the informed Roles a User has (Optionally under a Tenant)
+     * @param userId User identifier
+     * @param roleNames Role names to be evaluated
+     * @param tenantId Tenant identifier (Optional)
+     * @return Response OK containing the list of granted role names.
+     * Response 400 in case of absence of parameter like user identifier.
+     * Response 500 in case of any error
+     */
+    @GET
+    @Path("/granted/roles")
+    Response getGrantedRoles(@QueryParam("userId") Long userId,
+                             @QueryParam("roleNames") List<String> roleNames,
+                             @QueryParam("tenantId") Long tenantId);
+
+    /**
+     * Evaluates, by one single request, which of the informed Permissions a User has (Optionally under a Tenant)
+     * @param userId User identifier
+     * @param permissionIds Permission identifiers to be evaluated
+     * @param tenantId Tenant identifier (Optional)
+     * @return Response OK containing the list of granted permission identifiers.
+     * Response 400 in case of absence of parameter like user identifier.
+     * Response 500 in case of any error
+     */
+    @GET
+    @Path("/granted/permissions")
+    Response getGrantedPermissions(@QueryParam("userId") Long userId,
+                                   @QueryParam("permissionIds") List<Long> permissionIds,
+                                   @QueryParam("tenantId") Long tenantId);
+
+    /**
+     * Retrieves the effective permissions snapshot (permission identifiers plus version)
+     * of a User (Optionally under a Tenant)
+     * @param userId User identifier
+     * @param tenantId Tenant identifier (Optional)
+     * @return Response OK containing the effective permissions snapshot.
+     * Response 400 in case of absence of parameter like user identifier.
+     * Response 500 in case of any error
+     */
+    @GET
+    @Path("/effective/permissions")
+    Response getEffectivePermissions(@QueryParam("userId") Long userId,
+                                     @QueryParam("tenantId") Long tenantId);
+
+    /**
+     * Retrieves the version of the effective permissions snapshot of a User (Optionally under a Tenant)
+     * @param userId User identifier
+     * @param tenantId Tenant identifier (Optional)
+     * @return Response OK containing the snapshot version.
+     * Response 400 in case of absence of parameter like user identifier.
+     * Response 500 in case of any error
+     */
+    @GET
+    @Path("/effective/permissions/version")
+    Response getEffectivePermissionsVersion(@QueryParam("userId") Long userId,
+                                            @QueryParam("tenantId") Long tenantId);
 }
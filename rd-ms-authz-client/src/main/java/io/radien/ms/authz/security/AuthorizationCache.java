@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.authz.security;
+
+import io.radien.api.OAFAccess;
+import io.radien.api.OAFProperties;
+import io.radien.api.entity.EffectivePermissions;
+import io.radien.api.util.ExpiringCache;
+import java.util.List;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local cache for the authorization decisions evaluated by {@link AuthorizationChecker}.
+ * Keeps three bounded and time limited caches: subject to user id, (resource, action) to
+ * permission id, and (subject, tenant, permission or role) to the granted decision.
+ * Effective permissions snapshots are kept as well, being considered valid during the time to live
+ * and (after that) while their version remains unchanged.
+ * Caching is disabled unless {@link OAFProperties#SYSTEM_AUTHZ_CACHE_ENABLED} is set to true.
+ */
+public class AuthorizationCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthorizationCache.class);
+
+    private static final long DEFAULT_TTL = 60000L;
+    private static final int DEFAULT_MAX_SIZE = 10000;
+    private static final String SEPARATOR = "|";
+    private static final int SNAPSHOT_TTL_FACTOR = 10;
+
+    private static final AuthorizationCache DISABLED = new AuthorizationCache(false, DEFAULT_MAX_SIZE, DEFAULT_TTL);
+
+    private static volatile AuthorizationCache instance;
+
+    private final boolean enabled;
+    private final ExpiringCache<String, Long> userIds;
+    private final ExpiringCache<String, Long> permissionIds;
+    private final ExpiringCache<String, Boolean> decisions;
+    private final ExpiringCache<String, EffectivePermissions> snapshots;
+    private final ExpiringCache<String, Long> verifiedSnapshots;
+
+    /**
+     * Authorization cache constructor
+     * @param enabled indicates if the decisions should be cached
+     * @param maxSize maximum number of entries for each one of the caches
+     * @param timeToLive time (in milliseconds) an entry remains valid
+     */
+    public AuthorizationCache(boolean enabled, int maxSize, long timeToLive) {
+        this.enabled = enabled;
+        this.userIds = new ExpiringCache<>(maxSize, timeToLive);
+        this.permissionIds = new ExpiringCache<>(maxSize, timeToLive);
+        this.decisions = new ExpiringCache<>(maxSize, timeToLive);
+        this.snapshots = new ExpiringCache<>(maxSize, timeToLive * SNAPSHOT_TTL_FACTOR);
+        this.verifiedSnapshots = new ExpiringCache<>(maxSize, timeToLive);
+    }
+
+    /**
+     * Retrieves the shared authorization cache, creating it (in the first invocation) based
+     * on the configuration available through the given {@link OAFAccess}
+     * @param oafAccess configuration access
+     * @return the shared authorization cache instance
+     */
+    public static AuthorizationCache getInstance(OAFAccess oafAccess) {
+        if (instance == null) {
+            synchronized (AuthorizationCache.class) {
+                if (instance == null) {
+                    instance = create(oafAccess);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Retrieves a cache instance that never keeps any value
+     * @return the disabled cache
+     */
+    public static AuthorizationCache disabled() {
+        return DISABLED;
+    }
+
+    private static AuthorizationCache create(OAFAccess oafAccess) {
+        boolean enabled = Boolean.parseBoolean(oafAccess.getProperty(OAFProperties.SYSTEM_AUTHZ_CACHE_ENABLED,
+                Boolean.FALSE.toString()));
+        if (!enabled) {
+            return DISABLED;
+        }
+        int maxSize = parse(oafAccess.getProperty(OAFProperties.SYSTEM_AUTHZ_CACHE_MAX_SIZE,
+                String.valueOf(DEFAULT_MAX_SIZE)), DEFAULT_MAX_SIZE);
+        long timeToLive = parse(oafAccess.getProperty(OAFProperties.SYSTEM_AUTHZ_CACHE_TTL,
+                String.valueOf(DEFAULT_TTL)), DEFAULT_TTL);
+        log.info("Authorization cache enabled. Max size:{} TTL:{}ms", maxSize, timeToLive);
+        return new AuthorizationCache(true, maxSize, timeToLive);
+    }
+
+    private static long parse(String value, long defaultValue) {
+        try {
+            long parsed = Long.parseLong(value);
+            return parsed > 0 ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            log.warn("Invalid authorization cache setting {}, using {}", value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private static int parse(String value, int defaultValue) {
+        return (int) Math.min(Integer.MAX_VALUE, parse(value, (long) defaultValue));
+    }
+
+    /**
+     * Indicates if this cache keeps values
+     * @return true if caching is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Retrieves the cached user id for a subject
+     * @param sub user subject
+     * @return the user id or null if not cached
+     */
+    public Long getUserId(String sub) {
+        return enabled ? userIds.get(sub) : null;
+    }
+
+    /**
+     * Stores the user id for a subject
+     * @param sub user subject
+     * @param userId user identifier
+     */
+    public void putUserId(String sub, Long userId) {
+        if (enabled) {
+            userIds.put(sub, userId);
+        }
+    }
+
+    /**
+     * Retrieves the cached permission id for a (resource, action) pair
+     * @param resourceName resource name
+     * @param actionName action name
+     * @return the permission id or null if not cached
+     */
+    public Long getPermissionId(String resourceName, String actionName) {
+        return enabled ? permissionIds.get(key(resourceName, actionName)) : null;
+    }
+
+    /**
+     * Stores the permission id for a (resource, action) pair
+     * @param resourceName resource name
+     * @param actionName action name
+     * @param permissionId permission identifier
+     */
+    public void putPermissionId(String resourceName, String actionName, Long permissionId) {
+        if (enabled) {
+            permissionIds.put(key(resourceName, actionName), permissionId);
+        }
+    }
+
+    /**
+     * Retrieves a cached decision
+     * @param decisionKey key built by {@link #permissionKey(String, Long, Long)} or
+     * {@link #roleKey(String, Long, String)} or {@link #rolesKey(String, Long, List)}
+     * @return the decision or null if not cached
+     */
+    public Boolean getDecision(String decisionKey) {
+        return enabled && decisionKey != null ? decisions.get(decisionKey) : null;
+    }
+
+    /**
+     * Stores a decision
+     * @param decisionKey key built by {@link #permissionKey(String, Long, Long)} or
+     * {@link #roleKey(String, Long, String)} or {@link #rolesKey(String, Long, List)}
+     * @param granted decision to be stored
+     */
+    public void putDecision(String decisionKey, Boolean granted) {
+        if (enabled && decisionKey != null) {
+            decisions.put(decisionKey, granted);
+        }
+    }
+
+    /**
+     * Retrieves an effective permissions snapshot whose version was verified within the time to live
+     * @param snapshotKey key built by {@link #snapshotKey(String, Long)}
+     * @return the snapshot or null if not cached (or if its version must be verified again)
+     */
+    public EffectivePermissions getEffectivePermissions(String snapshotKey) {
+        if (!enabled || snapshotKey == null || verifiedSnapshots.get(snapshotKey) == null) {
+            return null;
+        }
+        return snapshots.get(snapshotKey);
+    }
+
+    /**
+     * Retrieves an effective permissions snapshot regardless of the last version verification
+     * @param snapshotKey key built by {@link #snapshotKey(String, Long)}
+     * @return the snapshot or null if not cached
+     */
+    public EffectivePermissions getUnverifiedEffectivePermissions(String snapshotKey) {
+        return enabled && snapshotKey != null ? snapshots.get(snapshotKey) : null;
+    }
+
+    /**
+     * Stores an effective permissions snapshot (or confirms that the cached one is still up to date)
+     * @param snapshotKey key built by {@link #snapshotKey(String, Long)}
+     * @param effectivePermissions snapshot to be stored
+     */
+    public void putEffectivePermissions(String snapshotKey, EffectivePermissions effectivePermissions) {
+        if (enabled && snapshotKey != null && effectivePermissions != null) {
+            snapshots.put(snapshotKey, effectivePermissions);
+            verifiedSnapshots.put(snapshotKey, effectivePermissions.getVersion());
+        }
+    }
+
+    /**
+     * Drops all the entries related to a subject (user id, decisions and snapshots)
+     * @param sub user subject
+     */
+    public void invalidate(String sub) {
+        userIds.invalidate(sub);
+        String prefix = sub + SEPARATOR;
+        decisions.invalidateIf(k -> k.startsWith(prefix));
+        snapshots.invalidateIf(k -> k.startsWith(prefix));
+        verifiedSnapshots.invalidateIf(k -> k.startsWith(prefix));
+    }
+
+    /**
+     * Drops all the cached entries
+     */
+    public void invalidateAll() {
+        userIds.invalidateAll();
+        permissionIds.invalidateAll();
+        decisions.invalidateAll();
+        snapshots.invalidateAll();
+        verifiedSnapshots.invalidateAll();
+    }
+
+    /**
+     * Builds the decision key for a permission check
+     * @param sub user subject
+     * @param tenantId tenant identifier (optional)
+     * @param permissionId permission identifier
+     * @return the decision key
+     */
+    public static String permissionKey(String sub, Long tenantId, Long permissionId) {
+        return key(sub, String.valueOf(tenantId), "P", String.valueOf(permissionId));
+    }
+
+    /**
+     * Builds the decision key for a role check
+     * @param sub user subject
+     * @param tenantId tenant identifier (optional)
+     * @param roleName role name
+     * @return the decision key
+     */
+    public static String roleKey(String sub, Long tenantId, String roleName) {
+        return key(sub, String.valueOf(tenantId), "R", roleName);
+    }
+
+    /**
+     * Builds the decision key for a check regarding (at least one of) multiple roles
+     * @param sub user subject
+     * @param tenantId tenant identifier (optional)
+     * @param roleNames role names
+     * @return the decision key
+     */
+    public static String rolesKey(String sub, Long tenantId, List<String> roleNames) {
+        return key(sub, String.valueOf(tenantId), "M", roleNames == null ? "" : String.join(",", new TreeSet<>(roleNames)));
+    }
+
+    /**
+     * Builds the key for an effective permissions snapshot
+     * @param sub user subject
+     * @param tenantId tenant identifier (optional)
+     * @return the snapshot key
+     */
+    public static String snapshotKey(String sub, Long tenantId) {
+        return key(sub, String.valueOf(tenantId), "S");
+    }
+
+    private static String key(String... parts) {
+        return String.join(SEPARATOR, parts);
+    }
+
+    /**
+     * Gets the subject to user id cache
+     * @return the user id cache
+     */
+    public ExpiringCache<String, Long> getUserIds() {
+        return userIds;
+    }
+
+    /**
+     * Gets the (resource, action) to permission id cache
+     * @return the permission id cache
+     */
+    public ExpiringCache<String, Long> getPermissionIds() {
+        return permissionIds;
+    }
+
+    /**
+     * Gets the decisions cache
+     * @return the decisions cache
+     */
+    public ExpiringCache<String, Boolean> getDecisions() {
+        return decisions;
+    }
+
+    /**
+     * Gets the effective permissions snapshots cache
+     * @return the snapshots cache
+     */
+    public ExpiringCache<String, EffectivePermissions> getSnapshots() {
+        return snapshots;
+    }
+}
@@ -17,7 +17,9 @@ package io.radien.ms.authz.security;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.EffectivePermissions;
 import io.radien.api.model.user.SystemUser;
+import io.radien.api.security.RequestTokenHolder;
 import io.radien.api.security.TokensPlaceHolder;
 import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.exception.SystemException;
@@ -32,6 +34,7 @@ import io.radien.ms.authz.util.FourthFunction;
 import io.radien.ms.authz.util.Function;
 import io.radien.ms.authz.util.FunctionReturn;
 import io.radien.ms.authz.util.ThirdFunction;
+import io.radien.ms.openid.service.RequestPrincipalHolder;
 import org.eclipse.microprofile.rest.client.RestClientBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,10 +44,13 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import java.io.Serializable;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -73,6 +79,8 @@ public abstract class AuthorizationChecker implements Serializable {
 
     private PermissionClient permissionClient;
 
+    private transient AuthorizationCache authorizationCache;
+
     public AuthorizationChecker(){
 
     }
@@ -111,6 +119,12 @@ public abstract class AuthorizationChecker implements Serializable {
     public boolean hasGrant(Long tenantId, String roleName) throws SystemException{
         try {
             this.preProcess();
+            String sub = getInvokerSub();
+            String decisionKey = sub != null ? AuthorizationCache.roleKey(sub, tenantId, roleName) : null;
+            Boolean cached = getAuthorizationCache().getDecision(decisionKey);
+            if (cached != null) {
+                return cached;
+            }
             Response response;
             try {
                 response = getTenantRoleClient().
@@ -121,7 +135,9 @@ public abstract class AuthorizationChecker implements Serializable {
                         isRoleExistentForUser(getCurrentUserId(), roleName, tenantId);
             }
             if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
-                return response.readEntity(Boolean.class);
+                Boolean granted = response.readEntity(Boolean.class);
+                getAuthorizationCache().putDecision(decisionKey, granted);
+                return granted;
             }
             return false;
 
@@ -153,9 +169,15 @@ public abstract class AuthorizationChecker implements Serializable {
     }
 
     private Optional<Long> getPermissionIdCore( String actionName,String resourceName) throws SystemException{
+        Long cached = getAuthorizationCache().getPermissionId(resourceName, actionName);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
         Response response = getPermissionClient().getIdByResourceAndAction(resourceName,actionName);
         if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
-            return Optional.ofNullable(response.readEntity(Long.class));
+            Long permissionId = response.readEntity(Long.class);
+            getAuthorizationCache().putPermissionId(resourceName, actionName, permissionId);
+            return Optional.ofNullable(permissionId);
         } else {
             log.error("Permission Not Found resource:{} action:{}",resourceName,actionName);
             return Optional.empty();
@@ -185,6 +207,12 @@ public abstract class AuthorizationChecker implements Serializable {
     public boolean hasGrant(Long permissionId, Long tenantId) throws SystemException {
         try {
             this.preProcess();
+            String sub = getInvokerSub();
+            String decisionKey = sub != null ? AuthorizationCache.permissionKey(sub, tenantId, permissionId) : null;
+            Boolean cached = getAuthorizationCache().getDecision(decisionKey);
+            if (cached != null) {
+                return cached;
+            }
             Response response;
             try {
                 response = getTenantRoleClient().isPermissionExistentForUser(getCurrentUserId(),
@@ -199,7 +227,9 @@ public abstract class AuthorizationChecker implements Serializable {
                 }
             }
             if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
-                return response.readEntity(Boolean.class);
+                Boolean granted = response.readEntity(Boolean.class);
+                getAuthorizationCache().putDecision(decisionKey, granted);
+                return granted;
             }
             return false;
         }
@@ -219,6 +249,12 @@ public abstract class AuthorizationChecker implements Serializable {
     public boolean hasGrantMultipleRoles(Long tenantId, List<String> roleNames) throws SystemException {
         try {
             this.preProcess();
+            String sub = getInvokerSub();
+            String decisionKey = sub != null ? AuthorizationCache.rolesKey(sub, tenantId, roleNames) : null;
+            Boolean cached = getAuthorizationCache().getDecision(decisionKey);
+            if (cached != null) {
+                return cached;
+            }
             Response response = null;
             try {
                 response = getTenantRoleClient().
@@ -229,7 +265,9 @@ public abstract class AuthorizationChecker implements Serializable {
                         checkPermissions(getCurrentUserId(), roleNames, tenantId);
             }
             if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
-                return response.readEntity(Boolean.class);
+                Boolean granted = response.readEntity(Boolean.class);
+                getAuthorizationCache().putDecision(decisionKey, granted);
+                return granted;
             }
             return false;
         } catch (Exception e) {
@@ -247,6 +285,160 @@ public abstract class AuthorizationChecker implements Serializable {
         return hasGrantMultipleRoles(null, roleNames);
     }
 
+    /**
+     * Evaluates, by one single request, which of the given roles the current logged user has
+     * (under a specific tenant - optionally). Decisions already cached are not requested again
+     * @param tenantId Tenant identifier (Optional parameter)
+     * @param roleNames role names to be evaluated
+     * @return list containing the granted role names
+     * @throws SystemException in case of any issue while getting the current user or getting correct access
+     * information
+     */
+    public List<String> getGrantedRoles(Long tenantId, List<String> roleNames) throws SystemException {
+        try {
+            this.preProcess();
+            String sub = getInvokerSub();
+            List<String> granted = new ArrayList<>();
+            List<String> pending = new ArrayList<>();
+            for (String roleName : new LinkedHashSet<>(roleNames)) {
+                Boolean cached = getAuthorizationCache().getDecision(sub != null ?
+                        AuthorizationCache.roleKey(sub, tenantId, roleName) : null);
+                if (cached == null) {
+                    pending.add(roleName);
+                } else if (cached) {
+                    granted.add(roleName);
+                }
+            }
+            if (!pending.isEmpty()) {
+                List<String> result = get(this::getGrantedRolesCore, tenantId, pending);
+                for (String roleName : pending) {
+                    boolean isGranted = result != null && result.contains(roleName);
+                    if (result != null && sub != null) {
+                        getAuthorizationCache().putDecision(AuthorizationCache.roleKey(sub, tenantId, roleName), isGranted);
+                    }
+                    if (isGranted) {
+                        granted.add(roleName);
+                    }
+                }
+            }
+            return granted;
+        } catch (SystemException e) {
+            throw new SystemException(GenericErrorCodeMessage.AUTHORIZATION_ERROR.toString(), e);
+        }
+    }
+
+    private List<String> getGrantedRolesCore(Long tenantId, List<String> roleNames) throws SystemException {
+        Response response = getTenantRoleClient().getGrantedRoles(getCurrentUserId(), roleNames, tenantId);
+        if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+            return response.readEntity(new GenericType<List<String>>() {});
+        }
+        return null;
+    }
+
+    /**
+     * Evaluates, by one single request, which of the given permissions the current logged user has
+     * (under a specific tenant - optionally). Decisions already cached are not requested again
+     * @param tenantId Tenant identifier (Optional parameter)
+     * @param permissionIds permission identifiers to be evaluated
+     * @return list containing the granted permission identifiers
+     * @throws SystemException in case of any issue while getting the current user or getting correct access
+     * information
+     */
+    public List<Long> getGrantedPermissions(Long tenantId, List<Long> permissionIds) throws SystemException {
+        try {
+            this.preProcess();
+            String sub = getInvokerSub();
+            List<Long> granted = new ArrayList<>();
+            List<Long> pending = new ArrayList<>();
+            for (Long permissionId : new LinkedHashSet<>(permissionIds)) {
+                Boolean cached = getAuthorizationCache().getDecision(sub != null ?
+                        AuthorizationCache.permissionKey(sub, tenantId, permissionId) : null);
+                if (cached == null) {
+                    pending.add(permissionId);
+                } else if (cached) {
+                    granted.add(permissionId);
+                }
+            }
+            if (!pending.isEmpty()) {
+                List<Long> result = get(this::getGrantedPermissionsCore, tenantId, pending);
+                for (Long permissionId : pending) {
+                    boolean isGranted = result != null && result.contains(permissionId);
+                    if (result != null && sub != null) {
+                        getAuthorizationCache().putDecision(AuthorizationCache.permissionKey(sub, tenantId, permissionId), isGranted);
+                    }
+                    if (isGranted) {
+                        granted.add(permissionId);
+                    }
+                }
+            }
+            return granted;
+        } catch (SystemException e) {
+            throw new SystemException(GenericErrorCodeMessage.AUTHORIZATION_ERROR.toString(), e);
+        }
+    }
+
+    private List<Long> getGrantedPermissionsCore(Long tenantId, List<Long> permissionIds) throws SystemException {
+        Response response = getTenantRoleClient().getGrantedPermissions(getCurrentUserId(), permissionIds, tenantId);
+        if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+            return response.readEntity(new GenericType<List<Long>>() {});
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the effective permissions snapshot of the current logged user (under a specific tenant - optionally).
+     * A cached snapshot is used while valid, and after that only its version is requested. The whole snapshot
+     * is requested again only in case of version change, so permissions can be evaluated locally by
+     * {@link EffectivePermissions#contains(Long)}
+     * @param tenantId Tenant identifier (Optional parameter)
+     * @return the effective permissions snapshot (empty if it could not be retrieved)
+     * @throws SystemException in case of any issue while getting the current user or getting correct access
+     * information
+     */
+    public EffectivePermissions getEffectivePermissions(Long tenantId) throws SystemException {
+        try {
+            this.preProcess();
+            String sub = getInvokerSub();
+            String snapshotKey = sub != null ? AuthorizationCache.snapshotKey(sub, tenantId) : null;
+            EffectivePermissions cached = getAuthorizationCache().getEffectivePermissions(snapshotKey);
+            if (cached != null) {
+                return cached;
+            }
+            EffectivePermissions previous = getAuthorizationCache().getUnverifiedEffectivePermissions(snapshotKey);
+            if (previous != null) {
+                Long version = get(this::getEffectivePermissionsVersionCore, tenantId);
+                if (version != null && version == previous.getVersion()) {
+                    getAuthorizationCache().putEffectivePermissions(snapshotKey, previous);
+                    return previous;
+                }
+            }
+            EffectivePermissions effectivePermissions = get(this::getEffectivePermissionsCore, tenantId);
+            if (effectivePermissions == null) {
+                return new EffectivePermissions(null, tenantId, null);
+            }
+            getAuthorizationCache().putEffectivePermissions(snapshotKey, effectivePermissions);
+            return effectivePermissions;
+        } catch (SystemException e) {
+            throw new SystemException(GenericErrorCodeMessage.AUTHORIZATION_ERROR.toString(), e);
+        }
+    }
+
+    private EffectivePermissions getEffectivePermissionsCore(Long tenantId) throws SystemException {
+        Response response = getTenantRoleClient().getEffectivePermissions(getCurrentUserId(), tenantId);
+        if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+            return response.readEntity(EffectivePermissions.class);
+        }
+        return null;
+    }
+
+    private Long getEffectivePermissionsVersionCore(Long tenantId) throws SystemException {
+        Response response = getTenantRoleClient().getEffectivePermissionsVersion(getCurrentUserId(), tenantId);
+        if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+            return response.readEntity(Long.class);
+        }
+        return null;
+    }
+
     /**
      * Retrieves the User Id using sub as parameter
      * @param sub sub from the current logged logged user
@@ -255,6 +447,10 @@ public abstract class AuthorizationChecker implements Serializable {
      */
     protected Long getCurrentUserIdBySub(String sub) throws SystemException {
         try {
+            Long cached = getAuthorizationCache().getUserId(sub);
+            if (cached != null) {
+                return cached;
+            }
             Response response = null;
             try {
                 response = getUserClient().getUserIdBySub(sub);
@@ -262,7 +458,9 @@ public abstract class AuthorizationChecker implements Serializable {
                 refreshToken();
                 response = getUserClient().getUserIdBySub(sub);
             }
-            return response.readEntity(Long.class);
+            Long userId = response.readEntity(Long.class);
+            getAuthorizationCache().putUserId(sub, userId);
+            return userId;
         }
         catch (NotFoundException e) {
             throw new NotFoundException(GenericErrorCodeMessage.RESOURCE_NOT_FOUND.toString(), e);
@@ -287,19 +485,24 @@ public abstract class AuthorizationChecker implements Serializable {
         return getCurrentUserIdBySub(user.getSub());
     }
 
+    /**
+     * Retrieves the subject of the current logged user
+     * @return the subject or null in case there is no logged user
+     */
+    protected String getInvokerSub() {
+        SystemUser user = getInvokerUser();
+        return user != null ? user.getSub() : null;
+    }
+
     protected boolean isLoggedIn(){
         return getInvokerUser()!=null;
     }
     /**
-     * Retrieves the reference for current logged user
+     * Retrieves the reference for current logged user (from the request or, if there is one, from the session)
      * @return the reference for current logged user
      */
     protected SystemUser getInvokerUser() {
-        HttpSession session = getServletRequest().getSession(false);
-        if(session == null){
-            return null;
-        }
-        return (SystemUser) session.getAttribute("USER");
+        return RequestPrincipalHolder.getPrincipal(getServletRequest());
     }
 
     /**
@@ -309,7 +512,7 @@ public abstract class AuthorizationChecker implements Serializable {
     public void preProcess() {
         HttpSession httpSession = this.getServletRequest().getSession(false);
         if (this.getTokensPlaceHolder().getAccessToken() == null) {
-            if (httpSession.getAttribute("accessToken") != null) {
+            if (httpSession != null && httpSession.getAttribute("accessToken") != null) {
                 this.getTokensPlaceHolder().setAccessToken(httpSession.getAttribute("accessToken").toString());
             }
             else {
@@ -400,12 +603,12 @@ public abstract class AuthorizationChecker implements Serializable {
     }
 
     /**
-     * Gets the active token place holder
+     * Gets the active token place holder (kept per request in stateless mode)
      * @return the active token place holder
      */
     public TokensPlaceHolder getTokensPlaceHolder() {
         if (tokensPlaceHolder == null) {
-            tokensPlaceHolder =  CDI.current().select(TokensPlaceHolder.class).get();
+            tokensPlaceHolder = RequestTokenHolder.current();
         }
         return tokensPlaceHolder;
     }
@@ -429,6 +632,46 @@ public abstract class AuthorizationChecker implements Serializable {
         return servletRequest;
     }
 
+    /**
+     * Gets the authorization cache shared by the checkers. If the configuration is not
+     * reachable (no CDI container available) decisions will not be cached
+     * @return the authorization cache
+     */
+    public AuthorizationCache getAuthorizationCache() {
+        if (authorizationCache == null) {
+            try {
+                authorizationCache = AuthorizationCache.getInstance(getOafAccess());
+            } catch (RuntimeException e) {
+                log.warn("Authorization cache configuration not available, decisions will not be cached");
+                authorizationCache = AuthorizationCache.disabled();
+            }
+        }
+        return authorizationCache;
+    }
+
+    /**
+     * Sets the authorization cache as the given one
+     * @param authorizationCache given authorization cache instance to be set
+     */
+    public void setAuthorizationCache(AuthorizationCache authorizationCache) {
+        this.authorizationCache = authorizationCache;
+    }
+
+    /**
+     * Drops all the cached authorization entries (user ids, permission ids and decisions)
+     */
+    public void invalidateAuthorizationCache() {
+        getAuthorizationCache().invalidateAll();
+    }
+
+    /**
+     * Drops the cached authorization entries (user id and decisions) regarding a specific user
+     * @param sub subject of the user
+     */
+    public void invalidateAuthorizationCache(String sub) {
+        getAuthorizationCache().invalidate(sub);
+    }
+
     /**
      * Gets the current OAF access
      * @return the oaf object
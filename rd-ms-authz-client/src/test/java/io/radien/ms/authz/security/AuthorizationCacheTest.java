@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.authz.security;
+
+import io.radien.api.entity.EffectivePermissions;
+import java.util.Arrays;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * AuthorizationCache Test class
+ */
+public class AuthorizationCacheTest {
+
+    /**
+     * Test for the user id, permission id and decision caches
+     * Expected outcome: Values retrieved after being stored
+     */
+    @Test
+    public void testEnabledCache() {
+        AuthorizationCache cache = new AuthorizationCache(true, 10, 60000L);
+        assertTrue(cache.isEnabled());
+
+        cache.putUserId("sub-1", 1L);
+        cache.putPermissionId("user", "read", 2L);
+        cache.putDecision(AuthorizationCache.permissionKey("sub-1", 3L, 2L), Boolean.TRUE);
+
+        assertEquals(Long.valueOf(1L), cache.getUserId("sub-1"));
+        assertEquals(Long.valueOf(2L), cache.getPermissionId("user", "read"));
+        assertTrue(cache.getDecision(AuthorizationCache.permissionKey("sub-1", 3L, 2L)));
+        assertNull(cache.getDecision(AuthorizationCache.permissionKey("sub-1", null, 2L)));
+    }
+
+    /**
+     * Test for a disabled cache
+     * Expected outcome: Nothing is kept
+     */
+    @Test
+    public void testDisabledCache() {
+        AuthorizationCache cache = AuthorizationCache.disabled();
+        assertFalse(cache.isEnabled());
+        cache.putUserId("sub-1", 1L);
+        cache.putDecision(AuthorizationCache.roleKey("sub-1", null, "admin"), Boolean.TRUE);
+        assertNull(cache.getUserId("sub-1"));
+        assertNull(cache.getDecision(AuthorizationCache.roleKey("sub-1", null, "admin")));
+    }
+
+    /**
+     * Test for methods {@link AuthorizationCache#invalidate(String)} and {@link AuthorizationCache#invalidateAll()}
+     * Expected outcome: Only the entries regarding the informed subject are dropped, then all of them
+     */
+    @Test
+    public void testInvalidation() {
+        AuthorizationCache cache = new AuthorizationCache(true, 10, 60000L);
+        cache.putUserId("sub-1", 1L);
+        cache.putUserId("sub-2", 2L);
+        cache.putPermissionId("user", "read", 2L);
+        cache.putDecision(AuthorizationCache.roleKey("sub-1", null, "admin"), Boolean.TRUE);
+        cache.putDecision(AuthorizationCache.roleKey("sub-2", null, "admin"), Boolean.TRUE);
+
+        cache.invalidate("sub-1");
+        assertNull(cache.getUserId("sub-1"));
+        assertNull(cache.getDecision(AuthorizationCache.roleKey("sub-1", null, "admin")));
+        assertEquals(Long.valueOf(2L), cache.getUserId("sub-2"));
+        assertTrue(cache.getDecision(AuthorizationCache.roleKey("sub-2", null, "admin")));
+
+        cache.invalidateAll();
+        assertNull(cache.getUserId("sub-2"));
+        assertNull(cache.getPermissionId("user", "read"));
+    }
+
+    /**
+     * Test for the effective permissions snapshots cache
+     * Expected outcome: Snapshot retrieved after being stored and dropped by the subject invalidation
+     */
+    @Test
+    public void testEffectivePermissions() {
+        AuthorizationCache cache = new AuthorizationCache(true, 10, 60000L);
+        String key = AuthorizationCache.snapshotKey("sub-1", 1L);
+        EffectivePermissions effectivePermissions = new EffectivePermissions(1L, 1L, Arrays.asList(1L, 2L));
+        assertNull(cache.getEffectivePermissions(key));
+
+        cache.putEffectivePermissions(key, effectivePermissions);
+        assertEquals(effectivePermissions, cache.getEffectivePermissions(key));
+        assertEquals(effectivePermissions, cache.getUnverifiedEffectivePermissions(key));
+
+        cache.invalidate("sub-1");
+        assertNull(cache.getUnverifiedEffectivePermissions(key));
+
+        AuthorizationCache disabled = AuthorizationCache.disabled();
+        disabled.putEffectivePermissions(key, effectivePermissions);
+        assertNull(disabled.getEffectivePermissions(key));
+    }
+
+    /**
+     * Test for method {@link AuthorizationCache#rolesKey(String, Long, java.util.List)}
+     * Expected outcome: Same key regardless the order of the roles
+     */
+    @Test
+    public void testRolesKeyIgnoresOrder() {
+        assertEquals(AuthorizationCache.rolesKey("sub-1", 1L, Arrays.asList("a", "b")),
+                AuthorizationCache.rolesKey("sub-1", 1L, Arrays.asList("b", "a")));
+    }
+}
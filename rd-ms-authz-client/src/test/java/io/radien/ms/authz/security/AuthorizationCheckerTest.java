@@ -17,6 +17,8 @@ package io.radien.ms.authz.security;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.EffectivePermissions;
+import io.radien.api.security.RequestTokenHolder;
 import io.radien.api.security.TokensPlaceHolder;
 import io.radien.api.service.role.SystemRolesEnum;
 import io.radien.exception.GenericErrorCodeMessage;
@@ -27,6 +29,7 @@ import io.radien.ms.authz.client.UserClient;
 import io.radien.ms.authz.client.exception.NotFoundException;
 import io.radien.ms.openid.entities.Principal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
@@ -156,6 +159,50 @@ public class AuthorizationCheckerTest {
         assertTrue(authorizationChecker.hasGrant(roleName));
     }
 
+    /**
+     * Test for method {@link AuthorizationChecker#hasGrant(String)}
+     * Scenario: Stateless request (principal kept as request attribute, without http session)
+     * Expected outcome: TRUE, and no http session created
+     * @throws SystemException described on the signature for {@link AuthorizationChecker#hasGrant(String)}
+     */
+    @Test
+    public void testHasGrantForRoleStateless() throws SystemException{
+        Long userId = 1001L;
+        String roleName = "admin";
+
+        Principal principal = new Principal();
+        principal.setSub("aaa-bbb-ccc-ddd");
+        when(servletRequest.getAttribute("USER")).thenReturn(principal);
+
+        when(this.userClient.getUserIdBySub(principal.getSub())).
+                thenReturn(Response.ok().entity(userId).build());
+        when(this.tenantRoleClient.isRoleExistentForUser(userId, roleName, null)).
+                thenReturn(Response.ok().entity(Boolean.TRUE).build());
+        when(tokensPlaceHolder.getAccessToken()).thenReturn("token-yyz");
+
+        assertTrue(authorizationChecker.hasGrant(roleName));
+        Mockito.verify(servletRequest, Mockito.never()).getSession();
+    }
+
+    /**
+     * Test for method {@link AuthorizationChecker#preProcess()}
+     * Scenario: Stateless request, token kept by the request scoped place holder
+     * Expected outcome: Access token taken from the authorization header, no http session created
+     */
+    @Test
+    public void testPreProcessStateless() {
+        RequestTokenHolder holder = new RequestTokenHolder();
+        AuthorizationChecker checker = spy(authorizationChecker);
+        doReturn(holder).when(checker).getTokensPlaceHolder();
+        when(servletRequest.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer token-yyz");
+
+        checker.preProcess();
+
+        assertEquals("token-yyz", holder.getAccessToken());
+        Mockito.verify(servletRequest, Mockito.never()).getSession();
+        Mockito.verify(servletRequest, Mockito.never()).getSession(true);
+    }
+
     /**
      * Test for method {@link AuthorizationChecker#hasGrant(Long, String)
      * Scenario: User has access to an informed role in a given tenant (id)
@@ -1018,4 +1065,207 @@ public class AuthorizationCheckerTest {
         assertFalse(authorizationChecker.hasGrantMultipleRoles(tenantId, roleList));
     }
 
+    /**
+     * Test for method {@link AuthorizationChecker#hasGrant(Long, String)}
+     * Scenario: Authorization cache enabled and the same check performed twice
+     * Expected outcome: TRUE for both, but remote services invoked only once
+     * @throws SystemException described on the signature for {@link AuthorizationChecker#hasGrant(Long, String)}
+     */
+    @Test
+    public void testHasGrantForRoleUsingAuthorizationCache() throws SystemException {
+        Long userId = 1001L;
+        Long tenantId = 1111L;
+        String roleName = "admin";
+
+        HttpSession session = Mockito.mock(HttpSession.class);
+        Principal principal = new Principal();
+        principal.setSub("aaa-bbb-ccc-ddd");
+
+        when(servletRequest.getSession(false)).thenReturn(session);
+        when(session.getAttribute("USER")).thenReturn(principal);
+        when(this.userClient.getUserIdBySub(principal.getSub())).
+                thenReturn(Response.ok().entity(userId).build());
+        when(this.tenantRoleClient.isRoleExistentForUser(userId, roleName, tenantId)).
+                thenReturn(Response.ok().entity(Boolean.TRUE).build());
+        when(tokensPlaceHolder.getAccessToken()).thenReturn("token-yyz");
+
+        AuthorizationCache cache = new AuthorizationCache(true, 10, 60000L);
+        authorizationChecker.setAuthorizationCache(cache);
+
+        assertTrue(authorizationChecker.hasGrant(tenantId, roleName));
+        assertTrue(authorizationChecker.hasGrant(tenantId, roleName));
+
+        Mockito.verify(this.userClient, Mockito.times(1)).getUserIdBySub(principal.getSub());
+        Mockito.verify(this.tenantRoleClient, Mockito.times(1)).isRoleExistentForUser(userId, roleName, tenantId);
+        assertEquals(1, cache.getDecisions().getHitCount());
+    }
+
+    /**
+     * Test for method {@link AuthorizationChecker#invalidateAuthorizationCache(String)}
+     * Scenario: Authorization cache enabled and invalidated for the user between two checks
+     * Expected outcome: Remote services invoked for both checks
+     * @throws SystemException described on the signature for {@link AuthorizationChecker#hasGrant(Long, String)}
+     */
+    @Test
+    public void testHasGrantForRoleAfterAuthorizationCacheInvalidation() throws SystemException {
+        Long userId = 1001L;
+        Long tenantId = 1111L;
+        String roleName = "admin";
+
+        HttpSession session = Mockito.mock(HttpSession.class);
+        Principal principal = new Principal();
+        principal.setSub("aaa-bbb-ccc-ddd");
+
+        when(servletRequest.getSession(false)).thenReturn(session);
+        when(session.getAttribute("USER")).thenReturn(principal);
+        when(this.userClient.getUserIdBySub(principal.getSub())).
+                thenReturn(Response.ok().entity(userId).build()).
+                thenReturn(Response.ok().entity(userId).build());
+        when(this.tenantRoleClient.isRoleExistentForUser(userId, roleName, tenantId)).
+                thenReturn(Response.ok().entity(Boolean.TRUE).build()).
+                thenReturn(Response.ok().entity(Boolean.FALSE).build());
+        when(tokensPlaceHolder.getAccessToken()).thenReturn("token-yyz");
+
+        authorizationChecker.setAuthorizationCache(new AuthorizationCache(true, 10, 60000L));
+
+        assertTrue(authorizationChecker.hasGrant(tenantId, roleName));
+        authorizationChecker.invalidateAuthorizationCache(principal.getSub());
+        assertFalse(authorizationChecker.hasGrant(tenantId, roleName));
+
+        Mockito.verify(this.tenantRoleClient, Mockito.times(2)).isRoleExistentForUser(userId, roleName, tenantId);
+    }
+
+    /**
+     * Test for method {@link AuthorizationChecker#getGrantedPermissions(Long, List)}
+     * Scenario: Authorization cache enabled, one of the permissions evaluated before and cached
+     * Expected outcome: Only the permissions not yet cached are requested (by one single request)
+     * @throws SystemException described on the signature for {@link AuthorizationChecker#getGrantedPermissions(Long, List)}
+     */
+    @Test
+    public void testGetGrantedPermissions() throws SystemException {
+        Long userId = 1001L;
+        Long tenantId = 1111L;
+
+        HttpSession session = Mockito.mock(HttpSession.class);
+        Principal principal = new Principal();
+        principal.setSub("aaa-bbb-ccc-ddd");
+
+        when(servletRequest.getSession(false)).thenReturn(session);
+        when(session.getAttribute("USER")).thenReturn(principal);
+        when(this.userClient.getUserIdBySub(principal.getSub())).
+                thenReturn(Response.ok().entity(userId).build());
+        when(tokensPlaceHolder.getAccessToken()).thenReturn("token-yyz");
+        List<Long> expected = new ArrayList<>();
+        expected.add(2L);
+        List<Long> pending = new ArrayList<>();
+        pending.add(2L);
+        pending.add(3L);
+        when(this.tenantRoleClient.getGrantedPermissions(userId, pending, tenantId)).
+                thenReturn(Response.ok().entity(expected).build());
+
+        AuthorizationCache cache = new AuthorizationCache(true, 10, 60000L);
+        cache.putDecision(AuthorizationCache.permissionKey(principal.getSub(), tenantId, 1L), Boolean.TRUE);
+        authorizationChecker.setAuthorizationCache(cache);
+
+        List<Long> permissionIds = new ArrayList<>();
+        permissionIds.add(1L);
+        permissionIds.add(2L);
+        permissionIds.add(3L);
+        List<Long> granted = authorizationChecker.getGrantedPermissions(tenantId, permissionIds);
+
+        assertEquals(2, granted.size());
+        assertTrue(granted.contains(1L));
+        assertTrue(granted.contains(2L));
+        assertFalse(cache.getDecision(AuthorizationCache.permissionKey(principal.getSub(), tenantId, 3L)));
+        Mockito.verify(this.tenantRoleClient, Mockito.times(1)).getGrantedPermissions(userId, pending, tenantId);
+    }
+
+    /**
+     * Test for method {@link AuthorizationChecker#getEffectivePermissions(Long)}
+     * Scenario: Authorization cache enabled and snapshot requested twice
+     * Expected outcome: Snapshot retrieved only once, permissions evaluated locally
+     * @throws SystemException described on the signature for {@link AuthorizationChecker#getEffectivePermissions(Long)}
+     */
+    @Test
+    public void testGetEffectivePermissions() throws SystemException {
+        Long userId = 1001L;
+        Long tenantId = 1111L;
+
+        HttpSession session = Mockito.mock(HttpSession.class);
+        Principal principal = new Principal();
+        principal.setSub("aaa-bbb-ccc-ddd");
+
+        when(servletRequest.getSession(false)).thenReturn(session);
+        when(session.getAttribute("USER")).thenReturn(principal);
+        when(this.userClient.getUserIdBySub(principal.getSub())).
+                thenReturn(Response.ok().entity(userId).build());
+        when(tokensPlaceHolder.getAccessToken()).thenReturn("token-yyz");
+        EffectivePermissions expected = new EffectivePermissions(userId, tenantId, Arrays.asList(3L, 1L));
+        when(this.tenantRoleClient.getEffectivePermissions(userId, tenantId)).
+                thenReturn(Response.ok().entity(expected).build());
+
+        AuthorizationCache cache = new AuthorizationCache(true, 10, 60000L);
+        authorizationChecker.setAuthorizationCache(cache);
+
+        assertTrue(authorizationChecker.getEffectivePermissions(tenantId).contains(3L));
+        assertFalse(authorizationChecker.getEffectivePermissions(tenantId).contains(2L));
+
+        Mockito.verify(this.tenantRoleClient, Mockito.times(1)).getEffectivePermissions(userId, tenantId);
+        Mockito.verify(this.tenantRoleClient, Mockito.never()).getEffectivePermissionsVersion(userId, tenantId);
+    }
+
+    /**
+     * Test for method {@link AuthorizationChecker#getEffectivePermissions(Long)}
+     * Scenario: Snapshot retrieval returning a non successful status
+     * Expected outcome: Empty snapshot (nothing granted)
+     * @throws SystemException described on the signature for {@link AuthorizationChecker#getEffectivePermissions(Long)}
+     */
+    @Test
+    public void testGetEffectivePermissionsDueHttpStatusNOK() throws SystemException {
+        Long userId = 1001L;
+        Long tenantId = 1111L;
+
+        HttpSession session = Mockito.mock(HttpSession.class);
+        Principal principal = new Principal();
+        principal.setSub("aaa-bbb-ccc-ddd");
+
+        when(servletRequest.getSession(false)).thenReturn(session);
+        when(session.getAttribute("USER")).thenReturn(principal);
+        when(this.userClient.getUserIdBySub(principal.getSub())).
+                thenReturn(Response.ok().entity(userId).build());
+        when(tokensPlaceHolder.getAccessToken()).thenReturn("token-yyz");
+        when(this.tenantRoleClient.getEffectivePermissions(userId, tenantId)).
+                thenReturn(Response.status(Response.Status.INTERNAL_SERVER_ERROR).build());
+
+        assertEquals(0, authorizationChecker.getEffectivePermissions(tenantId).getPermissionIds().length);
+    }
+
+    /**
+     * Test for method {@link AuthorizationChecker#getGrantedRoles(Long, List)}
+     * Scenario: Role evaluation returning a non successful status
+     * Expected outcome: No role granted
+     * @throws SystemException described on the signature for {@link AuthorizationChecker#getGrantedRoles(Long, List)}
+     */
+    @Test
+    public void testGetGrantedRolesDueHttpStatusNOK() throws SystemException {
+        Long userId = 1001L;
+
+        HttpSession session = Mockito.mock(HttpSession.class);
+        Principal principal = new Principal();
+        principal.setSub("aaa-bbb-ccc-ddd");
+
+        when(servletRequest.getSession(false)).thenReturn(session);
+        when(session.getAttribute("USER")).thenReturn(principal);
+        when(this.userClient.getUserIdBySub(principal.getSub())).
+                thenReturn(Response.ok().entity(userId).build());
+        when(tokensPlaceHolder.getAccessToken()).thenReturn("token-yyz");
+
+        List<String> roleList = new ArrayList<>();
+        roleList.add(SystemRolesEnum.SYSTEM_ADMINISTRATOR.getRoleName());
+        when(this.tenantRoleClient.getGrantedRoles(userId, roleList, null)).
+                thenReturn(Response.status(300).build());
+
+        assertTrue(authorizationChecker.getGrantedRoles(null, roleList).isEmpty());
+    }
+
 }
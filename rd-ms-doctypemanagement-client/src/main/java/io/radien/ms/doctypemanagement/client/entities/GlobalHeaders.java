@@ -15,12 +15,11 @@
  */
 package io.radien.ms.doctypemanagement.client.entities;
 
+import io.radien.api.security.RequestTokenHolder;
 import io.radien.api.security.TokensPlaceHolder;
 
 import javax.enterprise.inject.Default;
-import javax.enterprise.inject.spi.CDI;
 
-import javax.inject.Inject;
 import javax.inject.Named;
 
 import javax.ws.rs.core.HttpHeaders;
@@ -32,13 +31,12 @@ import org.eclipse.microprofile.rest.client.ext.ClientHeadersFactory;
 @Named("docTypeManagementGlobalHeaders")
 public class GlobalHeaders implements ClientHeadersFactory {
 
-    @Inject
     private TokensPlaceHolder tokensPlaceHolder;
 
     @Override
     public MultivaluedMap<String, String> update(MultivaluedMap<String, String> incomingHeaders, MultivaluedMap<String, String> outgoingHeaders) {
         if (tokensPlaceHolder == null) {
-            tokensPlaceHolder =  CDI.current().select(TokensPlaceHolder.class).get();
+            tokensPlaceHolder =  RequestTokenHolder.current();
         }
         MultivaluedMap<String, String> result = new MultivaluedHashMap<>();
 
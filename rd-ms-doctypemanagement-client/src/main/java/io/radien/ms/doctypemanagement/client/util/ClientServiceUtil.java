@@ -15,6 +15,7 @@
  */
 package io.radien.ms.doctypemanagement.client.util;
 
+import io.radien.api.util.RestClientRegistry;
 import io.radien.exception.TokenExpiredException;
 
 import io.radien.ms.doctypemanagement.client.PropertyDefinitionResponseExceptionMapper;
@@ -26,32 +27,20 @@ import io.radien.ms.doctypemanagement.client.services.MixinDefinitionResourceCli
 import io.radien.ms.doctypemanagement.client.services.PropertyDefinitionResourceClient;
 
 import java.net.MalformedURLException;
-import java.net.URL;
 
 import javax.enterprise.context.RequestScoped;
 
-import org.eclipse.microprofile.rest.client.RestClientBuilder;
 @RequestScoped
 public class ClientServiceUtil {
     public PropertyDefinitionResourceClient getPropertyDefinitionClient(String urlStr) throws MalformedURLException , TokenExpiredException {
-        URL url = new URL(urlStr);
-        return RestClientBuilder.
-                 newBuilder()
-                .baseUrl(url)
-                .register(PropertyDefinitionResponseExceptionMapper.class)
-                .register(PropertyDefinitionMessageBodyWriter.class)
-                .register(PropertyDefinitionMessageBodyReader.class)
-                .build(PropertyDefinitionResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, PropertyDefinitionResourceClient.class,
+                PropertyDefinitionResponseExceptionMapper.class, PropertyDefinitionMessageBodyWriter.class,
+                PropertyDefinitionMessageBodyReader.class);
     }
 
     public MixinDefinitionResourceClient getMixinDefinitionClient(String urlStr) throws MalformedURLException , TokenExpiredException {
-        URL url = new URL(urlStr);
-        return RestClientBuilder.
-                 newBuilder()
-                .baseUrl(url)
-                .register(PropertyDefinitionResponseExceptionMapper.class)
-                .register(MixinDefinitionMessageBodyWriter.class)
-                .register(MixinDefinitionMessageBodyReader.class)
-                .build(MixinDefinitionResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, MixinDefinitionResourceClient.class,
+                PropertyDefinitionResponseExceptionMapper.class, MixinDefinitionMessageBodyWriter.class,
+                MixinDefinitionMessageBodyReader.class);
     }
 }
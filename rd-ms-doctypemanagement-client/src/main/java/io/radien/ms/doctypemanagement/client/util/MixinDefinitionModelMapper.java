@@ -16,6 +16,7 @@
 package io.radien.ms.doctypemanagement.client.util;
 
 import io.radien.api.entity.Page;
+import io.radien.api.util.StreamingJsonMapper;
 import io.radien.ms.doctypemanagement.client.entities.MixinDefinitionDTO;
 import io.radien.ms.doctypemanagement.client.services.MixinDefinitionFactory;
 import java.io.InputStream;
@@ -59,14 +60,10 @@ public class MixinDefinitionModelMapper {
 
     public static Page<MixinDefinitionDTO> mapToPage(InputStream is) {
         Page<MixinDefinitionDTO> page = null;
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonObject jsonObject = jsonReader.readObject();
-
-            try {
-                page = MixinDefinitionFactory.convertJsonToPage(jsonObject);
-            } catch (ParseException e) {
-                log.error(e.getMessage(),e);
-            }
+        try {
+            page = StreamingJsonMapper.readPage(is, MixinDefinitionFactory::convert);
+        } catch (ParseException e) {
+            log.error(e.getMessage(),e);
         }
         return page;
     }
@@ -16,6 +16,7 @@
 package io.radien.ms.doctypemanagement.client.util;
 
 import io.radien.api.entity.Page;
+import io.radien.api.util.StreamingJsonMapper;
 
 import io.radien.ms.doctypemanagement.client.entities.PropertyDefinition;
 import io.radien.ms.doctypemanagement.client.services.PropertyDefinitionFactory;
@@ -61,14 +62,10 @@ public class PropertyDefinitionModelMapper {
 
     public static Page<PropertyDefinition> mapToPage(InputStream is) {
         Page<PropertyDefinition> page = null;
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonObject jsonObject = jsonReader.readObject();
-
-            try {
-                page = PropertyDefinitionFactory.convertJsonToPage(jsonObject);
-            } catch (ParseException e) {
-                log.error(e.getMessage(),e);
-            }
+        try {
+            page = StreamingJsonMapper.readPage(is, PropertyDefinitionFactory::convert);
+        } catch (ParseException e) {
+            log.error(e.getMessage(),e);
         }
         return page;
     }
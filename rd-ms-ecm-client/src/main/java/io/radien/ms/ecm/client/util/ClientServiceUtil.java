@@ -18,6 +18,7 @@
 
 package io.radien.ms.ecm.client.util;
 
+import io.radien.api.util.RestClientRegistry;
 import io.radien.exception.ModelResponseExceptionMapper;
 import io.radien.ms.ecm.client.controller.ContentResource;
 import io.radien.ms.ecm.client.controller.I18NResource;
@@ -25,10 +26,8 @@ import io.radien.ms.ecm.client.providers.DeletePropertyFilterMessageBodyReader;
 import io.radien.ms.ecm.client.providers.EnterpriseContentMessageBodyReader;
 import io.radien.ms.ecm.client.providers.I18NPropertyMessageBodyReader;
 import java.net.MalformedURLException;
-import java.net.URL;
 import javax.enterprise.context.RequestScoped;
 import javax.inject.Named;
-import org.eclipse.microprofile.rest.client.RestClientBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,25 +37,15 @@ public class ClientServiceUtil {
     private static final Logger log = LoggerFactory.getLogger(ClientServiceUtil.class);
 
     public ContentResource getContentResourceClient(String urlStr) throws MalformedURLException {
-        URL url = new URL(urlStr);
         log.info("Content Controller Resource Client Url - {}", urlStr);
-        return RestClientBuilder
-                .newBuilder()
-                .baseUrl(url)
-                .register(EnterpriseContentMessageBodyReader.class)
-                .register(ModelResponseExceptionMapper.class)
-                .build(ContentResource.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, ContentResource.class,
+                EnterpriseContentMessageBodyReader.class, ModelResponseExceptionMapper.class);
     }
 
     public I18NResource getI18NResourceClient(String urlStr) throws MalformedURLException {
-        URL url = new URL(urlStr);
         log.info("Content Controller Resource Client Url - {}", urlStr);
-        return RestClientBuilder
-                .newBuilder()
-                .baseUrl(url)
-                .register(I18NPropertyMessageBodyReader.class)
-                .register(DeletePropertyFilterMessageBodyReader.class)
-                .register(ModelResponseExceptionMapper.class)
-                .build(I18NResource.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, I18NResource.class,
+                I18NPropertyMessageBodyReader.class, DeletePropertyFilterMessageBodyReader.class,
+                ModelResponseExceptionMapper.class);
     }
 }
@@ -24,12 +24,10 @@ import io.radien.api.service.mail.model.Mail;
 import io.radien.api.service.mail.model.MailContentType;
 import io.radien.api.service.mail.model.SystemMailTemplate;
 
-import java.text.MessageFormat;
 import javax.enterprise.context.RequestScoped;
 import javax.inject.Inject;
 import java.util.ArrayList;
 import java.util.List;
-import org.apache.geronimo.mail.util.Base64;
 
 /**
  * Default implementation of the {@link AbstractMailFactory}
@@ -42,6 +40,9 @@ class MailFactory extends AbstractMailFactory {
     @Inject
     private OAFAccess baseApp;
 
+    @Inject
+    private MailTemplateCache templateCache;
+
     @Override
     protected String getAnchorStyle() {
         return "a { color: #5D5D9E; }" +
@@ -83,14 +84,16 @@ class MailFactory extends AbstractMailFactory {
         String email = user.getUserEmail() == null ? user.getLogon() : user.getUserEmail();
         String logoHtml = getLogoHtml(template);
         return create(baseApp.getProperty(OAFProperties.SYS_MAIL_FROM_SYSTEM_ADMIN), email,
-                MailMessage.createSubject(template), logoHtml, MailMessage.of(template), MailContentType.HTML);
+                templateCache.renderSubject(template.getContent(), template.getArgs()), logoHtml,
+                templateCache.renderBody(template.getContent(), template.getArgs()), MailContentType.HTML);
     }
 
     @Override
     public Mail create(String targetEmail, SystemMailTemplate template) {
         String logoHtml = getLogoHtml(template);
         return create(baseApp.getProperty(OAFProperties.SYS_MAIL_FROM_SYSTEM_ADMIN), targetEmail,
-                MailMessage.createSubject(template), logoHtml, MailMessage.of(template), MailContentType.HTML);
+                templateCache.renderSubject(template.getContent(), template.getArgs()), logoHtml,
+                templateCache.renderBody(template.getContent(), template.getArgs()), MailContentType.HTML);
     }
 
     @Override
@@ -99,14 +102,16 @@ class MailFactory extends AbstractMailFactory {
         List<String> to = new ArrayList<>();
         user.forEach(u -> to.add(u.getUserEmail()));
         return create(baseApp.getProperty(OAFProperties.SYS_MAIL_FROM_SYSTEM_ADMIN), to,
-                MailMessage.createSubject(template), logoHtml, MailMessage.of(template), MailContentType.HTML);
+                templateCache.renderSubject(template.getContent(), template.getArgs()), logoHtml,
+                templateCache.renderBody(template.getContent(), template.getArgs()), MailContentType.HTML);
     }
 
     @Override
     public Mail create(SystemMailTemplate template, List<String> receiverEmails) {
         String logoHtml = getLogoHtml(template);
         return create(baseApp.getProperty(OAFProperties.SYS_MAIL_FROM_SYSTEM_ADMIN), receiverEmails,
-                MailMessage.createSubject(template), logoHtml, MailMessage.of(template), MailContentType.HTML);
+                templateCache.renderSubject(template.getContent(), template.getArgs()), logoHtml,
+                templateCache.renderBody(template.getContent(), template.getArgs()), MailContentType.HTML);
     }
 
     @Override
@@ -114,8 +119,7 @@ class MailFactory extends AbstractMailFactory {
         return baseApp;
     }
 
-    private static String getLogoHtml(SystemMailTemplate template) {
-        return template.getContent().getImage() == null ? null : MessageFormat.format("<img src=\"data:image/png;base64,{0}\" />",
-                new String(Base64.encode(template.getContent().getImage())));
+    private String getLogoHtml(SystemMailTemplate template) {
+        return templateCache.getLogoHtml(template.getContent());
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.email.lib;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the mail sending (sent and failed messages, opened smtp connections, throttled
+ * asynchronous sends) used to follow the throughput of the {@link MailTransportPool}
+ */
+public class MailMetrics {
+
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong sendTime = new AtomicLong();
+    private final long startTime = System.nanoTime();
+
+    /**
+     * Registers a message successfully sent
+     * @param nanos time (in nanoseconds) spent sending the message
+     * @return the total number of messages sent
+     */
+    public long recordSent(long nanos) {
+        sendTime.addAndGet(nanos);
+        return sent.incrementAndGet();
+    }
+
+    /**
+     * Registers a message that could not be sent
+     */
+    public void recordFailure() {
+        failed.incrementAndGet();
+    }
+
+    /**
+     * Registers a new smtp connection
+     */
+    public void recordConnectionOpened() {
+        connectionsOpened.incrementAndGet();
+    }
+
+    /**
+     * Registers an asynchronous send executed by the caller, due to a full sender queue
+     */
+    public void recordThrottled() {
+        throttled.incrementAndGet();
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public long getConnectionsOpened() {
+        return connectionsOpened.get();
+    }
+
+    public long getThrottled() {
+        return throttled.get();
+    }
+
+    /**
+     * Gets the average time spent sending one message
+     * @return the average send time in milliseconds
+     */
+    public double getAverageSendTime() {
+        long count = sent.get();
+        return count == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMicros(sendTime.get()) / count / 1000;
+    }
+
+    /**
+     * Gets the number of messages sent per second since the metrics were created
+     * @return the throughput in messages per second
+     */
+    public double getThroughput() {
+        long elapsed = System.nanoTime() - startTime;
+        return elapsed <= 0 ? 0 : sent.get() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("sent=%d failed=%d connections=%d throttled=%d avgSendTime=%.1fms throughput=%.2f/s",
+                getSent(), getFailed(), getConnectionsOpened(), getThrottled(), getAverageSendTime(), getThroughput());
+    }
+}
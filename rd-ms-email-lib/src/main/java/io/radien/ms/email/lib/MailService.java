@@ -42,8 +42,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 
 /**
  * Simple Mail Service class, responsible for sending email notifications
@@ -63,7 +63,19 @@ public class MailService implements MailServiceAccess {
     @Inject
     private MailFactory mailFactory;
 
+    @Inject
+    private MailTransportPool transportPool;
+
     public void send(Mail mailMessage) {
+        deliver(mailMessage);
+    }
+
+    /**
+     * Sends the email message
+     * @param mailMessage to be sent
+     * @return true if the message was sent, false otherwise
+     */
+    private boolean deliver(Mail mailMessage) {
         Properties props = new Properties();
         props.setProperty("mail.transport.protocol", baseApp.getProperty(OAFProperties.SYS_MAIL_TRANSPORT_PROTOCOL));
         props.setProperty("mail.host", baseApp.getProperty(OAFProperties.SYS_MAIL_HOST));
@@ -71,7 +83,11 @@ public class MailService implements MailServiceAccess {
         props.setProperty("mail.smtp.starttls.enable", baseApp.getProperty(OAFProperties.SYS_MAIL_STARTTLS_ENABLE));
         props.setProperty("mail.smtp.port", baseApp.getProperty(OAFProperties.SYS_MAIL_SMTP_PORT));
         props.setProperty("mail.debug",Boolean.toString(log.isInfoEnabled()));
-        Session session = Session.getDefaultInstance(props, new SMTPAuthenticator());
+        String user = baseApp.getProperty(OAFProperties.SYS_MAIL_USER);
+        if (user != null) {
+            props.setProperty("mail.smtp.user", user);
+        }
+        Session session = transportPool.getSession(props, new SMTPAuthenticator());
         session.setDebug(log.isInfoEnabled());
 
         List<File> deleteFiles = new ArrayList<>();
@@ -143,10 +159,12 @@ public class MailService implements MailServiceAccess {
             message.setContent(multiPart);
 
             log.info("Initiating Mail transport");
-            Transport.send(message);
+            transportPool.send(message);
             log.info("Finished Mail transport");
+            return true;
         } catch (Exception mex) {
             log.error("Error sending email", mex);
+            return false;
 
         } finally {
             for (File file : deleteFiles) {
@@ -161,9 +179,29 @@ public class MailService implements MailServiceAccess {
 
     @Override
     public void sendMailAsync(Mail mailMessage) {
-        ExecutorService emailExecutor = Executors.newSingleThreadExecutor();
-        emailExecutor.execute(() -> send(mailMessage));
-        emailExecutor.shutdown();
+        transportPool.execute(() -> send(mailMessage));
+    }
+
+    @Override
+    public void sendMailsAsync(List<? extends Mail> mailMessages, BiConsumer<Mail, Boolean> listener) {
+        sendMailsAsync(mailMessages, listener, () -> false);
+    }
+
+    @Override
+    public void sendMailsAsync(List<? extends Mail> mailMessages, BiConsumer<Mail, Boolean> listener, BooleanSupplier cancelled) {
+        transportPool.execute(() -> {
+            for (Mail mail : mailMessages) {
+                boolean sent;
+                try {
+                    sent = !cancelled.getAsBoolean() && deliver(mail);
+                } catch (RuntimeException e) {
+                    // the remaining emails are still sent (and the outcome of every email informed)
+                    log.error("Error sending email", e);
+                    sent = false;
+                }
+                listener.accept(mail, sent);
+            }
+        });
     }
 
     private class SMTPAuthenticator extends javax.mail.Authenticator {
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.email.lib;
+
+import io.radien.api.OAFProperties;
+import io.radien.api.util.ConfigSettings;
+
+/**
+ * Settings of the mail sending, read from the {@link OAFProperties} SYS_MAIL_POOL_* and SYS_MAIL_SENDER_* keys.
+ * The pool settings limit the number of (authenticated) smtp connections kept open and how many messages
+ * are sent through one connection before it is renewed, the sender settings size the shared executor
+ * used by the asynchronous sending and its queue.
+ */
+public class MailSettings {
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 4;
+    public static final int DEFAULT_MAX_MESSAGES_PER_CONNECTION = 100;
+    public static final int DEFAULT_SENDER_THREADS = 4;
+    public static final int DEFAULT_SENDER_QUEUE_CAPACITY = 1000;
+
+    /**
+     * Empty private constructor
+     */
+    private MailSettings() {}
+
+    /**
+     * Gets the maximum number of smtp connections opened at the same time
+     * @return the maximum number of connections
+     */
+    public static int getMaxConnections() {
+        return ConfigSettings.getInt(OAFProperties.SYS_MAIL_POOL_MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS);
+    }
+
+    /**
+     * Gets the number of messages sent through one connection before it is closed (and a new one opened)
+     * @return the maximum number of messages per connection
+     */
+    public static int getMaxMessagesPerConnection() {
+        return ConfigSettings.getInt(OAFProperties.SYS_MAIL_POOL_MAX_MESSAGES_PER_CONNECTION, DEFAULT_MAX_MESSAGES_PER_CONNECTION);
+    }
+
+    /**
+     * Gets the number of threads sending the asynchronous mails
+     * @return the number of sender threads
+     */
+    public static int getSenderThreads() {
+        return ConfigSettings.getInt(OAFProperties.SYS_MAIL_SENDER_THREADS, DEFAULT_SENDER_THREADS);
+    }
+
+    /**
+     * Gets the number of asynchronous mails waiting to be sent, once full the caller sends the mail itself
+     * @return the queue capacity
+     */
+    public static int getSenderQueueCapacity() {
+        return ConfigSettings.getInt(OAFProperties.SYS_MAIL_SENDER_QUEUE_CAPACITY, DEFAULT_SENDER_QUEUE_CAPACITY);
+    }
+}
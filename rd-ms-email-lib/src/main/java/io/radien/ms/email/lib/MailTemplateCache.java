@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.email.lib;
+
+import io.radien.api.service.ecm.model.EnterpriseContent;
+import io.radien.api.util.ExpiringCache;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.enterprise.context.ApplicationScoped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.stringtemplate.v4.ST;
+
+/**
+ * Cache of the compiled mail templates (subject and body) and of the encoded logo fragments, kept per
+ * content view id, language and version (last edit date). Rendering a mail then only binds the arguments
+ * into a copy of the compiled template, instead of parsing the ecm html (and encoding the logo) for every
+ * message. The cached source is compared with the current one, so a content changed without a new version
+ * is compiled again.
+ */
+@ApplicationScoped
+public class MailTemplateCache {
+
+    private static final Logger log = LoggerFactory.getLogger(MailTemplateCache.class);
+
+    public static final int DEFAULT_MAX_SIZE = 200;
+    public static final long DEFAULT_TTL = 3600000L;
+
+    private final ExpiringCache<Key, CompiledTemplate> templates;
+    private final ExpiringCache<Key, Logo> logos;
+
+    /**
+     * Mail template cache constructor, with the default size and time to live
+     */
+    public MailTemplateCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TTL);
+    }
+
+    /**
+     * Mail template cache constructor
+     * @param maxSize maximum number of templates (and logos) kept
+     * @param timeToLive time (in milliseconds) a template is kept
+     */
+    public MailTemplateCache(int maxSize, long timeToLive) {
+        this.templates = new ExpiringCache<>(maxSize, timeToLive);
+        this.logos = new ExpiringCache<>(maxSize, timeToLive);
+    }
+
+    /**
+     * Renders the subject (content name) of the mail
+     * @param content mail content
+     * @param args arguments to be bound
+     * @return the rendered subject
+     */
+    public String renderSubject(EnterpriseContent content, Map<String, String> args) {
+        return render(new Key(Part.SUBJECT, content), content.getName(), args);
+    }
+
+    /**
+     * Renders the body (html content) of the mail
+     * @param content mail content
+     * @param args arguments to be bound
+     * @return the rendered body
+     */
+    public String renderBody(EnterpriseContent content, Map<String, String> args) {
+        return render(new Key(Part.BODY, content), content.getHtmlContent(), args);
+    }
+
+    /**
+     * Gets the html (img element) of the content logo
+     * @param content mail content
+     * @return the logo html, or null if the content has no image
+     */
+    public String getLogoHtml(EnterpriseContent content) {
+        byte[] image = content.getImage();
+        if (image == null) {
+            return null;
+        }
+        Key key = new Key(Part.LOGO, content);
+        Logo logo = logos.get(key);
+        if (logo == null || (logo.image != image && !Arrays.equals(logo.image, image))) {
+            logo = new Logo(image, MessageFormat.format("<img src=\"data:image/png;base64,{0}\" />",
+                    Base64.getEncoder().encodeToString(image)));
+            logos.put(key, logo);
+        }
+        return logo.html;
+    }
+
+    /**
+     * Removes all the cached templates and logos
+     */
+    public void clear() {
+        templates.invalidateAll();
+        logos.invalidateAll();
+    }
+
+    private String render(Key key, String source, Map<String, String> args) {
+        CompiledTemplate compiled = templates.get(key);
+        if (compiled == null || !compiled.source.equals(source)) {
+            compiled = new CompiledTemplate(source);
+            templates.put(key, compiled);
+        }
+        return compiled.render(args);
+    }
+
+    /**
+     * Compiled template and the source it was compiled from
+     */
+    private static class CompiledTemplate {
+        private final String source;
+        private volatile Prototype prototype;
+
+        private CompiledTemplate(String source) {
+            this.source = source;
+            this.prototype = new Prototype(source, Collections.emptySet());
+        }
+
+        /**
+         * Binds the arguments into a copy of the compiled template. Binding an attribute that is not
+         * declared would register it on the compiled template shared by the copies, so the argument names
+         * are declared up front and only the (rare) unseen names compile a new prototype.
+         */
+        private String render(Map<String, String> args) {
+            Prototype current = prototype;
+            if (!current.names.containsAll(args.keySet())) {
+                current = declare(args.keySet());
+            }
+            ST template = new ST(current.template);
+            for (Map.Entry<String, String> arg : args.entrySet()) {
+                try {
+                    template.add(arg.getKey(), arg.getValue());
+                } catch (Exception e) {
+                    log.error("[MailTemplateCache] : Could not substitute dynamic attribute for key: {} with value: {}",
+                            arg.getKey(), arg.getValue());
+                }
+            }
+            return template.render();
+        }
+
+        private synchronized Prototype declare(Set<String> names) {
+            Prototype current = prototype;
+            if (!current.names.containsAll(names)) {
+                Set<String> declared = new HashSet<>(current.names);
+                declared.addAll(names);
+                current = new Prototype(source, declared);
+                prototype = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Compiled template with its declared attributes, never changed once published
+     */
+    private static class Prototype {
+        private final ST template;
+        private final Set<String> names;
+
+        private Prototype(String source, Set<String> names) {
+            this.template = new ST(source, '$', '$');
+            for (String name : names) {
+                try {
+                    template.add(name, "");
+                    template.remove(name);
+                } catch (Exception e) {
+                    log.debug("[MailTemplateCache] : Could not declare dynamic attribute for key: {}", name);
+                }
+            }
+            this.names = Collections.unmodifiableSet(names);
+        }
+    }
+
+    /**
+     * Encoded logo and the image it was encoded from
+     */
+    private static class Logo {
+        private final byte[] image;
+        private final String html;
+
+        private Logo(byte[] image, String html) {
+            this.image = image;
+            this.html = html;
+        }
+    }
+
+    private enum Part {
+        SUBJECT, BODY, LOGO
+    }
+
+    /**
+     * Cache key: template part, content view id, language and version
+     */
+    private static class Key {
+        private final Part part;
+        private final String viewId;
+        private final String language;
+        private final Long version;
+
+        private Key(Part part, EnterpriseContent content) {
+            this.part = part;
+            this.viewId = content.getViewId();
+            this.language = content.getLanguage();
+            Date lastEditDate = content.getLastEditDate();
+            this.version = lastEditDate == null ? null : lastEditDate.getTime();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return part == key.part && Objects.equals(viewId, key.viewId) &&
+                    Objects.equals(language, key.language) && Objects.equals(version, key.version);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(part, viewId, language, version);
+        }
+    }
+}
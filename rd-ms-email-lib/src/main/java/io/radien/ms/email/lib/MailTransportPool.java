@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.email.lib;
+
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.mail.Authenticator;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of connected (and authenticated) smtp transports shared by the mail services of this node.
+ * Instead of opening, authenticating and closing one connection per message, the messages are sent
+ * through the idle connections of the pool, a connection being renewed after a number of messages
+ * (or after a failure). The asynchronous mails are sent by a bounded shared executor, when its queue
+ * is full the mail is sent by the caller (backpressure) instead of creating new threads.
+ * Settings are read through {@link MailSettings}. The idle connections and the executor are closed
+ * when the application is stopped.
+ */
+@ApplicationScoped
+public class MailTransportPool {
+
+    private static final Logger log = LoggerFactory.getLogger(MailTransportPool.class);
+
+    private static final long BORROW_TIMEOUT = 30000L;
+    private static final long BORROW_POLL_INTERVAL = 50L;
+    private static final long SHUTDOWN_TIMEOUT = 10000L;
+    private static final int METRICS_LOG_INTERVAL = 100;
+
+    private final int maxMessagesPerConnection;
+    private final Semaphore connections;
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final ThreadPoolExecutor executor;
+    private final MailMetrics metrics = new MailMetrics();
+
+    private Properties sessionProperties;
+    private volatile Session session;
+
+    /**
+     * Mail transport pool constructor, based on the configuration
+     */
+    public MailTransportPool() {
+        this(MailSettings.getMaxConnections(), MailSettings.getMaxMessagesPerConnection(),
+                MailSettings.getSenderThreads(), MailSettings.getSenderQueueCapacity());
+    }
+
+    /**
+     * Mail transport pool constructor
+     * @param maxConnections maximum number of connections opened at the same time
+     * @param maxMessagesPerConnection number of messages sent through a connection before it is renewed
+     * @param threads number of threads sending the asynchronous mails
+     * @param queueCapacity number of asynchronous mails waiting to be sent
+     */
+    MailTransportPool(int maxConnections, int maxMessagesPerConnection, int threads, int queueCapacity) {
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.connections = new Semaphore(maxConnections);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "mail-sender-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, (runnable, pool) -> {
+                    metrics.recordThrottled();
+                    if (!pool.isShutdown()) {
+                        runnable.run();
+                    }
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Gets the mail session for the given properties. The session is kept while the properties
+     * do not change, otherwise a new one is created and the idle connections of the previous one are closed.
+     * @param properties mail properties
+     * @param authenticator authenticator of the smtp connections
+     * @return the mail session
+     */
+    public synchronized Session getSession(Properties properties, Authenticator authenticator) {
+        if (session == null || !properties.equals(sessionProperties)) {
+            sessionProperties = (Properties) properties.clone();
+            session = Session.getInstance(properties, authenticator);
+            closeIdle();
+        }
+        return session;
+    }
+
+    /**
+     * Sends the message through one of the pooled connections
+     * @param message message to be sent
+     * @throws MessagingException in case of failure connecting or sending the message
+     */
+    public void send(Message message) throws MessagingException {
+        long start = System.nanoTime();
+        PooledTransport pooled = borrow();
+        boolean reusable = false;
+        try {
+            message.saveChanges();
+            pooled.transport.sendMessage(message, message.getAllRecipients());
+            pooled.messages++;
+            reusable = true;
+            long sent = metrics.recordSent(System.nanoTime() - start);
+            if (sent % METRICS_LOG_INTERVAL == 0) {
+                log.info("Mail transport metrics: {}", metrics);
+            }
+        } catch (SendFailedException e) {
+            // invalid recipients, the connection itself is still usable
+            reusable = true;
+            metrics.recordFailure();
+            throw e;
+        } catch (MessagingException | RuntimeException e) {
+            metrics.recordFailure();
+            throw e;
+        } finally {
+            release(pooled, reusable);
+        }
+    }
+
+    /**
+     * Sends a mail asynchronously through the shared executor
+     * @param task sending task
+     */
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Gets the metrics of the mail sending
+     * @return the metrics
+     */
+    public MailMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Stops the executor, letting the already queued mails be sent, and closes the idle connections
+     */
+    @PreDestroy
+    public void shutDown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                log.warn("Mail sender stopped with {} mails not sent", executor.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        closeIdle();
+    }
+
+    /**
+     * Opens (connects) a new transport of the given session
+     * @param session mail session
+     * @return the connected transport
+     * @throws MessagingException in case of connection or authentication failure
+     */
+    protected Transport openTransport(Session session) throws MessagingException {
+        Transport transport = session.getTransport();
+        transport.connect();
+        return transport;
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        Session current = session;
+        if (current == null) {
+            throw new IllegalStateException("Mail session not initialized");
+        }
+        long deadline = System.currentTimeMillis() + BORROW_TIMEOUT;
+        try {
+            while (true) {
+                PooledTransport pooled = idle.pollFirst();
+                if (pooled == null && connections.tryAcquire()) {
+                    return open(current);
+                }
+                if (pooled == null) {
+                    if (System.currentTimeMillis() > deadline) {
+                        throw new MessagingException("No mail connection available");
+                    }
+                    pooled = idle.pollFirst(BORROW_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                }
+                if (pooled != null) {
+                    if (pooled.session == current && pooled.transport.isConnected()) {
+                        return pooled;
+                    }
+                    close(pooled);
+                    if (connections.tryAcquire()) {
+                        return open(current);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted waiting for a mail connection", e);
+        }
+    }
+
+    private PooledTransport open(Session current) throws MessagingException {
+        try {
+            Transport transport = openTransport(current);
+            metrics.recordConnectionOpened();
+            return new PooledTransport(current, transport);
+        } catch (MessagingException | RuntimeException e) {
+            connections.release();
+            throw e;
+        }
+    }
+
+    private void release(PooledTransport pooled, boolean reusable) {
+        if (reusable && pooled.messages < maxMessagesPerConnection && pooled.session == session) {
+            idle.offerFirst(pooled);
+        } else {
+            close(pooled);
+        }
+    }
+
+    private void close(PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            log.warn("Error closing mail connection", e);
+        } finally {
+            connections.release();
+        }
+    }
+
+    private void closeIdle() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            close(pooled);
+        }
+    }
+
+    /**
+     * Connected transport and the number of messages sent through it
+     */
+    private static class PooledTransport {
+        private final Session session;
+        private final Transport transport;
+        private int messages;
+
+        private PooledTransport(Session session, Transport transport) {
+            this.session = session;
+            this.transport = transport;
+        }
+    }
+}
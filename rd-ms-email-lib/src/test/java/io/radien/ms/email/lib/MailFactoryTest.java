@@ -13,6 +13,7 @@ import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
@@ -39,6 +40,9 @@ public class MailFactoryTest {
     @Mock
     OAFAccess oafAccess;
 
+    @Spy
+    MailTemplateCache templateCache;
+
     @Test
     public void testCreateTwoArgsWithString() {
         List<String> bCC = new ArrayList<>();
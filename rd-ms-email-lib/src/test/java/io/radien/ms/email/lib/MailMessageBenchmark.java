@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.email.lib;
+
+import io.radien.api.service.ecm.model.EnterpriseContent;
+import java.lang.reflect.Proxy;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Micro benchmark of the per message rendering cost, comparing the parsing of the template for every
+ * message (as done by {@link MailMessage#of(io.radien.api.service.mail.model.SystemMailTemplate)}) with the
+ * rendering through the compiled templates of {@link MailTemplateCache} (as done by {@link MailFactory}).
+ * Not part of the unit tests, to be executed through its main method (test classpath).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MailMessageBenchmark {
+
+    private final MailTemplateCache templateCache = new MailTemplateCache();
+
+    private MailTemplate template;
+
+    @Setup
+    public void setup() {
+        StringBuilder html = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            html.append("<p>Dear $firstName$ $lastName$, paragraph ").append(i)
+                    .append(" of the notification about <a href=\"$link$\">$tenant$</a>.</p>");
+        }
+        Map<String, Object> values = new HashMap<>();
+        values.put("getViewId", "notification");
+        values.put("getLanguage", "en");
+        values.put("getLastEditDate", new Date(0));
+        values.put("getName", "Notification for $firstName$");
+        values.put("getHtmlContent", html.toString());
+        values.put("getImage", new byte[4096]);
+        EnterpriseContent content = (EnterpriseContent) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { EnterpriseContent.class }, (proxy, method, args) -> values.get(method.getName()));
+
+        Map<String, String> args = new HashMap<>();
+        args.put("firstName", "first");
+        args.put("lastName", "last");
+        args.put("link", "https://radien.io");
+        args.put("tenant", "radien");
+        template = new MailTemplate(content, args);
+    }
+
+    @Benchmark
+    public void parsedRender(Blackhole blackhole) {
+        blackhole.consume(MailMessage.createSubject(template));
+        blackhole.consume(MailMessage.of(template));
+    }
+
+    @Benchmark
+    public void cachedRender(Blackhole blackhole) {
+        blackhole.consume(templateCache.renderSubject(template.getContent(), template.getArgs()));
+        blackhole.consume(templateCache.renderBody(template.getContent(), template.getArgs()));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MailMessageBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -8,26 +8,30 @@ import io.radien.api.service.mail.model.Mail;
 import io.radien.api.service.mail.model.MailContentType;
 import io.radien.api.service.mail.model.SystemMailTemplate;
 
-import org.junit.AfterClass;
-import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
-import javax.mail.Transport;
+import javax.mail.MessagingException;
+import javax.mail.Session;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class MailServiceTest {
@@ -44,19 +48,8 @@ public class MailServiceTest {
     @Mock
     OAFAccess oafAccess;
 
-    private static MockedStatic<Transport> transport;
-
-    @BeforeClass
-    public static void beforeClass(){
-        transport = Mockito.mockStatic(Transport.class);
-    }
-
-    @AfterClass
-    public static void destroy(){
-        if(transport!=null) {
-            transport.close();
-        }
-    }
+    @Mock
+    MailTransportPool transportPool;
 
     private String getNotificationManagement(){
         String url = "";
@@ -65,12 +58,13 @@ public class MailServiceTest {
     }
 
     @Test
-    public void testSend() {
+    public void testSend() throws MessagingException {
         when(oafAccess.getProperty(OAFProperties.SYS_MAIL_TRANSPORT_PROTOCOL)).thenReturn("https");
         when(oafAccess.getProperty(OAFProperties.SYS_MAIL_HOST)).thenReturn("host");
         when(oafAccess.getProperty(OAFProperties.SYS_MAIL_SMTP_AUTH)).thenReturn("auth");
         when(oafAccess.getProperty(OAFProperties.SYS_MAIL_STARTTLS_ENABLE)).thenReturn("true");
         when(oafAccess.getProperty(OAFProperties.SYS_MAIL_SMTP_PORT)).thenReturn("1234");
+        when(transportPool.getSession(any(), any())).thenReturn(Session.getInstance(new Properties()));
 
         List<String> bCC = new ArrayList<>();
         bCC.add("");
@@ -84,7 +78,89 @@ public class MailServiceTest {
                 MailContentType.HTML,attachments,cC,bCC);
         target.send(mail);
 
-        transport.verify(() -> Transport.send(any()));
+        verify(transportPool).send(any());
+    }
+
+    @Test
+    public void testSendMailAsync() {
+        Mail mail = new MailMessage("something@something", new ArrayList<>(),"Subject","Body",
+                MailContentType.HTML,new HashMap<>(),null,null);
+        target.sendMailAsync(mail);
+
+        verify(transportPool).execute(any());
+    }
+
+    @Test
+    public void testSendMailsAsync() throws MessagingException {
+        when(oafAccess.getProperty(OAFProperties.SYS_MAIL_TRANSPORT_PROTOCOL)).thenReturn("smtp");
+        when(oafAccess.getProperty(OAFProperties.SYS_MAIL_HOST)).thenReturn("host");
+        when(oafAccess.getProperty(OAFProperties.SYS_MAIL_SMTP_AUTH)).thenReturn("true");
+        when(oafAccess.getProperty(OAFProperties.SYS_MAIL_STARTTLS_ENABLE)).thenReturn("true");
+        when(oafAccess.getProperty(OAFProperties.SYS_MAIL_SMTP_PORT)).thenReturn("1234");
+        when(transportPool.getSession(any(), any())).thenReturn(Session.getInstance(new Properties()));
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(transportPool).execute(any());
+        doThrow(new MessagingException("error")).doNothing().when(transportPool).send(any());
+
+        List<Mail> mails = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            List<String> tO = new ArrayList<>();
+            tO.add("something" + i + "@something.com");
+            mails.add(new MailMessage("something@something", tO, "Subject", "Body",
+                    MailContentType.HTML, null, null, null));
+        }
+        List<Boolean> results = new ArrayList<>();
+        target.sendMailsAsync(mails, (mail, sent) -> results.add(sent));
+
+        assertEquals(Arrays.asList(false, true), results);
+    }
+
+    @Test
+    public void testSendMailsAsyncUnexpectedError() throws MessagingException {
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(transportPool).execute(any());
+        when(oafAccess.getProperty(OAFProperties.SYS_MAIL_TRANSPORT_PROTOCOL)).thenThrow(new IllegalStateException("error"))
+                .thenReturn("smtp");
+        when(oafAccess.getProperty(OAFProperties.SYS_MAIL_HOST)).thenReturn("host");
+        when(oafAccess.getProperty(OAFProperties.SYS_MAIL_SMTP_AUTH)).thenReturn("true");
+        when(oafAccess.getProperty(OAFProperties.SYS_MAIL_STARTTLS_ENABLE)).thenReturn("true");
+        when(oafAccess.getProperty(OAFProperties.SYS_MAIL_SMTP_PORT)).thenReturn("1234");
+        when(transportPool.getSession(any(), any())).thenReturn(Session.getInstance(new Properties()));
+
+        List<Mail> mails = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            List<String> tO = new ArrayList<>();
+            tO.add("something" + i + "@something.com");
+            mails.add(new MailMessage("something@something", tO, "Subject", "Body",
+                    MailContentType.HTML, null, null, null));
+        }
+        List<Boolean> results = new ArrayList<>();
+        target.sendMailsAsync(mails, (mail, sent) -> results.add(sent));
+
+        assertEquals(Arrays.asList(false, true), results);
+    }
+
+    @Test
+    public void testSendMailsAsyncCancelled() throws MessagingException {
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(transportPool).execute(any());
+
+        List<String> tO = new ArrayList<>();
+        tO.add("something@something.com");
+        List<Mail> mails = new ArrayList<>();
+        mails.add(new MailMessage("something@something", tO, "Subject", "Body",
+                MailContentType.HTML, null, null, null));
+        List<Boolean> results = new ArrayList<>();
+        target.sendMailsAsync(mails, (mail, sent) -> results.add(sent), () -> true);
+
+        assertEquals(Collections.singletonList(false), results);
+        verify(transportPool, never()).send(any());
     }
 
     @Test
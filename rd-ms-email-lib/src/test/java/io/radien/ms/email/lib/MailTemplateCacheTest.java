@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.email.lib;
+
+import io.radien.api.service.ecm.model.EnterpriseContent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class that aggregates UnitTest cases for MailTemplateCache
+ */
+public class MailTemplateCacheTest {
+
+    private MailTemplateCache cache;
+    private EnterpriseContent content;
+    private Map<String, String> args;
+
+    @Before
+    public void before() {
+        cache = new MailTemplateCache(10, 60000L);
+        content = mock(EnterpriseContent.class);
+        when(content.getViewId()).thenReturn("view");
+        when(content.getLanguage()).thenReturn("en");
+        when(content.getLastEditDate()).thenReturn(new Date(1L));
+        when(content.getName()).thenReturn("Hello $name$");
+        when(content.getHtmlContent()).thenReturn("<p>Dear $name$, welcome to $tenant$</p>");
+        args = new HashMap<>();
+        args.put("name", "user");
+        args.put("tenant", "radien");
+    }
+
+    /**
+     * Test for methods {@link MailTemplateCache#renderSubject(EnterpriseContent, Map)} and
+     * {@link MailTemplateCache#renderBody(EnterpriseContent, Map)}
+     * Expected outcome: Templates rendered with the given arguments on each invocation
+     */
+    @Test
+    public void testRender() {
+        assertEquals("Hello user", cache.renderSubject(content, args));
+        assertEquals("<p>Dear user, welcome to radien</p>", cache.renderBody(content, args));
+
+        args.put("name", "other");
+        assertEquals("Hello other", cache.renderSubject(content, args));
+        assertEquals("<p>Dear other, welcome to radien</p>", cache.renderBody(content, args));
+        assertEquals("<p>Dear , welcome to </p>", cache.renderBody(content, Collections.emptyMap()));
+    }
+
+    /**
+     * Test for method {@link MailTemplateCache#renderBody(EnterpriseContent, Map)}
+     * Scenario: Content changed without a new version
+     * Expected outcome: Changed content rendered
+     */
+    @Test
+    public void testRenderChangedContent() {
+        assertEquals("<p>Dear user, welcome to radien</p>", cache.renderBody(content, args));
+        when(content.getHtmlContent()).thenReturn("<p>Bye $name$</p>");
+        assertEquals("<p>Bye user</p>", cache.renderBody(content, args));
+    }
+
+    /**
+     * Test for method {@link MailTemplateCache#renderBody(EnterpriseContent, Map)}
+     * Scenario: Same template rendered concurrently with different (and new) arguments
+     * Expected outcome: Each rendering only holds its own arguments
+     */
+    @Test
+    public void testRenderConcurrently() throws Exception {
+        when(content.getHtmlContent()).thenReturn("$name$ $tenant$ $extra$");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                int index = i;
+                results.add(executor.submit(() -> {
+                    Map<String, String> mailArgs = new HashMap<>();
+                    mailArgs.put("name", "user" + index);
+                    mailArgs.put(index % 2 == 0 ? "tenant" : "extra", "t" + index);
+                    String expected = index % 2 == 0 ? "user" + index + " t" + index + " " :
+                            "user" + index + "  t" + index;
+                    return expected.equals(cache.renderBody(content, mailArgs));
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test for method {@link MailTemplateCache#getLogoHtml(EnterpriseContent)}
+     * Expected outcome: Encoded logo reused while the image does not change, no logo without image
+     */
+    @Test
+    public void testGetLogoHtml() {
+        assertNull(cache.getLogoHtml(content));
+
+        when(content.getImage()).thenReturn(new byte[] { 101, 120, 97, 109, 112, 108, 101 });
+        String logo = cache.getLogoHtml(content);
+        assertEquals("<img src=\"data:image/png;base64,ZXhhbXBsZQ==\" />", logo);
+        when(content.getImage()).thenReturn(new byte[] { 101, 120, 97, 109, 112, 108, 101 });
+        assertSame(logo, cache.getLogoHtml(content));
+
+        when(content.getImage()).thenReturn(new byte[] { 1 });
+        assertTrue(cache.getLogoHtml(content).contains("AQ=="));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.email.lib;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.mail.Address;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class that aggregates UnitTest cases for MailTransportPool
+ */
+public class MailTransportPoolTest {
+
+    private MailTransportPool pool;
+    private Transport transport;
+    private Message message;
+
+    @Before
+    public void before() throws MessagingException {
+        pool = spy(new MailTransportPool(2, 3, 1, 1));
+        transport = mock(Transport.class);
+        when(transport.isConnected()).thenReturn(true);
+        doReturn(transport).when(pool).openTransport(any());
+        message = mock(Message.class);
+        when(message.getAllRecipients()).thenReturn(new Address[0]);
+        pool.getSession(new Properties(), null);
+    }
+
+    /**
+     * Test for method {@link MailTransportPool#send(Message)}
+     * Expected outcome: One connection reused for the messages, renewed after the maximum number of messages
+     */
+    @Test
+    public void testSendReusesConnection() throws MessagingException {
+        for (int i = 0; i < 4; i++) {
+            pool.send(message);
+        }
+        verify(pool, times(2)).openTransport(any());
+        verify(transport, times(4)).sendMessage(any(), any());
+        verify(transport).close();
+        assertEquals(4, pool.getMetrics().getSent());
+        assertEquals(2, pool.getMetrics().getConnectionsOpened());
+    }
+
+    /**
+     * Test for method {@link MailTransportPool#send(Message)}
+     * Scenario: Disconnected idle connection
+     * Expected outcome: New connection opened
+     */
+    @Test
+    public void testSendReconnects() throws MessagingException {
+        pool.send(message);
+        when(transport.isConnected()).thenReturn(false);
+        pool.send(message);
+        verify(pool, times(2)).openTransport(any());
+    }
+
+    /**
+     * Test for method {@link MailTransportPool#send(Message)}
+     * Scenario: Sending failures
+     * Expected outcome: Failures registered, connection closed unless only the recipients were rejected
+     */
+    @Test
+    public void testSendFailure() throws MessagingException {
+        doThrow(new SendFailedException("invalid")).when(transport).sendMessage(any(), any());
+        assertThrows(SendFailedException.class, () -> pool.send(message));
+        verify(transport, times(0)).close();
+
+        doThrow(new MessagingException("error")).when(transport).sendMessage(any(), any());
+        assertThrows(MessagingException.class, () -> pool.send(message));
+        verify(transport).close();
+        assertEquals(2, pool.getMetrics().getFailed());
+        assertEquals(0, pool.getMetrics().getSent());
+    }
+
+    /**
+     * Test for method {@link MailTransportPool#getSession(Properties, javax.mail.Authenticator)}
+     * Expected outcome: Same session while the properties do not change
+     */
+    @Test
+    public void testGetSession() {
+        Properties properties = new Properties();
+        properties.setProperty("mail.host", "host");
+        Session session = pool.getSession(properties, null);
+        assertSame(session, pool.getSession((Properties) properties.clone(), null));
+        properties.setProperty("mail.host", "other");
+        assertTrue(session != pool.getSession(properties, null));
+    }
+
+    /**
+     * Test for method {@link MailTransportPool#execute(Runnable)}
+     * Scenario: Full sender queue
+     * Expected outcome: Task executed by the caller and registered as throttled
+     */
+    @Test
+    public void testExecuteBackpressure() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        pool.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        pool.execute(() -> {});
+        Thread caller = Thread.currentThread();
+        Thread[] executedBy = new Thread[1];
+        pool.execute(() -> executedBy[0] = Thread.currentThread());
+        release.countDown();
+
+        assertSame(caller, executedBy[0]);
+        assertEquals(1, pool.getMetrics().getThrottled());
+    }
+
+    /**
+     * Test for method {@link MailTransportPool#shutDown()}
+     * Expected outcome: Queued mails sent, idle connections closed and no more mails accepted
+     */
+    @Test
+    public void testShutDown() throws MessagingException, InterruptedException {
+        pool.send(message);
+        CountDownLatch sent = new CountDownLatch(1);
+        pool.execute(sent::countDown);
+        pool.shutDown();
+
+        assertTrue(sent.await(5, TimeUnit.SECONDS));
+        verify(transport).close();
+        boolean[] executed = new boolean[1];
+        pool.execute(() -> executed[0] = true);
+        assertFalse(executed[0]);
+    }
+}
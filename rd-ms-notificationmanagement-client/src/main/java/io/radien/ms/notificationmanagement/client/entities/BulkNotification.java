@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.notificationmanagement.client.entities;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request of a bulk email notification: the users to be notified and the template arguments.
+ * Sent as request body, since the list of users may be too long for the query string.
+ */
+public class BulkNotification implements Serializable {
+
+    private static final long serialVersionUID = -5713180390614129021L;
+
+    private List<Long> userIds;
+    private Map<String, String> arguments;
+
+    /**
+     * Bulk notification empty constructor
+     */
+    public BulkNotification() {}
+
+    /**
+     * Bulk notification constructor
+     * @param userIds identifiers of the users to be notified
+     * @param arguments arguments of the notification template
+     */
+    public BulkNotification(List<Long> userIds, Map<String, String> arguments) {
+        this.userIds = userIds;
+        this.arguments = arguments;
+    }
+
+    public List<Long> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(List<Long> userIds) {
+        this.userIds = userIds;
+    }
+
+    public Map<String, String> getArguments() {
+        return arguments;
+    }
+
+    public void setArguments(Map<String, String> arguments) {
+        this.arguments = arguments;
+    }
+}
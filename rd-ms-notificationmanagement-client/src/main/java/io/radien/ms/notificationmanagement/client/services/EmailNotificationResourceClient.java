@@ -1,11 +1,14 @@
 package io.radien.ms.notificationmanagement.client.services;
 
+import io.radien.ms.notificationmanagement.client.entities.BulkNotification;
 import io.radien.ms.openid.entities.GlobalHeaders;
 import java.util.List;
 import java.util.Map;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
@@ -24,4 +27,12 @@ public interface EmailNotificationResourceClient {
     @POST
     @Path("/users")
     Response notifyUsers(@QueryParam("userIds") List<Long> userIds, @QueryParam("viewId") String notificationViewId, @QueryParam("language") String language, Map<String, String> args);
+
+    @POST
+    @Path("/users/jobs")
+    Response notifyUsersAsync(@QueryParam("viewId") String notificationViewId, @QueryParam("language") String language, BulkNotification notification);
+
+    @GET
+    @Path("/users/jobs/{jobId}")
+    Response getJob(@PathParam("jobId") String jobId);
 }
@@ -7,6 +7,7 @@ import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
 import io.radien.api.service.notification.SQSProducerAccess;
 import io.radien.api.service.notification.email.EmailNotificationRESTServiceAccess;
+import io.radien.api.util.ConfigSettings;
 import io.radien.exception.SystemException;
 import io.radien.ms.notificationmanagement.client.exception.InvalidURIException;
 import io.radien.ms.notificationmanagement.client.exception.JMSGenericException;
@@ -15,22 +16,49 @@ import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
-import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.jms.JMSException;
 import javax.jms.MessageProducer;
 import javax.jms.Session;
 import javax.json.Json;
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
-@RequestScoped
+/**
+ * Producer of the notifications sent through the SQS notification queue.
+ * One connection is kept per application. JMS sessions are not thread safe, so each message is sent
+ * through a session (and its reusable producer) borrowed from a pool. Notifications to several recipients
+ * are published in batches (SendMessageBatch), and notifications sent asynchronously are buffered and
+ * published in batches when the buffer reaches the batch size or when the flush interval elapses.
+ * Batch entries that fail due to a retryable cause (e.g. throttling) are published again, a limited number of times.
+ */
+@ApplicationScoped
 public class SQSProducer implements SQSProducerAccess {
 
     private static final Logger log = LoggerFactory.getLogger(SQSProducer.class);
@@ -41,8 +69,31 @@ public class SQSProducer implements SQSProducerAccess {
 
     private static final String LOCAL_ENV_NAME = "LOCAL";
 
-    private Session session;
+    /** Maximum number of entries of a SendMessageBatch request */
+    static final int MAX_BATCH_SIZE = 10;
+    /** Maximum total size (bytes) of the messages of a SendMessageBatch request */
+    static final int MAX_BATCH_BYTES = 256 * 1024;
+    /** Maximum number of attempts to publish an entry that failed due to a retryable cause */
+    static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACK_OFF = 100L;
+    private static final int DEFAULT_MAX_SESSIONS = 4;
+    private static final int DEFAULT_BUFFER_CAPACITY = 10000;
+    private static final int DEFAULT_FLUSH_INTERVAL = 200;
+    private static final long SESSION_BORROW_TIMEOUT = 30000L;
+
+    private static final JsonBuilderFactory JSON = Json.createBuilderFactory(Collections.emptyMap());
+
     private SQSConnection connection;
+    private final BlockingQueue<ProducerSession> sessions = new LinkedBlockingQueue<>();
+    private final List<ProducerSession> openSessions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private int maxSessions;
+
+    private BlockingQueue<String> buffer;
+    private ScheduledExecutorService flusher;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private volatile String queueUrl;
+    private final SQSPublishMetrics metrics = new SQSPublishMetrics();
 
     @Inject
     private OAFAccess oaf;
@@ -67,7 +118,9 @@ public class SQSProducer implements SQSProducerAccess {
                 connection.getWrappedAmazonSQSClient().createQueue(QUEUE_NAME);
             }
 
-            session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            maxSessions = ConfigSettings.getInt(oaf, OAFProperties.SYSTEM_SQS_MAX_SESSIONS, DEFAULT_MAX_SESSIONS);
+            sessionCount.incrementAndGet();
+            sessions.add(createSession());
             log.info("Created queue with name \"{}\".", QUEUE_NAME);
         } catch (URISyntaxException e) {
             InvalidURIException exception = new InvalidURIException(MessageFormat.format("Failed to parse destination with URI endpoin \"{0}\"", ENDPOINT));
@@ -78,17 +131,32 @@ public class SQSProducer implements SQSProducerAccess {
             log.error(exception.toString());
             throw exception;
         }
+        buffer = new LinkedBlockingQueue<>(ConfigSettings.getInt(oaf, OAFProperties.SYSTEM_SQS_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY));
+        long flushInterval = ConfigSettings.getInt(oaf, OAFProperties.SYSTEM_SQS_FLUSH_INTERVAL, DEFAULT_FLUSH_INTERVAL);
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sqs-producer-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
     }
 
 
     @PreDestroy
     public void terminate() throws JMSException {
-        session.close();
+        if (flusher != null) {
+            flusher.shutdown();
+            flush();
+        }
+        for (ProducerSession producerSession : openSessions) {
+            producerSession.session.close();
+        }
         connection.close();
+        log.info("Notification queue metrics: {}", metrics);
     }
 
     public boolean emailNotification(String email, String viewId, String language, Map<String, String> arguments){
-        if(oaf.getProperty(OAFProperties.RADIEN_ENV, LOCAL_ENV_NAME).equalsIgnoreCase(LOCAL_ENV_NAME)){
+        if(isLocal()){
             try {
                 log.info("Sent locally.");
                 return notificationService.notify(email, viewId, language, arguments);
@@ -97,30 +165,277 @@ public class SQSProducer implements SQSProducerAccess {
             }
         }
         log.info("Sent non-locally. Env: {}", oaf.getProperty(OAFProperties.RADIEN_ENV));
-        return sendNotification(formatEmailNotification(email, viewId, language, arguments));
+        return sendNotification(formatEmailNotification(email, viewId, language, formatArguments(arguments)));
     }
 
-    private String formatEmailNotification(String email, String viewId, String language, Map<String, String> arguments){
-        JsonObjectBuilder builder = Json.createObjectBuilder();
-        builder.add("email", email);
-        builder.add("viewId", viewId);
-        builder.add("language", language);
-        JsonObjectBuilder argumentsBuilder = Json.createObjectBuilder();
+    @Override
+    public int emailNotifications(List<String> emails, String viewId, String language, Map<String, String> arguments) {
+        if(isLocal()){
+            int sent = 0;
+            for (String email : emails) {
+                sent += emailNotification(email, viewId, language, arguments) ? 1 : 0;
+            }
+            return sent;
+        }
+        JsonObject argumentsObject = formatArguments(arguments);
+        List<String> messages = new ArrayList<>(emails.size());
+        for (String email : emails) {
+            messages.add(formatEmailNotification(email, viewId, language, argumentsObject));
+        }
+        return publish(messages);
+    }
+
+    @Override
+    public void emailNotificationAsync(String email, String viewId, String language, Map<String, String> arguments) {
+        if(isLocal()){
+            emailNotification(email, viewId, language, arguments);
+            return;
+        }
+        String message = formatEmailNotification(email, viewId, language, formatArguments(arguments));
+        if (!buffer.offer(message)) {
+            // buffer full, the caller publishes the pending notifications (backpressure)
+            flush();
+            if (!buffer.offer(message)) {
+                publishBatch(Collections.singletonList(message));
+                return;
+            }
+        }
+        // one single flush is scheduled at a time, instead of one per notification added while the buffer is full
+        if (buffer.size() >= MAX_BATCH_SIZE && !flusher.isShutdown() && flushScheduled.compareAndSet(false, true)) {
+            try {
+                flusher.execute(() -> {
+                    flushScheduled.set(false);
+                    flush();
+                });
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Publishes all the buffered notifications, in batches
+     */
+    public void flush() {
+        if (buffer == null) {
+            return;
+        }
+        List<String> messages = new ArrayList<>();
+        if (buffer.drainTo(messages) > 0) {
+            publish(messages);
+        }
+    }
+
+    /**
+     * Gets the metrics of the published notifications
+     * @return the metrics
+     */
+    public SQSPublishMetrics getMetrics() {
+        return metrics;
+    }
+
+    private boolean isLocal() {
+        return oaf.getProperty(OAFProperties.RADIEN_ENV, LOCAL_ENV_NAME).equalsIgnoreCase(LOCAL_ENV_NAME);
+    }
+
+    private JsonObject formatArguments(Map<String, String> arguments) {
+        JsonObjectBuilder argumentsBuilder = JSON.createObjectBuilder();
         for(Map.Entry<String, String> argument : arguments.entrySet()){
             argumentsBuilder.add(argument.getKey(), argument.getValue());
         }
-        builder.add("arguments", argumentsBuilder.build());
+        return argumentsBuilder.build();
+    }
+
+    private String formatEmailNotification(String email, String viewId, String language, JsonObject arguments){
+        JsonObjectBuilder builder = JSON.createObjectBuilder();
+        builder.add("email", email);
+        builder.add("viewId", viewId);
+        builder.add("language", language);
+        builder.add("arguments", arguments);
         return builder.build().toString();
     }
 
     private boolean sendNotification(String message) {
+        long start = System.nanoTime();
+        ProducerSession producerSession = null;
         try {
-            MessageProducer producer = session.createProducer(session.createQueue(QUEUE_NAME));
-            producer.send(session.createTextMessage(message));
+            producerSession = borrowSession();
+            producerSession.getProducer().send(producerSession.session.createTextMessage(message));
+            releaseSession(producerSession);
+            metrics.record(1, 0, System.nanoTime() - start);
             return true;
         } catch (JMSException e) {
             log.error("Something went wrong sending notification: {}", e.toString());
+            discardSession(producerSession);
         }
+        metrics.record(0, 1, System.nanoTime() - start);
         return false;
     }
+
+    /**
+     * Publishes the messages in batches, limited both by the number of entries ({@value #MAX_BATCH_SIZE})
+     * and by the total size of the request ({@value #MAX_BATCH_BYTES} bytes)
+     * @param messages messages to be published
+     * @return the number of messages published
+     */
+    private int publish(List<String> messages) {
+        int published = 0;
+        List<String> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        int batchBytes = 0;
+        for (String message : messages) {
+            int bytes = message.getBytes(StandardCharsets.UTF_8).length;
+            if (!batch.isEmpty() && (batch.size() == MAX_BATCH_SIZE || batchBytes + bytes > MAX_BATCH_BYTES)) {
+                published += publishBatch(batch);
+                batch = new ArrayList<>(MAX_BATCH_SIZE);
+                batchBytes = 0;
+            }
+            batch.add(message);
+            batchBytes += bytes;
+        }
+        if (!batch.isEmpty()) {
+            published += publishBatch(batch);
+        }
+        return published;
+    }
+
+    /**
+     * Publishes the messages with one SendMessageBatch request. The entries that failed due to a
+     * retryable cause (e.g. throttling or a service error) are published again, up to {@value #MAX_ATTEMPTS} attempts
+     * @param messages messages to be published (up to {@value #MAX_BATCH_SIZE})
+     * @return the number of messages published
+     */
+    private int publishBatch(List<String> messages) {
+        int published = 0;
+        List<String> pending = messages;
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            long start = System.nanoTime();
+            List<SendMessageBatchRequestEntry> entries = new ArrayList<>(pending.size());
+            for (int i = 0; i < pending.size(); i++) {
+                entries.add(SendMessageBatchRequestEntry.builder().id(Integer.toString(i)).messageBody(pending.get(i)).build());
+            }
+            List<String> retry = new ArrayList<>();
+            int failed = 0;
+            try {
+                SendMessageBatchResponse response = connection.getWrappedAmazonSQSClient().getAmazonSQSClient()
+                        .sendMessageBatch(SendMessageBatchRequest.builder().queueUrl(getQueueUrl()).entries(entries).build());
+                for (BatchResultErrorEntry error : response.failed()) {
+                    if (attempt < MAX_ATTEMPTS && isRetryable(error)) {
+                        retry.add(pending.get(Integer.parseInt(error.id())));
+                    } else {
+                        log.error("Something went wrong sending notification: {} {}", error.code(), error.message());
+                        failed++;
+                    }
+                }
+                metrics.record(response.successful().size(), failed, System.nanoTime() - start);
+                published += response.successful().size();
+            } catch (JMSException | RuntimeException e) {
+                log.error("Something went wrong sending notifications: {}", e.toString());
+                metrics.record(0, pending.size(), System.nanoTime() - start);
+                return published;
+            }
+            pending = retry;
+            if (!pending.isEmpty() && !backOff(attempt)) {
+                metrics.record(0, pending.size(), 0);
+                return published;
+            }
+        }
+        return published;
+    }
+
+    private static boolean isRetryable(BatchResultErrorEntry error) {
+        return !Boolean.TRUE.equals(error.senderFault()) || (error.code() != null && error.code().contains("Throttl"));
+    }
+
+    /**
+     * Waits before the next attempt of publishing the failed entries
+     * @param attempt number of the failed attempt
+     * @return false if interrupted while waiting
+     */
+    private static boolean backOff(int attempt) {
+        log.warn("Retrying failed notifications, attempt {}", attempt + 1);
+        try {
+            Thread.sleep(RETRY_BACK_OFF * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String getQueueUrl() throws JMSException {
+        if (queueUrl == null) {
+            queueUrl = connection.getWrappedAmazonSQSClient().getQueueUrl(QUEUE_NAME).queueUrl();
+        }
+        return queueUrl;
+    }
+
+    private ProducerSession createSession() throws JMSException {
+        ProducerSession producerSession = new ProducerSession(connection.createSession(false, Session.AUTO_ACKNOWLEDGE));
+        openSessions.add(producerSession);
+        return producerSession;
+    }
+
+    private ProducerSession borrowSession() throws JMSException {
+        ProducerSession producerSession = sessions.poll();
+        if (producerSession != null) {
+            return producerSession;
+        }
+        int count = sessionCount.get();
+        while (count < maxSessions) {
+            if (sessionCount.compareAndSet(count, count + 1)) {
+                try {
+                    return createSession();
+                } catch (JMSException e) {
+                    sessionCount.decrementAndGet();
+                    throw e;
+                }
+            }
+            count = sessionCount.get();
+        }
+        try {
+            producerSession = sessions.poll(SESSION_BORROW_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (producerSession == null) {
+            throw new JMSException("No session available to send the notification");
+        }
+        return producerSession;
+    }
+
+    private void releaseSession(ProducerSession producerSession) {
+        sessions.offer(producerSession);
+    }
+
+    private void discardSession(ProducerSession producerSession) {
+        if (producerSession == null) {
+            return;
+        }
+        openSessions.remove(producerSession);
+        sessionCount.decrementAndGet();
+        try {
+            producerSession.session.close();
+        } catch (JMSException e) {
+            log.warn("Error closing session: {}", e.toString());
+        }
+    }
+
+    /**
+     * JMS session and its (reusable) producer of the notification queue
+     */
+    private static class ProducerSession {
+        private final Session session;
+        private MessageProducer producer;
+
+        private ProducerSession(Session session) {
+            this.session = session;
+        }
+
+        private MessageProducer getProducer() throws JMSException {
+            if (producer == null) {
+                producer = session.createProducer(session.createQueue(QUEUE_NAME));
+            }
+            return producer;
+        }
+    }
 }
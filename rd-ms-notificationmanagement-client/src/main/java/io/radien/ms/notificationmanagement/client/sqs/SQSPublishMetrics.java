@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.notificationmanagement.client.sqs;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the notifications published into the queue (published and failed messages, number of
+ * requests and their latency)
+ */
+public class SQSPublishMetrics {
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong latency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    /**
+     * Registers one publish request (single message or batch)
+     * @param publishedCount number of messages published
+     * @param failedCount number of messages that could not be published
+     * @param nanos latency (in nanoseconds) of the request
+     */
+    public void record(int publishedCount, int failedCount, long nanos) {
+        published.addAndGet(publishedCount);
+        failed.addAndGet(failedCount);
+        requests.incrementAndGet();
+        latency.addAndGet(nanos);
+        maxLatency.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long getPublished() {
+        return published.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * Gets the average latency of the publish requests
+     * @return the average latency in milliseconds
+     */
+    public double getAverageLatency() {
+        long count = requests.get();
+        return count == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMicros(latency.get()) / count / 1000;
+    }
+
+    /**
+     * Gets the highest latency of the publish requests
+     * @return the maximum latency in milliseconds
+     */
+    public double getMaxLatency() {
+        return (double) TimeUnit.NANOSECONDS.toMicros(maxLatency.get()) / 1000;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("published=%d failed=%d requests=%d avgLatency=%.1fms maxLatency=%.1fms",
+                getPublished(), getFailed(), getRequests(), getAverageLatency(), getMaxLatency());
+    }
+}
@@ -1,10 +1,9 @@
 package io.radien.ms.notificationmanagement.client.util;
 
+import io.radien.api.util.RestClientRegistry;
 import io.radien.ms.notificationmanagement.client.services.EmailNotificationResourceClient;
 import java.net.MalformedURLException;
-import java.net.URL;
 import javax.enterprise.context.RequestScoped;
-import org.eclipse.microprofile.rest.client.RestClientBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,10 +13,6 @@ public class ClientServiceUtil {
 
     public EmailNotificationResourceClient getEmailNotificationResourceClient(String urlStr) throws MalformedURLException {
         log.info(urlStr);
-        URL url = new URL(urlStr);
-        return RestClientBuilder
-                .newBuilder()
-                .baseUrl(url)
-                .build(EmailNotificationResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, EmailNotificationResourceClient.class);
     }
 }
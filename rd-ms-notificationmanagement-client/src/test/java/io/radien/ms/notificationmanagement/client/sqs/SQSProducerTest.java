@@ -13,6 +13,13 @@ import javax.jms.Session;
 import javax.jms.JMSException;
 import io.radien.ms.notificationmanagement.client.exception.JMSGenericException;
 import org.junit.AfterClass;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.InjectMocks;
@@ -22,17 +29,23 @@ import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.mockito.junit.MockitoRule;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 
 
 public class SQSProducerTest {
@@ -135,4 +148,166 @@ public class SQSProducerTest {
         verify(mockSession).close();
         verify(mockConnection).close();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testEmailNotificationReusesProducer() throws JMSException {
+        AmazonSQSMessagingClientWrapper mockWrapper = mock(AmazonSQSMessagingClientWrapper.class);
+        Queue mockQueue = mock(Queue.class);
+        MessageProducer mockProducer = mock(MessageProducer.class);
+        Session mockSession = mock(Session.class);
+        when(mockConnection.getWrappedAmazonSQSClient()).thenReturn(mockWrapper);
+        when(mockWrapper.queueExists(anyString())).thenReturn(true);
+        when(mockConnection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(mockSession);
+        when(mockSession.createQueue(anyString())).thenReturn(mockQueue);
+        when(mockSession.createProducer(mockQueue)).thenReturn(mockProducer);
+        when(oaf.getProperty(OAFProperties.RADIEN_ENV, "LOCAL")).thenReturn("NOT LOCAL");
+
+        sqsProducer.init();
+        assertTrue(sqsProducer.emailNotification("e@mail.com", "viewId", "en", new HashMap<>()));
+        assertTrue(sqsProducer.emailNotification("e@mail.com", "viewId", "en", new HashMap<>()));
+        verify(mockSession, times(1)).createProducer(mockQueue);
+        verify(mockProducer, times(2)).send(any());
+        assertEquals(2, sqsProducer.getMetrics().getPublished());
+    }
+
+    @Test
+    public void testEmailNotifications() throws JMSException {
+        SqsClient sqsClient = mockSqsClient();
+        when(oaf.getProperty(OAFProperties.RADIEN_ENV, "LOCAL")).thenReturn("NOT LOCAL");
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            emails.add(i + "@mail.com");
+        }
+        Map<String, String> arguments = new HashMap<>();
+        arguments.put("key", "value");
+
+        sqsProducer.init();
+        assertEquals(12, sqsProducer.emailNotifications(emails, "viewId", "en", arguments));
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient, times(2)).sendMessageBatch(captor.capture());
+        assertEquals(10, captor.getAllValues().get(0).entries().size());
+        assertEquals(2, captor.getAllValues().get(1).entries().size());
+        assertEquals("url", captor.getAllValues().get(0).queueUrl());
+        assertTrue(captor.getAllValues().get(1).entries().get(1).messageBody().contains("11@mail.com"));
+        assertEquals(12, sqsProducer.getMetrics().getPublished());
+        assertEquals(2, sqsProducer.getMetrics().getRequests());
+    }
+
+    @Test
+    public void testEmailNotificationsLocal() throws SystemException, JMSException {
+        AmazonSQSMessagingClientWrapper mockWrapper = mock(AmazonSQSMessagingClientWrapper.class);
+        when(mockConnection.getWrappedAmazonSQSClient()).thenReturn(mockWrapper);
+        when(mockConnection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(mock(Session.class));
+        when(oaf.getProperty(OAFProperties.RADIEN_ENV, "LOCAL")).thenReturn("LOCAL");
+        when(notificationService.notify(anyString(), anyString(), anyString(), any())).thenReturn(true);
+        List<String> emails = new ArrayList<>();
+        emails.add("a@mail.com");
+        emails.add("b@mail.com");
+
+        sqsProducer.init();
+        assertEquals(2, sqsProducer.emailNotifications(emails, "viewId", "en", new HashMap<>()));
+        verify(notificationService, times(2)).notify(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    public void testEmailNotificationAsync() throws JMSException {
+        SqsClient sqsClient = mockSqsClient();
+        when(oaf.getProperty(OAFProperties.RADIEN_ENV, "LOCAL")).thenReturn("NOT LOCAL");
+        when(oaf.getProperty(OAFProperties.SYSTEM_SQS_FLUSH_INTERVAL)).thenReturn("600000");
+
+        sqsProducer.init();
+        for (int i = 0; i < 3; i++) {
+            sqsProducer.emailNotificationAsync(i + "@mail.com", "viewId", "en", new HashMap<>());
+        }
+        verify(sqsClient, times(0)).sendMessageBatch(any(SendMessageBatchRequest.class));
+        sqsProducer.flush();
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient).sendMessageBatch(captor.capture());
+        assertEquals(3, captor.getValue().entries().size());
+        assertEquals(3, sqsProducer.getMetrics().getPublished());
+    }
+
+    @Test
+    public void testEmailNotificationAsyncFullBatches() throws JMSException {
+        SqsClient sqsClient = mockSqsClient();
+        when(oaf.getProperty(OAFProperties.RADIEN_ENV, "LOCAL")).thenReturn("NOT LOCAL");
+        when(oaf.getProperty(OAFProperties.SYSTEM_SQS_FLUSH_INTERVAL)).thenReturn("600000");
+
+        sqsProducer.init();
+        for (int i = 0; i < 35; i++) {
+            sqsProducer.emailNotificationAsync(i + "@mail.com", "viewId", "en", new HashMap<>());
+        }
+        // full batches are published by the flusher, without waiting for the flush interval
+        verify(sqsClient, timeout(5000).atLeast(3)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    public void testEmailNotificationsSplitBySize() throws JMSException {
+        SqsClient sqsClient = mockSqsClient();
+        when(oaf.getProperty(OAFProperties.RADIEN_ENV, "LOCAL")).thenReturn("NOT LOCAL");
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            emails.add(i + "@mail.com");
+        }
+        Map<String, String> arguments = new HashMap<>();
+        arguments.put("key", String.join("", Collections.nCopies(SQSProducer.MAX_BATCH_BYTES / 3, "x")));
+
+        sqsProducer.init();
+        assertEquals(3, sqsProducer.emailNotifications(emails, "viewId", "en", arguments));
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient, times(2)).sendMessageBatch(captor.capture());
+        assertEquals(2, captor.getAllValues().get(0).entries().size());
+        assertEquals(1, captor.getAllValues().get(1).entries().size());
+    }
+
+    @Test
+    public void testEmailNotificationsRetry() throws JMSException {
+        SqsClient sqsClient = mockSqsClient();
+        when(oaf.getProperty(OAFProperties.RADIEN_ENV, "LOCAL")).thenReturn("NOT LOCAL");
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(SendMessageBatchResponse.builder()
+                        .successful(SendMessageBatchResultEntry.builder().id("0").build())
+                        .failed(BatchResultErrorEntry.builder().id("1").code("ThrottlingException").senderFault(true).build(),
+                                BatchResultErrorEntry.builder().id("2").code("InvalidMessageContents").senderFault(true).build())
+                        .build())
+                .thenReturn(SendMessageBatchResponse.builder()
+                        .successful(SendMessageBatchResultEntry.builder().id("0").build())
+                        .build());
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            emails.add(i + "@mail.com");
+        }
+
+        sqsProducer.init();
+        assertEquals(2, sqsProducer.emailNotifications(emails, "viewId", "en", new HashMap<>()));
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient, times(2)).sendMessageBatch(captor.capture());
+        assertEquals(1, captor.getAllValues().get(1).entries().size());
+        assertTrue(captor.getAllValues().get(1).entries().get(0).messageBody().contains("1@mail.com"));
+        assertEquals(2, sqsProducer.getMetrics().getPublished());
+        assertEquals(1, sqsProducer.getMetrics().getFailed());
+    }
+
+    private SqsClient mockSqsClient() throws JMSException {
+        AmazonSQSMessagingClientWrapper mockWrapper = mock(AmazonSQSMessagingClientWrapper.class);
+        SqsClient sqsClient = mock(SqsClient.class);
+        when(mockConnection.getWrappedAmazonSQSClient()).thenReturn(mockWrapper);
+        when(mockWrapper.queueExists(anyString())).thenReturn(true);
+        when(mockWrapper.getAmazonSQSClient()).thenReturn(sqsClient);
+        when(mockWrapper.getQueueUrl(anyString())).thenReturn(GetQueueUrlResponse.builder().queueUrl("url").build());
+        when(mockConnection.createSession(false, Session.AUTO_ACKNOWLEDGE)).thenReturn(mock(Session.class));
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(invocation -> {
+            SendMessageBatchRequest request = invocation.getArgument(0);
+            return SendMessageBatchResponse.builder()
+                    .successful(request.entries().stream()
+                            .map(entry -> SendMessageBatchResultEntry.builder().id(entry.id()).build())
+                            .collect(Collectors.toList()))
+                    .build();
+        });
+        return sqsClient;
+    }
+}
@@ -2,6 +2,7 @@ package io.radien.ms.notificationmanagement.resource;
 
 import io.radien.api.service.notification.email.EmailNotificationBusinessServiceAccess;
 import io.radien.ms.authz.security.AuthorizationChecker;
+import io.radien.ms.notificationmanagement.client.entities.BulkNotification;
 import io.radien.ms.notificationmanagement.client.services.EmailNotificationResourceClient;
 import io.radien.ms.openid.entities.Authenticated;
 import java.util.Collections;
@@ -31,4 +32,18 @@ public class EmailNotificationResource extends AuthorizationChecker implements E
         return Response.ok(emailNotificationService.notifyUsers(userIds, notificationViewId, language, args)).build();
     }
 
+    @Override
+    public Response notifyUsersAsync(String notificationViewId, String language, BulkNotification notification) {
+        if (notification == null) {
+            notification = new BulkNotification();
+        }
+        return Response.accepted(emailNotificationService.notifyUsersAsync(notification.getUserIds(),
+                notificationViewId, language, notification.getArguments())).build();
+    }
+
+    @Override
+    public Response getJob(String jobId) {
+        return Response.ok(emailNotificationService.getJob(jobId)).build();
+    }
+
 }
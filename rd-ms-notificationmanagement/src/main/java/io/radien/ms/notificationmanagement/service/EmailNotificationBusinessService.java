@@ -5,22 +5,33 @@ import io.radien.api.service.ecm.model.EnterpriseContent;
 import io.radien.api.service.mail.MailServiceAccess;
 import io.radien.api.service.mail.model.Mail;
 import io.radien.api.service.notification.email.EmailNotificationBusinessServiceAccess;
+import io.radien.api.service.notification.email.model.SystemNotificationJob;
 import io.radien.api.service.user.UserRESTServiceAccess;
+import io.radien.api.util.BatchSettings;
 import io.radien.exception.BadRequestException;
+import io.radien.exception.InternalServerErrorException;
 import io.radien.exception.NotFoundException;
 import io.radien.exception.SystemException;
 import io.radien.ms.ecm.client.services.ContentRESTServiceClient;
+import io.radien.ms.email.lib.MailMessage;
 import io.radien.ms.email.lib.MailTemplate;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import javax.enterprise.context.RequestScoped;
 import javax.inject.Inject;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 @RequestScoped
 public class EmailNotificationBusinessService implements EmailNotificationBusinessServiceAccess {
 
+    private static final Logger log = LoggerFactory.getLogger(EmailNotificationBusinessService.class);
+
     @Inject
     private MailServiceAccess mailService;
 
@@ -30,6 +41,9 @@ public class EmailNotificationBusinessService implements EmailNotificationBusine
     @Inject
     private UserRESTServiceAccess userService;
 
+    @Inject
+    private NotificationJobRegistry jobRegistry;
+
     @Override
     public boolean notify(String email, String notificationViewId, String language, Map<String, String> arguments) {
         if(email == null || StringUtils.isEmpty(email.trim())) {
@@ -70,4 +84,76 @@ public class EmailNotificationBusinessService implements EmailNotificationBusine
             return false;
         }
     }
+
+    /**
+     * Starts a bulk notification job. The recipients are resolved in chunks (the user client relies on the
+     * credentials of the current request) and each chunk is handed to the shared mail executor as soon as it
+     * is resolved, so the request does not wait for the mails to be sent. The template is rendered once
+     * and shared by all the notifications.
+     * @param userIds identifiers of the users to be notified
+     * @param notificationViewId view id of the notification content
+     * @param language language of the notification content
+     * @param arguments arguments of the notification template
+     * @return the identifier of the job
+     */
+    @Override
+    public String notifyUsersAsync(List<Long> userIds, String notificationViewId, String language, Map<String, String> arguments) {
+        if(userIds == null || userIds.isEmpty()) {
+            throw new BadRequestException("User Ids not defined.");
+        }
+        EnterpriseContent emailContent;
+        try {
+            emailContent = contentService.getByViewIdAndLanguage(notificationViewId, language);
+        } catch (SystemException e) {
+            throw new InternalServerErrorException(e.getMessage());
+        }
+        if(emailContent == null) {
+            throw new NotFoundException(MessageFormat.format("No email found for view id {0}", notificationViewId));
+        }
+        List<Long> recipients = new ArrayList<>(new LinkedHashSet<>(userIds));
+        NotificationJob job = jobRegistry.create(recipients.size());
+        int chunkSize = BatchSettings.getChunkSize();
+        Mail rendered = null;
+        for (int i = 0; i < recipients.size(); i += chunkSize) {
+            List<Long> chunk = recipients.subList(i, Math.min(i + chunkSize, recipients.size()));
+            List<? extends SystemUser> users;
+            try {
+                users = userService.getUsersByIds(chunk);
+            } catch (SystemException e) {
+                log.error("Error retrieving the recipients of notification job {}", job.getId(), e);
+                job.recordFailed(chunk.size());
+                continue;
+            }
+            List<Mail> mails = new ArrayList<>();
+            for (SystemUser user : users) {
+                if (StringUtils.isBlank(user.getUserEmail())) {
+                    continue;
+                }
+                if (rendered == null) {
+                    rendered = mailService.create(user.getUserEmail(), new MailTemplate(emailContent, arguments));
+                }
+                mails.add(copy(rendered, user.getUserEmail()));
+            }
+            job.recordFailed(chunk.size() - mails.size());
+            if (!mails.isEmpty()) {
+                mailService.sendMailsAsync(mails, (mail, sent) -> job.record(sent));
+            }
+        }
+        return job.getId();
+    }
+
+    @Override
+    public SystemNotificationJob getJob(String jobId) {
+        NotificationJob job = jobRegistry.get(jobId);
+        if (job == null) {
+            throw new NotFoundException(MessageFormat.format("No notification job found for id {0}", jobId));
+        }
+        return job;
+    }
+
+    private static Mail copy(Mail rendered, String email) {
+        return new MailMessage(rendered.getFrom(), new ArrayList<>(Collections.singletonList(email)),
+                rendered.getSubject(), rendered.getBody(), rendered.getContentType(), null,
+                new ArrayList<>(), new ArrayList<>());
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.notificationmanagement.service;
+
+import io.radien.api.service.notification.email.model.NotificationJobStatus;
+import io.radien.api.service.notification.email.model.SystemNotificationJob;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk email notification job, counting the notifications sent and failed while they are processed
+ */
+public class NotificationJob implements SystemNotificationJob {
+
+    private static final long serialVersionUID = 3915846352412650416L;
+
+    private final String id;
+    private final int total;
+    private final AtomicInteger sent = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final Date createDate = new Date();
+
+    /**
+     * Notification job constructor
+     * @param total number of recipients of the notification
+     */
+    public NotificationJob(int total) {
+        this.id = UUID.randomUUID().toString();
+        this.total = total;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public NotificationJobStatus getStatus() {
+        return sent.get() + failed.get() >= total ? NotificationJobStatus.COMPLETED : NotificationJobStatus.RUNNING;
+    }
+
+    @Override
+    public int getTotal() {
+        return total;
+    }
+
+    @Override
+    public int getSent() {
+        return sent.get();
+    }
+
+    @Override
+    public int getFailed() {
+        return failed.get();
+    }
+
+    @Override
+    public Date getCreateDate() {
+        return new Date(createDate.getTime());
+    }
+
+    /**
+     * Registers the outcome of one notification
+     * @param success true if the notification was sent
+     */
+    public void record(boolean success) {
+        if (success) {
+            sent.incrementAndGet();
+        } else {
+            failed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Registers notifications that could not be sent
+     * @param count number of failed notifications
+     */
+    public void recordFailed(int count) {
+        failed.addAndGet(count);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.notificationmanagement.service;
+
+import io.radien.api.util.ExpiringCache;
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * Registry of the bulk notification jobs of this node. Jobs are kept for a limited time after
+ * their creation, so their progress can be queried while (and after) the notifications are sent.
+ */
+@ApplicationScoped
+public class NotificationJobRegistry {
+
+    private static final int MAX_JOBS = 1000;
+    private static final long JOB_TTL = 86400000L;
+
+    private final ExpiringCache<String, NotificationJob> jobs = new ExpiringCache<>(MAX_JOBS, JOB_TTL);
+
+    /**
+     * Creates (and registers) a new job
+     * @param total number of recipients of the notification
+     * @return the job
+     */
+    public NotificationJob create(int total) {
+        NotificationJob job = new NotificationJob(total);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    /**
+     * Retrieves a job
+     * @param jobId identifier of the job
+     * @return the job, or null if it does not exist (or already expired)
+     */
+    public NotificationJob get(String jobId) {
+        return jobId == null ? null : jobs.get(jobId);
+    }
+}
@@ -1,6 +1,9 @@
 package io.radien.ms.notificationmanagement.resource;
 
 import io.radien.api.service.notification.email.EmailNotificationBusinessServiceAccess;
+import io.radien.ms.notificationmanagement.client.entities.BulkNotification;
+import io.radien.ms.notificationmanagement.service.NotificationJob;
+import java.util.Collections;
 import java.util.HashMap;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.core.Response;
@@ -32,4 +35,19 @@ public class EmailNotificationResourceTest {
         when(businessService.notify(anyString(), anyString(), anyString(), any())).thenReturn(true);
         assertEquals(Response.Status.OK.getStatusCode(), notificationResource.notify("e@mail.com", "", "", new HashMap<>()).getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testNotifyUsersAsync() {
+        when(businessService.notifyUsersAsync(any(), anyString(), anyString(), any())).thenReturn("job");
+        Response response = notificationResource.notifyUsersAsync("viewId", "en",
+                new BulkNotification(Collections.singletonList(1L), new HashMap<>()));
+        assertEquals(Response.Status.ACCEPTED.getStatusCode(), response.getStatus());
+        assertEquals("job", response.getEntity());
+    }
+
+    @Test
+    public void testGetJob() {
+        when(businessService.getJob("job")).thenReturn(new NotificationJob(1));
+        assertEquals(Response.Status.OK.getStatusCode(), notificationResource.getJob("job").getStatus());
+    }
+}
@@ -1,24 +1,45 @@
 package io.radien.ms.notificationmanagement.service;
 
 
+import io.radien.api.model.user.SystemUser;
 import io.radien.api.service.ecm.model.EnterpriseContent;
 import io.radien.api.service.mail.MailServiceAccess;
+import io.radien.api.service.mail.model.Mail;
+import io.radien.api.service.mail.model.MailContentType;
+import io.radien.api.service.notification.email.model.NotificationJobStatus;
+import io.radien.api.service.notification.email.model.SystemNotificationJob;
+import io.radien.api.service.user.UserRESTServiceAccess;
 import io.radien.exception.BadRequestException;
 import io.radien.exception.NotFoundException;
 import io.radien.exception.SystemException;
 import io.radien.ms.ecm.client.services.ContentRESTServiceClient;
+import io.radien.ms.email.lib.MailMessage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.function.BiConsumer;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class EmailNotificationBusinessServiceTest {
@@ -30,6 +51,10 @@ public class EmailNotificationBusinessServiceTest {
     public MailServiceAccess mailService;
     @Mock
     public ContentRESTServiceClient contentService;
+    @Mock
+    public UserRESTServiceAccess userService;
+    @Spy
+    public NotificationJobRegistry jobRegistry;
 
     @Test(expected = BadRequestException.class)
     public void testNotifyEmailIsNull() {
@@ -58,4 +83,60 @@ public class EmailNotificationBusinessServiceTest {
         when(contentService.getByViewIdAndLanguage(anyString(), anyString())).thenReturn(mock(EnterpriseContent.class));
         assertTrue(businessService.notify("e@mail.com", "", "", new HashMap<>()));
     }
-}
\ No newline at end of file
+
+    @Test(expected = BadRequestException.class)
+    public void testNotifyUsersAsyncNoUsers() {
+        businessService.notifyUsersAsync(new ArrayList<>(), "viewId", "en", new HashMap<>());
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void testNotifyUsersAsyncNoContent() throws SystemException {
+        when(contentService.getByViewIdAndLanguage(anyString(), anyString())).thenReturn(null);
+        businessService.notifyUsersAsync(Collections.singletonList(1L), "viewId", "en", new HashMap<>());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testNotifyUsersAsync() throws SystemException {
+        when(contentService.getByViewIdAndLanguage(anyString(), anyString())).thenReturn(mock(EnterpriseContent.class));
+        SystemUser user = mock(SystemUser.class);
+        when(user.getUserEmail()).thenReturn("e@mail.com");
+        SystemUser userWithoutEmail = mock(SystemUser.class);
+        doReturn(Arrays.asList(user, userWithoutEmail)).when(userService).getUsersByIds(anyList());
+        Mail rendered = new MailMessage("from@mail.com", new ArrayList<>(), "subject", "body",
+                MailContentType.HTML, null, new ArrayList<>(), new ArrayList<>());
+        when(mailService.create(eq("e@mail.com"), any())).thenReturn(rendered);
+        doAnswer(invocation -> {
+            List<Mail> mails = invocation.getArgument(0);
+            BiConsumer<Mail, Boolean> listener = invocation.getArgument(1);
+            mails.forEach(mail -> listener.accept(mail, true));
+            return null;
+        }).when(mailService).sendMailsAsync(anyList(), any());
+
+        String jobId = businessService.notifyUsersAsync(Arrays.asList(1L, 2L, 2L, 3L), "viewId", "en", new HashMap<>());
+
+        verify(userService, times(1)).getUsersByIds(Arrays.asList(1L, 2L, 3L));
+        SystemNotificationJob job = businessService.getJob(jobId);
+        assertEquals(3, job.getTotal());
+        assertEquals(1, job.getSent());
+        assertEquals(2, job.getFailed());
+        assertEquals(NotificationJobStatus.COMPLETED, job.getStatus());
+    }
+
+    @Test
+    public void testNotifyUsersAsyncUserFailure() throws SystemException {
+        when(contentService.getByViewIdAndLanguage(anyString(), anyString())).thenReturn(mock(EnterpriseContent.class));
+        when(userService.getUsersByIds(anyList())).thenThrow(new SystemException("ERROR"));
+
+        String jobId = businessService.notifyUsersAsync(Arrays.asList(1L, 2L), "viewId", "en", new HashMap<>());
+
+        SystemNotificationJob job = businessService.getJob(jobId);
+        assertEquals(2, job.getFailed());
+        assertEquals(NotificationJobStatus.COMPLETED, job.getStatus());
+    }
+
+    @Test(expected = NotFoundException.class)
+    public void testGetJobNotFound() {
+        businessService.getJob("unknown");
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.openid.service;
+
+import io.radien.api.model.user.SystemUser;
+import io.radien.api.security.RequestTokenHolder;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+/**
+ * Keeps the authenticated principal for the duration of a request.
+ * The principal is always stored as a request attribute, and (unless the stateless mode
+ * is enabled through the property auth.stateless.enabled) also in the http session,
+ * for the components that still rely on it.
+ */
+public class RequestPrincipalHolder {
+
+    public static final String USER_ATTRIBUTE = "USER";
+    public static final String STATELESS_PROPERTY = RequestTokenHolder.STATELESS_PROPERTY;
+
+    private RequestPrincipalHolder() {
+    }
+
+    /**
+     * Stores the authenticated principal
+     * @param request current request
+     * @param principal authenticated principal
+     * @param stateless if true the http session is neither created nor used
+     */
+    public static void setPrincipal(HttpServletRequest request, SystemUser principal, boolean stateless) {
+        request.setAttribute(USER_ATTRIBUTE, principal);
+        if (!stateless) {
+            request.getSession().setAttribute(USER_ATTRIBUTE, principal);
+        }
+    }
+
+    /**
+     * Retrieves the authenticated principal, looking first into the request and then
+     * (if there is one already) into the http session. A session is never created here
+     * @param request current request
+     * @return the principal or null if there is no authenticated principal
+     */
+    public static SystemUser getPrincipal(HttpServletRequest request) {
+        Object user = request.getAttribute(USER_ATTRIBUTE);
+        if (user == null) {
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                user = session.getAttribute(USER_ATTRIBUTE);
+            }
+        }
+        return (SystemUser) user;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.openid.service;
+
+import io.radien.ms.openid.entities.Principal;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class that aggregates UnitTest cases for RequestPrincipalHolder
+ */
+public class RequestPrincipalHolderTest {
+
+    /**
+     * Test for method {@link RequestPrincipalHolder#setPrincipal(HttpServletRequest, io.radien.api.model.user.SystemUser, boolean)}
+     * Scenario: Stateless mode
+     * Expected outcome: Principal stored only as request attribute, no session created
+     */
+    @Test
+    public void testSetPrincipalStateless() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        Principal principal = new Principal();
+        RequestPrincipalHolder.setPrincipal(request, principal, true);
+        verify(request).setAttribute(RequestPrincipalHolder.USER_ATTRIBUTE, principal);
+        verify(request, never()).getSession();
+        verify(request, never()).getSession(anyBoolean());
+    }
+
+    /**
+     * Test for method {@link RequestPrincipalHolder#setPrincipal(HttpServletRequest, io.radien.api.model.user.SystemUser, boolean)}
+     * Scenario: Session based mode
+     * Expected outcome: Principal stored in the request and in the session
+     */
+    @Test
+    public void testSetPrincipalWithSession() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        HttpSession session = mock(HttpSession.class);
+        when(request.getSession()).thenReturn(session);
+        Principal principal = new Principal();
+        RequestPrincipalHolder.setPrincipal(request, principal, false);
+        verify(request).setAttribute(RequestPrincipalHolder.USER_ATTRIBUTE, principal);
+        verify(session).setAttribute(RequestPrincipalHolder.USER_ATTRIBUTE, principal);
+    }
+
+    /**
+     * Test for method {@link RequestPrincipalHolder#getPrincipal(HttpServletRequest)}
+     * Expected outcome: Request attribute first, then the existent session, never creating one
+     */
+    @Test
+    public void testGetPrincipal() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        assertNull(RequestPrincipalHolder.getPrincipal(request));
+        verify(request, never()).getSession();
+
+        Principal fromSession = new Principal();
+        HttpSession session = mock(HttpSession.class);
+        when(session.getAttribute(RequestPrincipalHolder.USER_ATTRIBUTE)).thenReturn(fromSession);
+        when(request.getSession(false)).thenReturn(session);
+        assertSame(fromSession, RequestPrincipalHolder.getPrincipal(request));
+
+        Principal fromRequest = new Principal();
+        when(request.getAttribute(RequestPrincipalHolder.USER_ATTRIBUTE)).thenReturn(fromRequest);
+        assertSame(fromRequest, RequestPrincipalHolder.getPrincipal(request));
+        verify(session).getAttribute(RequestPrincipalHolder.USER_ATTRIBUTE);
+    }
+}
@@ -20,22 +20,22 @@ package io.radien.ms.openid.security;
 import com.auth0.jwk.Jwk;
 import com.auth0.jwk.JwkException;
 import com.auth0.jwk.JwkProvider;
-import com.auth0.jwk.UrlJwkProvider;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSObject;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.Payload;
 import com.nimbusds.jose.crypto.RSASSAVerifier;
+import io.radien.api.security.CachingJwkProvider;
 import io.radien.ms.openid.entities.Authenticated;
 import io.radien.ms.openid.entities.Principal;
 import io.radien.ms.openid.entities.Public;
 import io.radien.ms.openid.service.PrincipalFactory;
+import io.radien.ms.openid.service.RequestPrincipalHolder;
 import java.io.IOException;
 import java.io.StringReader;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
-import java.net.URL;
 import java.security.interfaces.RSAPublicKey;
 import java.text.ParseException;
 import java.time.Instant;
@@ -45,7 +45,6 @@ import javax.json.Json;
 import javax.json.JsonObject;
 import javax.json.JsonReader;
 import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpSession;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.container.ResourceInfo;
@@ -71,6 +70,11 @@ public class AuthenticationFilter implements ContainerRequestFilter {
     @Context
     private HttpServletRequest httpRequest;
 
+    private String issuer;
+    private String jwkUrl;
+    private String env;
+    private Boolean stateless;
+
     /**
      * The filter method of the ContainerRequestFilter is called by the container each time a request is
      * sent to any name bound artifact to the authenticated annotation.
@@ -99,7 +103,7 @@ public class AuthenticationFilter implements ContainerRequestFilter {
             String accessToken = httpRequest.getHeader(HttpHeaders.AUTHORIZATION);
             if (accessToken.startsWith("Bearer ")) {
                 accessToken = accessToken.substring(7);
-                failed = !validateToken(httpRequest.getSession(), accessToken);
+                failed = !validateToken(accessToken);
                 if (!failed) {
                     return;
                 }
@@ -115,25 +119,28 @@ public class AuthenticationFilter implements ContainerRequestFilter {
 
     /**
      * Everytime the container receives a request/response the following method will get the authorization issuer and
-     * url to validate the request/response authentication
-     * @param session where the request/response is coming or going into
+     * url to validate the request/response authentication. The resulting principal is kept
+     * by {@link RequestPrincipalHolder} (without http session in stateless mode)
      * @param accessToken user access token to be validated or added
      * @return true in case the token has been validated with success
      */
-    private boolean validateToken(HttpSession session, String accessToken) {
+    private boolean validateToken(String accessToken) {
+        String tokenHash = VerifiedTokenCache.hash(accessToken);
+        Principal verified = getVerifiedTokenCache().get(tokenHash);
+        if (verified != null) {
+            RequestPrincipalHolder.setPrincipal(httpRequest, verified, isStateless());
+            return true;
+        }
         try {
             JWSObject jwsObject = JWSObject.parse(accessToken);
 
-            String issuer = ConfigProvider.getConfig().getValue("auth.issuer", String.class);
-            String jwkUrl = ConfigProvider.getConfig().getValue("auth.jwkUrl", String.class);
             //check acr on payload when with totp
             //acr stands for Authentication Context Class
 
             JWSHeader header = jwsObject.getHeader();
             String kid = header.getKeyID();
 
-            final JwkProvider provider = new UrlJwkProvider(new URL(jwkUrl));
-            final Jwk jwk = provider.get(kid);
+            final Jwk jwk = getProvider().get(kid);
 
 
             JWSVerifier verifier = new RSASSAVerifier((RSAPublicKey) jwk.getPublicKey());
@@ -146,20 +153,22 @@ public class AuthenticationFilter implements ContainerRequestFilter {
                 JsonObject jsonObject = reader.readObject();
 
 
-                if (invalidIssuer(issuer,jsonObject.getString("iss"),ConfigProvider.getConfig().getOptionalValue("RADIEN_ENV", String.class).orElse("PROD"))) {return false;}
+                if (invalidIssuer(getIssuer(),jsonObject.getString("iss"),getEnv())) {return false;}
 
                 if (!jsonObject.getString("typ").equals("Bearer")) {
                     return false;
                 }
 
-                LocalDateTime exp = LocalDateTime.ofInstant(Instant.ofEpochSecond(jsonObject.getJsonNumber("exp").longValue()), ZoneId.systemDefault());
+                long expSeconds = jsonObject.getJsonNumber("exp").longValue();
+                LocalDateTime exp = LocalDateTime.ofInstant(Instant.ofEpochSecond(expSeconds), ZoneId.systemDefault());
                 if (exp.isBefore(LocalDateTime.now())) {
                     //TODO: refresh token
                     return false;
 
                 }
                 Principal principal = PrincipalFactory.convert(jsonObject);
-                session.setAttribute("USER", principal);
+                getVerifiedTokenCache().put(tokenHash, principal, expSeconds * 1000);
+                RequestPrincipalHolder.setPrincipal(httpRequest, principal, isStateless());
             }
 
 
@@ -171,6 +180,62 @@ public class AuthenticationFilter implements ContainerRequestFilter {
         return false;
     }
 
+    /**
+     * Retrieves the (shared) key provider for the configured jwk url.
+     * Keys are cached, so the JWKS document is not fetched for every request
+     * @return the key provider
+     * @throws MalformedURLException in case of invalid url
+     */
+    protected JwkProvider getProvider() throws MalformedURLException {
+        if (jwkUrl == null) {
+            jwkUrl = ConfigProvider.getConfig().getValue("auth.jwkUrl", String.class);
+        }
+        return CachingJwkProvider.forUrl(jwkUrl);
+    }
+
+    /**
+     * Retrieves the cache of already verified tokens
+     * @return the verified token cache
+     */
+    protected VerifiedTokenCache getVerifiedTokenCache() {
+        return VerifiedTokenCache.getInstance();
+    }
+
+    /**
+     * Retrieves the configured issuer
+     * @return the issuer
+     */
+    protected String getIssuer() {
+        if (issuer == null) {
+            issuer = ConfigProvider.getConfig().getValue("auth.issuer", String.class);
+        }
+        return issuer;
+    }
+
+    /**
+     * Retrieves the configured environment (PROD by default)
+     * @return the environment
+     */
+    protected String getEnv() {
+        if (env == null) {
+            env = ConfigProvider.getConfig().getOptionalValue("RADIEN_ENV", String.class).orElse("PROD");
+        }
+        return env;
+    }
+
+    /**
+     * Indicates if the stateless mode is enabled (property auth.stateless.enabled, false by default).
+     * In stateless mode the principal is only kept as request attribute and no http session is created
+     * @return true if the http session should not be used
+     */
+    protected boolean isStateless() {
+        if (stateless == null) {
+            stateless = ConfigProvider.getConfig().getOptionalValue(RequestPrincipalHolder.STATELESS_PROPERTY,
+                    Boolean.class).orElse(Boolean.FALSE);
+        }
+        return stateless;
+    }
+
     protected boolean invalidIssuer(String configIssuer,String issuer,String env){
         return !configIssuer.equals(issuer) &&
                 (
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.openid.security;
+
+import io.radien.api.util.ExpiringCache;
+import io.radien.ms.openid.entities.Principal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.function.LongSupplier;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of the access tokens already validated by {@link AuthenticationFilter}, mapping
+ * the token hash (SHA-256) to an immutable snapshot of the resulting {@link Principal}, from which
+ * every request gets its own principal instance. Entries expire together with
+ * the token (exp claim), so a repeated token costs one hash lookup instead of a signature
+ * verification plus the payload parsing. The cache is limited by the estimated memory used
+ * by the entries (property auth.tokenCache.maxMemory, in bytes).
+ */
+public class VerifiedTokenCache {
+
+    private static final Logger log = LoggerFactory.getLogger(VerifiedTokenCache.class);
+
+    private static final String ENABLED_PROPERTY = "auth.tokenCache.enabled";
+    private static final String MAX_MEMORY_PROPERTY = "auth.tokenCache.maxMemory";
+    private static final long DEFAULT_MAX_MEMORY = 8L * 1024 * 1024;
+    private static final long MAX_TIME_TO_LIVE = 3600000L;
+
+    private static final long ENTRY_OVERHEAD = 256L;
+
+    private static volatile VerifiedTokenCache instance;
+
+    private final boolean enabled;
+    private final ExpiringCache<String, VerifiedToken> principals;
+
+    /**
+     * Verified token cache constructor
+     * @param enabled indicates if the verified tokens should be cached
+     * @param maxMemory maximum (estimated) memory in bytes used by the cached entries
+     * @param clock source of the current time in milliseconds
+     */
+    public VerifiedTokenCache(boolean enabled, long maxMemory, LongSupplier clock) {
+        this.enabled = enabled;
+        this.principals = new ExpiringCache<>(Integer.MAX_VALUE, maxMemory, MAX_TIME_TO_LIVE,
+                VerifiedTokenCache::estimateSize, clock);
+    }
+
+    /**
+     * Retrieves the shared cache instance, creating it (in the first invocation) based on the configuration
+     * @return the shared instance
+     */
+    public static VerifiedTokenCache getInstance() {
+        if (instance == null) {
+            synchronized (VerifiedTokenCache.class) {
+                if (instance == null) {
+                    instance = create();
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static VerifiedTokenCache create() {
+        boolean enabled = true;
+        long maxMemory = DEFAULT_MAX_MEMORY;
+        try {
+            enabled = ConfigProvider.getConfig().getOptionalValue(ENABLED_PROPERTY, Boolean.class).orElse(Boolean.TRUE);
+            maxMemory = ConfigProvider.getConfig().getOptionalValue(MAX_MEMORY_PROPERTY, Long.class).orElse(DEFAULT_MAX_MEMORY);
+        } catch (RuntimeException e) {
+            log.warn("Invalid verified token cache settings, using defaults", e);
+        }
+        return new VerifiedTokenCache(enabled, maxMemory > 0 ? maxMemory : DEFAULT_MAX_MEMORY, System::currentTimeMillis);
+    }
+
+    /**
+     * Retrieves the principal of an already verified (and still valid) token
+     * @param tokenHash hash calculated by {@link #hash(String)}
+     * @return a new principal instance or null in case the token was not verified yet
+     */
+    public Principal get(String tokenHash) {
+        VerifiedToken verified = enabled && tokenHash != null ? principals.get(tokenHash) : null;
+        return verified != null ? verified.toPrincipal() : null;
+    }
+
+    /**
+     * Stores the principal of a verified token
+     * @param tokenHash hash calculated by {@link #hash(String)}
+     * @param principal principal built from the token payload
+     * @param expiresAt token expiration (epoch milliseconds)
+     */
+    public void put(String tokenHash, Principal principal, long expiresAt) {
+        if (enabled && tokenHash != null) {
+            principals.put(tokenHash, new VerifiedToken(principal), expiresAt);
+        }
+    }
+
+    /**
+     * Calculates the hash (SHA-256, base64 encoded) of a token
+     * @param accessToken token to be hashed
+     * @return the hash or null in case the algorithm is not available
+     */
+    public static String hash(String accessToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(accessToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            log.warn("Unable to hash access token", e);
+            return null;
+        }
+    }
+
+    /**
+     * Estimates the memory (in bytes) used by a cached entry
+     * @param tokenHash token hash
+     * @param verified cached principal snapshot
+     * @return the estimated size
+     */
+    static long estimateSize(String tokenHash, VerifiedToken verified) {
+        return ENTRY_OVERHEAD + sizeOf(tokenHash) + sizeOf(verified.logon) + sizeOf(verified.userEmail) +
+                sizeOf(verified.firstname) + sizeOf(verified.lastname) + sizeOf(verified.sub) +
+                sizeOf(verified.mobileNumber);
+    }
+
+    private static long sizeOf(String value) {
+        return value == null ? 0 : 40L + 2L * value.length();
+    }
+
+    /**
+     * Indicates if this cache keeps values
+     * @return true if caching is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the ratio between hits and the total of lookups
+     * @return value between 0 and 1
+     */
+    public double getHitRatio() {
+        return principals.getHitRatio();
+    }
+
+    /**
+     * Gets the underlying cache (for monitoring purposes)
+     * @return the token hash to principal snapshot cache
+     */
+    public ExpiringCache<String, VerifiedToken> getPrincipals() {
+        return principals;
+    }
+
+    /**
+     * Immutable snapshot of the principal resulting from a verified token
+     */
+    public static final class VerifiedToken {
+        private final Long id;
+        private final String logon;
+        private final String userEmail;
+        private final String firstname;
+        private final String lastname;
+        private final String sub;
+        private final String mobileNumber;
+        private final Long terminationDate;
+        private final boolean enabled;
+        private final boolean delegatedCreation;
+        private final boolean processingLocked;
+        private final Long createDate;
+        private final Long lastUpdate;
+        private final Long createUser;
+        private final Long lastUpdateUser;
+
+        VerifiedToken(Principal principal) {
+            this.id = principal.getId();
+            this.logon = principal.getLogon();
+            this.userEmail = principal.getUserEmail();
+            this.firstname = principal.getFirstname();
+            this.lastname = principal.getLastname();
+            this.sub = principal.getSub();
+            this.mobileNumber = principal.getMobileNumber();
+            this.terminationDate = toTime(principal.getTerminationDate());
+            this.enabled = principal.isEnabled();
+            this.delegatedCreation = principal.isDelegatedCreation();
+            this.processingLocked = principal.isProcessingLocked();
+            this.createDate = toTime(principal.getCreateDate());
+            this.lastUpdate = toTime(principal.getLastUpdate());
+            this.createUser = principal.getCreateUser();
+            this.lastUpdateUser = principal.getLastUpdateUser();
+        }
+
+        /**
+         * Builds a new principal instance with the verified values
+         * @return the principal
+         */
+        public Principal toPrincipal() {
+            Principal principal = new Principal();
+            principal.setId(id);
+            principal.setLogon(logon);
+            principal.setUserEmail(userEmail);
+            principal.setFirstname(firstname);
+            principal.setLastname(lastname);
+            principal.setSub(sub);
+            principal.setMobileNumber(mobileNumber);
+            principal.setTerminationDate(toDate(terminationDate));
+            principal.setEnabled(enabled);
+            principal.setDelegatedCreation(delegatedCreation);
+            principal.setProcessingLocked(processingLocked);
+            principal.setCreateDate(toDate(createDate));
+            principal.setLastUpdate(toDate(lastUpdate));
+            principal.setCreateUser(createUser);
+            principal.setLastUpdateUser(lastUpdateUser);
+            return principal;
+        }
+
+        private static Long toTime(Date date) {
+            return date != null ? date.getTime() : null;
+        }
+
+        private static Date toDate(Long time) {
+            return time != null ? new Date(time) : null;
+        }
+    }
+}
@@ -15,11 +15,13 @@
  */
 package io.radien.ms.openid.security;
 
+import io.radien.ms.openid.entities.Principal;
 import io.radien.ms.openid.entities.Public;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ResourceInfo;
 import javax.ws.rs.core.HttpHeaders;
@@ -27,6 +29,7 @@ import javax.ws.rs.core.Response;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -36,6 +39,8 @@ import org.mockito.junit.MockitoRule;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
@@ -135,6 +140,59 @@ public class AuthenticationFilterTest {
     }
 
 
+    /**
+     * Test for method {@link AuthenticationFilter#filter(ContainerRequestContext)}
+     * Scenario: Token already verified (present in the verified token cache)
+     * Expected outcome: Request accepted without verifying the token again
+     * @throws IOException if an exception occurs that interferes with the filter's normal operation
+     */
+    @Test
+    public void testDoFilterWithVerifiedToken() throws ServletException, IOException, NoSuchMethodException {
+        String token = "already-verified-token";
+        Principal principal = new Principal();
+        principal.setSub("aaa-bbb-ccc");
+        VerifiedTokenCache.getInstance().put(VerifiedTokenCache.hash(token), principal,
+                System.currentTimeMillis() + 60000L);
+
+        HttpSession session = Mockito.mock(HttpSession.class);
+        when(httpRequest.getSession()).thenReturn(session);
+        ContainerRequestContext requestContext = Mockito.mock(ContainerRequestContext.class);
+        prePareMockObjectsForDoFilter(requestContext, "Bearer " + token, "v1/user");
+
+        Mockito.verify(httpRequest).setAttribute(eq("USER"), argThat(hasSub("aaa-bbb-ccc")));
+        Mockito.verify(session).setAttribute(eq("USER"), argThat(hasSub("aaa-bbb-ccc")));
+        Mockito.verify(requestContext, Mockito.never()).abortWith(any(Response.class));
+    }
+
+    /**
+     * Test for method {@link AuthenticationFilter#filter(ContainerRequestContext)}
+     * Scenario: Stateless mode enabled
+     * Expected outcome: Principal kept as request attribute, no http session created
+     * @throws IOException if an exception occurs that interferes with the filter's normal operation
+     */
+    @Test
+    public void testDoFilterStateless() throws ServletException, IOException, NoSuchMethodException {
+        String token = "already-verified-stateless-token";
+        Principal principal = new Principal();
+        principal.setSub("ddd-eee-fff");
+        VerifiedTokenCache.getInstance().put(VerifiedTokenCache.hash(token), principal,
+                System.currentTimeMillis() + 60000L);
+
+        target = Mockito.spy(target);
+        doReturn(true).when(target).isStateless();
+        ContainerRequestContext requestContext = Mockito.mock(ContainerRequestContext.class);
+        prePareMockObjectsForDoFilter(requestContext, "Bearer " + token, "v1/user");
+
+        Mockito.verify(httpRequest).setAttribute(eq("USER"), argThat(hasSub("ddd-eee-fff")));
+        Mockito.verify(httpRequest, Mockito.never()).getSession();
+        Mockito.verify(httpRequest, Mockito.never()).getSession(Mockito.anyBoolean());
+        Mockito.verify(requestContext, Mockito.never()).abortWith(any(Response.class));
+    }
+
+    private static ArgumentMatcher<Object> hasSub(String sub) {
+        return value -> value instanceof Principal && sub.equals(((Principal) value).getSub());
+    }
+
     @Test
     public void testInvalidIssuer(){
         assertTrue(target.invalidIssuer("a","b","PROD"));
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.openid.security;
+
+import io.radien.ms.openid.entities.Principal;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class that aggregates UnitTest cases for VerifiedTokenCache
+ */
+public class VerifiedTokenCacheTest {
+
+    private AtomicLong now;
+    private Principal principal;
+
+    @Before
+    public void setUp() {
+        now = new AtomicLong(1000000L);
+        principal = new Principal();
+        principal.setSub("aaa-bbb-ccc");
+        principal.setLogon("logon");
+    }
+
+    /**
+     * Test for methods {@link VerifiedTokenCache#put(String, Principal, long)} and {@link VerifiedTokenCache#get(String)}
+     * Expected outcome: Principal available until the token expiration
+     */
+    @Test
+    public void testExpiresWithToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 1024L * 1024, now::get);
+        String hash = VerifiedTokenCache.hash("token");
+        cache.put(hash, principal, now.get() + 5000L);
+        assertEquals("aaa-bbb-ccc", cache.get(hash).getSub());
+        now.addAndGet(5000L);
+        assertNull(cache.get(hash));
+        assertEquals(0.5, cache.getHitRatio(), 0);
+    }
+
+    /**
+     * Test for method {@link VerifiedTokenCache#get(String)}
+     * Scenario: Principal changed by one request (and by the verifying request after caching it)
+     * Expected outcome: Every request gets its own principal with the verified values
+     */
+    @Test
+    public void testPrincipalPerRequest() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 1024L * 1024, now::get);
+        String hash = VerifiedTokenCache.hash("token");
+        cache.put(hash, principal, now.get() + 5000L);
+        principal.setLogon("changed");
+
+        Principal first = cache.get(hash);
+        Principal second = cache.get(hash);
+        assertNotSame(principal, first);
+        assertNotSame(first, second);
+        first.setSub("changed");
+        assertEquals("aaa-bbb-ccc", second.getSub());
+        assertEquals("logon", cache.get(hash).getLogon());
+        assertEquals("aaa-bbb-ccc", cache.get(hash).getSub());
+    }
+
+    /**
+     * Test for method {@link VerifiedTokenCache#put(String, Principal, long)}
+     * Scenario: Token already expired and cache disabled
+     * Expected outcome: Nothing is kept
+     */
+    @Test
+    public void testNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 1024L * 1024, now::get);
+        cache.put(VerifiedTokenCache.hash("expired"), principal, now.get() - 1L);
+        assertNull(cache.get(VerifiedTokenCache.hash("expired")));
+
+        VerifiedTokenCache disabled = new VerifiedTokenCache(false, 1024L * 1024, now::get);
+        disabled.put(VerifiedTokenCache.hash("token"), principal, now.get() + 5000L);
+        assertNull(disabled.get(VerifiedTokenCache.hash("token")));
+    }
+
+    /**
+     * Test for memory limit
+     * Expected outcome: Least recently used tokens evicted to respect the memory limit
+     */
+    @Test
+    public void testMemoryLimit() {
+        long entrySize = VerifiedTokenCache.estimateSize(VerifiedTokenCache.hash("token-1"),
+                new VerifiedTokenCache.VerifiedToken(principal));
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, entrySize * 2, now::get);
+        cache.put(VerifiedTokenCache.hash("token-1"), principal, now.get() + 5000L);
+        cache.put(VerifiedTokenCache.hash("token-2"), principal, now.get() + 5000L);
+        cache.put(VerifiedTokenCache.hash("token-3"), principal, now.get() + 5000L);
+        assertNull(cache.get(VerifiedTokenCache.hash("token-1")));
+        assertEquals("aaa-bbb-ccc", cache.get(VerifiedTokenCache.hash("token-3")).getSub());
+        assertTrue(cache.getPrincipals().getWeight() <= entrySize * 2);
+    }
+
+    /**
+     * Test for method {@link VerifiedTokenCache#hash(String)}
+     */
+    @Test
+    public void testHash() {
+        assertEquals(VerifiedTokenCache.hash("token"), VerifiedTokenCache.hash("token"));
+        assertNotEquals(VerifiedTokenCache.hash("token"), VerifiedTokenCache.hash("token2"));
+    }
+}
@@ -17,6 +17,7 @@ package io.radien.ms.permissionmanagement.client.services;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemAction;
 import io.radien.api.service.permission.ActionRESTServiceAccess;
@@ -90,12 +91,28 @@ public class ActionRESTServiceClient extends AuthorizationChecker implements Act
      */
     @Override
     public Page<? extends SystemAction> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending) throws SystemException {
+        return getAll(search, pageNo, pageSize, sortBy, isAscending, CountMode.EXACT);
+    }
+
+    /**
+     * Requests all Actions if not able then will try to refresh access token and retry
+     * @param search field value to be searched or looked up
+     * @param pageNo initial page number
+     * @param pageSize max page size
+     * @param sortBy sort by filter fields
+     * @param isAscending ascending result list or descending
+     * @param countMode how the total number of actions is counted
+     * @return a list of existent system actions
+     * @throws SystemException in case it founds multiple actions or if URL is malformed
+     */
+    @Override
+    public Page<? extends SystemAction> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException {
         try {
-            return getAllRequest(search, pageNo, pageSize, sortBy, isAscending);
+            return getAllRequest(search, pageNo, pageSize, sortBy, isAscending, countMode);
         } catch (TokenExpiredException expiredException) {
             refreshToken();
             try{
-                return getAllRequest(search, pageNo, pageSize, sortBy, isAscending);
+                return getAllRequest(search, pageNo, pageSize, sortBy, isAscending, countMode);
             } catch (TokenExpiredException expiredException1){
                 throw new SystemException(GenericErrorCodeMessage.EXPIRED_ACCESS_TOKEN.toString());
             }
@@ -109,13 +126,14 @@ public class ActionRESTServiceClient extends AuthorizationChecker implements Act
      * @param pageSize max page size
      * @param sortBy sort by filter fields
      * @param isAscending ascending result list or descending
+     * @param countMode how the total number of actions is counted
      * @return a list of existent system actions
      * @throws SystemException in case it founds multiple actions or if URL is malformed
      */
-    private Page<? extends SystemAction> getAllRequest(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending) throws SystemException {
+    private Page<? extends SystemAction> getAllRequest(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException {
         try {
             ActionResourceClient client = clientServiceUtil.getActionResourceClient(oaf.getProperty(OAFProperties.SYSTEM_MS_ENDPOINT_PERMISSIONMANAGEMENT));
-            Response response = client.getAll(search, pageNo, pageSize, sortBy, isAscending);
+            Response response = client.getAll(search, pageNo, pageSize, sortBy, isAscending, countMode);
             return ActionModelMapper.mapToPage((InputStream) response.getEntity());
         }
 
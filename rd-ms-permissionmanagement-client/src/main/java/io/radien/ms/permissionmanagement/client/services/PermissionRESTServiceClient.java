@@ -17,6 +17,7 @@ package io.radien.ms.permissionmanagement.client.services;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemPermission;
 import io.radien.api.service.permission.PermissionRESTServiceAccess;
@@ -70,12 +71,29 @@ public class PermissionRESTServiceClient extends AuthorizationChecker implements
     @Override
     public Page<? extends SystemPermission> getAll(String search, int pageNo, int pageSize,
                                                                   List<String> sortBy, boolean isAscending) throws SystemException {
+        return getAll(search, pageNo, pageSize, sortBy, isAscending, CountMode.EXACT);
+    }
+
+    /**
+     * Calls the requester to fetch all permissions if not possible will reload the access token and retry
+     * @param search value to be filtered
+     * @param pageNo of the information to be checked
+     * @param pageSize max page numbers for the necessary requested data
+     * @param sortBy list of values to sort request
+     * @param isAscending in case of true data will come ascending mode if false descending
+     * @param countMode how the total number of permissions is counted
+     * @return list of permissions
+     * @throws SystemException in case it founds multiple actions or if URL is malformed
+     */
+    @Override
+    public Page<? extends SystemPermission> getAll(String search, int pageNo, int pageSize,
+                                                                  List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException {
         try {
-            return getAllRequester(search, pageNo, pageSize, sortBy, isAscending);
+            return getAllRequester(search, pageNo, pageSize, sortBy, isAscending, countMode);
         } catch (TokenExpiredException expiredException) {
             refreshToken();
             try{
-                return getAllRequester(search, pageNo, pageSize, sortBy, isAscending);
+                return getAllRequester(search, pageNo, pageSize, sortBy, isAscending, countMode);
             } catch (TokenExpiredException expiredException1){
                 throw new SystemException(GenericErrorCodeMessage.EXPIRED_ACCESS_TOKEN.toString());
             }
@@ -89,13 +107,14 @@ public class PermissionRESTServiceClient extends AuthorizationChecker implements
      * @param pageSize max page numbers for the necessary requested data
      * @param sortBy list of values to sort request
      * @param isAscending in case of true data will come ascending mode if false descending
+     * @param countMode how the total number of permissions is counted
      * @return list of permissions
      * @throws SystemException in case it founds multiple actions or if URL is malformed
      */
     private Page<?extends SystemPermission> getAllRequester(String search, int pageNo, int pageSize,
-                                                           List<String> sortBy, boolean isAscending) throws SystemException {
+                                                           List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException {
         PermissionResourceClient client = getPermissionResourceClient();
-        try (Response response = client.getAll(search, pageNo, pageSize, sortBy, isAscending)) {
+        try (Response response = client.getAll(search, pageNo, pageSize, sortBy, isAscending, countMode)) {
             return PermissionModelMapper.mapToPage((InputStream) response.getEntity());
         } catch (ExtensionException | ProcessingException e){
             throw new SystemException(e);
@@ -130,7 +149,7 @@ public class PermissionRESTServiceClient extends AuthorizationChecker implements
     private List<? extends SystemPermission> getPermissionRequester(String search, int pageNo, int pageSize,
                                                                    List<String> sortBy, boolean isAscending) throws SystemException {
         PermissionResourceClient client = getPermissionResourceClient();
-        try (Response response = client.getAll(search, pageNo, pageSize, sortBy, isAscending)) {
+        try (Response response = client.getAll(search, pageNo, pageSize, sortBy, isAscending, CountMode.NONE)) {
             return PermissionModelMapper.mapToPage((InputStream) response.getEntity()).getResults();
         } catch (ExtensionException | ProcessingException | WebApplicationException e){
             throw new SystemException(e);
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.permissionmanagement.client.services;
 
+import io.radien.api.entity.CountMode;
 import io.radien.ms.permissionmanagement.client.entities.GlobalHeaders;
 import javax.ws.rs.HEAD;
 import javax.ws.rs.PUT;
@@ -53,6 +54,7 @@ public interface PermissionResourceClient {
      * @param pageSize page size
      * @param sortBy Sorting fields
      * @param isAscending Defines if ascending or descending in relation of sorting fields
+     * @param countMode how the total number of permissions is counted
      * @return In case of successful operation returns OK (http status 200)
      * and the page object (filled or not).
      * Otherwise, in case of operational error, returns Internal Server Error (500)
@@ -62,7 +64,8 @@ public interface PermissionResourceClient {
                            @DefaultValue("1")  @QueryParam("pageNo") int pageNo,
                            @DefaultValue("10") @QueryParam("pageSize") int pageSize,
                            @QueryParam("sortBy") List<String> sortBy,
-                           @DefaultValue("true") @QueryParam("asc") boolean isAscending);
+                           @DefaultValue("true") @QueryParam("asc") boolean isAscending,
+                           @DefaultValue("EXACT") @QueryParam("countMode") CountMode countMode);
 
     /**
      * Finds all permissions that matches a search filter
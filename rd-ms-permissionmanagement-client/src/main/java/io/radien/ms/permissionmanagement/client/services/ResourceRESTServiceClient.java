@@ -17,6 +17,7 @@ package io.radien.ms.permissionmanagement.client.services;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemResource;
 import io.radien.api.service.permission.ResourceRESTServiceAccess;
@@ -89,12 +90,29 @@ public class ResourceRESTServiceClient extends AuthorizationChecker implements R
     @Override
     public Page<? extends SystemResource> getAll(String search, int pageNo, int pageSize,
                                                  List<String> sortBy, boolean isAscending) throws SystemException {
+        return getAll(search, pageNo, pageSize, sortBy, isAscending, CountMode.EXACT);
+    }
+
+    /**
+     * Calls the requester to fetch all resources if not possible will reload the access token and retry
+     * @param search value to be filtered
+     * @param pageNo of the information to be checked
+     * @param pageSize max page numbers for the necessary requested data
+     * @param sortBy list of values to sort request
+     * @param isAscending in case of true data will come ascending mode if false descending
+     * @param countMode how the total number of resources is counted
+     * @return list of resources
+     * @throws SystemException in case of any communication error
+     */
+    @Override
+    public Page<? extends SystemResource> getAll(String search, int pageNo, int pageSize,
+                                                 List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException {
         try {
-            return getAllRequester(search, pageNo, pageSize, sortBy, isAscending);
+            return getAllRequester(search, pageNo, pageSize, sortBy, isAscending, countMode);
         } catch (TokenExpiredException expiredException) {
             refreshToken();
             try{
-                return getAllRequester(search, pageNo, pageSize, sortBy, isAscending);
+                return getAllRequester(search, pageNo, pageSize, sortBy, isAscending, countMode);
             } catch (TokenExpiredException expiredException1){
                 throw new SystemException(GenericErrorCodeMessage.EXPIRED_ACCESS_TOKEN.toString());
             }
@@ -108,14 +126,15 @@ public class ResourceRESTServiceClient extends AuthorizationChecker implements R
      * @param pageSize max page numbers for the necessary requested data
      * @param sortBy list of values to sort request
      * @param isAscending in case of true data will come ascending mode if false descending
+     * @param countMode how the total number of resources is counted
      * @return list of resources
      * @throws SystemException in case of any communication error
      */
     private Page<? extends SystemResource> getAllRequester(String search, int pageNo, int pageSize,
-                                                          List<String> sortBy, boolean isAscending) throws SystemException {
+                                                          List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException {
         try {
             ResourceResourceClient client = clientServiceUtil.getResourceResourceClient(getOAF().getProperty(OAFProperties.SYSTEM_MS_ENDPOINT_PERMISSIONMANAGEMENT));
-            Response response = client.getAll(search, pageNo, pageSize, sortBy, isAscending);
+            Response response = client.getAll(search, pageNo, pageSize, sortBy, isAscending, countMode);
             return ResourceModelMapper.mapToPage((InputStream) response.getEntity());
         } catch (ExtensionException | ProcessingException | MalformedURLException e){
             throw new SystemException(e);
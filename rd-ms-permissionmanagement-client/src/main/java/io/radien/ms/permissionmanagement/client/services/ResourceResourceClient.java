@@ -15,6 +15,7 @@
  */
 package io.radien.ms.permissionmanagement.client.services;
 
+import io.radien.api.entity.CountMode;
 import io.radien.ms.permissionmanagement.client.entities.GlobalHeaders;
 import javax.ws.rs.PUT;
 import org.eclipse.microprofile.rest.client.annotation.RegisterClientHeaders;
@@ -47,6 +48,7 @@ public interface ResourceResourceClient {
      * @param pageSize page size
      * @param sortBy Sorting fields
      * @param isAscending Defines if ascending or descending in relation of sorting fields
+     * @param countMode how the total number of resources is counted
      * @return In case of successful operation returns OK (http status 200)
      * and the page object (filled or not).
      * Otherwise, in case of operational error, returns Internal Server Error (500)
@@ -56,7 +58,8 @@ public interface ResourceResourceClient {
                     @DefaultValue("1") @QueryParam("pageNo") int pageNo,
                     @DefaultValue("10") @QueryParam("pageSize") int pageSize,
                     @QueryParam("sortBy") List<String> sortBy,
-                    @DefaultValue("true") @QueryParam("asc") boolean isAscending);
+                    @DefaultValue("true") @QueryParam("asc") boolean isAscending,
+                    @DefaultValue("EXACT") @QueryParam("countMode") CountMode countMode);
 
     /**
      * Finds all resources that matches a name
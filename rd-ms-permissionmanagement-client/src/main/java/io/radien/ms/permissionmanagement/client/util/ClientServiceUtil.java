@@ -15,19 +15,18 @@
  */
 package io.radien.ms.permissionmanagement.client.util;
 
+import io.radien.api.util.RestClientRegistry;
 import io.radien.ms.permissionmanagement.client.providers.ActionMessageBodyWriter;
 import io.radien.ms.permissionmanagement.client.providers.PermissionMessageBodyWriter;
 import io.radien.ms.permissionmanagement.client.providers.ResourceMessageBodyWriter;
 import io.radien.ms.permissionmanagement.client.services.ActionResourceClient;
 import io.radien.ms.permissionmanagement.client.services.ResourceResourceClient;
-import org.eclipse.microprofile.rest.client.RestClientBuilder;
 
 import io.radien.ms.permissionmanagement.client.PermissionResponseExceptionMapper;
 import io.radien.ms.permissionmanagement.client.services.PermissionResourceClient;
 
 import javax.enterprise.context.RequestScoped;
 import java.net.MalformedURLException;
-import java.net.URL;
 
 /**
  * Utility class that produces Rest Clients for Permission and Action
@@ -43,13 +42,8 @@ public class ClientServiceUtil {
      * @throws MalformedURLException in case of any url issue
      */
     public PermissionResourceClient getPermissionResourceClient(String urlStr) throws MalformedURLException {
-        URL url = new URL(urlStr);
-        return RestClientBuilder.
-                newBuilder()
-                .baseUrl(url)
-                .register(PermissionResponseExceptionMapper.class)
-                .register(PermissionMessageBodyWriter.class)
-                .build(PermissionResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, PermissionResourceClient.class,
+                PermissionResponseExceptionMapper.class, PermissionMessageBodyWriter.class);
     }
 
     /**
@@ -59,13 +53,8 @@ public class ClientServiceUtil {
      * @throws MalformedURLException in case of any url issue
      */
     public ActionResourceClient getActionResourceClient(String urlStr) throws MalformedURLException {
-        URL url = new URL(urlStr);
-        return RestClientBuilder.
-                newBuilder()
-                .baseUrl(url)
-                .register(PermissionResponseExceptionMapper.class)
-                .register(ActionMessageBodyWriter.class)
-                .build(ActionResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, ActionResourceClient.class,
+                PermissionResponseExceptionMapper.class, ActionMessageBodyWriter.class);
     }
 
     /**
@@ -75,12 +64,7 @@ public class ClientServiceUtil {
      * @throws MalformedURLException in case of any url issue
      */
     public ResourceResourceClient getResourceResourceClient(String urlStr) throws MalformedURLException {
-        URL url = new URL(urlStr);
-        return RestClientBuilder.
-                newBuilder()
-                .baseUrl(url)
-                .register(PermissionResponseExceptionMapper.class)
-                .register(ResourceMessageBodyWriter.class)
-                .build(ResourceResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, ResourceResourceClient.class,
+                PermissionResponseExceptionMapper.class, ResourceMessageBodyWriter.class);
     }
 }
@@ -18,11 +18,8 @@ package io.radien.ms.permissionmanagement.client.util;
 import java.io.InputStream;
 import java.util.List;
 
-import javax.json.Json;
-import javax.json.JsonArray;
-import javax.json.JsonReader;
-
 import io.radien.api.model.permission.SystemPermission;
+import io.radien.api.util.StreamingJsonMapper;
 import io.radien.ms.permissionmanagement.client.services.PermissionFactory;
 
 /**
@@ -37,9 +34,6 @@ public class ListPermissionModelMapper {
      * @return a list of system permissions that have been converted
      */
     public static List<? extends SystemPermission> map(InputStream is) {
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonArray jsonArray = jsonReader.readArray();
-            return PermissionFactory.convert(jsonArray);
-        }
+        return StreamingJsonMapper.readList(is, PermissionFactory::convert);
     }
 }
@@ -17,6 +17,7 @@ package io.radien.ms.permissionmanagement.client.services;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemAction;
 import io.radien.api.security.TokensPlaceHolder;
@@ -411,7 +412,7 @@ public class ActionRESTServiceClientTest {
         ActionResourceClient resourceClient = Mockito.mock(ActionResourceClient.class);
         when(clientServiceUtil.getActionResourceClient(getActionManagementUrl())).
                 then(i -> resourceClient);
-        when(resourceClient.getAll("action%", 1, 100, sortBy, true)).
+        when(resourceClient.getAll("action%", 1, 100, sortBy, true, CountMode.EXACT)).
                 then(i -> expectedResponse);
 
         Page<? extends SystemAction> retrievedPage = null;
@@ -439,7 +440,7 @@ public class ActionRESTServiceClientTest {
         ActionResourceClient resourceClient = Mockito.mock(ActionResourceClient.class);
         when(clientServiceUtil.getActionResourceClient(getActionManagementUrl())).
                 thenThrow(new ProcessingException("error"));
-        when(resourceClient.getAll("action%", 1, 100, sortBy, true)).
+        when(resourceClient.getAll("action%", 1, 100, sortBy, true, CountMode.EXACT)).
                 then(i -> errorResponse);
         target.getAll("action%", 1, 100, sortBy, true);
     }
@@ -455,7 +456,7 @@ public class ActionRESTServiceClientTest {
         ActionResourceClient resourceClient = Mockito.mock(ActionResourceClient.class);
 
         when(clientServiceUtil.getActionResourceClient(getActionManagementUrl())).thenReturn(resourceClient);
-        when(resourceClient.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean())).thenThrow(new TokenExpiredException("test"));
+        when(resourceClient.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean(), any())).thenThrow(new TokenExpiredException("test"));
 
         when(authorizationChecker.getUserClient()).thenReturn(userClient);
         when(tokensPlaceHolder.getRefreshToken()).thenReturn("test");
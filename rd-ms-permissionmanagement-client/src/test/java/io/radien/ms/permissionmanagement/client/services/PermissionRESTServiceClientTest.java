@@ -17,6 +17,7 @@ package io.radien.ms.permissionmanagement.client.services;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemPermission;
 import io.radien.api.security.TokensPlaceHolder;
@@ -605,7 +606,7 @@ public class PermissionRESTServiceClientTest {
         PermissionResourceClient resourceClient = Mockito.mock(PermissionResourceClient.class);
         when(clientServiceUtil.getPermissionResourceClient(getPermissionManagementUrl())).
                 then(i -> resourceClient);
-        when(resourceClient.getAll(filter, 1, 100, sortBy, true)).
+        when(resourceClient.getAll(filter, 1, 100, sortBy, true, CountMode.EXACT)).
                 then(i -> expectedResponse);
 
         Page resultPage = null;
@@ -644,7 +645,7 @@ public class PermissionRESTServiceClientTest {
 
         PermissionResourceClient resourceClient = Mockito.mock(PermissionResourceClient.class);
         when(clientServiceUtil.getPermissionResourceClient(any())).thenReturn(resourceClient);
-        when(resourceClient.getAll(null, 1, 100, null, true)).
+        when(resourceClient.getAll(null, 1, 100, null, true, CountMode.EXACT)).
                 thenThrow(new ProcessingException("error"));
 
         target.getAll(null, 1, 100, null, true);
@@ -677,7 +678,7 @@ public class PermissionRESTServiceClientTest {
         PermissionResourceClient resourceClient = Mockito.mock(PermissionResourceClient.class);
         when(clientServiceUtil.getPermissionResourceClient(getPermissionManagementUrl())).
                 then(i -> resourceClient);
-        when(resourceClient.getAll("contract", 1, 100, sortBy, true)).
+        when(resourceClient.getAll("contract", 1, 100, sortBy, true, CountMode.NONE)).
                 then(i -> expectedResponse);
 
         List<? extends SystemPermission> list1 = null;
@@ -702,7 +703,7 @@ public class PermissionRESTServiceClientTest {
         Response errorResponse = Response.status(500).build();
         PermissionResourceClient resourceClient = Mockito.mock(PermissionResourceClient.class);
         when(clientServiceUtil.getPermissionResourceClient(any())).thenReturn(resourceClient);
-        when(resourceClient.getAll("contract", 1, 100, sortBy, true)).
+        when(resourceClient.getAll("contract", 1, 100, sortBy, true, CountMode.NONE)).
                 thenThrow(new ProcessingException("error"));
         target.getPermissions("contract", 1, 100, sortBy, true);
     }
@@ -753,7 +754,7 @@ public class PermissionRESTServiceClientTest {
         PermissionResourceClient resourceClient = Mockito.mock(PermissionResourceClient.class);
 
         when(clientServiceUtil.getPermissionResourceClient(getPermissionManagementUrl())).thenReturn(resourceClient);
-        when(resourceClient.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean())).thenThrow(new TokenExpiredException(testValue));
+        when(resourceClient.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean(), any())).thenThrow(new TokenExpiredException(testValue));
 
         when(authorizationChecker.getUserClient()).thenReturn(userClient);
         when(tokensPlaceHolder.getRefreshToken()).thenReturn(testValue);
@@ -790,7 +791,7 @@ public class PermissionRESTServiceClientTest {
         PermissionResourceClient resourceClient = Mockito.mock(PermissionResourceClient.class);
 
         when(clientServiceUtil.getPermissionResourceClient(getPermissionManagementUrl())).thenReturn(resourceClient);
-        when(resourceClient.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean())).
+        when(resourceClient.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean(), any())).
                 thenThrow(new TokenExpiredException(testValue)).
                 thenReturn(expectedResponse);
 
@@ -815,7 +816,7 @@ public class PermissionRESTServiceClientTest {
         PermissionResourceClient resourceClient = Mockito.mock(PermissionResourceClient.class);
 
         when(clientServiceUtil.getPermissionResourceClient(getPermissionManagementUrl())).thenReturn(resourceClient);
-        when(resourceClient.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean())).thenThrow(new TokenExpiredException(testValue));
+        when(resourceClient.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean(), any())).thenThrow(new TokenExpiredException(testValue));
 
         when(authorizationChecker.getUserClient()).thenReturn(userClient);
         when(tokensPlaceHolder.getRefreshToken()).thenReturn(testValue);
@@ -852,7 +853,7 @@ public class PermissionRESTServiceClientTest {
         PermissionResourceClient resourceClient = Mockito.mock(PermissionResourceClient.class);
 
         when(clientServiceUtil.getPermissionResourceClient(getPermissionManagementUrl())).thenReturn(resourceClient);
-        when(resourceClient.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean())).
+        when(resourceClient.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean(), any())).
                 thenThrow(new TokenExpiredException(testValue)).
                 thenReturn(expectedResponse);
 
@@ -17,6 +17,7 @@ package io.radien.ms.permissionmanagement.client.services;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemResource;
 import io.radien.api.security.TokensPlaceHolder;
@@ -381,7 +382,7 @@ public class ResourceRESTServiceClientTest {
         ResourceResourceClient resourceClient = Mockito.mock(ResourceResourceClient.class);
         when(clientServiceUtil.getResourceResourceClient(getResourceManagementUrl())).
                 then(i -> resourceClient);
-        when(resourceClient.getAll("resource%", 1, 100, sortBy, true)).
+        when(resourceClient.getAll("resource%", 1, 100, sortBy, true, CountMode.EXACT)).
                 then(i -> expectedResponse);
 
         Page<? extends SystemResource> retrievedPage = null;
@@ -409,7 +410,7 @@ public class ResourceRESTServiceClientTest {
         ResourceResourceClient resourceClient = Mockito.mock(ResourceResourceClient.class);
         when(clientServiceUtil.getResourceResourceClient(getResourceManagementUrl())).
                 thenThrow(new ProcessingException("error"));
-        when(resourceClient.getAll("resource%", 1, 100, sortBy, true)).
+        when(resourceClient.getAll("resource%", 1, 100, sortBy, true, CountMode.EXACT)).
                 then(i -> errorResponse);
         target.getAll("action%", 1, 100, sortBy, true);
     }
@@ -424,7 +425,7 @@ public class ResourceRESTServiceClientTest {
         ResourceResourceClient resourceClient = Mockito.mock(ResourceResourceClient.class);
 
         when(clientServiceUtil.getResourceResourceClient(getResourceManagementUrl())).thenReturn(resourceClient);
-        when(resourceClient.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean())).thenThrow(new TokenExpiredException(testValue));
+        when(resourceClient.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean(), any())).thenThrow(new TokenExpiredException(testValue));
 
         when(authorizationChecker.getUserClient()).thenReturn(userClient);
         when(tokensPlaceHolder.getRefreshToken()).thenReturn(testValue);
@@ -16,10 +16,13 @@
 package io.radien.ms.permissionmanagement.datalayer;
 
 import io.radien.api.SystemVariables;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemAction;
 import io.radien.api.model.permission.SystemActionSearchFilter;
 import io.radien.api.service.permission.ActionServiceAccess;
+import io.radien.api.util.ModelServiceUtil;
+import io.radien.api.util.PageCountCache;
 
 import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.exception.UniquenessConstraintException;
@@ -92,11 +95,12 @@ public class ActionService implements ActionServiceAccess {
      * @param pageSize total number of pages returned in the request.
      * @param sortBy sort filter criteria.
      * @param isAscending ascending filter criteria.
+     * @param countMode how the total number of actions is counted.
      * @return a page of system Actions.
      */
     @Override
     public Page<SystemAction> getAll(String search, int pageNo, int pageSize,
-                                     List<String> sortBy, boolean isAscending) {
+                                     List<String> sortBy, boolean isAscending, CountMode countMode) {
         EntityManager em = this.getEntityManager();
         CriteriaBuilder criteriaBuilder = em.getCriteriaBuilder();
         CriteriaQuery<ActionEntity> criteriaQuery = criteriaBuilder.createQuery(ActionEntity.class);
@@ -104,9 +108,9 @@ public class ActionService implements ActionServiceAccess {
 
         criteriaQuery.select(actionRoot);
 
-        Predicate global = criteriaBuilder.isTrue(criteriaBuilder.literal(true));
+        Predicate global = search != null ? criteriaBuilder.and(criteriaBuilder.like(actionRoot.get("name"), search)) :
+                criteriaBuilder.isTrue(criteriaBuilder.literal(true));
         if(search!= null) {
-            global = criteriaBuilder.and(criteriaBuilder.like(actionRoot.get("name"), search));
             criteriaQuery.where(global);
         }
 
@@ -127,10 +131,8 @@ public class ActionService implements ActionServiceAccess {
 
         List<? extends SystemAction> systemActions = q.getResultList();
 
-        int totalRecords = Math.toIntExact(getCount(global, actionRoot, em.getCriteriaBuilder(), em));
-        int totalPages = totalRecords%pageSize==0 ? totalRecords/pageSize : totalRecords/pageSize+1;
-
-        return new Page<>(systemActions, pageNo, totalRecords, totalPages);
+        return ModelServiceUtil.getPage(systemActions, pageNo, pageSize, countMode, ActionEntity.class, search,
+                () -> getCount(global, actionRoot, em.getCriteriaBuilder(), em));
     }
 
     /**
@@ -143,6 +145,7 @@ public class ActionService implements ActionServiceAccess {
         EntityManager em = getEntityManager();
         checkUniqueness(action, em);
         em.persist(action);
+        PageCountCache.current().invalidate(ActionEntity.class);
     }
 
     /**
@@ -155,6 +158,7 @@ public class ActionService implements ActionServiceAccess {
         EntityManager em = getEntityManager();
         checkUniqueness(action, em);
         em.merge(action);
+        PageCountCache.current().invalidate(ActionEntity.class);
     }
 
     /**
@@ -169,7 +173,9 @@ public class ActionService implements ActionServiceAccess {
         Root<ActionEntity> actionRoot = criteriaDelete.from(ActionEntity.class);
 
         criteriaDelete.where(cb.equal(actionRoot.get("id"),actionId));
-        return em.createQuery(criteriaDelete).executeUpdate() > 0;
+        boolean deleted = em.createQuery(criteriaDelete).executeUpdate() > 0;
+        PageCountCache.current().invalidate(ActionEntity.class);
+        return deleted;
     }
 
     /**
@@ -184,7 +190,9 @@ public class ActionService implements ActionServiceAccess {
         Root<ActionEntity> actionRoot = criteriaDelete.from(ActionEntity.class);
 
         criteriaDelete.where(actionRoot.get("id").in(actionIds));
-        return em.createQuery(criteriaDelete).executeUpdate() > 0;
+        boolean deleted = em.createQuery(criteriaDelete).executeUpdate() > 0;
+        PageCountCache.current().invalidate(ActionEntity.class);
+        return deleted;
     }
 
     /**
@@ -38,10 +38,13 @@ import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.Order;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemPermission;
 import io.radien.api.model.permission.SystemPermissionSearchFilter;
 import io.radien.api.service.permission.PermissionServiceAccess;
+import io.radien.api.util.ModelServiceUtil;
+import io.radien.api.util.PageCountCache;
 import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.exception.UniquenessConstraintException;
 
@@ -105,10 +108,11 @@ public class PermissionService implements PermissionServiceAccess {
      * @param pageSize total number of pages returned in the request.
      * @param sortBy sort filter criteria.
      * @param isAscending ascending filter criteria.
+     * @param countMode how the total number of permissions is counted.
      * @return a page of system Permissions.
      */
     @Override
-    public Page<SystemPermission> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending) {
+    public Page<SystemPermission> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending, CountMode countMode) {
         EntityManager em = getEntityManager();
         CriteriaBuilder criteriaBuilder = em.getCriteriaBuilder();
         CriteriaQuery<PermissionEntity> criteriaQuery = criteriaBuilder.createQuery(PermissionEntity.class);
@@ -116,9 +120,9 @@ public class PermissionService implements PermissionServiceAccess {
 
         criteriaQuery.select(permissionRoot);
 
-        Predicate global = criteriaBuilder.isTrue(criteriaBuilder.literal(true));
+        Predicate global = search != null ? criteriaBuilder.and(criteriaBuilder.like(permissionRoot.get("name"), search)) :
+                criteriaBuilder.isTrue(criteriaBuilder.literal(true));
         if(search!= null) {
-            global = criteriaBuilder.and(criteriaBuilder.like(permissionRoot.get("name"), search));
             criteriaQuery.where(global);
         }
 
@@ -139,10 +143,8 @@ public class PermissionService implements PermissionServiceAccess {
 
         List<? extends SystemPermission> systemPermissions = q.getResultList();
 
-        int totalRecords = Math.toIntExact(getCount(global, permissionRoot));
-        int totalPages = totalRecords%pageSize==0 ? totalRecords/pageSize : totalRecords/pageSize+1;
-
-        return new Page<>(systemPermissions, pageNo, totalRecords, totalPages);
+        return ModelServiceUtil.getPage(systemPermissions, pageNo, pageSize, countMode, PermissionEntity.class, search,
+                () -> getCount(global, permissionRoot));
     }
 
     /**
@@ -215,6 +217,7 @@ public class PermissionService implements PermissionServiceAccess {
     public void create(SystemPermission permission) throws UniquenessConstraintException {
         checkUniqueness(permission);
         getEntityManager().persist(permission);
+        PageCountCache.current().invalidate(PermissionEntity.class);
     }
 
     /**
@@ -226,6 +229,7 @@ public class PermissionService implements PermissionServiceAccess {
     public void update(SystemPermission permission) throws UniquenessConstraintException {
         checkUniqueness(permission);
         getEntityManager().merge(permission);
+        PageCountCache.current().invalidate(PermissionEntity.class);
     }
 
     /**
@@ -240,7 +244,9 @@ public class PermissionService implements PermissionServiceAccess {
         Root<PermissionEntity> permissionRoot = criteriaDelete.from(PermissionEntity.class);
 
         criteriaDelete.where(cb.equal(permissionRoot.get("id"),permissionId));
-        return em.createQuery(criteriaDelete).executeUpdate() > 0;
+        boolean deleted = em.createQuery(criteriaDelete).executeUpdate() > 0;
+        PageCountCache.current().invalidate(PermissionEntity.class);
+        return deleted;
     }
 
     /**
@@ -255,7 +261,9 @@ public class PermissionService implements PermissionServiceAccess {
         Root<PermissionEntity> permissionRoot = criteriaDelete.from(PermissionEntity.class);
 
         criteriaDelete.where(permissionRoot.get("id").in(permissionIds));
-        return em.createQuery(criteriaDelete).executeUpdate() > 0;
+        boolean deleted = em.createQuery(criteriaDelete).executeUpdate() > 0;
+        PageCountCache.current().invalidate(PermissionEntity.class);
+        return deleted;
     }
 
     /**
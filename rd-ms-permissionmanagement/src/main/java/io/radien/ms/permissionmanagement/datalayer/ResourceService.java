@@ -16,10 +16,13 @@
 package io.radien.ms.permissionmanagement.datalayer;
 
 import io.radien.api.SystemVariables;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemResource;
 import io.radien.api.model.permission.SystemResourceSearchFilter;
 import io.radien.api.service.permission.ResourceServiceAccess;
+import io.radien.api.util.ModelServiceUtil;
+import io.radien.api.util.PageCountCache;
 import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.api.service.permission.exception.ResourceNotFoundException;
 import io.radien.exception.UniquenessConstraintException;
@@ -91,11 +94,12 @@ public class ResourceService implements ResourceServiceAccess {
      * @param pageSize total number of pages returned in the request.
      * @param sortBy sort filter criteria.
      * @param isAscending ascending filter criteria.
+     * @param countMode how the total number of resources is counted.
      * @return a page of system Resources.
      */
     @Override
     public Page<SystemResource> getAll(String search, int pageNo, int pageSize,
-                                     List<String> sortBy, boolean isAscending) {
+                                     List<String> sortBy, boolean isAscending, CountMode countMode) {
         EntityManager em = this.getEntityManager();
         CriteriaBuilder criteriaBuilder = em.getCriteriaBuilder();
         CriteriaQuery<ResourceEntity> criteriaQuery = criteriaBuilder.createQuery(ResourceEntity.class);
@@ -103,9 +107,9 @@ public class ResourceService implements ResourceServiceAccess {
 
         criteriaQuery.select(resourceRoot);
 
-        Predicate global = criteriaBuilder.isTrue(criteriaBuilder.literal(true));
+        Predicate global = search != null ? criteriaBuilder.and(criteriaBuilder.like(resourceRoot.get("name"), search)) :
+                criteriaBuilder.isTrue(criteriaBuilder.literal(true));
         if(search!= null) {
-            global = criteriaBuilder.and(criteriaBuilder.like(resourceRoot.get("name"), search));
             criteriaQuery.where(global);
         }
 
@@ -126,10 +130,8 @@ public class ResourceService implements ResourceServiceAccess {
 
         List<? extends SystemResource> systemResources = q.getResultList();
 
-        int totalRecords = Math.toIntExact(getCount(global, resourceRoot, em.getCriteriaBuilder(), em));
-        int totalPages = totalRecords%pageSize==0 ? totalRecords/pageSize : totalRecords/pageSize+1;
-
-        return new Page<>(systemResources, pageNo, totalRecords, totalPages);
+        return ModelServiceUtil.getPage(systemResources, pageNo, pageSize, countMode, ResourceEntity.class, search,
+                () -> getCount(global, resourceRoot, em.getCriteriaBuilder(), em));
     }
 
     /**
@@ -141,6 +143,7 @@ public class ResourceService implements ResourceServiceAccess {
     public void create(SystemResource resource) throws UniquenessConstraintException {
         checkUniqueness(resource);
         getEntityManager().persist(resource);
+        PageCountCache.current().invalidate(ResourceEntity.class);
     }
 
     /**
@@ -153,6 +156,7 @@ public class ResourceService implements ResourceServiceAccess {
     public void update(SystemResource resource) throws ResourceNotFoundException, UniquenessConstraintException {
         checkUniqueness(resource);
         getEntityManager().merge(resource);
+        PageCountCache.current().invalidate(ResourceEntity.class);
     }
 
     /**
@@ -167,7 +171,9 @@ public class ResourceService implements ResourceServiceAccess {
         Root<ResourceEntity> resourceRoot = criteriaDelete.from(ResourceEntity.class);
 
         criteriaDelete.where(cb.equal(resourceRoot.get("id"),resourceId));
-        return em.createQuery(criteriaDelete).executeUpdate() > 0;
+        boolean deleted = em.createQuery(criteriaDelete).executeUpdate() > 0;
+        PageCountCache.current().invalidate(ResourceEntity.class);
+        return deleted;
     }
 
     /**
@@ -182,7 +188,9 @@ public class ResourceService implements ResourceServiceAccess {
         Root<ResourceEntity> resourceRoot = criteriaDelete.from(ResourceEntity.class);
 
         criteriaDelete.where(resourceRoot.get("id").in(resourceIds));
-        return em.createQuery(criteriaDelete).executeUpdate() > 0;
+        boolean deleted = em.createQuery(criteriaDelete).executeUpdate() > 0;
+        PageCountCache.current().invalidate(ResourceEntity.class);
+        return deleted;
     }
 
     /**
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.permissionmanagement.resource;
 
+import io.radien.api.entity.CountMode;
 import io.radien.ms.openid.entities.Authenticated;
 import io.radien.ms.permissionmanagement.client.entities.ActionSearchFilter;
 import io.radien.ms.permissionmanagement.client.services.ActionResourceClient;
@@ -49,13 +50,14 @@ public class ActionResource implements ActionResourceClient {
 	 * @param pageSize page size
 	 * @param sortBy Sorting fields
 	 * @param isAscending Defines if ascending or descending in relation of sorting fields
+	 * @param countMode how the total number of actions is counted
 	 * @return In case of successful operation returns OK (http status 200)
 	 * and the page object (filled or not).<br>
 	 * Otherwise, in case of operational error, returns Internal Server Error (500)
 	 */
 	public Response getAll(String search, int pageNo, int pageSize,
-						   List<String> sortBy, boolean isAscending) {
-		return Response.ok(actionBusinessService.getAll(search, pageNo, pageSize, sortBy, isAscending)).build();
+						   List<String> sortBy, boolean isAscending, CountMode countMode) {
+		return Response.ok(actionBusinessService.getAll(search, pageNo, pageSize, sortBy, isAscending, countMode)).build();
 	}
 
 	/**
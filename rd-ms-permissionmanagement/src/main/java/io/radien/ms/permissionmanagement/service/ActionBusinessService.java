@@ -16,6 +16,7 @@
 
 package io.radien.ms.permissionmanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemAction;
 import io.radien.api.model.permission.SystemActionSearchFilter;
@@ -76,11 +77,12 @@ public class ActionBusinessService {
      * @param pageSize page size
      * @param sortBy sort parameters
      * @param isAscending ascending or descending order
+     * @param countMode how the total number of actions is counted
      * @return page of System Actions matching the given parameters
      */
     public Page<SystemAction> getAll(String search, int pageNo, int pageSize,
-                                     List<String> sortBy, boolean isAscending) {
-        return actionService.getAll(search, pageNo, pageSize, sortBy, isAscending);
+                                     List<String> sortBy, boolean isAscending, CountMode countMode) {
+        return actionService.getAll(search, pageNo, pageSize, sortBy, isAscending, countMode);
     }
 
     public List<SystemAction> getFiltered(SystemActionSearchFilter searchFilter) {
@@ -16,6 +16,7 @@
 
 package io.radien.ms.permissionmanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemPermission;
 import io.radien.api.model.permission.SystemPermissionSearchFilter;
@@ -78,11 +79,12 @@ public class PermissionBusinessService {
      * @param pageSize page size
      * @param sortBy sort parameters
      * @param isAscending ascending or descending order
+     * @param countMode how the total number of permissions is counted
      * @return page of System Permissions matching the given parameters
      */
     public Page<SystemPermission> getAll(String search, int pageNo, int pageSize,
-                                       List<String> sortBy, boolean isAscending) {
-        return permissionService.getAll(search, pageNo, pageSize, sortBy, isAscending);
+                                       List<String> sortBy, boolean isAscending, CountMode countMode) {
+        return permissionService.getAll(search, pageNo, pageSize, sortBy, isAscending, countMode);
     }
 
     public List<SystemPermission> getFiltered(SystemPermissionSearchFilter filter) {
@@ -16,6 +16,7 @@
 
 package io.radien.ms.permissionmanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemResource;
 import io.radien.api.model.permission.SystemResourceSearchFilter;
@@ -77,11 +78,12 @@ public class ResourceBusinessService {
      * @param pageSize page size
      * @param sortBy sort parameters
      * @param isAscending ascending or descending order
+     * @param countMode how the total number of resources is counted
      * @return page of System Resources matching the given parameters
      */
     public Page<SystemResource> getAll(String search, int pageNo, int pageSize,
-                                       List<String> sortBy, boolean isAscending) {
-        return resourceService.getAll(search, pageNo, pageSize, sortBy, isAscending);
+                                       List<String> sortBy, boolean isAscending, CountMode countMode) {
+        return resourceService.getAll(search, pageNo, pageSize, sortBy, isAscending, countMode);
     }
 
     public List<SystemResource> getFiltered(SystemResourceSearchFilter filter) {
@@ -16,6 +16,7 @@
 
 package io.radien.ms.permissionmanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemAction;
 import io.radien.api.service.permission.ActionServiceAccess;
@@ -88,8 +89,8 @@ public class ActionBusinessServiceTest {
     @Test
     public void testGetAll() {
         Page<SystemAction> result = new Page<>(new ArrayList<>(), 1, 1, 1);
-        when(actionService.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean())).thenReturn(result);
-        assertEquals(result, businessService.getAll("", 1, 1, new ArrayList<>(), false));
+        when(actionService.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean(), any())).thenReturn(result);
+        assertEquals(result, businessService.getAll("", 1, 1, new ArrayList<>(), false, CountMode.EXACT));
     }
 
     @Test
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.permissionmanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemAction;
 import io.radien.api.service.permission.ActionServiceAccess;
@@ -73,7 +74,7 @@ public class ActionServiceTest {
                 context.lookup("java:global/rd-ms-permissionmanagement//ActionService");
 
         Page<? extends SystemAction> actionPage =
-                actionServiceAccess.getAll(null, 1, 10, null, true);
+                actionServiceAccess.getAll(null, 1, 10, null, true, CountMode.EXACT);
         if (actionPage.getTotalResults() > 0) {
             actionTest = actionPage.getResults().get(0);
         } else {
@@ -341,17 +342,17 @@ public class ActionServiceTest {
         orderby.add("name");
 
         Page<? extends SystemAction> actionPage = actionServiceAccess.getAll(null, 1, 10,
-                orderby, true);
+                orderby, true, CountMode.EXACT);
   
         assertTrue(actionPage.getTotalResults()>=3);
 
         assertEquals("a",actionPage.getResults().get(0).getName());
 
-        actionPage = actionServiceAccess.getAll(null, 1, 10, orderby, false);
+        actionPage = actionServiceAccess.getAll(null, 1, 10, orderby, false, CountMode.EXACT);
         assertTrue(actionPage.getTotalResults()>=3);
         assertEquals("zzz",actionPage.getResults().get(0).getName());
 
-        Page<? extends SystemAction> actionPageWhere = actionServiceAccess.getAll("a", 1, 10, null, true);
+        Page<? extends SystemAction> actionPageWhere = actionServiceAccess.getAll("a", 1, 10, null, true, CountMode.EXACT);
         assertEquals(1, actionPageWhere.getTotalResults());
 
         assertEquals("a",actionPageWhere.getResults().get(0).getName());
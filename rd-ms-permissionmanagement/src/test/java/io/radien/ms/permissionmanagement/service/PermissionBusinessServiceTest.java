@@ -16,6 +16,7 @@
 
 package io.radien.ms.permissionmanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemPermission;
 import io.radien.api.model.permission.SystemPermissionSearchFilter;
@@ -91,9 +92,9 @@ public class PermissionBusinessServiceTest {
     @Test
     public void testGetAll() {
         Page<SystemPermission> resultPage = new Page<>(new ArrayList<>(), 1, 1, 1);
-        when(permissionService.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean()))
+        when(permissionService.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean(), any()))
                 .thenReturn(resultPage);
-        assertEquals(resultPage, businessService.getAll("", 1, 1, new ArrayList<>(), false));
+        assertEquals(resultPage, businessService.getAll("", 1, 1, new ArrayList<>(), false, CountMode.EXACT));
     }
 
     @Test
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.permissionmanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.service.permission.exception.PermissionIllegalArgumentException;
 import io.radien.api.service.permission.exception.PermissionNotFoundException;
 import io.radien.ms.permissionmanagement.entities.PermissionEntity;
@@ -65,7 +66,7 @@ public class PermissionResourceTest {
      */
     @Test
     public void testGetAll() {
-        Response response = permissionResource.getAll(null,1,10,null,true);
+        Response response = permissionResource.getAll(null,1,10,null,true, CountMode.EXACT);
         assertEquals(200,response.getStatus());
     }
 
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.permissionmanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 
 import io.radien.api.model.permission.SystemPermission;
@@ -99,9 +100,9 @@ public class PermissionServiceTest {
     public void init() throws NamingException {
         container.getContext().bind("inject", this);
         Page<? extends SystemAction> actionPage = actionServiceAccess.getAll(null, 1,
-                1000, null, true);
+                1000, null, true, CountMode.EXACT);
         Page<? extends SystemPermission> permissionPage = permissionServiceAccess.getAll(null,
-                1, 1000, null, true);
+                1, 1000, null, true, CountMode.EXACT);
 
         permissionServiceAccess.delete(permissionPage.getResults().stream().
                 map(SystemPermission::getId).collect(Collectors.toList()));
@@ -397,17 +398,17 @@ public class PermissionServiceTest {
         List<String> orderby = new ArrayList<>();
         orderby.add("name");
 
-        Page<? extends SystemPermission> permissionPage = permissionServiceAccess.getAll(null, 1, 10, orderby, true);
+        Page<? extends SystemPermission> permissionPage = permissionServiceAccess.getAll(null, 1, 10, orderby, true, CountMode.EXACT);
   
         assertTrue(permissionPage.getTotalResults()>=3);
 
         assertEquals("a",permissionPage.getResults().get(0).getName());
 
-        permissionPage = permissionServiceAccess.getAll(null, 1, 10, orderby, false);
+        permissionPage = permissionServiceAccess.getAll(null, 1, 10, orderby, false, CountMode.EXACT);
         assertTrue(permissionPage.getTotalResults()>=3);
         assertEquals("zzz",permissionPage.getResults().get(0).getName());
 
-        Page<? extends SystemPermission> permissionPageWhere = permissionServiceAccess.getAll("a", 1, 10, null, true);
+        Page<? extends SystemPermission> permissionPageWhere = permissionServiceAccess.getAll("a", 1, 10, null, true, CountMode.EXACT);
         assertEquals(1, permissionPageWhere.getTotalResults());
 
         assertEquals("a",permissionPageWhere.getResults().get(0).getName());
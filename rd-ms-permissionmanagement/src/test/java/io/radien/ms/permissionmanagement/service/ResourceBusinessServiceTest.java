@@ -17,6 +17,7 @@
 package io.radien.ms.permissionmanagement.service;
 
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemResource;
 import io.radien.api.service.permission.ResourceServiceAccess;
@@ -94,9 +95,9 @@ public class ResourceBusinessServiceTest {
     @Test
     public void testGetAll() {
         Page<SystemResource> result = new Page<>(new ArrayList<>(), 1, 1, 1);
-        when(resourceServiceAccess.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean()))
+        when(resourceServiceAccess.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean(), any()))
                 .thenReturn(result);
-        assertEquals(result, resourceBusinessService.getAll("", 1, 1, new ArrayList<>(), false));
+        assertEquals(result, resourceBusinessService.getAll("", 1, 1, new ArrayList<>(), false, CountMode.EXACT));
     }
 
     @Test
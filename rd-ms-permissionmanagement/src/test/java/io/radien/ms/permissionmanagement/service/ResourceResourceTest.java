@@ -15,6 +15,7 @@
  */
 package io.radien.ms.permissionmanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.service.permission.exception.ResourceNotFoundException;
 import io.radien.exception.UniquenessConstraintException;
 import io.radien.ms.permissionmanagement.entities.ResourceEntity;
@@ -55,7 +56,7 @@ public class ResourceResourceTest {
      */
     @Test
     public void testGetAll() {
-        Response response = resourceResource.getAll(null,1,10,null,true);
+        Response response = resourceResource.getAll(null,1,10,null,true, CountMode.EXACT);
         assertEquals(200,response.getStatus());
     }
 
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.permissionmanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemResource;
 import io.radien.api.service.permission.ResourceServiceAccess;
@@ -73,7 +74,7 @@ public class ResourceServiceTest {
                 context.lookup("java:global/rd-ms-permissionmanagement//ResourceService");
 
         Page<? extends SystemResource> resourcePage =
-                resourceServiceAccess.getAll(null, 1, 10, null, true);
+                resourceServiceAccess.getAll(null, 1, 10, null, true, CountMode.EXACT);
         if (resourcePage.getTotalResults() > 0) {
             resourceTest = resourcePage.getResults().get(0);
         } else {
@@ -355,17 +356,17 @@ public class ResourceServiceTest {
         orderby.add("name");
 
         Page<? extends SystemResource> resourcePage = resourceServiceAccess.getAll(null, 1, 10,
-                orderby, true);
+                orderby, true, CountMode.EXACT);
   
         assertTrue(resourcePage.getTotalResults()>=3);
 
         assertEquals("a",resourcePage.getResults().get(0).getName());
 
-        resourcePage = resourceServiceAccess.getAll(null, 1, 10, orderby, false);
+        resourcePage = resourceServiceAccess.getAll(null, 1, 10, orderby, false, CountMode.EXACT);
         assertTrue(resourcePage.getTotalResults()>=3);
         assertEquals("zzz",resourcePage.getResults().get(0).getName());
 
-        Page<? extends SystemResource> resourcePageWhere = resourceServiceAccess.getAll("a", 1, 10, null, true);
+        Page<? extends SystemResource> resourcePageWhere = resourceServiceAccess.getAll("a", 1, 10, null, true, CountMode.EXACT);
         assertEquals(1, resourcePageWhere.getTotalResults());
 
         assertEquals("a",resourcePageWhere.getResults().get(0).getName());
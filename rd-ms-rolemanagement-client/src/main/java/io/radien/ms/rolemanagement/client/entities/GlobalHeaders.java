@@ -15,12 +15,11 @@
  */
 package io.radien.ms.rolemanagement.client.entities;
 
+import io.radien.api.security.RequestTokenHolder;
 import io.radien.api.security.TokensPlaceHolder;
 import org.eclipse.microprofile.rest.client.ext.ClientHeadersFactory;
 
 import javax.enterprise.inject.Default;
-import javax.enterprise.inject.spi.CDI;
-import javax.inject.Inject;
 import javax.inject.Named;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MultivaluedHashMap;
@@ -41,7 +40,6 @@ import javax.ws.rs.core.MultivaluedMap;
 @Named("roleGlobalHeaders")
 public class GlobalHeaders implements ClientHeadersFactory {
 
-    @Inject
     private TokensPlaceHolder tokensPlaceHolder;
 
     /**
@@ -57,9 +55,9 @@ public class GlobalHeaders implements ClientHeadersFactory {
      */
     @Override
     public MultivaluedMap<String, String> update(MultivaluedMap<String, String> incomingHeaders, MultivaluedMap<String, String> outgoingHeaders) {
-        //TODO: Understand why standard injection is not working
+        // resolved on demand, so in stateless mode the http session is never touched
         if (tokensPlaceHolder == null) {
-            tokensPlaceHolder = CDI.current().select(TokensPlaceHolder.class).get();
+            tokensPlaceHolder = RequestTokenHolder.current();
         }
         MultivaluedMap<String, String> result = new MultivaluedHashMap<>();
 
@@ -17,6 +17,7 @@ package io.radien.ms.rolemanagement.client.services;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.service.role.RoleRESTServiceAccess;
@@ -84,7 +85,26 @@ public class RoleRESTServiceClient extends AuthorizationChecker implements RoleR
     @Override
     public Page<? extends SystemRole> getAll(String search, int pageNo, int pageSize,
                                              List<String> sortBy, boolean isAscending) throws SystemException {
-        return get(() -> getAllRequester(search, pageNo, pageSize, sortBy, isAscending));
+        return getAll(search, pageNo, pageSize, sortBy, isAscending, CountMode.EXACT);
+    }
+
+    /**
+     * Calls the requester to retrieve a page object containing roles that matches search parameter,
+     * counting the total number of roles by the given count mode. If not possible it will reload the
+     * access token and retry.
+     * @param search search parameter for matching roles (optional).
+     * @param pageNo page number where the user is seeing the information.
+     * @param pageSize number of roles to be showed in each page.
+     * @param sortBy Sorting fields
+     * @param isAscending Defines if ascending or descending in relation of sorting fields
+     * @param countMode how the total number of roles is counted
+     * @return page containing system roles
+     * @throws SystemException in case it founds multiple actions or if URL is malformed
+     */
+    @Override
+    public Page<? extends SystemRole> getAll(String search, int pageNo, int pageSize, List<String> sortBy,
+                                             boolean isAscending, CountMode countMode) throws SystemException {
+        return get(() -> getAllRequester(search, pageNo, pageSize, sortBy, isAscending, countMode));
     }
 
     /**
@@ -95,14 +115,15 @@ public class RoleRESTServiceClient extends AuthorizationChecker implements RoleR
      * @param pageSize number of roles to be showed in each page.
      * @param sortBy Sorting fields
      * @param isAscending Defines if ascending or descending in relation of sorting fields
+     * @param countMode how the total number of roles is counted
      * @return page containing system roles
      * @throws SystemException in case it founds multiple actions or if URL is malformed
      */
-    private Page<? extends SystemRole> getAllRequester(String search, int pageNo, int pageSize,
-                                                      List<String> sortBy, boolean isAscending) throws SystemException {
+    private Page<? extends SystemRole> getAllRequester(String search, int pageNo, int pageSize, List<String> sortBy,
+                                                      boolean isAscending, CountMode countMode) throws SystemException {
         try {
             RoleResourceClient client = clientServiceUtil.getRoleResourceClient(getOAF().getProperty(OAFProperties.SYSTEM_MS_ENDPOINT_ROLEMANAGEMENT));
-            Response response = client.getAll(search, pageNo, pageSize, sortBy, isAscending);
+            Response response = client.getAll(search, pageNo, pageSize, sortBy, isAscending, countMode);
             return RoleModelMapper.mapToPage((InputStream) response.getEntity());
         } catch (ExtensionException | ProcessingException | MalformedURLException e){
             throw new SystemException(e);
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.rolemanagement.client.services;
 
+import io.radien.api.entity.CountMode;
 import io.radien.ms.rolemanagement.client.entities.GlobalHeaders;
 import io.radien.ms.rolemanagement.client.entities.Role;
 import javax.ws.rs.PUT;
@@ -61,7 +62,8 @@ public interface RoleResourceClient {
                            @DefaultValue("1")  @QueryParam("pageNo") int pageNo,
                            @DefaultValue("10") @QueryParam("pageSize") int pageSize,
                            @QueryParam("sortBy") List<String> sortBy,
-                           @DefaultValue("true") @QueryParam("asc") boolean isAscending);
+                           @DefaultValue("true") @QueryParam("asc") boolean isAscending,
+                           @DefaultValue("EXACT") @QueryParam("countMode") CountMode countMode);
 
     /**
      * Retrieve all the information which has a specific name or description.
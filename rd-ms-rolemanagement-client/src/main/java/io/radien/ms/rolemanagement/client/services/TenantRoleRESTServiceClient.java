@@ -17,6 +17,7 @@ package io.radien.ms.rolemanagement.client.services;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.model.tenantrole.SystemTenantRole;
@@ -35,6 +36,8 @@ import io.radien.ms.rolemanagement.client.util.TenantRoleModelMapper;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import javax.enterprise.context.RequestScoped;
@@ -85,7 +88,27 @@ public class TenantRoleRESTServiceClient extends AuthorizationChecker implements
     @Override
     public Page<? extends SystemTenantRole> getAll(Long tenantId, Long roleId, int pageNo, int pageSize,
                                             List<String> sortBy, boolean isAscending) throws SystemException {
-        return get(() -> getAllCore(tenantId, roleId, pageNo, pageSize, sortBy, isAscending));
+        return getAll(tenantId, roleId, pageNo, pageSize, sortBy, isAscending, CountMode.EXACT);
+    }
+
+    /**
+     * Retrieves TenantRole associations using pagination approach
+     * (Invokes the core method counterpart and handles TokenExpiration error)
+     * @param tenantId tenant identifier (Optional)
+     * @param roleId role identifier (Optional)
+     * @param pageNo page number
+     * @param pageSize page size
+     * @param sortBy any specific column
+     * @param isAscending true in case records should be filter in ascending order
+     * @param countMode how the total number of associations is counted
+     * @return Page containing TenantRole associations (Chunk/Portion compatible
+     * with parameter Page number and Page size)
+     * @throws SystemException in case of any error
+     */
+    @Override
+    public Page<? extends SystemTenantRole> getAll(Long tenantId, Long roleId, int pageNo, int pageSize,
+                                            List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException {
+        return get(() -> getAllCore(tenantId, roleId, pageNo, pageSize, sortBy, isAscending, countMode));
     }
 
     /**
@@ -96,16 +119,17 @@ public class TenantRoleRESTServiceClient extends AuthorizationChecker implements
      * @param pageSize page size
      * @param sortBy any specific column
      * @param isAscending true in case records should be filter in ascending order
+     * @param countMode how the total number of associations is counted
      * @return Page containing TenantRole associations (Chunk/Portion compatible
      * with parameter Page number and Page size)
      * @throws SystemException in case of any error
      */
     protected Page<? extends SystemTenantRole> getAllCore(Long tenantId, Long roleId, int pageNo, int pageSize,
-                                                          List<String> sortBy, boolean isAscending) throws SystemException {
+                                                          List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException {
         try {
             TenantRoleResourceClient client = clientServiceUtil.getTenantResourceClient(oaf.
                     getProperty(OAFProperties.SYSTEM_MS_ENDPOINT_ROLEMANAGEMENT));
-            Response response = client.getAll(tenantId, roleId, pageNo, pageSize, sortBy, isAscending);
+            Response response = client.getAll(tenantId, roleId, pageNo, pageSize, sortBy, isAscending, countMode);
             return TenantRoleModelMapper.mapToPage((InputStream) response.getEntity());
         }
         catch (MalformedURLException | ProcessingException | ExtensionException | InternalServerErrorException e) {
@@ -295,6 +319,36 @@ public class TenantRoleRESTServiceClient extends AuthorizationChecker implements
         }
     }
 
+    /**
+     * Deletes all the Tenant Role associations of the given tenants (Invokes the core method
+     * counterpart and handles TokenExpiration error)
+     * @param tenantIds tenant identifiers
+     * @return Boolean indicating if the operation was concluded with success.
+     * @throws SystemException in case of any error
+     */
+    @Override
+    public Boolean deleteByTenants(Collection<Long> tenantIds) throws SystemException {
+        return get(this::deleteByTenantsCore, tenantIds);
+    }
+
+    /**
+     * Core method that deletes all the Tenant Role associations of the given tenants
+     * with one single request
+     * @param tenantIds tenant identifiers
+     * @return Boolean indicating if the operation was concluded with success.
+     * @throws TokenExpiredException if the JWT token expires
+     * @throws SystemException in case of any other error
+     */
+    private Boolean deleteByTenantsCore(Collection<Long> tenantIds) throws SystemException {
+        TenantRoleResourceClient client = getTenantRoleResourceClient();
+        try (Response response = client.deleteByTenants(new ArrayList<>(tenantIds))) {
+            return response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL;
+        }
+        catch (ExtensionException | ProcessingException | BadRequestException | InternalServerErrorException e) {
+            throw new SystemException(e);
+        }
+    }
+
     /**
      * Summary: Retrieve TenantRole associations by tenant identifier, role identifier and a
      * junction function
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.rolemanagement.client.services;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.model.tenantrole.SystemTenantRole;
 import io.radien.ms.rolemanagement.client.entities.GlobalHeaders;
 import io.radien.ms.rolemanagement.client.entities.TenantRole;
@@ -52,6 +53,7 @@ public interface TenantRoleResourceClient {
      * @param pageSize page size
      * @param sortBy criteria field to be sorted
      * @param isAscending boolean value to show the values ascending or descending way
+     * @param countMode how the total number of associations is counted
      * @return In case of successful operation returns OK (http status 200)
      * and a Page containing TenantRole associations (Chunk/Portion compatible
      * with parameter Page number and Page size).<br>
@@ -64,7 +66,32 @@ public interface TenantRoleResourceClient {
                            @DefaultValue("1")@QueryParam("pageNo") int pageNo,
                            @DefaultValue("10") @QueryParam("pageSize") int pageSize,
                            @QueryParam("sortBy") List<String> sortBy,
-                           @DefaultValue("true") @QueryParam("asc") boolean isAscending);
+                           @DefaultValue("true") @QueryParam("asc") boolean isAscending,
+                           @DefaultValue("EXACT") @QueryParam("countMode") CountMode countMode);
+
+    /**
+     * Retrieves TenantRole association using pagination by cursor (keyset mode)
+     * @param tenantId tenant identifier (Optional)
+     * @param roleId role identifier (Optional)
+     * @param cursor cursor of the page, not informed for the first page
+     * @param pageSize page size
+     * @param sortBy criteria field to be sorted
+     * @param isAscending boolean value to show the values ascending or descending way
+     * @param count boolean value to count the total number of associations
+     * @return In case of successful operation returns OK (http status 200)
+     * and a Page containing TenantRole associations and the cursor of the next page.<br>
+     * In case of invalid cursor returns Bad Request (400)
+     */
+    @GET
+    @Path("/cursor")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getAllByCursor(@QueryParam("tenantId") Long tenantId,
+                                   @QueryParam("roleId") Long roleId,
+                                   @QueryParam("cursor") String cursor,
+                                   @DefaultValue("10") @QueryParam("pageSize") int pageSize,
+                                   @QueryParam("sortBy") List<String> sortBy,
+                                   @DefaultValue("true") @QueryParam("asc") boolean isAscending,
+                                   @DefaultValue("false") @QueryParam("count") boolean count);
 
     /**
      * Retrieves TenantRole associations that met the following parameter
@@ -117,6 +144,19 @@ public interface TenantRoleResourceClient {
     @Path("/{id}")
     public Response delete(@PathParam("id") long id);
 
+    /**
+     * Deletes all the Tenant Role associations (and their users and permissions) of the given tenants.
+     * The tenant identifiers are sent in the request body, since a hierarchy may contain too many tenants
+     * to be informed as query parameters.
+     * @param tenantIds tenant identifiers
+     * @return 200 code message in case of success (containing the number of deleted associations),
+     * 400 if the tenant identifiers are not informed, 500 code message if there is any error.
+     */
+    @POST
+    @Path("/tenants/delete")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Response deleteByTenants(List<Long> tenantIds);
+
     /**
      * Create a TenantRole association
      * @param tenantRole bean that corresponds to TenantRole association to be created
@@ -200,6 +240,64 @@ public interface TenantRoleResourceClient {
                                          @QueryParam("permissionId") Long permissionId,
                                          @QueryParam("tenantId") Long tenantId);
 
+    /**
+     * Evaluates, by one single operation, which of the informed Roles a User has (Optionally under a Tenant)
+     * @param userId User identifier
+     * @param roleNames Role names to be evaluated
+     * @param tenantId Tenant identifier (Optional)
+     * @return Response OK containing the list of granted role names.
+     * Response 400 in case of absence of parameter like user identifier.
+     * Response 500 in case of any error
+     */
+    @GET
+    @Path("/granted/roles")
+    Response getGrantedRoles(@QueryParam("userId") Long userId,
+                             @QueryParam("roleNames") List<String> roleNames,
+                             @QueryParam("tenantId") Long tenantId);
+
+    /**
+     * Evaluates, by one single operation, which of the informed Permissions a User has (Optionally under a Tenant)
+     * @param userId User identifier
+     * @param permissionIds Permission identifiers to be evaluated
+     * @param tenantId Tenant identifier (Optional)
+     * @return Response OK containing the list of granted permission identifiers.
+     * Response 400 in case of absence of parameter like user identifier.
+     * Response 500 in case of any error
+     */
+    @GET
+    @Path("/granted/permissions")
+    Response getGrantedPermissions(@QueryParam("userId") Long userId,
+                                   @QueryParam("permissionIds") List<Long> permissionIds,
+                                   @QueryParam("tenantId") Long tenantId);
+
+    /**
+     * Retrieves the effective permissions snapshot of a User (Optionally under a Tenant).
+     * The snapshot contains all the granted permission identifiers plus a version,
+     * which allows the client side to evaluate permissions locally while the version does not change
+     * @param userId User identifier
+     * @param tenantId Tenant identifier (Optional)
+     * @return Response OK containing the effective permissions snapshot.
+     * Response 400 in case of absence of parameter like user identifier.
+     * Response 500 in case of any error
+     */
+    @GET
+    @Path("/effective/permissions")
+    Response getEffectivePermissions(@QueryParam("userId") Long userId,
+                                     @QueryParam("tenantId") Long tenantId);
+
+    /**
+     * Retrieves the version of the effective permissions snapshot of a User (Optionally under a Tenant)
+     * @param userId User identifier
+     * @param tenantId Tenant identifier (Optional)
+     * @return Response OK containing the snapshot version.
+     * Response 400 in case of absence of parameter like user identifier.
+     * Response 500 in case of any error
+     */
+    @GET
+    @Path("/effective/permissions/version")
+    Response getEffectivePermissionsVersion(@QueryParam("userId") Long userId,
+                                            @QueryParam("tenantId") Long tenantId);
+
     /**
      * Retrieves the Roles for which a User is associated under a Tenant
      * @param userId User identifier
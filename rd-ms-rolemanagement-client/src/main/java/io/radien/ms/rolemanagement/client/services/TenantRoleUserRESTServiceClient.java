@@ -17,6 +17,7 @@ package io.radien.ms.rolemanagement.client.services;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.model.tenant.SystemTenant;
@@ -94,7 +95,27 @@ public class TenantRoleUserRESTServiceClient extends AuthorizationChecker implem
     public Page<? extends SystemTenantRoleUser> getAll(Long tenantRoleId, Long userId,
                                                        int pageNo, int pageSize,
                                                        List<String> sortBy, boolean isAscending) throws SystemException {
-        return get(() -> getAllCore(tenantRoleId, userId, pageNo, pageSize, sortBy, isAscending));
+        return getAll(tenantRoleId, userId, pageNo, pageSize, sortBy, isAscending, CountMode.EXACT);
+    }
+
+    /**
+     * Under a pagination approach, retrieves the Tenant Role Users associations that currently exist
+     * (Invokes the core method counterpart and handles TokenExpiration error)
+     * @param tenantRoleId tenant role identifier(Acting as filter)
+     * @param userId user identifier (Acting as filter)
+     * @param pageNo page number
+     * @param pageSize page size
+     * @param sortBy criteria field to be sorted
+     * @param isAscending boolean value to show the values ascending or descending way
+     * @param countMode how the total number of associations is counted
+     * @return Page containing TenantRoleUser instances
+     * @throws SystemException in case of any error
+     */
+    @Override
+    public Page<? extends SystemTenantRoleUser> getAll(Long tenantRoleId, Long userId,
+                                                       int pageNo, int pageSize,
+                                                       List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException {
+        return get(() -> getAllCore(tenantRoleId, userId, pageNo, pageSize, sortBy, isAscending, countMode));
     }
 
     /**
@@ -105,15 +126,16 @@ public class TenantRoleUserRESTServiceClient extends AuthorizationChecker implem
      * @param pageSize page size
      * @param sortBy criteria field to be sorted
      * @param isAscending boolean value to show the values ascending or descending way
+     * @param countMode how the total number of associations is counted
      * @return Page containing TenantRole user associations (Chunk/Portion compatible
      * with parameter Page number and Page size)
      * @throws SystemException in case of any error
      */
     protected Page<? extends SystemTenantRoleUser> getAllCore(Long tenantRoleId, Long userId,
                                                               int pageNo, int pageSize,
-                                                              List<String> sortBy, boolean isAscending) throws SystemException {
+                                                              List<String> sortBy, boolean isAscending, CountMode countMode) throws SystemException {
         TenantRoleUserResourceClient client = getClient();
-        try (Response response = client.getAll(tenantRoleId, userId, pageNo, pageSize, sortBy, isAscending)){
+        try (Response response = client.getAll(tenantRoleId, userId, pageNo, pageSize, sortBy, isAscending, countMode)){
             return TenantRoleUserModelMapper.mapToPage((InputStream) response.getEntity());
         }
         catch (ExtensionException | ProcessingException | InternalServerErrorException e){
@@ -134,7 +156,24 @@ public class TenantRoleUserRESTServiceClient extends AuthorizationChecker implem
      */
     @Override
     public Page<Long> getUsersIds(Long tenantId, Long roleId, int pageNo, int pageSize) throws SystemException {
-        return get(() -> getUsersIdsCore(tenantId, roleId, pageNo, pageSize));
+        return getUsersIds(tenantId, roleId, pageNo, pageSize, CountMode.EXACT);
+    }
+
+    /**
+     * Under a pagination approach, retrieves the Ids for Users associations that exist
+     * for a TenantRole
+     * (Invokes the core method counterpart and handles TokenExpiration error)
+     * @param tenantId tenant identifier for a TenantRole (Acting as filter)
+     * @param roleId role identifier for a TenantRole (Acting as filter)
+     * @param pageNo page number
+     * @param pageSize page size
+     * @param countMode how the total number of user ids is counted
+     * @return Page containing TenantRoleUser instances
+     * @throws SystemException in case of any error
+     */
+    @Override
+    public Page<Long> getUsersIds(Long tenantId, Long roleId, int pageNo, int pageSize, CountMode countMode) throws SystemException {
+        return get(() -> getUsersIdsCore(tenantId, roleId, pageNo, pageSize, countMode));
     }
 
     /**
@@ -143,13 +182,14 @@ public class TenantRoleUserRESTServiceClient extends AuthorizationChecker implem
      * @param roleId role identifier for a TenantRole (Acting as filter)
      * @param pageNo page number
      * @param pageSize page size
+     * @param countMode how the total number of user ids is counted
      * @return Page containing TenantRole user associations (Chunk/Portion compatible
      * with parameter Page number and Page size)
      * @throws SystemException in case of any error
      */
-    protected Page<Long> getUsersIdsCore(Long tenantId, Long roleId, int pageNo, int pageSize) throws SystemException {
+    protected Page<Long> getUsersIdsCore(Long tenantId, Long roleId, int pageNo, int pageSize, CountMode countMode) throws SystemException {
         TenantRoleUserResourceClient client = getClient();
-        try (Response response = client.getAllUserIds(tenantId, roleId, pageNo, pageSize)) {
+        try (Response response = client.getAllUserIds(tenantId, roleId, pageNo, pageSize, countMode)) {
             return getPageIds((InputStream) response.getEntity());
         }
         catch (ExtensionException | ProcessingException | InternalServerErrorException e){
@@ -288,6 +328,36 @@ public class TenantRoleUserRESTServiceClient extends AuthorizationChecker implem
         }
     }
 
+    /**
+     * Deletes all the TenantRoleUser associations of a user (Invokes the core method
+     * counterpart and handles TokenExpiration error)
+     * @param userId user identifier
+     * @return Boolean indicating if operation was concluded successfully
+     * @throws SystemException in case of any error
+     */
+    @Override
+    public Boolean deleteByUser(Long userId) throws SystemException {
+        return get(this::deleteByUserCore, userId);
+    }
+
+    /**
+     * Core method that deletes all the TenantRoleUser associations of a user with one single request
+     * @param userId user identifier
+     * @return Boolean indicating if operation was concluded successfully
+     * @throws SystemException in case of any error
+     */
+    private Boolean deleteByUserCore(Long userId) throws SystemException {
+        try {
+            TenantRoleUserResourceClient client = clientServiceUtil.getTenantRoleUserResourceClient(
+                    oaf.getProperty(OAFProperties.SYSTEM_MS_ENDPOINT_ROLEMANAGEMENT));
+            Response response = client.deleteByUser(userId);
+            return response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL;
+        }
+        catch (ExtensionException | ProcessingException | MalformedURLException e) {
+            throw new SystemException(e);
+        }
+    }
+
 
     /**
      * Retrieves the existent Tenants for a User (Optionally for a specific role)
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.rolemanagement.client.services;
 
+import io.radien.api.entity.CountMode;
 import io.radien.ms.rolemanagement.client.entities.GlobalHeaders;
 import io.radien.ms.rolemanagement.client.entities.TenantRoleUser;
 import java.util.Collection;
@@ -52,6 +53,7 @@ public interface TenantRoleUserResourceClient {
      * @param pageSize page size
      * @param sortBy criteria field to be sorted
      * @param isAscending boolean value to show the values ascending or descending way
+     * @param countMode how the total number of associations is counted
      * @return In case of successful operation returns OK (http status 200)
      * and a Page containing TenantRoleUser associations (Chunk/Portion compatible
      * with parameter Page number and Page size).
@@ -63,7 +65,31 @@ public interface TenantRoleUserResourceClient {
                     @DefaultValue("1")  @QueryParam("pageNo") int pageNo,
                     @DefaultValue("10") @QueryParam("pageSize") int pageSize,
                     @QueryParam("sortBy") List<String> sortBy,
-                    @DefaultValue("true") @QueryParam("asc") boolean isAscending);
+                    @DefaultValue("true") @QueryParam("asc") boolean isAscending,
+                    @DefaultValue("EXACT") @QueryParam("countMode") CountMode countMode);
+
+    /**
+     * Retrieves TenantRoleUser association using pagination by cursor (keyset mode)
+     * @param tenantRoleId identifier for a TenantRole (Optional)
+     * @param userId identifier for a user (Optional)
+     * @param cursor cursor of the page, not informed for the first page
+     * @param pageSize page size
+     * @param sortBy criteria field to be sorted
+     * @param isAscending boolean value to show the values ascending or descending way
+     * @param count boolean value to count the total number of associations
+     * @return In case of successful operation returns OK (http status 200)
+     * and a Page containing TenantRoleUser associations and the cursor of the next page.
+     * In case of invalid cursor returns Bad Request (400)
+     */
+    @GET
+    @Path("/cursor")
+    Response getAllByCursor(@QueryParam("tenantRoleId") Long tenantRoleId,
+                            @QueryParam("userId") Long userId,
+                            @QueryParam("cursor") String cursor,
+                            @DefaultValue("10") @QueryParam("pageSize") int pageSize,
+                            @QueryParam("sortBy") List<String> sortBy,
+                            @DefaultValue("true") @QueryParam("asc") boolean isAscending,
+                            @DefaultValue("false") @QueryParam("count") boolean count);
     /**
      * Retrieves TenantRoleUser association (Ids) using pagination approach
      * (in other words, retrieves the Users associations that exist for a TenantRole)
@@ -71,6 +97,7 @@ public interface TenantRoleUserResourceClient {
      * @param roleId role identifier for a TenantRole
      * @param pageNo page number
      * @param pageSize page size
+     * @param countMode how the total number of user ids is counted
      * @return In case of successful operation returns OK (http status 200)
      * and a Page containing TenantRole associations Ids (Chunk/Portion compatible
      * with parameter Page number and Page size).<br>
@@ -81,7 +108,8 @@ public interface TenantRoleUserResourceClient {
     Response getAllUserIds(@QueryParam("tenantId") Long tenantId,
                            @QueryParam("roleId") Long roleId,
                            @DefaultValue("1")  @QueryParam("pageNo") int pageNo,
-                           @DefaultValue("10") @QueryParam("pageSize") int pageSize);
+                           @DefaultValue("10") @QueryParam("pageSize") int pageSize,
+                           @DefaultValue("EXACT") @QueryParam("countMode") CountMode countMode);
 
     /**
      * Deletes a Tenant Role User association using the id as search parameter.
@@ -94,6 +122,16 @@ public interface TenantRoleUserResourceClient {
     @Path("/{id}")
     Response delete(@PathParam("id") long id);
 
+    /**
+     * Deletes all the Tenant Role User associations of a user
+     * @param userId user identifier
+     * @return 200 code message in case of success (containing the number of deleted associations),
+     * 400 if the user identifier is not informed, 500 code message if there is any error.
+     */
+    @DELETE
+    @Path("/user/{userId}")
+    Response deleteByUser(@PathParam("userId") Long userId);
+
     /**
      * Assign/associate/add permission to a TenantRole domain
      * The association will always be under a specific role
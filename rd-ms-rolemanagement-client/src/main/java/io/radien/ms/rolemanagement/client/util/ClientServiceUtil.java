@@ -15,6 +15,7 @@
  */
 package io.radien.ms.rolemanagement.client.util;
 
+import io.radien.api.util.RestClientRegistry;
 import io.radien.ms.rolemanagement.client.exception.RoleResponseExceptionMapper;
 import io.radien.ms.rolemanagement.client.providers.RoleMessageBodyWriter;
 import io.radien.ms.rolemanagement.client.providers.TenantRoleMessageBodyWriter;
@@ -24,13 +25,11 @@ import io.radien.ms.rolemanagement.client.services.RoleResourceClient;
 import io.radien.ms.rolemanagement.client.services.TenantRolePermissionResourceClient;
 import io.radien.ms.rolemanagement.client.services.TenantRoleResourceClient;
 import io.radien.ms.rolemanagement.client.services.TenantRoleUserResourceClient;
-import org.eclipse.microprofile.rest.client.RestClientBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.enterprise.context.RequestScoped;
 import java.net.MalformedURLException;
-import java.net.URL;
 
 /**
  * Constructor for communication with the linked authorization and role clients
@@ -48,14 +47,9 @@ public class ClientServiceUtil {
      * @throws MalformedURLException in case of error in the given URL or communication cannot be performed
      */
     public RoleResourceClient getRoleResourceClient(String urlStr) throws MalformedURLException {
-        URL url = new URL(urlStr);
         log.info(urlStr);
-        return RestClientBuilder.
-                newBuilder()
-                .baseUrl(url)
-                .register(RoleResponseExceptionMapper.class)
-                .register(RoleMessageBodyWriter.class)
-                .build(RoleResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, RoleResourceClient.class,
+                RoleResponseExceptionMapper.class, RoleMessageBodyWriter.class);
     }
 
     /**
@@ -66,14 +60,9 @@ public class ClientServiceUtil {
      * @throws MalformedURLException in case of error in the given URL or communication cannot be performed
      */
     public TenantRoleResourceClient getTenantResourceClient(String urlStr) throws MalformedURLException {
-        URL url = new URL(urlStr);
         log.info(urlStr);
-        return RestClientBuilder.
-                newBuilder()
-                .baseUrl(url)
-                .register(RoleResponseExceptionMapper.class)
-                .register(TenantRoleMessageBodyWriter.class)
-                .build(TenantRoleResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, TenantRoleResourceClient.class,
+                RoleResponseExceptionMapper.class, TenantRoleMessageBodyWriter.class);
     }
 
     /**
@@ -84,14 +73,9 @@ public class ClientServiceUtil {
      * @throws MalformedURLException in case of error in the given URL or communication cannot be performed
      */
     public TenantRoleUserResourceClient getTenantRoleUserResourceClient(String urlStr) throws MalformedURLException {
-        URL url = new URL(urlStr);
         log.info(urlStr);
-        return RestClientBuilder.
-                newBuilder()
-                .baseUrl(url)
-                .register(RoleResponseExceptionMapper.class)
-                .register(TenantRoleUserMessageBodyWriter.class)
-                .build(TenantRoleUserResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, TenantRoleUserResourceClient.class,
+                RoleResponseExceptionMapper.class, TenantRoleUserMessageBodyWriter.class);
     }
 
     /**
@@ -102,13 +86,8 @@ public class ClientServiceUtil {
      * @throws MalformedURLException in case of error in the given URL or communication cannot be performed
      */
     public TenantRolePermissionResourceClient getTenantRolePermissionResourceClient(String urlStr) throws MalformedURLException {
-        URL url = new URL(urlStr);
         log.info(urlStr);
-        return RestClientBuilder.
-                newBuilder()
-                .baseUrl(url)
-                .register(RoleResponseExceptionMapper.class)
-                .register(TenantRolePermissionMessageBodyWriter.class)
-                .build(TenantRolePermissionResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, TenantRolePermissionResourceClient.class,
+                RoleResponseExceptionMapper.class, TenantRolePermissionMessageBodyWriter.class);
     }
 }
@@ -16,11 +16,9 @@
 package io.radien.ms.rolemanagement.client.util;
 
 import io.radien.api.model.role.SystemRole;
+import io.radien.api.util.StreamingJsonMapper;
 import io.radien.ms.rolemanagement.client.services.RoleFactory;
 
-import javax.json.Json;
-import javax.json.JsonArray;
-import javax.json.JsonReader;
 import java.io.InputStream;
 import java.util.List;
 
@@ -41,9 +39,6 @@ public class ListRoleModelMapper {
      * @return a list of system role
      */
     public static List<? extends SystemRole> map(InputStream is) {
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonArray jsonArray = jsonReader.readArray();
-            return RoleFactory.convert(jsonArray);
-        }
+        return StreamingJsonMapper.readList(is, RoleFactory::convert);
     }
 }
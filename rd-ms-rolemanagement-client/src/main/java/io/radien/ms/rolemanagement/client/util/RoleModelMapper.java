@@ -17,6 +17,7 @@ package io.radien.ms.rolemanagement.client.util;
 
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
+import io.radien.api.util.StreamingJsonMapper;
 import io.radien.ms.rolemanagement.client.entities.Role;
 import io.radien.ms.rolemanagement.client.services.RoleFactory;
 
@@ -81,11 +82,7 @@ public class RoleModelMapper {
      * @return a page of roles with the requested information
      */
     public static Page<Role> mapToPage(InputStream is) {
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonObject jsonObject = jsonReader.readObject();
-
-            return RoleFactory.convertJsonToPage(jsonObject);
-        }
+        return StreamingJsonMapper.readPage(is, RoleFactory::convert);
     }
 
     /**
@@ -94,9 +91,6 @@ public class RoleModelMapper {
      * @return a list of roles with the requested information
      */
     public static List<? extends SystemRole> mapList(InputStream is) throws ParseException {
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonArray jsonArray = jsonReader.readArray();
-            return RoleFactory.convert(jsonArray);
-        }
+        return StreamingJsonMapper.readList(is, RoleFactory::convert);
     }
 }
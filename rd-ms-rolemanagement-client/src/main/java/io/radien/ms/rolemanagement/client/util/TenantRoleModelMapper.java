@@ -16,11 +16,11 @@
 package io.radien.ms.rolemanagement.client.util;
 
 import io.radien.api.entity.Page;
+import io.radien.api.util.StreamingJsonMapper;
 import io.radien.ms.rolemanagement.client.entities.TenantRole;
 import io.radien.ms.rolemanagement.client.services.TenantRoleFactory;
 
 import javax.json.Json;
-import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.json.JsonReader;
 import java.io.InputStream;
@@ -53,10 +53,7 @@ public class TenantRoleModelMapper {
      * @return a list of tenant role object based in the received information
      */
     public static List<? extends TenantRole> mapList(InputStream is) {
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonArray jsonArray = jsonReader.readArray();
-            return TenantRoleFactory.convert(jsonArray);
-        }
+        return StreamingJsonMapper.readList(is, TenantRoleFactory::convert);
     }
 
     /**
@@ -76,9 +73,6 @@ public class TenantRoleModelMapper {
      * @return a page of tenant role object based in the received information
      */
     public static Page<TenantRole> mapToPage(InputStream is) {
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonObject jsonObject = jsonReader.readObject();
-            return TenantRoleFactory.convertJsonToPage(jsonObject);
-        }
+        return StreamingJsonMapper.readPage(is, TenantRoleFactory::convert);
     }
 }
@@ -16,11 +16,11 @@
 package io.radien.ms.rolemanagement.client.util;
 
 import io.radien.api.entity.Page;
+import io.radien.api.util.StreamingJsonMapper;
 import io.radien.ms.rolemanagement.client.entities.TenantRolePermission;
 import io.radien.ms.rolemanagement.client.services.TenantRolePermissionFactory;
 
 import javax.json.Json;
-import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.json.JsonReader;
 import java.io.InputStream;
@@ -53,10 +53,7 @@ public class TenantRolePermissionModelMapper {
      * @return a list of tenant role permission object based in the received information
      */
     public static List<? extends TenantRolePermission> mapList(InputStream is) {
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonArray jsonArray = jsonReader.readArray();
-            return TenantRolePermissionFactory.convert(jsonArray);
-        }
+        return StreamingJsonMapper.readList(is, TenantRolePermissionFactory::convert);
     }
 
     /**
@@ -76,9 +73,6 @@ public class TenantRolePermissionModelMapper {
      * @return a page of tenant role permission object based in the received information
      */
     public static Page<TenantRolePermission> mapToPage(InputStream is) {
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonObject jsonObject = jsonReader.readObject();
-            return TenantRolePermissionFactory.convertJsonToPage(jsonObject);
-        }
+        return StreamingJsonMapper.readPage(is, TenantRolePermissionFactory::convert);
     }
 }
@@ -16,11 +16,11 @@
 package io.radien.ms.rolemanagement.client.util;
 
 import io.radien.api.entity.Page;
+import io.radien.api.util.StreamingJsonMapper;
 import io.radien.ms.rolemanagement.client.entities.TenantRoleUser;
 import io.radien.ms.rolemanagement.client.services.TenantRoleUserFactory;
 
 import javax.json.Json;
-import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.json.JsonReader;
 import java.io.InputStream;
@@ -53,10 +53,7 @@ public class TenantRoleUserModelMapper {
      * @return a list of tenant role user object based in the received information
      */
     public static List<? extends TenantRoleUser> mapList(InputStream is) {
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonArray jsonArray = jsonReader.readArray();
-            return TenantRoleUserFactory.convert(jsonArray);
-        }
+        return StreamingJsonMapper.readList(is, TenantRoleUserFactory::convert);
     }
 
     /**
@@ -76,9 +73,6 @@ public class TenantRoleUserModelMapper {
      * @return a page of tenant role user object based in the received information
      */
     public static Page<TenantRoleUser> mapToPage(InputStream is) {
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonObject jsonObject = jsonReader.readObject();
-            return TenantRoleUserFactory.convertJsonToPage(jsonObject);
-        }
+        return StreamingJsonMapper.readPage(is, TenantRoleUserFactory::convert);
     }
 }
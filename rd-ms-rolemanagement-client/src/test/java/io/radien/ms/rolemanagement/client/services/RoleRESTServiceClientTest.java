@@ -17,6 +17,7 @@ package io.radien.ms.rolemanagement.client.services;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.CountMode;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.security.TokensPlaceHolder;
 import io.radien.api.util.FactoryUtilService;
@@ -106,7 +107,7 @@ public class RoleRESTServiceClientTest {
 
         RoleResourceClient roleResourceClient = Mockito.mock(RoleResourceClient.class);
 
-        when(roleResourceClient.getAll(null,1, 10,  null, false)).thenReturn(response);
+        when(roleResourceClient.getAll(null,1, 10,  null, false, CountMode.EXACT)).thenReturn(response);
 
         when(roleServiceUtil.getRoleResourceClient(getPermissionManagementUrl())).thenReturn(roleResourceClient);
 
@@ -122,7 +123,7 @@ public class RoleRESTServiceClientTest {
         RoleResourceClient roleResourceClient = Mockito.mock(RoleResourceClient.class);
 
         when(roleServiceUtil.getRoleResourceClient(getPermissionManagementUrl())).thenReturn(roleResourceClient);
-        when(roleResourceClient.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean())).thenThrow(new TokenExpiredException("test"));
+        when(roleResourceClient.getAll(anyString(), anyInt(), anyInt(), anyList(), anyBoolean(), any())).thenThrow(new TokenExpiredException("test"));
 
         when(authorizationChecker.getUserClient()).thenReturn(userClient);
         when(tokensPlaceHolder.getRefreshToken()).thenReturn("test");
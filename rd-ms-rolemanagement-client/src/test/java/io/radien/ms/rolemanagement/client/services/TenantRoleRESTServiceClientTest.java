@@ -17,6 +17,7 @@ package io.radien.ms.rolemanagement.client.services;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.model.tenantrole.SystemTenantRole;
@@ -37,6 +38,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import javax.json.Json;
@@ -422,6 +425,27 @@ public class TenantRoleRESTServiceClientTest {
         assertTrue(result);
     }
 
+    /**
+     * Test for method deleteByTenants(Collection tenantIds)
+     * Expected: success for 200 responses, false for other statuses and SystemException for processing issues
+     * @throws MalformedURLException for url informed incorrectly
+     * @throws SystemException in case of any communication issue
+     */
+    @Test
+    public void testDeleteByTenants() throws MalformedURLException, SystemException {
+        TenantRoleResourceClient client = Mockito.mock(TenantRoleResourceClient.class);
+        when(roleServiceUtil.getTenantResourceClient(getRoleManagementUrl())).thenReturn(client);
+
+        when(client.deleteByTenants(Arrays.asList(1L, 2L))).thenReturn(Response.ok(2).build());
+        assertTrue(target.deleteByTenants(Arrays.asList(1L, 2L)));
+
+        when(client.deleteByTenants(Collections.singletonList(3L))).thenReturn(Response.status(400).build());
+        assertFalse(target.deleteByTenants(Collections.singletonList(3L)));
+
+        when(client.deleteByTenants(Collections.singletonList(4L))).thenThrow(new ProcessingException("test"));
+        assertThrows(SystemException.class, () -> target.deleteByTenants(Collections.singletonList(4L)));
+    }
+
     /**
      * Test to validate if specific required association exists but with status not ok
      * (Http Status code different from 204)
@@ -550,7 +574,7 @@ public class TenantRoleRESTServiceClientTest {
         Response response = Response.ok(is).build();
         TenantRoleResourceClient client = Mockito.mock(TenantRoleResourceClient.class);
 
-        when(client.getAll(1L, 1L, 1, 3, null, false)).thenReturn(response);
+        when(client.getAll(1L, 1L, 1, 3, null, false, CountMode.EXACT)).thenReturn(response);
         when(roleServiceUtil.getTenantResourceClient(getRoleManagementUrl())).
                 thenReturn(client);
 
@@ -572,7 +596,7 @@ public class TenantRoleRESTServiceClientTest {
         TenantRoleResourceClient client = Mockito.mock(TenantRoleResourceClient.class);
 
         when(roleServiceUtil.getTenantResourceClient(getRoleManagementUrl())).thenReturn(client);
-        when(client.getAll(1L, 1L, 1, 2, null, false)).thenThrow(new TokenExpiredException("test"));
+        when(client.getAll(1L, 1L, 1, 2, null, false, CountMode.EXACT)).thenThrow(new TokenExpiredException("test"));
 
         when(authorizationChecker.getUserClient()).thenReturn(userClient);
         when(tokensPlaceHolder.getRefreshToken()).thenReturn("test");
@@ -593,7 +617,7 @@ public class TenantRoleRESTServiceClientTest {
         TenantRoleResourceClient client = Mockito.mock(TenantRoleResourceClient.class);
 
         when(roleServiceUtil.getTenantResourceClient(getRoleManagementUrl())).thenReturn(client);
-        when(client.getAll(1L, 1L, 1, 2, null, false)).
+        when(client.getAll(1L, 1L, 1, 2, null, false, CountMode.EXACT)).
                 thenThrow(new InternalServerErrorException("test"));
 
         target.getAll(1L, 1L, 1, 2, null, false);
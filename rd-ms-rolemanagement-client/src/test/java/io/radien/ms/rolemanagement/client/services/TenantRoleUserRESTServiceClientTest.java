@@ -17,6 +17,7 @@ package io.radien.ms.rolemanagement.client.services;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.model.tenant.SystemTenant;
@@ -119,7 +120,7 @@ public class TenantRoleUserRESTServiceClientTest {
         Response response = Response.ok(is).build();
         TenantRoleUserResourceClient client = mock(TenantRoleUserResourceClient.class);
 
-        when(client.getAll(2L, 3L, 1, 3, null, false)).thenReturn(response);
+        when(client.getAll(2L, 3L, 1, 3, null, false, CountMode.EXACT)).thenReturn(response);
         when(roleServiceUtil.getTenantRoleUserResourceClient(getRoleManagementUrl())).
                 thenReturn(client);
 
@@ -141,7 +142,7 @@ public class TenantRoleUserRESTServiceClientTest {
 
         // Simulates JWT expire even on the reattempt
         when(roleServiceUtil.getTenantRoleUserResourceClient(getRoleManagementUrl())).thenReturn(client);
-        when(client.getAll(33L, 44L, 1, 2, null, false)).
+        when(client.getAll(33L, 44L, 1, 2, null, false, CountMode.EXACT)).
                 thenThrow(new TokenExpiredException("test")).
                 thenThrow(new TokenExpiredException("test"));
 
@@ -164,7 +165,7 @@ public class TenantRoleUserRESTServiceClientTest {
         TenantRoleUserResourceClient client = mock(TenantRoleUserResourceClient.class);
 
         when(roleServiceUtil.getTenantRoleUserResourceClient(getRoleManagementUrl())).thenReturn(client);
-        when(client.getAll(33L, 44L, 1, 2, null, false)).thenThrow(new InternalServerErrorException("test"));
+        when(client.getAll(33L, 44L, 1, 2, null, false, CountMode.EXACT)).thenThrow(new InternalServerErrorException("test"));
 
         when(authorizationChecker.getUserClient()).thenReturn(userClient);
         when(tokensPlaceHolder.getRefreshToken()).thenReturn("test");
@@ -190,7 +191,7 @@ public class TenantRoleUserRESTServiceClientTest {
         Response response = Response.ok(is).build();
         TenantRoleUserResourceClient client = mock(TenantRoleUserResourceClient.class);
 
-        when(client.getAllUserIds(2L, 3L, 1, 3)).thenReturn(response);
+        when(client.getAllUserIds(2L, 3L, 1, 3, CountMode.EXACT)).thenReturn(response);
         when(roleServiceUtil.getTenantRoleUserResourceClient(getRoleManagementUrl())).
                 thenReturn(client);
 
@@ -212,7 +213,7 @@ public class TenantRoleUserRESTServiceClientTest {
 
         // Simulates JWT expire even on the reattempt
         when(roleServiceUtil.getTenantRoleUserResourceClient(getRoleManagementUrl())).thenReturn(client);
-        when(client.getAllUserIds(33L, 44L, 1, 2)).
+        when(client.getAllUserIds(33L, 44L, 1, 2, CountMode.EXACT)).
                 thenThrow(new TokenExpiredException("test")).
                 thenThrow(new TokenExpiredException("test"));
 
@@ -235,7 +236,7 @@ public class TenantRoleUserRESTServiceClientTest {
         TenantRoleUserResourceClient client = mock(TenantRoleUserResourceClient.class);
 
         when(roleServiceUtil.getTenantRoleUserResourceClient(getRoleManagementUrl())).thenReturn(client);
-        when(client.getAllUserIds(33L, 44L, 1, 2)).thenThrow(new InternalServerErrorException("test"));
+        when(client.getAllUserIds(33L, 44L, 1, 2, CountMode.EXACT)).thenThrow(new InternalServerErrorException("test"));
 
         when(authorizationChecker.getUserClient()).thenReturn(userClient);
         when(tokensPlaceHolder.getRefreshToken()).thenReturn("test");
@@ -455,6 +456,27 @@ public class TenantRoleUserRESTServiceClientTest {
         target.delete(1L);
     }
 
+    /**
+     * Test for method deleteByUser(Long userId)
+     * Expected: success for 200 responses, false for other statuses and SystemException for processing issues
+     * @throws MalformedURLException for url informed incorrectly
+     * @throws SystemException in case of any communication issue
+     */
+    @Test
+    public void testDeleteByUser() throws MalformedURLException, SystemException {
+        TenantRoleUserResourceClient client = mock(TenantRoleUserResourceClient.class);
+        when(roleServiceUtil.getTenantRoleUserResourceClient(getRoleManagementUrl())).thenReturn(client);
+
+        when(client.deleteByUser(1L)).thenReturn(Response.ok(2).build());
+        assertTrue(target.deleteByUser(1L));
+
+        when(client.deleteByUser(2L)).thenReturn(Response.status(400).build());
+        assertFalse(target.deleteByUser(2L));
+
+        when(client.deleteByUser(3L)).thenThrow(new ProcessingException("test"));
+        assertThrows(SystemException.class, () -> target.deleteByUser(3L));
+    }
+
     /**
      * Test the updating of a TenantRoleUser but with token expiration
      * @throws MalformedURLException for url informed incorrectly
@@ -15,10 +15,13 @@
  */
 package io.radien.ms.rolemanagement.datalayer;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.model.role.SystemRoleSearchFilter;
 import io.radien.api.service.role.RoleServiceAccess;
+import io.radien.api.util.ModelServiceUtil;
+import io.radien.api.util.PageCountCache;
 import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.exception.InvalidArgumentException;
 import io.radien.exception.UniquenessConstraintException;
@@ -54,18 +57,20 @@ public class RoleService implements RoleServiceAccess {
      * @param pageSize total number of pages returned in the request.
      * @param sortBy sort filter criteria.
      * @param isAscending ascending filter criteria.
+     * @param countMode how the total number of roles is counted.
      * @return a page of system roles.
      */
     @Override
-    public Page<SystemRole> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending) {
+    public Page<SystemRole> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending,
+                                   CountMode countMode) {
         CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
         CriteriaQuery<RoleEntity> criteriaQuery = criteriaBuilder.createQuery(RoleEntity.class);
         Root<RoleEntity> roleRoot = criteriaQuery.from(RoleEntity.class);
 
         criteriaQuery.select(roleRoot);
-        Predicate global = criteriaBuilder.isTrue(criteriaBuilder.literal(true));
+        Predicate global = search != null ? criteriaBuilder.and(criteriaBuilder.like(roleRoot.get("name"), search)) :
+                criteriaBuilder.isTrue(criteriaBuilder.literal(true));
         if(search!= null) {
-            global = criteriaBuilder.and(criteriaBuilder.like(roleRoot.get("name"), search));
             criteriaQuery.where(global);
         }
         if(sortBy != null && !sortBy.isEmpty()){
@@ -85,10 +90,8 @@ public class RoleService implements RoleServiceAccess {
 
         List<? extends SystemRole> systemRoles = q.getResultList();
 
-        int totalRecords = Math.toIntExact(getCount(global, roleRoot));
-        int totalPages = totalRecords%pageSize==0 ? totalRecords/pageSize : totalRecords/pageSize+1;
-
-        return new Page<>(systemRoles, pageNo, totalRecords, totalPages);
+        return ModelServiceUtil.getPage(systemRoles, pageNo, pageSize, countMode, RoleEntity.class, search,
+                () -> getCount(global, roleRoot));
     }
 
     /**
@@ -146,6 +149,7 @@ public class RoleService implements RoleServiceAccess {
 
         if(alreadyExistentRecords.isEmpty()) {
             entityManager.persist(role);
+            PageCountCache.current().invalidate(RoleEntity.class);
         } else {
             throw new UniquenessConstraintException(GenericErrorCodeMessage.DUPLICATED_FIELD.toString("Name"));
         }
@@ -164,6 +168,7 @@ public class RoleService implements RoleServiceAccess {
         validateUniquenessRecords(alreadyExistentRecords, role);
 
         entityManager.merge(role);
+        PageCountCache.current().invalidate(RoleEntity.class);
     }
 
     /**
@@ -179,7 +184,9 @@ public class RoleService implements RoleServiceAccess {
         Root<RoleEntity> roleRoot = criteriaDelete.from(RoleEntity.class);
 
         criteriaDelete.where(cb.equal(roleRoot.get("id"),roleId));
-        return entityManager.createQuery(criteriaDelete).executeUpdate() > 0;
+        boolean deleted = entityManager.createQuery(criteriaDelete).executeUpdate() > 0;
+        PageCountCache.current().invalidate(RoleEntity.class);
+        return deleted;
     }
 
     /**
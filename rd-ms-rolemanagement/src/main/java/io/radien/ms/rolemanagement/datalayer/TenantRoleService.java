@@ -16,10 +16,14 @@
 package io.radien.ms.rolemanagement.datalayer;
 
 import io.radien.api.SystemVariables;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenantrole.SystemTenantRole;
 import io.radien.api.model.tenantrole.SystemTenantRoleSearchFilter;
 import io.radien.api.service.tenantrole.TenantRoleServiceAccess;
+import io.radien.api.util.BatchSettings;
+import io.radien.api.util.ModelServiceUtil;
+import io.radien.api.util.PageCountCache;
 import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.exception.InvalidArgumentException;
 import io.radien.exception.UniquenessConstraintException;
@@ -42,6 +46,9 @@ import javax.persistence.criteria.Root;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.CriteriaDelete;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -71,11 +78,12 @@ public class TenantRoleService implements TenantRoleServiceAccess {
      * @param pageSize total number of pages returned in the request.
      * @param sortBy sort filter criteria.
      * @param isAscending ascending filter criteria.
+     * @param countMode how the total number of associations is counted.
      * @return a page containing system tenant role associations.
      */
     @Override
     public Page<SystemTenantRole> getAll(Long tenantId, Long roleId, int pageNo, int pageSize,
-                                         List<String> sortBy, boolean isAscending) {
+                                         List<String> sortBy, boolean isAscending, CountMode countMode) {
         CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
         CriteriaQuery<TenantRoleEntity> criteriaQuery = criteriaBuilder.createQuery(TenantRoleEntity.class);
         Root<TenantRoleEntity> tenantRoleRoot = criteriaQuery.from(TenantRoleEntity.class);
@@ -109,10 +117,43 @@ public class TenantRoleService implements TenantRoleServiceAccess {
 
         List<? extends SystemTenantRole> systemTenantRoles = q.getResultList();
 
-        int totalRecords = Math.toIntExact(getCount(global, tenantRoleRoot));
-        int totalPages = totalRecords%pageSize==0 ? totalRecords/pageSize : totalRecords/pageSize+1;
+        Predicate countPredicate = global;
+        return ModelServiceUtil.getPage(systemTenantRoles, pageNo, pageSize, countMode, TenantRoleEntity.class,
+                Arrays.asList(tenantId, roleId), () -> getCount(countPredicate, tenantRoleRoot));
+    }
+
+    /**
+     * Gets the tenant role associations into a pagination mode by cursor (keyset mode).
+     * @param tenantId tenant identifier (Optional)
+     * @param roleId role identifier (Optional)
+     * @param cursor of the requested page, null or empty for the first page.
+     * @param pageSize total number of records returned in the request.
+     * @param sortBy sort filter criteria (Optional).
+     * @param isAscending ascending filter criteria.
+     * @param count if the total number of associations should be counted.
+     * @return a page of system tenant role associations with the cursor of the next page.
+     */
+    @Override
+    public Page<SystemTenantRole> getAllByCursor(Long tenantId, Long roleId, String cursor, int pageSize,
+                                                 List<String> sortBy, boolean isAscending, boolean count) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TenantRoleEntity> criteriaQuery = criteriaBuilder.createQuery(TenantRoleEntity.class);
+        Root<TenantRoleEntity> tenantRoleRoot = criteriaQuery.from(TenantRoleEntity.class);
+
+        criteriaQuery.select(tenantRoleRoot);
+        Predicate global = criteriaBuilder.isTrue(criteriaBuilder.literal(true));
+
+        if (tenantId != null) {
+            global = criteriaBuilder.and(global, criteriaBuilder.equal(tenantRoleRoot.get(
+                    SystemVariables.TENANT_ID.getFieldName()), tenantId));
+        }
+        if (roleId != null) {
+            global = criteriaBuilder.and(global, criteriaBuilder.equal(tenantRoleRoot.get(
+                    SystemVariables.ROLE_ID.getFieldName()), roleId));
+        }
 
-        return new Page<>(systemTenantRoles, pageNo, totalRecords, totalPages);
+        return ModelServiceUtil.getPageByCursor(entityManager, criteriaQuery, tenantRoleRoot, global,
+                sortBy, isAscending, cursor, pageSize, count);
     }
 
     /**
@@ -200,6 +241,7 @@ public class TenantRoleService implements TenantRoleServiceAccess {
         ValidationUtil.checkIfMandatoryParametersWereInformed(tenantRole.getRoleId(), tenantRole.getTenantId());
         checkUniqueness(tenantRole);
         entityManager.persist(tenantRole);
+        PageCountCache.current().invalidate(TenantRoleEntity.class);
     }
 
     /**
@@ -213,6 +255,7 @@ public class TenantRoleService implements TenantRoleServiceAccess {
         ValidationUtil.checkIfMandatoryParametersWereInformed(tenantRole.getTenantId(), tenantRole.getRoleId(), tenantRole.getId());
         checkUniqueness(tenantRole);
         entityManager.merge(tenantRole);
+        PageCountCache.current().invalidate(TenantRoleEntity.class);
     }
 
     /**
@@ -237,7 +280,59 @@ public class TenantRoleService implements TenantRoleServiceAccess {
         CriteriaDelete<TenantRoleEntity> criteriaDelete = cb.createCriteriaDelete(TenantRoleEntity.class);
         Root<TenantRoleEntity> tenantRoleRoot = criteriaDelete.from(TenantRoleEntity.class);
         criteriaDelete.where(cb.equal(tenantRoleRoot.get(SystemVariables.ID.getFieldName()),tenantRoleId));
-        return entityManager.createQuery(criteriaDelete).executeUpdate() > 0;
+        boolean deleted = entityManager.createQuery(criteriaDelete).executeUpdate() > 0;
+        PageCountCache.current().invalidate(TenantRoleEntity.class);
+        return deleted;
+    }
+
+    /**
+     * Deletes all the Tenant Role associations of the given tenants, together with the
+     * users and permissions associated with them. The associations are retrieved and deleted
+     * in chunks, with one statement per table and chunk
+     * @param tenantIds tenant identifiers
+     * @return the number of deleted tenant role associations
+     * @throws InvalidArgumentException in case of tenant identifiers not informed
+     */
+    @Override
+    public int deleteByTenants(Collection<Long> tenantIds) throws InvalidArgumentException {
+        ValidationUtil.checkIfMandatoryParametersWereInformed(tenantIds);
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(tenantIds));
+        int chunkSize = BatchSettings.getChunkSize();
+        int deleted = 0;
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            CriteriaQuery<Long> criteriaQuery = cb.createQuery(Long.class);
+            Root<TenantRoleEntity> root = criteriaQuery.from(TenantRoleEntity.class);
+            criteriaQuery.select(root.get(SystemVariables.ID.getFieldName()));
+            criteriaQuery.where(root.get(SystemVariables.TENANT_ID.getFieldName()).
+                    in(ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+            List<Long> tenantRoleIds = entityManager.createQuery(criteriaQuery).getResultList();
+            if (!tenantRoleIds.isEmpty()) {
+                delete(TenantRoleUserEntity.class, SystemVariables.TENANT_ROLE_ID.getFieldName(), tenantRoleIds);
+                delete(TenantRolePermissionEntity.class, SystemVariables.TENANT_ROLE_ID.getFieldName(), tenantRoleIds);
+                deleted += delete(TenantRoleEntity.class, SystemVariables.ID.getFieldName(), tenantRoleIds);
+            }
+        }
+        PageCountCache.current().invalidate(TenantRoleUserEntity.class);
+        PageCountCache.current().invalidate(TenantRolePermissionEntity.class);
+        PageCountCache.current().invalidate(TenantRoleEntity.class);
+        return deleted;
+    }
+
+    /**
+     * Deletes the rows of the given entity having the given field in the requested values
+     * @param entityClass entity to be deleted
+     * @param field to be matched
+     * @param values to be deleted
+     * @param <T> entity type
+     * @return the number of deleted rows
+     */
+    private <T> int delete(Class<T> entityClass, String field, Collection<Long> values) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<T> criteriaDelete = cb.createCriteriaDelete(entityClass);
+        Root<T> root = criteriaDelete.from(entityClass);
+        criteriaDelete.where(root.get(field).in(values));
+        return entityManager.createQuery(criteriaDelete).executeUpdate();
     }
 
     /**
@@ -321,6 +416,118 @@ public class TenantRoleService implements TenantRoleServiceAccess {
         return !count.isEmpty() && count.get(0) > 0;
     }
 
+    /**
+     * Retrieves, among the informed Roles, the ones that a User has (Optionally for a specific Tenant).
+     * All the roles are evaluated by one single query
+     * @param userId User identifier
+     * @param roleNames Role names to be evaluated
+     * @param tenantId Tenant identifier (Optional)
+     * @return List containing the granted role names
+     * @throws InvalidArgumentException if user identifier is not informed
+     */
+    @Override
+    public List<String> getGrantedRoles(Long userId, List<String> roleNames, Long tenantId) throws InvalidArgumentException {
+        ValidationUtil.checkIfMandatoryParametersWereInformed(userId);
+        if (roleNames == null || roleNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<String> cq = cb.createQuery(String.class);
+        Root<RoleEntity> roleRoot = cq.from(RoleEntity.class);
+        Root<TenantRoleEntity> tenantRoleRoot = cq.from(TenantRoleEntity.class);
+        Root<TenantRoleUserEntity> tenantRoleUserRoot = cq.from(TenantRoleUserEntity.class);
+
+        cq.select(roleRoot.get(SystemVariables.NAME.getFieldName()));
+        cq.distinct(true);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(roleRoot.get(SystemVariables.NAME.getFieldName()).in(roleNames));
+        predicates.add(cb.equal(roleRoot.get(SystemVariables.ID.getFieldName()), tenantRoleRoot.get(SystemVariables.ROLE_ID.getFieldName())));
+        predicates.add(cb.equal(tenantRoleRoot.get(SystemVariables.ID.getFieldName()), tenantRoleUserRoot.get(SystemVariables.TENANT_ROLE_ID.getFieldName())));
+        if (tenantId != null) {
+            predicates.add(cb.equal(tenantRoleRoot.get(SystemVariables.TENANT_ID.getFieldName()), tenantId));
+        }
+        predicates.add(cb.equal(tenantRoleUserRoot.get(SystemVariables.USER_ID.getFieldName()), userId));
+
+        cq.where(cb.and(predicates.toArray(new Predicate[0])));
+
+        return entityManager.createQuery(cq).getResultList();
+    }
+
+    /**
+     * Retrieves, among the informed Permissions, the ones that a User has (Optionally for a specific Tenant).
+     * All the permissions are evaluated by one single query
+     * @param userId User identifier
+     * @param permissionIds Permission identifiers to be evaluated
+     * @param tenantId Tenant identifier (Optional)
+     * @return List containing the granted permission identifiers
+     * @throws InvalidArgumentException if user identifier is not informed
+     */
+    @Override
+    public List<Long> getGrantedPermissions(Long userId, List<Long> permissionIds, Long tenantId) throws InvalidArgumentException {
+        ValidationUtil.checkIfMandatoryParametersWereInformed(userId);
+        if (permissionIds == null || permissionIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<TenantRoleEntity> tenantRoleRoot = cq.from(TenantRoleEntity.class);
+        Root<TenantRolePermissionEntity> tenantRolePermissionRoot = cq.from(TenantRolePermissionEntity.class);
+        Root<TenantRoleUserEntity> tenantRoleUserRoot = cq.from(TenantRoleUserEntity.class);
+
+        cq.select(tenantRolePermissionRoot.get(SystemVariables.PERMISSION_ID.getFieldName()));
+        cq.distinct(true);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(tenantRoleRoot.get(SystemVariables.ID.getFieldName()), tenantRolePermissionRoot.get(SystemVariables.TENANT_ROLE_ID.getFieldName())));
+        predicates.add(cb.equal(tenantRoleRoot.get(SystemVariables.ID.getFieldName()), tenantRoleUserRoot.get(SystemVariables.TENANT_ROLE_ID.getFieldName())));
+        predicates.add(tenantRolePermissionRoot.get(SystemVariables.PERMISSION_ID.getFieldName()).in(permissionIds));
+        predicates.add(cb.equal(tenantRoleUserRoot.get(SystemVariables.USER_ID.getFieldName()), userId));
+        if (tenantId != null) {
+            predicates.add(cb.equal(tenantRoleRoot.get(SystemVariables.TENANT_ID.getFieldName()), tenantId));
+        }
+
+        cq.where(cb.and(predicates.toArray(new Predicate[0])));
+
+        return entityManager.createQuery(cq).getResultList();
+    }
+
+    /**
+     * Retrieves all the Permissions that a User has (Optionally for a specific Tenant).
+     * Used to build the effective permissions snapshot of a user
+     * @param userId User identifier
+     * @param tenantId Tenant identifier (Optional)
+     * @return List containing the (distinct) granted permission identifiers
+     * @throws InvalidArgumentException if user identifier is not informed
+     */
+    @Override
+    public List<Long> getEffectivePermissions(Long userId, Long tenantId) throws InvalidArgumentException {
+        ValidationUtil.checkIfMandatoryParametersWereInformed(userId);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<TenantRoleEntity> tenantRoleRoot = cq.from(TenantRoleEntity.class);
+        Root<TenantRolePermissionEntity> tenantRolePermissionRoot = cq.from(TenantRolePermissionEntity.class);
+        Root<TenantRoleUserEntity> tenantRoleUserRoot = cq.from(TenantRoleUserEntity.class);
+
+        cq.select(tenantRolePermissionRoot.get(SystemVariables.PERMISSION_ID.getFieldName()));
+        cq.distinct(true);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(tenantRoleRoot.get(SystemVariables.ID.getFieldName()), tenantRolePermissionRoot.get(SystemVariables.TENANT_ROLE_ID.getFieldName())));
+        predicates.add(cb.equal(tenantRoleRoot.get(SystemVariables.ID.getFieldName()), tenantRoleUserRoot.get(SystemVariables.TENANT_ROLE_ID.getFieldName())));
+        predicates.add(cb.equal(tenantRoleUserRoot.get(SystemVariables.USER_ID.getFieldName()), userId));
+        if (tenantId != null) {
+            predicates.add(cb.equal(tenantRoleRoot.get(SystemVariables.TENANT_ID.getFieldName()), tenantId));
+        }
+
+        cq.where(cb.and(predicates.toArray(new Predicate[0])));
+
+        return entityManager.createQuery(cq).getResultList();
+    }
+
     @Override
     public long count() {
         CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
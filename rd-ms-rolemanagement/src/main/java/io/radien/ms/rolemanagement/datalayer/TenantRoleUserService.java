@@ -16,10 +16,13 @@
 package io.radien.ms.rolemanagement.datalayer;
 
 import io.radien.api.SystemVariables;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenantrole.SystemTenantRoleUser;
 import io.radien.api.model.tenantrole.SystemTenantRoleUserSearchFilter;
 import io.radien.api.service.tenantrole.TenantRoleUserServiceAccess;
+import io.radien.api.util.ModelServiceUtil;
+import io.radien.api.util.PageCountCache;
 import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.exception.InvalidArgumentException;
 import io.radien.exception.UniquenessConstraintException;
@@ -28,6 +31,7 @@ import io.radien.ms.rolemanagement.entities.TenantRoleEntity;
 import io.radien.ms.rolemanagement.entities.TenantRoleUserEntity;
 import io.radien.ms.rolemanagement.util.ValidationUtil;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -75,11 +79,12 @@ public class TenantRoleUserService implements TenantRoleUserServiceAccess {
      * @param pageSize total number of pages returned in the request
      * @param sortBy criteria field to be sorted
      * @param isAscending boolean value to show the values ascending or descending way
+     * @param countMode how the total number of associations is counted
      * @return a page containing system tenant role user associations.
      */
     @Override
     public Page<SystemTenantRoleUser> getAll(Long tenantRoleId, Long userId, int pageNo, int pageSize,
-                                             List<String> sortBy, boolean isAscending) {
+                                             List<String> sortBy, boolean isAscending, CountMode countMode) {
         log.info("Retrieving tenant role user associations using pagination mode, tenantRole  {} user{}, page {}, size {}", tenantRoleId, userId, pageNo, pageSize);
 
         CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
@@ -116,10 +121,47 @@ public class TenantRoleUserService implements TenantRoleUserServiceAccess {
 
         List<? extends SystemTenantRoleUser> systemTenantRolesUsers = q.getResultList();
 
-        int totalRecords = Math.toIntExact(getCount(global, tenantRoleRoot));
-        int totalPages = totalRecords%pageSize==0 ? totalRecords/pageSize : totalRecords/pageSize+1;
+        Predicate countPredicate = global;
+        return ModelServiceUtil.getPage(systemTenantRolesUsers, pageNo, pageSize, countMode,
+                TenantRoleUserEntity.class, Arrays.asList(tenantRoleId, userId),
+                () -> getCount(countPredicate, tenantRoleRoot));
+    }
+
+    /**
+     * Gets the tenant role user associations into a pagination mode by cursor (keyset mode).
+     * @param tenantRoleId search param that corresponds to the TenantRole id (Optional)
+     * @param userId search param that corresponds to the user id (Optional)
+     * @param cursor of the requested page, null or empty for the first page
+     * @param pageSize total number of records returned in the request
+     * @param sortBy criteria field to be sorted
+     * @param isAscending boolean value to show the values ascending or descending way
+     * @param count boolean value to count the total number of associations
+     * @return a page containing system tenant role user associations with the cursor of the next page.
+     */
+    @Override
+    public Page<SystemTenantRoleUser> getAllByCursor(Long tenantRoleId, Long userId, String cursor, int pageSize,
+                                                     List<String> sortBy, boolean isAscending, boolean count) {
+        log.info("Retrieving tenant role user associations using cursor pagination mode, tenantRole  {} user{}, size {}", tenantRoleId, userId, pageSize);
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TenantRoleUserEntity> criteriaQuery = criteriaBuilder.createQuery(TenantRoleUserEntity.class);
+        Root<TenantRoleUserEntity> tenantRoleRoot = criteriaQuery.from(TenantRoleUserEntity.class);
+
+        criteriaQuery.select(tenantRoleRoot);
+        Predicate global = criteriaBuilder.isTrue(criteriaBuilder.literal(true));
+
+        if (tenantRoleId != null) {
+            global = criteriaBuilder.and(global, criteriaBuilder.equal(tenantRoleRoot.get(
+                    SystemVariables.TENANT_ROLE_ID.getFieldName()), tenantRoleId));
+        }
+
+        if (userId != null) {
+            global = criteriaBuilder.and(global, criteriaBuilder.equal(tenantRoleRoot.get(
+                    SystemVariables.USER_ID.getFieldName()), userId));
+        }
 
-        return new Page<>(systemTenantRolesUsers, pageNo, totalRecords, totalPages);
+        return ModelServiceUtil.getPageByCursor(entityManager, criteriaQuery, tenantRoleRoot, global,
+                sortBy, isAscending, cursor, pageSize, count);
     }
 
     /**
@@ -128,10 +170,11 @@ public class TenantRoleUserService implements TenantRoleUserServiceAccess {
      * @param role search param that corresponds to the TenantRole.roleId (Optional)
      * @param pageNo of the requested information. Where the tenant is.
      * @param pageSize total number of pages returned in the request.
+     * @param countMode how the total number of user ids is counted
      * @return a page containing system tenant role user associations.
      */
     @Override
-    public Page<Long> getAllUserIds(Long tenant, Long role, int pageNo, int pageSize) {
+    public Page<Long> getAllUserIds(Long tenant, Long role, int pageNo, int pageSize, CountMode countMode) {
         log.info("Retrieving tenant role user associations ids using pagination mode, tenant {} role{}, page {}, size {}", tenant, role, pageNo, pageSize);
 
         List<Long> tenantRoleIds = (tenant != null || role != null) ? getTenantRoleIds(tenant, role) : null;
@@ -157,10 +200,10 @@ public class TenantRoleUserService implements TenantRoleUserServiceAccess {
 
         List<Long> systemTenantRolesUsers = q.getResultList();
 
-        int totalRecords = Math.toIntExact(getCount(global, tenantRoleUserRoot));
-        int totalPages = totalRecords%pageSize==0 ? totalRecords/pageSize : totalRecords/pageSize+1;
-
-        return new Page<>(systemTenantRolesUsers, pageNo, totalRecords, totalPages);
+        Predicate countPredicate = global;
+        return ModelServiceUtil.getPage(systemTenantRolesUsers, pageNo, pageSize, countMode,
+                TenantRoleUserEntity.class, Arrays.asList(SystemVariables.USER_ID.getFieldName(), tenant, role),
+                () -> getCount(countPredicate, tenantRoleUserRoot));
     }
 
     /**
@@ -193,6 +236,7 @@ public class TenantRoleUserService implements TenantRoleUserServiceAccess {
     public void create(SystemTenantRoleUser tenantRoleUser) throws UniquenessConstraintException, InvalidArgumentException {
         checkUniqueness(tenantRoleUser);
         entityManager.persist(tenantRoleUser);
+        PageCountCache.current().invalidate(TenantRoleUserEntity.class);
     }
 
     /**
@@ -205,6 +249,7 @@ public class TenantRoleUserService implements TenantRoleUserServiceAccess {
     public void update(SystemTenantRoleUser tenantRoleUser) throws UniquenessConstraintException, InvalidArgumentException {
         checkUniqueness(tenantRoleUser);
         entityManager.merge(tenantRoleUser);
+        PageCountCache.current().invalidate(TenantRoleUserEntity.class);
     }
 
     /**
@@ -292,7 +337,9 @@ public class TenantRoleUserService implements TenantRoleUserServiceAccess {
         CriteriaDelete<TenantRoleUserEntity> criteriaDelete = cb.createCriteriaDelete(TenantRoleUserEntity.class);
         Root<TenantRoleUserEntity> tenantRoleUserRoot = criteriaDelete.from(TenantRoleUserEntity.class);
         criteriaDelete.where(cb.equal(tenantRoleUserRoot.get(SystemVariables.ID.getFieldName()),tenantRoleUserId));
-        return entityManager.createQuery(criteriaDelete).executeUpdate() > 0;
+        boolean deleted = entityManager.createQuery(criteriaDelete).executeUpdate() > 0;
+        PageCountCache.current().invalidate(TenantRoleUserEntity.class);
+        return deleted;
     }
 
     /**
@@ -373,7 +420,29 @@ public class TenantRoleUserService implements TenantRoleUserServiceAccess {
         Root<TenantRoleUserEntity> tenantRoleUserRoot = criteriaDelete.from(TenantRoleUserEntity.class);
         criteriaDelete.where(tenantRoleUserRoot.get(SystemVariables.ID.getFieldName()).in(ids));
 
-        return entityManager.createQuery(criteriaDelete).executeUpdate() > 0;
+        boolean deleted = entityManager.createQuery(criteriaDelete).executeUpdate() > 0;
+        PageCountCache.current().invalidate(TenantRoleUserEntity.class);
+        return deleted;
+    }
+
+    /**
+     * Deletes all the tenant role user associations of a user (with one single statement)
+     * @param userId user identifier (mandatory)
+     * @return the number of deleted associations
+     * @throws InvalidArgumentException if the user identifier is not informed
+     */
+    @Override
+    public int deleteByUser(Long userId) throws InvalidArgumentException {
+        ValidationUtil.checkIfMandatoryParametersWereInformed(userId);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<TenantRoleUserEntity> criteriaDelete = cb.createCriteriaDelete(TenantRoleUserEntity.class);
+        Root<TenantRoleUserEntity> tenantRoleUserRoot = criteriaDelete.from(TenantRoleUserEntity.class);
+        criteriaDelete.where(cb.equal(tenantRoleUserRoot.get(SystemVariables.USER_ID.getFieldName()), userId));
+
+        int deleted = entityManager.createQuery(criteriaDelete).executeUpdate();
+        PageCountCache.current().invalidate(TenantRoleUserEntity.class);
+        return deleted;
     }
 
     /**
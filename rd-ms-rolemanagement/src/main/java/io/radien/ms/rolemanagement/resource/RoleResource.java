@@ -15,6 +15,7 @@
  */
 package io.radien.ms.rolemanagement.resource;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.model.role.SystemRoleSearchFilter;
 import io.radien.ms.openid.entities.Authenticated;
@@ -56,14 +57,15 @@ public class RoleResource implements RoleResourceClient {
      * @param pageSize number of roles to be showed in each page.
      * @param sortBy Sorting fields
      * @param isAscending Defines if ascending or descending in relation of sorting fields
+     * @param countMode how the total number of roles is counted
      * @return In case of successful operation returns OK (http status 200)
      * and the page object (filled or not).<br>
      * Otherwise, in case of operational error, returns Internal Server Error (500)
      */
     @Override
     public Response getAll(String search, int pageNo, int pageSize,
-                           List<String> sortBy, boolean isAscending) {
-        return Response.ok(roleBusinessService.getAll(search, pageNo, pageSize, sortBy, isAscending)).build();
+                           List<String> sortBy, boolean isAscending, CountMode countMode) {
+        return Response.ok(roleBusinessService.getAll(search, pageNo, pageSize, sortBy, isAscending, countMode)).build();
     }
 
     /**
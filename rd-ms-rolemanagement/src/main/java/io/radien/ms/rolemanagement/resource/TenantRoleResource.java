@@ -15,11 +15,13 @@
  */
 package io.radien.ms.rolemanagement.resource;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.model.tenantrole.SystemTenantRole;
 import io.radien.api.service.permission.SystemActionsEnum;
 import io.radien.api.service.permission.SystemResourcesEnum;
 import io.radien.api.service.role.SystemRolesEnum;
 import io.radien.exception.GenericErrorMessagesToResponseMapper;
+import io.radien.exception.InvalidPageCursorException;
 import io.radien.exception.SystemException;
 import io.radien.ms.authz.security.AuthorizationChecker;
 import io.radien.ms.openid.entities.Authenticated;
@@ -70,6 +72,7 @@ public class TenantRoleResource extends AuthorizationChecker implements TenantRo
      * @param pageSize page size
      * @param sortBy criteria field to be sorted
      * @param isAscending boolean value to show the values ascending or descending way
+     * @param countMode how the total number of associations is counted
      * @return In case of successful operation returns OK (http status 200)
      * and a Page containing TenantRole associations (Chunk/Portion compatible
      * with parameter Page number and Page size).<br>
@@ -77,10 +80,35 @@ public class TenantRoleResource extends AuthorizationChecker implements TenantRo
      */
     @Override
     public Response getAll(Long tenantId, Long roleId, int pageNo, int pageSize,
-                           List<String> sortBy, boolean isAscending) {
+                           List<String> sortBy, boolean isAscending, CountMode countMode) {
         log.info("Retrieving TenantRole associations using pagination. Page number {}. Page Size {}.",
                 pageNo, pageSize);
-        return Response.ok().entity(tenantRoleBusinessService.getAll(tenantId, roleId, pageNo, pageSize, sortBy, isAscending)).build();
+        return Response.ok().entity(tenantRoleBusinessService.getAll(tenantId, roleId, pageNo, pageSize, sortBy, isAscending, countMode)).build();
+    }
+
+    /**
+     * Retrieves TenantRole association using pagination by cursor (keyset mode)
+     * @param tenantId tenant identifier (Optional)
+     * @param roleId role identifier (Optional)
+     * @param cursor cursor of the page, not informed for the first page
+     * @param pageSize page size
+     * @param sortBy criteria field to be sorted
+     * @param isAscending boolean value to show the values ascending or descending way
+     * @param count boolean value to count the total number of associations
+     * @return In case of successful operation returns OK (http status 200)
+     * and a Page containing TenantRole associations and the cursor of the next page.<br>
+     * In case of invalid cursor returns Bad Request (400)
+     */
+    @Override
+    public Response getAllByCursor(Long tenantId, Long roleId, String cursor, int pageSize,
+                                   List<String> sortBy, boolean isAscending, boolean count) {
+        log.info("Retrieving TenantRole associations using cursor pagination. Page Size {}.", pageSize);
+        try {
+            return Response.ok().entity(tenantRoleBusinessService.getAllByCursor(tenantId, roleId, cursor, pageSize,
+                    sortBy, isAscending, count)).build();
+        } catch (InvalidPageCursorException e) {
+            return GenericErrorMessagesToResponseMapper.getInvalidRequestResponse(e.getMessage());
+        }
     }
 
     /**
@@ -125,6 +153,18 @@ public class TenantRoleResource extends AuthorizationChecker implements TenantRo
         return Response.ok().build();
     }
 
+    /**
+     * Deletes all the Tenant Role associations (and their users and permissions) of the given tenants
+     * @param tenantIds tenant identifiers
+     * @return 200 code message in case of success, 400 if the tenant identifiers are not informed,
+     * 500 code message if there is any error.
+     */
+    @Override
+    public Response deleteByTenants(List<Long> tenantIds) {
+        log.info("Deleting TenantRole associations for {} tenants", tenantIds != null ? tenantIds.size() : 0);
+        return Response.ok(tenantRoleBusinessService.deleteByTenants(tenantIds)).build();
+    }
+
     /**
      * Create a TenantRole association
      * @param tenantRole bean that corresponds to TenantRole association to be created
@@ -247,6 +287,64 @@ public class TenantRoleResource extends AuthorizationChecker implements TenantRo
         return Response.ok().entity(tenantRoleBusinessService.isPermissionExistentForUser(userId, permissionId, tenantId)).build();
     }
 
+    /**
+     * Evaluates, by one single operation, which of the informed Roles a User has (Optionally under a Tenant)
+     * @param userId User identifier
+     * @param roleNames Role names to be evaluated
+     * @param tenantId Tenant identifier (Optional)
+     * @return Response OK containing the list of granted role names.
+     * Response 400 in case of absence of parameter like user identifier.
+     * Response 500 in case of any error
+     */
+    @Override
+    public Response getGrantedRoles(Long userId, List<String> roleNames, Long tenantId) {
+        log.info("Evaluating roles {} for user {} under tenant {}", roleNames, userId, tenantId);
+        return Response.ok().entity(tenantRoleBusinessService.getGrantedRoles(userId, roleNames, tenantId)).build();
+    }
+
+    /**
+     * Evaluates, by one single operation, which of the informed Permissions a User has (Optionally under a Tenant)
+     * @param userId User identifier
+     * @param permissionIds Permission identifiers to be evaluated
+     * @param tenantId Tenant identifier (Optional)
+     * @return Response OK containing the list of granted permission identifiers.
+     * Response 400 in case of absence of parameter like user identifier.
+     * Response 500 in case of any error
+     */
+    @Override
+    public Response getGrantedPermissions(Long userId, List<Long> permissionIds, Long tenantId) {
+        log.info("Evaluating permissions {} for user {} under tenant {}", permissionIds, userId, tenantId);
+        return Response.ok().entity(tenantRoleBusinessService.getGrantedPermissions(userId, permissionIds, tenantId)).build();
+    }
+
+    /**
+     * Retrieves the effective permissions snapshot of a User (Optionally under a Tenant)
+     * @param userId User identifier
+     * @param tenantId Tenant identifier (Optional)
+     * @return Response OK containing the effective permissions snapshot.
+     * Response 400 in case of absence of parameter like user identifier.
+     * Response 500 in case of any error
+     */
+    @Override
+    public Response getEffectivePermissions(Long userId, Long tenantId) {
+        log.info("Retrieving effective permissions for user {} under tenant {}", userId, tenantId);
+        return Response.ok().entity(tenantRoleBusinessService.getEffectivePermissions(userId, tenantId)).build();
+    }
+
+    /**
+     * Retrieves the version of the effective permissions snapshot of a User (Optionally under a Tenant)
+     * @param userId User identifier
+     * @param tenantId Tenant identifier (Optional)
+     * @return Response OK containing the snapshot version.
+     * Response 400 in case of absence of parameter like user identifier.
+     * Response 500 in case of any error
+     */
+    @Override
+    public Response getEffectivePermissionsVersion(Long userId, Long tenantId) {
+        log.info("Retrieving effective permissions version for user {} under tenant {}", userId, tenantId);
+        return Response.ok().entity(tenantRoleBusinessService.getEffectivePermissions(userId, tenantId).getVersion()).build();
+    }
+
     /**
      * Retrieves the Roles for which a User is associated under a Tenant
      * @param userId User identifier
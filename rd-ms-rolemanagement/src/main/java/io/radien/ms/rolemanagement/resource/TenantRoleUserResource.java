@@ -15,11 +15,13 @@
  */
 package io.radien.ms.rolemanagement.resource;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.model.tenantrole.SystemTenantRoleUserSearchFilter;
 import io.radien.api.service.permission.SystemActionsEnum;
 import io.radien.api.service.permission.SystemResourcesEnum;
 import io.radien.api.service.role.SystemRolesEnum;
 import io.radien.exception.GenericErrorMessagesToResponseMapper;
+import io.radien.exception.InvalidPageCursorException;
 import io.radien.exception.SystemException;
 import io.radien.ms.authz.security.AuthorizationChecker;
 import io.radien.ms.openid.entities.Authenticated;
@@ -71,6 +73,7 @@ public class TenantRoleUserResource extends AuthorizationChecker implements Tena
      * @param pageSize page size
      * @param sortBy criteria field to be sorted
      * @param isAscending boolean value to show the values ascending or descending way
+     * @param countMode how the total number of associations is counted
      * @return In case of successful operation returns OK (http status 200)
      * and a Page containing TenantRoleUser associations (Chunk/Portion compatible
      * with parameter Page number and Page size).
@@ -78,10 +81,35 @@ public class TenantRoleUserResource extends AuthorizationChecker implements Tena
      */
     @Override
     public Response getAll(Long tenantRoleId, Long userId, int pageNo, int pageSize,
-                           List<String> sortBy, boolean isAscending) {
+                           List<String> sortBy, boolean isAscending, CountMode countMode) {
         log.info("Retrieving TenantRole User associations using pagination. Page number {}. Page Size {}.",
                 pageNo, pageSize);
-        return Response.ok().entity(tenantRoleUserBusinessService.getAll(tenantRoleId, userId, pageNo, pageSize, sortBy, isAscending)).build();
+        return Response.ok().entity(tenantRoleUserBusinessService.getAll(tenantRoleId, userId, pageNo, pageSize, sortBy, isAscending, countMode)).build();
+    }
+
+    /**
+     * Retrieves TenantRoleUser association using pagination by cursor (keyset mode)
+     * @param tenantRoleId identifier for a TenantRole (Optional)
+     * @param userId identifier for a user (Optional)
+     * @param cursor cursor of the page, not informed for the first page
+     * @param pageSize page size
+     * @param sortBy criteria field to be sorted
+     * @param isAscending boolean value to show the values ascending or descending way
+     * @param count boolean value to count the total number of associations
+     * @return In case of successful operation returns OK (http status 200)
+     * and a Page containing TenantRoleUser associations and the cursor of the next page.
+     * In case of invalid cursor returns Bad Request (400)
+     */
+    @Override
+    public Response getAllByCursor(Long tenantRoleId, Long userId, String cursor, int pageSize,
+                                   List<String> sortBy, boolean isAscending, boolean count) {
+        log.info("Retrieving TenantRole User associations using cursor pagination. Page Size {}.", pageSize);
+        try {
+            return Response.ok().entity(tenantRoleUserBusinessService.getAllByCursor(tenantRoleId, userId, cursor,
+                    pageSize, sortBy, isAscending, count)).build();
+        } catch (InvalidPageCursorException e) {
+            return GenericErrorMessagesToResponseMapper.getInvalidRequestResponse(e.getMessage());
+        }
     }
 
     /**
@@ -91,16 +119,17 @@ public class TenantRoleUserResource extends AuthorizationChecker implements Tena
      * @param roleId role identifier for a TenantRole
      * @param pageNo page number
      * @param pageSize page size
+     * @param countMode how the total number of user ids is counted
      * @return In case of successful operation returns OK (http status 200)
      * and a Page containing TenantRole associations Ids (Chunk/Portion compatible
      * with parameter Page number and Page size).<br>
      * Otherwise, in case of operational error, returns Internal Server Error (500)
      */
     @Override
-    public Response getAllUserIds(Long tenantId, Long roleId, int pageNo, int pageSize) {
+    public Response getAllUserIds(Long tenantId, Long roleId, int pageNo, int pageSize, CountMode countMode) {
         log.info("Retrieving tenant role users ids. tenant id {} role id {}, pageNumber {} and pageSize {}",
                 tenantId, roleId, pageNo, pageSize);
-        return Response.ok().entity(tenantRoleUserBusinessService.getAllUserIds(tenantId, roleId, pageNo, pageSize)).build();
+        return Response.ok().entity(tenantRoleUserBusinessService.getAllUserIds(tenantId, roleId, pageNo, pageSize, countMode)).build();
     }
 
     /**
@@ -133,6 +162,18 @@ public class TenantRoleUserResource extends AuthorizationChecker implements Tena
         return Response.ok().build();
     }
 
+    /**
+     * Deletes all the TenantRoleUser associations of a user
+     * @param userId user identifier
+     * @return 200 code message in case of success (containing the number of deleted associations),
+     * 400 if the user identifier is not informed, 500 code message if there is any error.
+     */
+    @Override
+    public Response deleteByUser(Long userId) {
+        log.info("Deleting all TenantRole User associations for user {}", userId);
+        return Response.ok(tenantRoleUserBusinessService.deleteByUser(userId)).build();
+    }
+
     /**
      * Assign/associate/add user to a TenantRole domain
      * The association will always be under a specific role
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.rolemanagement.service;
+
+import io.radien.api.entity.EffectivePermissions;
+import io.radien.api.util.AfterCommit;
+import io.radien.api.util.ExpiringCache;
+import java.util.Objects;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the materialized effective permissions (per user and tenant) that were already calculated.
+ * Snapshots are invalidated whenever an association that affects them changes (TenantRoleUser,
+ * TenantRolePermission or TenantRole) and rebuilt on the next request. Within a transaction the snapshots
+ * are only invalidated once it is committed, so they are not rebuilt from the previous state in the meantime
+ * (see {@link AfterCommit}). The time to live
+ * limits how long a snapshot may be stale due changes performed by other nodes.
+ */
+@ApplicationScoped
+public class EffectivePermissionRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(EffectivePermissionRegistry.class);
+
+    private static final String TTL_PROPERTY = "system.effective.permissions.ttl";
+    private static final String MAX_SIZE_PROPERTY = "system.effective.permissions.max.size";
+    private static final long DEFAULT_TTL = 300000L;
+    private static final int DEFAULT_MAX_SIZE = 10000;
+
+    private ExpiringCache<Key, EffectivePermissions> snapshots = new ExpiringCache<>(DEFAULT_MAX_SIZE, DEFAULT_TTL);
+
+    /**
+     * Applies (if informed) the configured size and time to live
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            long ttl = ConfigProvider.getConfig().getOptionalValue(TTL_PROPERTY, Long.class).orElse(DEFAULT_TTL);
+            int maxSize = ConfigProvider.getConfig().getOptionalValue(MAX_SIZE_PROPERTY, Integer.class).orElse(DEFAULT_MAX_SIZE);
+            snapshots = new ExpiringCache<>(maxSize, ttl);
+        } catch (RuntimeException e) {
+            log.warn("Invalid effective permissions cache settings, using defaults", e);
+        }
+    }
+
+    /**
+     * Retrieves the snapshot for a user (and tenant)
+     * @param userId user identifier
+     * @param tenantId tenant identifier (null means all tenants)
+     * @return the snapshot or null if it was not built yet (or was invalidated)
+     */
+    public EffectivePermissions get(Long userId, Long tenantId) {
+        return snapshots.get(new Key(userId, tenantId));
+    }
+
+    /**
+     * Stores the snapshot (built for its user and tenant)
+     * @param effectivePermissions snapshot to be stored
+     */
+    public void put(EffectivePermissions effectivePermissions) {
+        snapshots.put(new Key(effectivePermissions.getUserId(), effectivePermissions.getTenantId()), effectivePermissions);
+    }
+
+    /**
+     * Drops all the snapshots of a user
+     * @param userId user identifier
+     */
+    public void invalidateUser(Long userId) {
+        AfterCommit.run(() -> snapshots.invalidateIf(key -> Objects.equals(key.userId, userId)));
+    }
+
+    /**
+     * Drops all the snapshots that may contain permissions granted under a tenant
+     * (the ones of that tenant and the ones built for all tenants)
+     * @param tenantId tenant identifier
+     */
+    public void invalidateTenant(Long tenantId) {
+        AfterCommit.run(() -> snapshots.invalidateIf(key -> key.tenantId == null || Objects.equals(key.tenantId, tenantId)));
+    }
+
+    /**
+     * Drops all the snapshots
+     */
+    public void invalidateAll() {
+        AfterCommit.run(() -> snapshots.invalidateAll());
+    }
+
+    /**
+     * Gets the snapshots cache (for monitoring purposes)
+     * @return the snapshots cache
+     */
+    public ExpiringCache<Key, EffectivePermissions> getSnapshots() {
+        return snapshots;
+    }
+
+    /**
+     * Snapshot key, composed by user and tenant
+     */
+    public static final class Key {
+        private final Long userId;
+        private final Long tenantId;
+
+        private Key(Long userId, Long tenantId) {
+            this.userId = userId;
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(userId, key.userId) && Objects.equals(tenantId, key.tenantId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, tenantId);
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.rolemanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.model.role.SystemRoleSearchFilter;
@@ -55,9 +56,11 @@ public class RoleBusinessService implements Serializable {
      * @param pageSize number of roles to be showed in each page.
      * @param sortBy Sorting fields
      * @param isAscending Defines if ascending or descending in relation of sorting fields
+     * @param countMode how the total number of roles is counted
      */
-    public Page<? extends SystemRole> getAll(String search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending) {
-        return roleServiceAccess.getAll(search, pageNo, pageSize, sortBy, isAscending);
+    public Page<? extends SystemRole> getAll(String search, int pageNo, int pageSize, List<String> sortBy,
+                                             boolean isAscending, CountMode countMode) {
+        return roleServiceAccess.getAll(search, pageNo, pageSize, sortBy, isAscending, countMode);
     }
 
     /**
@@ -15,6 +15,8 @@
  */
 package io.radien.ms.rolemanagement.service;
 
+import io.radien.api.entity.EffectivePermissions;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.model.tenantrole.SystemTenantRole;
@@ -34,6 +36,7 @@ import io.radien.ms.rolemanagement.client.entities.TenantRoleSearchFilter;
 import io.radien.ms.rolemanagement.entities.TenantRoleEntity;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import javax.ejb.Stateless;
@@ -57,17 +60,32 @@ public class TenantRoleBusinessService {
     private RoleServiceAccess roleServiceAccess;
     @Inject
     private TenantRoleServiceAccess tenantRoleService;
+    @Inject
+    private EffectivePermissionRegistry effectivePermissionRegistry;
 
     /**
      * Retrieves TenantRole association using pagination approach
      * @param pageNumber page number
      * @param pageSize page size
+     * @param countMode how the total number of associations is counted
      * @return Page containing TenantRole associations (Chunk/Portion compatible
      * with parameter Page number and Page size)
      */
     public Page<SystemTenantRole> getAll(Long tenantId, Long roleId, int pageNumber, int pageSize,
-                                         List<String> sortBy, boolean isAscending) {
-        return tenantRoleService.getAll(tenantId, roleId, pageNumber, pageSize, sortBy, isAscending);
+                                         List<String> sortBy, boolean isAscending, CountMode countMode) {
+        return tenantRoleService.getAll(tenantId, roleId, pageNumber, pageSize, sortBy, isAscending, countMode);
+    }
+
+    /**
+     * Retrieves TenantRole association using pagination by cursor (keyset mode)
+     * @param cursor cursor of the page, null or empty for the first page
+     * @param pageSize page size
+     * @param count indicates if the associations should be counted
+     * @return Page containing TenantRole associations and the cursor of the next page
+     */
+    public Page<SystemTenantRole> getAllByCursor(Long tenantId, Long roleId, String cursor, int pageSize,
+                                                 List<String> sortBy, boolean isAscending, boolean count) {
+        return tenantRoleService.getAllByCursor(tenantId, roleId, cursor, pageSize, sortBy, isAscending, count);
     }
 
     /**
@@ -119,6 +137,26 @@ public class TenantRoleBusinessService {
             if(!tenantRoleService.delete(id)) {
                 throw new TenantRoleNotFoundException(MessageFormat.format("No tenant role found with id {0}", id));
             }
+            effectivePermissionRegistry.invalidateAll();
+        } catch (InvalidArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes all the Tenant Role associations of the given tenants, including the users and
+     * permissions assigned to them (e.g. when a tenant hierarchy is removed)
+     * @param tenantIds tenant identifiers
+     * @return the number of deleted tenant role associations
+     * @throws BadRequestException if the tenant identifiers are not informed
+     */
+    public int deleteByTenants(Collection<Long> tenantIds) {
+        try {
+            int deleted = tenantRoleService.deleteByTenants(tenantIds);
+            if (deleted > 0) {
+                effectivePermissionRegistry.invalidateAll();
+            }
+            return deleted;
         } catch (InvalidArgumentException e) {
             throw new BadRequestException(e.getMessage());
         }
@@ -150,6 +188,7 @@ public class TenantRoleBusinessService {
         try {
             tenantRole.setId(id);
             tenantRoleService.update(new TenantRoleEntity(tenantRole));
+            effectivePermissionRegistry.invalidateAll();
         } catch (InvalidArgumentException e) {
             throw new BadRequestException(e.getMessage());
         } catch (UniquenessConstraintException e) {
@@ -214,8 +253,81 @@ public class TenantRoleBusinessService {
      * @throws BadRequestException if mandatory arguments are missing
      */
     public boolean isPermissionExistentForUser(Long userId, Long permissionId, Long tenantId) {
+        if (permissionId == null) {
+            throw new BadRequestException(GenericErrorCodeMessage.TENANT_ROLE_FIELD_MANDATORY.toString("permission id"));
+        }
+        return getEffectivePermissions(userId, tenantId).contains(permissionId);
+    }
+
+    /**
+     * Retrieves the effective permissions snapshot of a User (Optionally for a Tenant).
+     * The snapshot is built once and kept until an association that affects it changes
+     * @param userId User identifier
+     * @param tenantId Tenant identifier (Optional)
+     * @return the effective permissions snapshot (permission ids plus version)
+     * @throws BadRequestException if mandatory arguments are missing
+     */
+    public EffectivePermissions getEffectivePermissions(Long userId, Long tenantId) {
+        EffectivePermissions effectivePermissions = effectivePermissionRegistry.get(userId, tenantId);
+        if (effectivePermissions == null) {
+            try {
+                effectivePermissions = new EffectivePermissions(userId, tenantId,
+                        tenantRoleService.getEffectivePermissions(userId, tenantId));
+            } catch (InvalidArgumentException e) {
+                throw new BadRequestException(e.getMessage());
+            }
+            effectivePermissionRegistry.put(effectivePermissions);
+        }
+        return effectivePermissions;
+    }
+
+    /**
+     * Invalidates the effective permissions snapshots that may be affected by a change
+     * regarding a tenant (Ex: permission assigned to or removed from a tenant role)
+     * @param tenantId Tenant identifier
+     */
+    public void invalidateEffectivePermissionsForTenant(Long tenantId) {
+        effectivePermissionRegistry.invalidateTenant(tenantId);
+    }
+
+    /**
+     * Invalidates the effective permissions snapshots of a User
+     * (Ex: user assigned to or removed from a tenant role)
+     * @param userId User identifier
+     */
+    public void invalidateEffectivePermissionsForUser(Long userId) {
+        effectivePermissionRegistry.invalidateUser(userId);
+    }
+
+    /**
+     * Retrieves, among the informed Roles, the ones that a User has (Optionally for a Tenant).
+     * All the roles are evaluated at once
+     * @param userId User identifier
+     * @param roleNames Role names to be evaluated
+     * @param tenantId Tenant identifier (Optional)
+     * @return List containing the granted role names
+     * @throws BadRequestException if mandatory arguments are missing
+     */
+    public List<String> getGrantedRoles(Long userId, List<String> roleNames, Long tenantId) {
+        try {
+            return tenantRoleService.getGrantedRoles(userId, roleNames, tenantId);
+        } catch (InvalidArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves, among the informed Permissions, the ones that a User has (Optionally for a Tenant).
+     * All the permissions are evaluated at once
+     * @param userId User identifier
+     * @param permissionIds Permission identifiers to be evaluated
+     * @param tenantId Tenant identifier (Optional)
+     * @return List containing the granted permission identifiers
+     * @throws BadRequestException if mandatory arguments are missing
+     */
+    public List<Long> getGrantedPermissions(Long userId, List<Long> permissionIds, Long tenantId) {
         try {
-            return tenantRoleService.hasPermission(userId, permissionId, tenantId);
+            return tenantRoleService.getGrantedPermissions(userId, permissionIds, tenantId);
         } catch (InvalidArgumentException e) {
             throw new BadRequestException(e.getMessage());
         }
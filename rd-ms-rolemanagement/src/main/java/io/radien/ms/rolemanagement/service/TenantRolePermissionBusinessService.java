@@ -108,9 +108,13 @@ public class TenantRolePermissionBusinessService implements Serializable {
      * @throws RoleNotFoundException if no tenant role permission exists for the given id
      */
     public void delete(Long id) {
+        SystemTenantRolePermission tenantRolePermission = tenantRolePermissionService.get(id);
+        SystemTenantRole tenantRole = tenantRolePermission != null && tenantRolePermission.getTenantRoleId() != null ?
+                tenantRoleService.getById(tenantRolePermission.getTenantRoleId()) : null;
         if(!tenantRolePermissionService.delete(id)) {
             throw new RoleNotFoundException(MessageFormat.format("No tenant role permission found for ID {0}", id));
         }
+        invalidateEffectivePermissions(tenantRole);
     }
 
     /**
@@ -132,6 +136,7 @@ public class TenantRolePermissionBusinessService implements Serializable {
                 );
             }
             tenantRolePermissionService.create(tenantRolePermission);
+            invalidateEffectivePermissions(tenantRoleService.getById(tenantRolePermission.getTenantRoleId()));
         } catch (UniquenessConstraintException | InvalidArgumentException e) {
             throw new BadRequestException(e.getMessage());
         }
@@ -156,7 +161,14 @@ public class TenantRolePermissionBusinessService implements Serializable {
             );
         }
         try {
+            SystemTenantRolePermission previous = tenantRolePermission.getId() != null ?
+                    tenantRolePermissionService.get(tenantRolePermission.getId()) : null;
+            Long previousTenantRoleId = previous != null ? previous.getTenantRoleId() : null;
             tenantRolePermissionService.update(tenantRolePermission);
+            if (previousTenantRoleId != null && !previousTenantRoleId.equals(tenantRolePermission.getTenantRoleId())) {
+                invalidateEffectivePermissions(tenantRoleService.getById(previousTenantRoleId));
+            }
+            invalidateEffectivePermissions(tenantRole);
         } catch (InvalidArgumentException e) {
             throw new BadRequestException(e.getMessage());
         } catch (UniquenessConstraintException e) {
@@ -181,6 +193,7 @@ public class TenantRolePermissionBusinessService implements Serializable {
                             TENANT_ROLE_NO_ASSOCIATION_FOR_PERMISSION.toString(permission.toString()))
                     );
             tenantRolePermissionService.delete(tenantRolePermissionId);
+            tenantRoleService.invalidateEffectivePermissionsForTenant(tenant);
         } catch (InvalidArgumentException e) {
             throw new BadRequestException(e.getMessage());
         }
@@ -207,6 +220,17 @@ public class TenantRolePermissionBusinessService implements Serializable {
         }
     }
 
+    /**
+     * Invalidates the effective permissions snapshots that may be affected by a change
+     * regarding the permissions of the given Tenant Role association
+     * @param tenantRole Tenant Role association (Optional)
+     */
+    private void invalidateEffectivePermissions(SystemTenantRole tenantRole) {
+        if (tenantRole != null) {
+            tenantRoleService.invalidateEffectivePermissionsForTenant(tenantRole.getTenantId());
+        }
+    }
+
     /**
      * Check if all the informed Params (Tenant, Role, etc) exist
      * @param tenantRolePermissionEntity Permission identifier
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.rolemanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.model.tenant.SystemTenant;
@@ -88,11 +89,28 @@ public class TenantRoleUserBusinessService implements Serializable {
      * @param pageSize total number of pages returned in the request
      * @param sortBy criteria field to be sorted
      * @param isAscending boolean value to show the values ascending or descending way
+     * @param countMode how the total number of associations is counted
      * @return a page containing system tenant role user associations.
      */
     public Page<SystemTenantRoleUser> getAll(Long tenantRoleId, Long userId, int pageNo, int pageSize,
-                                             List<String> sortBy, boolean isAscending) {
-        return tenantRoleUserServiceAccess.getAll(tenantRoleId, userId, pageNo, pageSize, sortBy, isAscending);
+                                             List<String> sortBy, boolean isAscending, CountMode countMode) {
+        return tenantRoleUserServiceAccess.getAll(tenantRoleId, userId, pageNo, pageSize, sortBy, isAscending, countMode);
+    }
+
+    /**
+     * Gets the tenant role user associations into a pagination mode by cursor (keyset mode).
+     * @param tenantRoleId search param that corresponds to the TenantRole id (Optional)
+     * @param userId search param that corresponds to the user id (Optional)
+     * @param cursor of the requested page, null or empty for the first page
+     * @param pageSize total number of records returned in the request
+     * @param sortBy criteria field to be sorted
+     * @param isAscending boolean value to show the values ascending or descending way
+     * @param count boolean value to count the total number of associations
+     * @return a page containing system tenant role user associations with the cursor of the next page.
+     */
+    public Page<SystemTenantRoleUser> getAllByCursor(Long tenantRoleId, Long userId, String cursor, int pageSize,
+                                                     List<String> sortBy, boolean isAscending, boolean count) {
+        return tenantRoleUserServiceAccess.getAllByCursor(tenantRoleId, userId, cursor, pageSize, sortBy, isAscending, count);
     }
 
     /**
@@ -101,10 +119,11 @@ public class TenantRoleUserBusinessService implements Serializable {
      * @param role search param that corresponds to the TenantRole.roleId (Optional)
      * @param pageNo of the requested information. Where the tenant is.
      * @param pageSize total number of pages returned in the request.
+     * @param countMode how the total number of user ids is counted
      * @return a page containing system tenant role user associations.
      */
-    public Page<Long> getAllUserIds(Long tenant, Long role, int pageNo, int pageSize) {
-        return tenantRoleUserServiceAccess.getAllUserIds(tenant, role, pageNo, pageSize);
+    public Page<Long> getAllUserIds(Long tenant, Long role, int pageNo, int pageSize, CountMode countMode) {
+        return tenantRoleUserServiceAccess.getAllUserIds(tenant, role, pageNo, pageSize, countMode);
     }
 
     /**
@@ -136,6 +155,7 @@ public class TenantRoleUserBusinessService implements Serializable {
                     );
                 }
                 this.tenantRoleUserServiceAccess.create(new TenantRoleUserEntity(tru));
+                tenantRoleService.invalidateEffectivePermissionsForUser(tru.getUserId());
             } catch (InvalidArgumentException e) {
                 throw new BadRequestException(e.getMessage());
             } catch (UniquenessConstraintException e) {
@@ -173,7 +193,13 @@ public class TenantRoleUserBusinessService implements Serializable {
                                     String.valueOf(tenantRole.getRoleId()))
                     );
                 }
+                SystemTenantRoleUser previous = id != null ? tenantRoleUserServiceAccess.get(id) : null;
+                Long previousUserId = previous != null ? previous.getUserId() : null;
                 this.tenantRoleUserServiceAccess.update(new TenantRoleUserEntity(tru));
+                if (previousUserId != null) {
+                    tenantRoleService.invalidateEffectivePermissionsForUser(previousUserId);
+                }
+                tenantRoleService.invalidateEffectivePermissionsForUser(tru.getUserId());
             } catch (InvalidArgumentException e) {
                 throw new BadRequestException(e.getMessage());
             } catch (UniquenessConstraintException e) {
@@ -197,6 +223,7 @@ public class TenantRoleUserBusinessService implements Serializable {
 
             SystemTenantRole tenantRole = tenantRoleService.getById(systemTenantRoleUser.getTenantRoleId());
             if(tenantRoleUserServiceAccess.delete(id)) {
+                tenantRoleService.invalidateEffectivePermissionsForUser(systemTenantRoleUser.getUserId());
                 deleteActiveTenant(systemTenantRoleUser.getUserId(), tenantRole.getTenantId());
             } else {
                 throw new TenantRoleUserNotFoundException(MessageFormat.format("No tenant role user found for id {0}", id));
@@ -226,6 +253,7 @@ public class TenantRoleUserBusinessService implements Serializable {
                     );
                 }
                 tenantRoleUserServiceAccess.delete(ids);
+                tenantRoleService.invalidateEffectivePermissionsForUser(user);
                 deleteActiveTenant(user, tenant);
             } catch (InvalidArgumentException e) {
                 throw new BadRequestException(e.getMessage());
@@ -235,6 +263,26 @@ public class TenantRoleUserBusinessService implements Serializable {
         }
     }
 
+    /**
+     * Deletes all the TenantRoleUser associations of a user (i.e. when the user is being offboarded).
+     * The active tenants of the user are not handled here, they are expected to be removed
+     * by the caller (also in bulk) with the tenant management counterpart
+     * @param userId User identifier (Mandatory)
+     * @return the number of deleted associations
+     * @throws BadRequestException if the user identifier is not informed
+     */
+    public int deleteByUser(Long userId) {
+        try {
+            int deleted = tenantRoleUserServiceAccess.deleteByUser(userId);
+            if (deleted > 0) {
+                tenantRoleService.invalidateEffectivePermissionsForUser(userId);
+            }
+            return deleted;
+        } catch (InvalidArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
     /**
      * Retrieves the existent Tenants for a User (Optionally for a specific role)
      * @param userId User identifier
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.rolemanagement.datalayer;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.service.role.RoleServiceAccess;
@@ -67,7 +68,7 @@ public class RoleServiceTest {
 
         roleServiceAccess = (RoleServiceAccess) context.lookup("java:global/rd-ms-rolemanagement//RoleService");
 
-        Page<? extends SystemRole> rolePage = roleServiceAccess.getAll(null,1, 10, null, false);
+        Page<? extends SystemRole> rolePage = roleServiceAccess.getAll(null,1, 10, null, false, CountMode.EXACT);
         if(rolePage.getTotalResults()>0) {
             systemRole = rolePage.getResults().get(0);
         } else {
@@ -209,10 +210,10 @@ public class RoleServiceTest {
         List<String> sortBy = new ArrayList<>();
         sortBy.add("name");
 
-        Page<SystemRole> result = roleServiceAccess.getAll("testGetAll2",1,10,sortBy,false);
+        Page<SystemRole> result = roleServiceAccess.getAll("testGetAll2",1,10,sortBy,false,CountMode.EXACT);
         assertNotNull(result);
 
-        Page<SystemRole> result2 = roleServiceAccess.getAll("testGetAll2",1,10,sortBy,true);
+        Page<SystemRole> result2 = roleServiceAccess.getAll("testGetAll2",1,10,sortBy,true,CountMode.EXACT);
         assertNotNull(result2);
 
         roleServiceAccess.delete(testById1.getId());
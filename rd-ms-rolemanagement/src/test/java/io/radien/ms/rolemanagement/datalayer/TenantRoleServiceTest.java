@@ -16,6 +16,7 @@
 package io.radien.ms.rolemanagement.datalayer;
 
 import io.radien.api.SystemVariables;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.model.tenantrole.SystemTenantRole;
@@ -420,34 +421,34 @@ public class TenantRoleServiceTest {
 
         List<String> sortBy = Arrays.asList("tenantId", "roleId");
         Page<SystemTenantRole> p = tenantRoleServiceAccess.getAll(123L, 124L,
-                1, 100, sortBy, false);
+                1, 100, sortBy, false, CountMode.EXACT);
         assertEquals(1, p.getTotalResults());
 
         p = tenantRoleServiceAccess.getAll(null, 125L,
-                1, 100, sortBy, true);
+                1, 100, sortBy, true, CountMode.EXACT);
         assertEquals(1, p.getTotalResults());
 
         p = tenantRoleServiceAccess.getAll(123L, null,
-                1, 100, null, true);
+                1, 100, null, true, CountMode.EXACT);
         assertEquals(2, p.getTotalResults());
 
         sortBy = new ArrayList<>();
         p = tenantRoleServiceAccess.getAll(123L, 125L,
-                1, 100, sortBy, true);
+                1, 100, sortBy, true, CountMode.EXACT);
         assertEquals(1, p.getTotalResults());
 
         sortBy = new ArrayList<>();
         p = tenantRoleServiceAccess.getAll(124L, null,
-                1, 100, sortBy, true);
+                1, 100, sortBy, true, CountMode.EXACT);
         assertEquals(0, p.getTotalResults());
 
         sortBy = new ArrayList<>();
         p = tenantRoleServiceAccess.getAll(null, 125L,
-                1, 100, sortBy, true);
+                1, 100, sortBy, true, CountMode.EXACT);
         assertEquals(1, p.getTotalResults());
 
         p = tenantRoleServiceAccess.getAll(null, null,
-                1, 100, sortBy, true);
+                1, 100, sortBy, true, CountMode.EXACT);
         assertTrue(p.getTotalResults() >= 2);
     }
 
@@ -778,6 +779,30 @@ public class TenantRoleServiceTest {
         assertFalse(tenantRoleServiceAccess.hasPermission(user1, permission1, tenant2));
         assertTrue(tenantRoleServiceAccess.hasPermission(user1, permission2, null));
         assertFalse(tenantRoleServiceAccess.hasPermission(user1, permission2, tenant2));
+
+        // Checking permissions in batch
+        List<Long> permissions = Arrays.asList(permission1, permission2, permission3);
+        List<Long> granted = tenantRoleServiceAccess.getGrantedPermissions(user1, permissions, null);
+        assertEquals(2, granted.size());
+        assertTrue(granted.containsAll(Arrays.asList(permission1, permission2)));
+        assertTrue(tenantRoleServiceAccess.getGrantedPermissions(user1, permissions, tenant2).isEmpty());
+        assertEquals(2, tenantRoleServiceAccess.getGrantedPermissions(user2, permissions, tenant2).size());
+        assertTrue(tenantRoleServiceAccess.getGrantedPermissions(user1, Collections.emptyList(), null).isEmpty());
+        assertThrows(InvalidArgumentException.class, () -> tenantRoleServiceAccess.getGrantedPermissions(null, permissions, null));
+
+        // Checking effective permissions (snapshot source)
+        List<Long> effective = tenantRoleServiceAccess.getEffectivePermissions(user1, null);
+        assertEquals(2, effective.size());
+        assertTrue(effective.containsAll(Arrays.asList(permission1, permission2)));
+        assertTrue(tenantRoleServiceAccess.getEffectivePermissions(user1, tenant2).isEmpty());
+        assertEquals(2, tenantRoleServiceAccess.getEffectivePermissions(user2, tenant2).size());
+        assertThrows(InvalidArgumentException.class, () -> tenantRoleServiceAccess.getEffectivePermissions(null, null));
+
+        // Checking roles in batch
+        List<String> roleNames = Arrays.asList("role-c1", "role-d1");
+        assertEquals(Collections.singletonList("role-c1"), tenantRoleServiceAccess.getGrantedRoles(user1, roleNames, null));
+        assertEquals(Collections.singletonList("role-d1"), tenantRoleServiceAccess.getGrantedRoles(user2, roleNames, tenant2));
+        assertTrue(tenantRoleServiceAccess.getGrantedRoles(user2, roleNames, tenant1).isEmpty());
     }
 
     /**
@@ -903,6 +928,49 @@ public class TenantRoleServiceTest {
         assertThrows(InvalidArgumentException.class, () -> tenantRoleServiceAccess.getRoleIdsForUserTenant(null, null));
     }
 
+    /**
+     * Test method deleteByTenants(Collection tenantIds)
+     * Deletes the tenant role associations of some tenants together with their users and permissions
+     * Expected: SUCCESS (associations of the requested tenants removed, other tenants untouched)
+     */
+    @Test
+    public void test030DeleteByTenants() throws UniquenessConstraintException, InvalidArgumentException {
+        SystemTenantRole tenantRole1 = new TenantRoleEntity();
+        tenantRole1.setTenantId(150L);
+        tenantRole1.setRoleId(151L);
+        tenantRoleServiceAccess.create(tenantRole1);
+
+        SystemTenantRole tenantRole2 = new TenantRoleEntity();
+        tenantRole2.setTenantId(152L);
+        tenantRole2.setRoleId(151L);
+        tenantRoleServiceAccess.create(tenantRole2);
+
+        SystemTenantRole otherTenantRole = new TenantRoleEntity();
+        otherTenantRole.setTenantId(153L);
+        otherTenantRole.setRoleId(151L);
+        tenantRoleServiceAccess.create(otherTenantRole);
+
+        SystemTenantRoleUser tenantRoleUser = new TenantRoleUserEntity();
+        tenantRoleUser.setTenantRoleId(tenantRole1.getId());
+        tenantRoleUser.setUserId(150L);
+        tenantRoleUserServiceAccess.create(tenantRoleUser);
+
+        SystemTenantRolePermission tenantRolePermission = new TenantRolePermissionEntity();
+        tenantRolePermission.setTenantRoleId(tenantRole2.getId());
+        tenantRolePermission.setPermissionId(150L);
+        tenantRolePermissionServiceAccess.create(tenantRolePermission);
+
+        assertEquals(2, tenantRoleServiceAccess.deleteByTenants(Arrays.asList(150L, 152L, 154L)));
+        assertNull(tenantRoleServiceAccess.get(tenantRole1.getId()));
+        assertNull(tenantRoleServiceAccess.get(tenantRole2.getId()));
+        assertNull(tenantRoleUserServiceAccess.get(tenantRoleUser.getId()));
+        assertNull(tenantRolePermissionServiceAccess.get(tenantRolePermission.getId()));
+        assertNotNull(tenantRoleServiceAccess.get(otherTenantRole.getId()));
+
+        assertEquals(0, tenantRoleServiceAccess.deleteByTenants(Collections.emptyList()));
+        assertThrows(InvalidArgumentException.class, () -> tenantRoleServiceAccess.deleteByTenants(null));
+    }
+
     /**
      * This method construct role object
      * @param role reference role object
@@ -16,6 +16,7 @@
 package io.radien.ms.rolemanagement.datalayer;
 
 import io.radien.api.SystemVariables;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenantrole.SystemTenantRole;
 import io.radien.api.model.tenantrole.SystemTenantRoleUser;
@@ -315,7 +316,7 @@ public class TenantRoleUserServiceTest {
     }
 
     /**
-     * Test(s) for method {@link TenantRoleUserService#getAll(Long, Long, int, int, List, boolean)}
+     * Test(s) for method {@link TenantRoleUserService#getAll(Long, Long, int, int, List, boolean, CountMode)}
      * @throws UniquenessConstraintException to be thrown in cases of repeated values
      */
     @Test
@@ -339,31 +340,31 @@ public class TenantRoleUserServiceTest {
         sortBy.add("userId");
 
         Page<SystemTenantRoleUser> page = tenantRoleUserServiceAccess.getAll(tenantRoleId, userId, 1, 10,
-                sortBy, true);
+                sortBy, true, CountMode.EXACT);
         assertEquals(1, page.getTotalResults());
 
         page = tenantRoleUserServiceAccess.getAll(tenantRoleId, userId, 1, 10,
-                null, true);
+                null, true, CountMode.EXACT);
         assertEquals(1, page.getTotalResults());
 
         page = tenantRoleUserServiceAccess.getAll(tenantRoleId, userId, 1, 10,
-                new ArrayList<>(), true);
+                new ArrayList<>(), true, CountMode.EXACT);
         assertEquals(1, page.getTotalResults());
 
         page = tenantRoleUserServiceAccess.getAll(tenantRoleId, null, 1, 10,
-                new ArrayList<>(), true);
+                new ArrayList<>(), true, CountMode.EXACT);
         assertEquals(2, page.getTotalResults());
 
         page = tenantRoleUserServiceAccess.getAll(null, userId, 1, 10,
-                new ArrayList<>(), true);
+                new ArrayList<>(), true, CountMode.EXACT);
         assertEquals(1, page.getTotalResults());
 
         page = tenantRoleUserServiceAccess.getAll(null, null, 1, 10,
-                Collections.singletonList(SystemVariables.TENANT_ROLE_ID.getFieldName()), true);
+                Collections.singletonList(SystemVariables.TENANT_ROLE_ID.getFieldName()), true, CountMode.EXACT);
         assertTrue(page.getTotalResults() >= 2);
 
         page = tenantRoleUserServiceAccess.getAll(999999999L, 99999L, 1, 10,
-                Collections.singletonList(SystemVariables.TENANT_ROLE_ID.getFieldName()), false);
+                Collections.singletonList(SystemVariables.TENANT_ROLE_ID.getFieldName()), false, CountMode.EXACT);
         assertEquals(0,page.getTotalResults());
     }
 
@@ -375,7 +376,7 @@ public class TenantRoleUserServiceTest {
     @Test
     public void test015PaginationWithTenantRoleSpecified() {
         Page<SystemTenantRoleUser> p = tenantRoleUserServiceAccess.getAll(baseTenantRoleId, baseUserId,
-                1, 100, Arrays.asList("tenantRoleId", "userId"), true);
+                1, 100, Arrays.asList("tenantRoleId", "userId"), true, CountMode.EXACT);
         assertNotNull(p);
         assertTrue(p.getTotalResults() > 0);
         assertEquals(1, p.getTotalPages());
@@ -383,7 +384,7 @@ public class TenantRoleUserServiceTest {
         assertFalse(p.getResults().isEmpty());
 
         Page<Long> p2 = tenantRoleUserServiceAccess.getAllUserIds(baseTenantId, baseRoleId,
-                1, 100);
+                1, 100, CountMode.EXACT);
         assertTrue(p2.getTotalResults() > 0);
     }
 
@@ -395,7 +396,7 @@ public class TenantRoleUserServiceTest {
     @Test
     public void test016PaginationForNotExistentTenantRole() {
         Page<SystemTenantRoleUser> p = tenantRoleUserServiceAccess.getAll(10000L,10001L,
-                1, 100, Arrays.asList("tenantRoleId", "userId"), false);
+                1, 100, Arrays.asList("tenantRoleId", "userId"), false, CountMode.EXACT);
         assertNotNull(p);
         assertEquals(0,p.getTotalResults());
         assertEquals(0,p.getTotalPages());
@@ -403,7 +404,7 @@ public class TenantRoleUserServiceTest {
         assertTrue(p.getResults().isEmpty());
 
         Page<Long> p2 = tenantRoleUserServiceAccess.getAllUserIds(10000L,10001L,
-                1, 100);
+                1, 100, CountMode.EXACT);
         assertNotNull(p);
         assertEquals(0,p2.getTotalResults());
         assertEquals(0,p2.getTotalPages());
@@ -550,6 +551,34 @@ public class TenantRoleUserServiceTest {
         assertTrue(tenantRoleUserServiceAccess.isAssociatedWithTenant(user2, tenant1));
     }
 
+    /**
+     * Test for method {@link TenantRoleUserServiceAccess#deleteByUser(Long)}
+     * Given a User Id, remove all its TenantRoleUser associations
+     * @throws UniquenessConstraintException in case of insertion (save) using repeated values (combination of ids)
+     * @throws InvalidArgumentException in case of missing parameters
+     */
+    @Test
+    public void test018DeleteByUser() throws UniquenessConstraintException, InvalidArgumentException {
+        Long role1 = 710001L, role2 = 710002L;
+        Long tenant1 = 510001L, tenant2 = 510002L;
+        Long user1 = 810001L, user2 = 810002L;
+
+        SystemTenantRole tenant1Role1 = createTenantRole(tenant1, role1);
+        SystemTenantRole tenant2Role2 = createTenantRole(tenant2, role2);
+
+        createTenantRoleUser(tenant1Role1, user1);
+        createTenantRoleUser(tenant2Role2, user1);
+        createTenantRoleUser(tenant1Role1, user2);
+
+        assertEquals(2, tenantRoleUserServiceAccess.deleteByUser(user1));
+        assertFalse(tenantRoleUserServiceAccess.isAssociatedWithTenant(user1, tenant1));
+        assertFalse(tenantRoleUserServiceAccess.isAssociatedWithTenant(user1, tenant2));
+        assertTrue(tenantRoleUserServiceAccess.isAssociatedWithTenant(user2, tenant1));
+
+        assertEquals(0, tenantRoleUserServiceAccess.deleteByUser(user1));
+        assertThrows(InvalidArgumentException.class, () -> tenantRoleUserServiceAccess.deleteByUser(null));
+    }
+
     /**
      * Test method getTenantRoleUserIds
      * asserts TenantRoleUserIds
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.rolemanagement.resource;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.service.role.exception.RoleException;
 import io.radien.api.service.role.exception.RoleNotFoundException;
 import io.radien.exception.*;
@@ -55,7 +56,7 @@ public class RoleResourceTest {
      */
     @Test
     public void testGetAll() {
-        Response response = roleResource.getAll(null,1,10,null,false);
+        Response response = roleResource.getAll(null,1,10,null,false,CountMode.EXACT);
         assertEquals(200,response.getStatus());
     }
 
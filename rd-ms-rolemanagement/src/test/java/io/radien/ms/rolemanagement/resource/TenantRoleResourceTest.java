@@ -15,8 +15,10 @@
  */
 package io.radien.ms.rolemanagement.resource;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.EffectivePermissions;
 import io.radien.api.security.TokensPlaceHolder;
 import io.radien.api.service.role.SystemRolesEnum;
 import io.radien.exception.InvalidArgumentException;
@@ -89,7 +91,7 @@ public class TenantRoleResourceTest {
      */
     @Test
     public void test001getAll() {
-        Response response = tenantRoleResource.getAll(null, null, 1,10, null, true);
+        Response response = tenantRoleResource.getAll(null, null, 1,10, null, true, CountMode.EXACT);
         assertEquals(200,response.getStatus());
     }
 
@@ -192,6 +194,50 @@ public class TenantRoleResourceTest {
         assertEquals(200, response.getStatus());
     }
 
+    /**
+     * Tests response from getGrantedPermissions method
+     */
+    @Test
+    public void testGetGrantedPermissions() {
+        Response response = tenantRoleResource.getGrantedPermissions(1L,
+                Arrays.asList(2L, 3L), 3L);
+        assertEquals(200, response.getStatus());
+    }
+
+    /**
+     * Tests response from getEffectivePermissions method
+     */
+    @Test
+    public void testGetEffectivePermissions() {
+        EffectivePermissions effectivePermissions = new EffectivePermissions(1L, 2L, Arrays.asList(2L, 3L));
+        when(tenantRoleBusinessService.getEffectivePermissions(1L, 2L)).thenReturn(effectivePermissions);
+        Response response = tenantRoleResource.getEffectivePermissions(1L, 2L);
+        assertEquals(200, response.getStatus());
+        assertEquals(effectivePermissions, response.getEntity());
+    }
+
+    /**
+     * Tests response from getEffectivePermissionsVersion method
+     */
+    @Test
+    public void testGetEffectivePermissionsVersion() {
+        EffectivePermissions effectivePermissions = new EffectivePermissions(1L, 2L, Arrays.asList(2L, 3L));
+        when(tenantRoleBusinessService.getEffectivePermissions(1L, 2L)).thenReturn(effectivePermissions);
+        Response response = tenantRoleResource.getEffectivePermissionsVersion(1L, 2L);
+        assertEquals(200, response.getStatus());
+        assertEquals(effectivePermissions.getVersion(), response.getEntity());
+    }
+
+    /**
+     * Tests response from getGrantedRoles method
+     */
+    @Test
+    public void testGetGrantedRoles() {
+        Response response = tenantRoleResource.getGrantedRoles(1L,
+                Arrays.asList("test", "test2"), 2L);
+        assertEquals(200, response.getStatus());
+    }
+
     /**
      * Tests response from getIdByTenantRole
      */
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.rolemanagement.resource;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
 import io.radien.api.model.tenantrole.SystemTenantRoleUser;
@@ -90,7 +91,7 @@ public class TenantRoleUserResourceTest {
     @Test
     public void testGetUsers() {
         Response response = tenantRoleUserResource.getAll(1L,1L,
-                2, 3, null, false);
+                2, 3, null, false, CountMode.EXACT);
         assertEquals(200, response.getStatus());
     }
 
@@ -100,7 +101,7 @@ public class TenantRoleUserResourceTest {
     @Test
     public void testGetUsersIds() {
         Response response = tenantRoleUserResource.getAllUserIds(1L,1L,
-                2, 3);
+                2, 3, CountMode.EXACT);
         assertEquals(200, response.getStatus());
     }
 
@@ -170,6 +171,15 @@ public class TenantRoleUserResourceTest {
         assertEquals(200,response.getStatus());
     }
 
+    /**
+     * Tests response from deleteByUser method
+     */
+    @Test
+    public void testDeleteByUser() {
+        Response response = tenantRoleUserResource.deleteByUser(1L);
+        assertEquals(200,response.getStatus());
+    }
+
     /**
      * Tests response from update method
      */
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.rolemanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.service.role.RoleServiceAccess;
@@ -55,8 +56,8 @@ public class RoleBusinessServiceTest {
     @Test
     public void testGetAll() {
         Page<SystemRole> p = new Page<>(new ArrayList<>(),-1,0,0);
-        when(roleServiceAccess.getAll(null, 1, 10, null, false)).thenReturn(p);
-        Page<? extends SystemRole> result = roleBusinessService.getAll(null, 1,10, null, false);
+        when(roleServiceAccess.getAll(null, 1, 10, null, false, CountMode.EXACT)).thenReturn(p);
+        Page<? extends SystemRole> result = roleBusinessService.getAll(null, 1,10, null, false, CountMode.EXACT);
         assertEquals(p,result);
     }
 
@@ -15,6 +15,8 @@
  */
 package io.radien.ms.rolemanagement.service;
 
+import io.radien.api.entity.EffectivePermissions;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRoleSearchFilter;
 import io.radien.api.model.tenantrole.SystemTenantRole;
@@ -36,10 +38,12 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -49,6 +53,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -68,6 +73,8 @@ public class TenantRoleBusinessServiceTest {
     private RoleServiceAccess roleServiceAccess;
     @Mock
     private TenantRoleServiceAccess tenantRoleServiceAccess;
+    @Spy
+    private EffectivePermissionRegistry effectivePermissionRegistry = new EffectivePermissionRegistry();
 
     @Test
     public void testGetAll() {
@@ -76,10 +83,10 @@ public class TenantRoleBusinessServiceTest {
         resultPage.setCurrentPage(1);
         resultPage.setTotalResults(1);
         resultPage.setTotalPages(1);
-        when(tenantRoleServiceAccess.getAll(anyLong(), anyLong(), anyInt(), anyInt(), anyList(), anyBoolean()))
+        when(tenantRoleServiceAccess.getAll(anyLong(), anyLong(), anyInt(), anyInt(), anyList(), anyBoolean(), any()))
                 .thenReturn(resultPage);
 
-        assertEquals(resultPage, tenantRoleBusinessService.getAll(1L, 1L, 1, 1, new ArrayList<>(), false));
+        assertEquals(resultPage, tenantRoleBusinessService.getAll(1L, 1L, 1, 1, new ArrayList<>(), false, CountMode.EXACT));
     }
 
     @Test
@@ -141,6 +148,20 @@ public class TenantRoleBusinessServiceTest {
         tenantRoleBusinessService.delete(1L);
     }
 
+    @Test
+    public void testDeleteByTenants() throws InvalidArgumentException {
+        when(tenantRoleServiceAccess.deleteByTenants(anyList())).thenReturn(2);
+        assertEquals(2, tenantRoleBusinessService.deleteByTenants(Arrays.asList(1L, 2L)));
+        verify(tenantRoleServiceAccess).deleteByTenants(Arrays.asList(1L, 2L));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testDeleteByTenantsInvalidArgument() throws InvalidArgumentException {
+        when(tenantRoleServiceAccess.deleteByTenants(any()))
+                .thenThrow(new InvalidArgumentException("error"));
+        tenantRoleBusinessService.deleteByTenants(null);
+    }
+
     @Test
     public void testCreate() throws InvalidArgumentException, UniquenessConstraintException {
         tenantRoleBusinessService.create(new TenantRoleEntity());
@@ -230,18 +251,81 @@ public class TenantRoleBusinessServiceTest {
 
     @Test
     public void testIsPermissionExistentForUser() throws InvalidArgumentException {
-        when(tenantRoleServiceAccess.hasPermission(anyLong(), anyLong(), anyLong()))
-                .thenReturn(true);
+        when(tenantRoleServiceAccess.getEffectivePermissions(1L, 1L))
+                .thenReturn(Arrays.asList(3L, 1L));
         assertTrue(tenantRoleBusinessService.isPermissionExistentForUser(1L, 1L, 1L));
+        assertFalse(tenantRoleBusinessService.isPermissionExistentForUser(1L, 2L, 1L));
+        verify(tenantRoleServiceAccess, times(1)).getEffectivePermissions(1L, 1L);
     }
 
     @Test(expected = BadRequestException.class)
     public void testIsPermissionExistentForUserBadRequest() throws InvalidArgumentException {
-        when(tenantRoleServiceAccess.hasPermission(eq(null), anyLong(), anyLong()))
+        when(tenantRoleServiceAccess.getEffectivePermissions(eq(null), anyLong()))
                 .thenThrow(new InvalidArgumentException("error"));
         tenantRoleBusinessService.isPermissionExistentForUser(null, 1L, 1L);
     }
 
+    @Test(expected = BadRequestException.class)
+    public void testIsPermissionExistentForUserWithoutPermission() {
+        tenantRoleBusinessService.isPermissionExistentForUser(1L, null, 1L);
+    }
+
+    /**
+     * Test for method {@link TenantRoleBusinessService#getEffectivePermissions(Long, Long)}
+     * Expected outcome: Snapshot built once, kept until the user (or tenant) gets invalidated
+     */
+    @Test
+    public void testGetEffectivePermissions() throws InvalidArgumentException {
+        when(tenantRoleServiceAccess.getEffectivePermissions(1L, 2L))
+                .thenReturn(Arrays.asList(5L, 4L, 5L))
+                .thenReturn(Collections.singletonList(4L));
+
+        EffectivePermissions snapshot = tenantRoleBusinessService.getEffectivePermissions(1L, 2L);
+        assertEquals(2, snapshot.getPermissionIds().length);
+        assertEquals(4L, snapshot.getPermissionIds()[0]);
+        assertEquals(snapshot.getVersion(), tenantRoleBusinessService.getEffectivePermissions(1L, 2L).getVersion());
+
+        tenantRoleBusinessService.invalidateEffectivePermissionsForTenant(3L);
+        assertEquals(snapshot.getVersion(), tenantRoleBusinessService.getEffectivePermissions(1L, 2L).getVersion());
+        verify(tenantRoleServiceAccess, times(1)).getEffectivePermissions(1L, 2L);
+
+        tenantRoleBusinessService.invalidateEffectivePermissionsForUser(1L);
+        EffectivePermissions rebuilt = tenantRoleBusinessService.getEffectivePermissions(1L, 2L);
+        assertFalse(rebuilt.contains(5L));
+        assertTrue(snapshot.getVersion() != rebuilt.getVersion());
+        verify(tenantRoleServiceAccess, times(2)).getEffectivePermissions(1L, 2L);
+    }
+
+    @Test
+    public void testGetGrantedPermissions() throws InvalidArgumentException {
+        List<Long> permissionIds = Arrays.asList(1L, 2L, 3L);
+        when(tenantRoleServiceAccess.getGrantedPermissions(1L, permissionIds, 1L))
+                .thenReturn(Arrays.asList(1L, 3L));
+        assertEquals(Arrays.asList(1L, 3L), tenantRoleBusinessService.getGrantedPermissions(1L, permissionIds, 1L));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testGetGrantedPermissionsBadRequest() throws InvalidArgumentException {
+        when(tenantRoleServiceAccess.getGrantedPermissions(eq(null), anyList(), anyLong()))
+                .thenThrow(new InvalidArgumentException("error"));
+        tenantRoleBusinessService.getGrantedPermissions(null, Collections.singletonList(1L), 1L);
+    }
+
+    @Test
+    public void testGetGrantedRoles() throws InvalidArgumentException {
+        List<String> roleNames = Arrays.asList("role-a", "role-b");
+        when(tenantRoleServiceAccess.getGrantedRoles(1L, roleNames, null))
+                .thenReturn(Collections.singletonList("role-b"));
+        assertEquals(Collections.singletonList("role-b"), tenantRoleBusinessService.getGrantedRoles(1L, roleNames, null));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testGetGrantedRolesBadRequest() throws InvalidArgumentException {
+        when(tenantRoleServiceAccess.getGrantedRoles(eq(null), anyList(), anyLong()))
+                .thenThrow(new InvalidArgumentException("error"));
+        tenantRoleBusinessService.getGrantedRoles(null, Collections.singletonList("role"), 1L);
+    }
+
     @Test
     public void testCount() {
         when(tenantRoleServiceAccess.count())
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.rolemanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenantrole.SystemTenantRole;
 import io.radien.api.model.tenantrole.SystemTenantRoleUser;
@@ -105,10 +106,10 @@ public class TenantRoleUserBusinessServiceTest {
     @Test
     public void testGetAll() {
         Page<SystemTenantRoleUser> result = new Page<>(new ArrayList<>(), 1, 1, 1);
-        when(tenantRoleUserServiceAccess.getAll(anyLong(), anyLong(), anyInt(), anyInt(), anyList(), anyBoolean()))
+        when(tenantRoleUserServiceAccess.getAll(anyLong(), anyLong(), anyInt(), anyInt(), anyList(), anyBoolean(), any()))
                 .thenReturn(result);
 
-        assertEquals(result, tenantRoleUserBusinessService.getAll(1L, 1L, 1, 1, new ArrayList<>(), false));
+        assertEquals(result, tenantRoleUserBusinessService.getAll(1L, 1L, 1, 1, new ArrayList<>(), false, CountMode.EXACT));
     }
 
 
@@ -123,10 +124,10 @@ public class TenantRoleUserBusinessServiceTest {
     @Test
     public void testGetAllUserIds() {
         Page<Long> result = new Page<>(new ArrayList<>(), 1, 1, 1);
-        when(tenantRoleUserServiceAccess.getAllUserIds(anyLong(), anyLong(), anyInt(), anyInt()))
+        when(tenantRoleUserServiceAccess.getAllUserIds(anyLong(), anyLong(), anyInt(), anyInt(), any()))
                 .thenReturn(result);
 
-        assertEquals(result, tenantRoleUserBusinessService.getAllUserIds(1L, 1L, 1, 1));
+        assertEquals(result, tenantRoleUserBusinessService.getAllUserIds(1L, 1L, 1, 1, CountMode.EXACT));
     }
 
     @Test
@@ -420,6 +421,20 @@ public class TenantRoleUserBusinessServiceTest {
         verify(tenantRoleService,never()).getById(anyLong());
     }
 
+    @Test
+    public void testDeleteByUser() throws InvalidArgumentException {
+        when(tenantRoleUserServiceAccess.deleteByUser(1L)).thenReturn(3);
+        assertEquals(3, tenantRoleUserBusinessService.deleteByUser(1L));
+        verify(tenantRoleService).invalidateEffectivePermissionsForUser(1L);
+
+        when(tenantRoleUserServiceAccess.deleteByUser(2L)).thenReturn(0);
+        assertEquals(0, tenantRoleUserBusinessService.deleteByUser(2L));
+        verify(tenantRoleService, never()).invalidateEffectivePermissionsForUser(2L);
+
+        when(tenantRoleUserServiceAccess.deleteByUser(null)).thenThrow(new InvalidArgumentException("error"));
+        assertThrows(BadRequestException.class, () -> tenantRoleUserBusinessService.deleteByUser(null));
+    }
+
     @Test
     public void testUnAssignUser() throws InvalidArgumentException {
         when(tenantRoleUserServiceAccess.getTenantRoleUserIds(anyLong(), anyList(), anyLong()))
@@ -18,6 +18,7 @@ public class PagedTenantSearchFilter extends SearchFilterCriteria implements Sys
     private String clientPhoneNumber;
     private String clientEmail;
     private Long parentId;
+    private Long subtreeOf;
 
     public PagedTenantSearchFilter() {
     }
@@ -148,4 +149,14 @@ public class PagedTenantSearchFilter extends SearchFilterCriteria implements Sys
     public void setParentId(Long parentId) {
         this.parentId = parentId;
     }
+
+    @Override
+    public Long getSubtreeOf() {
+        return subtreeOf;
+    }
+
+    @Override
+    public void setSubtreeOf(Long subtreeOf) {
+        this.subtreeOf = subtreeOf;
+    }
 }
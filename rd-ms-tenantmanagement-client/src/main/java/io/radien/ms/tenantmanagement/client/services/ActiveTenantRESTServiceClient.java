@@ -317,6 +317,43 @@ public class ActiveTenantRESTServiceClient extends AuthorizationChecker implemen
         }
     }
 
+    /**
+     * Asks the requester to delete all the active tenants of a user
+     * @param user user id
+     * @return true if the request has been concluded with success or false if not
+     * @throws SystemException in case of token expiration or if URL is malformed
+     */
+    @Override
+    public boolean deleteByUser(long user) throws SystemException {
+        try {
+            return deleteByUserRequester(user);
+        } catch (TokenExpiredException expiredException) {
+            refreshToken();
+            try{
+                return deleteByUserRequester(user);
+            } catch (TokenExpiredException expiredException1){
+                throw new SystemException(GenericErrorCodeMessage.EXPIRED_ACCESS_TOKEN.toString());
+            }
+        }
+    }
+
+    /**
+     * Deletes all the active tenants of the informed user id
+     * @param user user identifier
+     * @return true if the request has been concluded with success or false if not
+     * @throws SystemException in case of communication issues or if URL is malformed
+     */
+    private boolean deleteByUserRequester(long user) throws SystemException {
+        try {
+            ActiveTenantResourceClient client = clientServiceUtil.getActiveTenantResourceClient(oafAccess.
+                    getProperty(OAFProperties.SYSTEM_MS_ENDPOINT_TENANTMANAGEMENT));
+            Response response = client.deleteByUser(user);
+            return response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL;
+        }catch (MalformedURLException | ExtensionException | ProcessingException e) {
+            throw new SystemException(e);
+        }
+    }
+
     /**
      * Asks the requester update a given active tenant
      * @param activeTenant to be updated
@@ -64,6 +64,28 @@ public interface ActiveTenantResourceClient {
                            @QueryParam("sortBy") List<String> sortBy,
                            @DefaultValue("true") @QueryParam("asc") boolean isAscending);
 
+    /**
+     * Gets the active tenants information into a paginated mode by cursor (keyset mode).
+     * @param tenantId tenant identifier (Optional)
+     * @param userId user identifier (Optional)
+     * @param cursor of the requested page, not informed for the first page.
+     * @param pageSize total number of records returned in the request.
+     * @param sortBy sort filter criteria.
+     * @param isAscending ascending filter criteria.
+     * @param count if the total number of active tenants should be counted.
+     * @return a paginated response with the information and the cursor of the next page. 200 code message if success,
+     * 400 code message in case of invalid cursor.
+     */
+    @GET
+    @Path("/cursor")
+    public Response getAllByCursor(@QueryParam("tenantId") Long tenantId,
+                                   @QueryParam("userId") Long userId,
+                                   @QueryParam("cursor") String cursor,
+                                   @DefaultValue("10") @QueryParam("pageSize") int pageSize,
+                                   @QueryParam("sortBy") List<String> sortBy,
+                                   @DefaultValue("true") @QueryParam("asc") boolean isAscending,
+                                   @DefaultValue("false") @QueryParam("count") boolean count);
+
     /**
      * Gets a list of requested active tenants based on some filtered information
      * @param userId to be searched for
@@ -106,6 +128,15 @@ public interface ActiveTenantResourceClient {
     public Response delete(@NotNull @PathParam("tenantId") long tenantId,
                            @NotNull @PathParam("userId") long userId);
 
+    /**
+     * Requests to delete all the active tenants of a user
+     * @param userId user id of the active tenants to be deleted
+     * @return a response with true or false based on the existence of deleted active tenants
+     */
+    @DELETE
+    @Path("/user/{userId}")
+    public Response deleteByUser(@NotNull @PathParam("userId") long userId);
+
     /**
      * Method to request a creation of a active tenant
      * @param activeTenant information to be created
@@ -17,6 +17,7 @@ package io.radien.ms.tenantmanagement.client.services;
 
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenant.SystemPagedTenantSearchFilter;
 import io.radien.api.model.tenant.SystemTenant;
@@ -177,6 +178,86 @@ public class TenantRESTServiceClient extends AuthorizationChecker implements Ten
         }
     }
 
+    /**
+     * Gets all the descendants of a tenant.
+     * To do that invokes the core method counterpart and handles TokenExpiration error.
+     * @param tenantId of the top tenant of the hierarchy
+     * @param includeSelf if the requested tenant should be part of the result
+     * @return list containing the descendant tenants ordered by their depth
+     * @throws SystemException in case of token expiration or any issue on the application
+     */
+    @Override
+    public List<? extends SystemTenant> getDescendants(Long tenantId, boolean includeSelf) throws SystemException {
+        try {
+            return getSystemDescendants(tenantId, includeSelf);
+        } catch (TokenExpiredException expiredException) {
+            refreshToken();
+            try{
+                return getSystemDescendants(tenantId, includeSelf);
+            } catch (TokenExpiredException expiredException1){
+                throw new SystemException(GenericErrorCodeMessage.EXPIRED_ACCESS_TOKEN.toString());
+            }
+        }
+    }
+
+    /**
+     * Core method that gets all the descendants of a tenant
+     * @param tenantId of the top tenant of the hierarchy
+     * @param includeSelf if the requested tenant should be part of the result
+     * @return list containing the descendant tenants ordered by their depth
+     * @throws SystemException in case of any issue on the application
+     */
+    private List<? extends SystemTenant> getSystemDescendants(Long tenantId, boolean includeSelf) throws SystemException {
+        try {
+            TenantResourceClient client = clientServiceUtil.getTenantResourceClient(oafAccess.getProperty(OAFProperties.SYSTEM_MS_ENDPOINT_TENANTMANAGEMENT));
+            Response response = client.getDescendants(tenantId, includeSelf);
+            return TenantModelMapper.mapList((InputStream) response.getEntity());
+        }
+        catch (ExtensionException | ProcessingException | MalformedURLException | ParseException |
+                InternalServerErrorException es){
+            throw new SystemException(es.getMessage());
+        }
+    }
+
+    /**
+     * Gets all the ancestors of a tenant, starting with the top (root) tenant.
+     * To do that invokes the core method counterpart and handles TokenExpiration error.
+     * @param tenantId of the tenant
+     * @return list containing the ancestor tenants
+     * @throws SystemException in case of token expiration or any issue on the application
+     */
+    @Override
+    public List<? extends SystemTenant> getAncestors(Long tenantId) throws SystemException {
+        try {
+            return getSystemAncestors(tenantId);
+        } catch (TokenExpiredException expiredException) {
+            refreshToken();
+            try{
+                return getSystemAncestors(tenantId);
+            } catch (TokenExpiredException expiredException1){
+                throw new SystemException(GenericErrorCodeMessage.EXPIRED_ACCESS_TOKEN.toString());
+            }
+        }
+    }
+
+    /**
+     * Core method that gets all the ancestors of a tenant
+     * @param tenantId of the tenant
+     * @return list containing the ancestor tenants
+     * @throws SystemException in case of any issue on the application
+     */
+    private List<? extends SystemTenant> getSystemAncestors(Long tenantId) throws SystemException {
+        try {
+            TenantResourceClient client = clientServiceUtil.getTenantResourceClient(oafAccess.getProperty(OAFProperties.SYSTEM_MS_ENDPOINT_TENANTMANAGEMENT));
+            Response response = client.getAncestors(tenantId);
+            return TenantModelMapper.mapList((InputStream) response.getEntity());
+        }
+        catch (ExtensionException | ProcessingException | MalformedURLException | ParseException |
+                InternalServerErrorException es){
+            throw new SystemException(es.getMessage());
+        }
+    }
+
     /**
      * Gets the requester to get all the tenants into a pagination mode.
      * @param search name description for some tenant (optional)
@@ -193,14 +274,37 @@ public class TenantRESTServiceClient extends AuthorizationChecker implements Ten
                                                String clientCountry, String clientPhoneNumber, String clientEmail,
                                                Long parentId, int pageNo, int pageSize, List<String> sortBy, boolean isAscending,
                                                boolean isExact, boolean isLogicalConjunction) throws SystemException {
+        return getAll(ids, name, tenantKey, tenantType, clientAddress, clientZipCode, clientCity, clientCountry,
+                clientPhoneNumber, clientEmail, parentId, null, pageNo, pageSize, sortBy, isAscending, isExact, isLogicalConjunction,
+                CountMode.EXACT);
+    }
+
+    /**
+     * Gets the requester to get all the tenants into a pagination mode.
+     * @param search name description for some tenant (optional)
+     * @param pageNo of the requested information. Where the tenant is.
+     * @param pageSize total number of pages returned in the request.
+     * @param sortBy sort filter criteria.
+     * @param subtreeOf id of the tenant whose descendants (itself included) should be returned, or null
+     * @param isAscending ascending filter criteria.
+     * @param countMode how the total number of tenants is counted
+     * @return a page of system tenants.
+     * @throws SystemException in case it founds multiple actions or if URL is malformed
+     */
+    @Override
+    public Page<? extends SystemTenant> getAll(Collection<Long> ids, String name, String tenantKey, SystemTenantType tenantType,
+                                               String clientAddress, String clientZipCode, String clientCity,
+                                               String clientCountry, String clientPhoneNumber, String clientEmail,
+                                               Long parentId, Long subtreeOf, int pageNo, int pageSize, List<String> sortBy, boolean isAscending,
+                                               boolean isExact, boolean isLogicalConjunction, CountMode countMode) throws SystemException {
         try {
             return getTenantPage(ids, name, tenantKey, tenantType, clientAddress, clientZipCode, clientCity, clientCountry, clientPhoneNumber,
-                    clientEmail, parentId, pageNo, pageSize, sortBy, isAscending, isExact, isLogicalConjunction);
+                    clientEmail, parentId, subtreeOf, pageNo, pageSize, sortBy, isAscending, isExact, isLogicalConjunction, countMode);
         } catch (TokenExpiredException expiredException) {
             refreshToken();
             try{
                 return getTenantPage(ids, name, tenantKey, tenantType, clientAddress, clientZipCode, clientCity, clientCountry, clientPhoneNumber,
-                        clientEmail, parentId, pageNo, pageSize, sortBy, isAscending, isExact, isLogicalConjunction);
+                        clientEmail, parentId, subtreeOf, pageNo, pageSize, sortBy, isAscending, isExact, isLogicalConjunction, countMode);
             } catch (TokenExpiredException expiredException1){
                 throw new SystemException(GenericErrorCodeMessage.EXPIRED_ACCESS_TOKEN.toString());
             }
@@ -213,19 +317,22 @@ public class TenantRESTServiceClient extends AuthorizationChecker implements Ten
      * @param pageNo of the requested information. Where the tenant is.
      * @param pageSize total number of pages returned in the request.
      * @param sortBy sort filter criteria.
+     * @param subtreeOf id of the tenant whose descendants (itself included) should be returned, or null
      * @param isAscending ascending filter criteria.
+     * @param countMode how the total number of tenants is counted
      * @return a page of system tenants.
      * @throws SystemException in case it founds multiple actions or if URL is malformed
      */
     private Page<Tenant> getTenantPage(Collection<Long> ids, String name, String tenantKey, SystemTenantType tenantType,
                                        String clientAddress, String clientZipCode, String clientCity,
                                        String clientCountry, String clientPhoneNumber, String clientEmail,
-                                       Long parentId, int pageNo, int pageSize, List<String> sortBy, boolean isAscending,
-                                       boolean isExact, boolean isLogicalConjunction) throws SystemException {
+                                       Long parentId, Long subtreeOf, int pageNo, int pageSize, List<String> sortBy, boolean isAscending,
+                                       boolean isExact, boolean isLogicalConjunction, CountMode countMode) throws SystemException {
         try {
             TenantResourceClient client = clientServiceUtil.getTenantResourceClient(oafAccess.getProperty(OAFProperties.SYSTEM_MS_ENDPOINT_TENANTMANAGEMENT));
             Response response = client.getAll(ids, name, tenantKey, (TenantType) tenantType, clientAddress, clientZipCode, clientCity, clientCountry,
-                    clientPhoneNumber, clientEmail, parentId, pageNo, pageSize, sortBy, isAscending, isExact, isLogicalConjunction);
+                    clientPhoneNumber, clientEmail, parentId, subtreeOf, pageNo, pageSize, sortBy, isAscending, isExact, isLogicalConjunction,
+                    countMode);
             return TenantModelMapper.mapToPage((InputStream) response.getEntity());
         } catch (ExtensionException | ProcessingException | MalformedURLException e){
             throw new SystemException(e);
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.tenantmanagement.client.services;
 
+import io.radien.api.entity.CountMode;
 import io.radien.ms.tenantmanagement.client.entities.GlobalHeaders;
 import io.radien.ms.tenantmanagement.client.entities.Tenant;
 import io.radien.ms.tenantmanagement.client.entities.TenantType;
@@ -52,10 +53,12 @@ public interface TenantResourceClient {
     /**
      * Gets all the tenant information into a paginated mode and return those information to the user.
      * @param search name description for some tenant
+     * @param subtreeOf id of the tenant whose descendants (itself included) should be returned
      * @param pageNo of the requested information. Where the tenant is.
      * @param pageSize total number of pages returned in the request.
      * @param sortBy sort filter criteria.
      * @param isAscending ascending filter criteria.	 *
+     * @param countMode how the total number of tenants is counted
      * @return a paginated response with the information. 200 code message if success, 500 code message if there is any
      * error.
      */
@@ -71,12 +74,14 @@ public interface TenantResourceClient {
                            @QueryParam("clientPhoneNumber") String clientPhoneNumber,
                            @QueryParam("clientEmail") String clientEmail,
                            @QueryParam("parentId") Long parentId,
+                           @QueryParam("subtreeOf") Long subtreeOf,
                            @DefaultValue("1")  @QueryParam("pageNo") int pageNo,
                            @DefaultValue("10") @QueryParam("pageSize") int pageSize,
                            @QueryParam("sortBy") List<String> sortBy,
                            @DefaultValue("true") @QueryParam("asc") boolean isAscending,
                            @DefaultValue("true") @QueryParam("isExact") boolean isExact,
-                           @DefaultValue("true") @QueryParam("isLogicalConjunction") boolean isLogicalConjunction);
+                           @DefaultValue("true") @QueryParam("isLogicalConjunction") boolean isLogicalConjunction,
+                           @DefaultValue("EXACT") @QueryParam("countMode") CountMode countMode);
 
     /**
      * Gets a list of requested tenants based on some filtered information
@@ -103,6 +108,28 @@ public interface TenantResourceClient {
     @Path("/{id}/children")
     public Response getChildren(@PathParam("id") Long id);
 
+    /**
+     * Method to get all the descendants of a tenant (the whole subtree bellow it)
+     * @param id of the top tenant of the hierarchy
+     * @param includeSelf if the requested tenant should be part of the result
+     * @return a list of the descendant tenants ordered by their depth, 200 code message if success,
+     * 500 code message if there is any error.
+     */
+    @GET
+    @Path("/{id}/descendants")
+    public Response getDescendants(@PathParam("id") Long id,
+                                   @DefaultValue("false") @QueryParam("includeSelf") boolean includeSelf);
+
+    /**
+     * Method to get all the ancestors of a tenant
+     * @param id of the tenant
+     * @return a list of the ancestor tenants starting with the top (root) tenant, 200 code message if success,
+     * 500 code message if there is any error.
+     */
+    @GET
+    @Path("/{id}/ancestors")
+    public Response getAncestors(@PathParam("id") Long id);
+
     /**
      * Gets tenant based on the given id
      * @param id to be searched for
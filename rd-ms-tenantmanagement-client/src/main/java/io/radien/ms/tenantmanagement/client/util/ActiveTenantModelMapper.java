@@ -16,13 +16,13 @@
 package io.radien.ms.tenantmanagement.client.util;
 
 import io.radien.api.entity.Page;
+import io.radien.api.util.StreamingJsonMapper;
 import io.radien.ms.tenantmanagement.client.entities.ActiveTenant;
 import io.radien.ms.tenantmanagement.client.services.ActiveTenantFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.json.Json;
-import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.json.JsonReader;
 import java.io.InputStream;
@@ -53,10 +53,7 @@ public class ActiveTenantModelMapper {
      * @return a list of active tenant object based in the received information
      */
     public static List<? extends ActiveTenant> mapList(InputStream is) throws ParseException {
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonArray jsonArray = jsonReader.readArray();
-            return ActiveTenantFactory.convert(jsonArray);
-        }
+        return StreamingJsonMapper.readList(is, ActiveTenantFactory::convert);
     }
 
     /**
@@ -76,14 +73,6 @@ public class ActiveTenantModelMapper {
      * @return a page of active tenants object based in the received information
      */
     public static Page<ActiveTenant> mapToPage(InputStream is) {
-        Page<ActiveTenant> page = null;
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonObject jsonObject = jsonReader.readObject();
-
-            page = ActiveTenantFactory.convertJsonToPage(jsonObject);
-        } catch (ParseException e) {
-            log.error(e.getMessage(),e);
-        }
-        return page;
+        return StreamingJsonMapper.readPage(is, ActiveTenantFactory::convert);
     }
 }
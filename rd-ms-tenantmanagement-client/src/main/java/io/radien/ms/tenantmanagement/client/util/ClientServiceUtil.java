@@ -15,19 +15,18 @@
  */
 package io.radien.ms.tenantmanagement.client.util;
 
+import io.radien.api.util.RestClientRegistry;
 import io.radien.ms.tenantmanagement.client.TenantResponseExceptionMapper;
 import io.radien.ms.tenantmanagement.client.providers.ActiveTenantMessageBodyWriter;
 import io.radien.ms.tenantmanagement.client.providers.TenantMessageBodyWriter;
 import io.radien.ms.tenantmanagement.client.services.ActiveTenantResourceClient;
 import io.radien.ms.tenantmanagement.client.services.TenantResourceClient;
-import org.eclipse.microprofile.rest.client.RestClientBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.enterprise.context.RequestScoped;
 import javax.inject.Named;
 import java.net.MalformedURLException;
-import java.net.URL;
 
 /**
  * Client Service utility to retrieve and create the client builders
@@ -48,13 +47,8 @@ public class ClientServiceUtil {
      */
     public TenantResourceClient getTenantResourceClient(String urlStr) throws MalformedURLException {
         log.info(urlStr);
-        URL url = new URL(urlStr);
-        return RestClientBuilder.
-                newBuilder()
-                .baseUrl(url)
-                .register(TenantResponseExceptionMapper.class)
-                .register(TenantMessageBodyWriter.class)
-                .build(TenantResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, TenantResourceClient.class,
+                TenantResponseExceptionMapper.class, TenantMessageBodyWriter.class);
     }
 
     /**
@@ -65,12 +59,7 @@ public class ClientServiceUtil {
      */
     public ActiveTenantResourceClient getActiveTenantResourceClient(String urlStr) throws MalformedURLException {
         log.info(urlStr);
-        URL url = new URL(urlStr);
-        return RestClientBuilder.
-                newBuilder()
-                .baseUrl(url)
-                .register(TenantResponseExceptionMapper.class)
-                .register(ActiveTenantMessageBodyWriter.class)
-                .build(ActiveTenantResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, ActiveTenantResourceClient.class,
+                TenantResponseExceptionMapper.class, ActiveTenantMessageBodyWriter.class);
     }
 }
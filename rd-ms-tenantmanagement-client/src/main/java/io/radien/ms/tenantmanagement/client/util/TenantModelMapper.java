@@ -16,13 +16,13 @@
 package io.radien.ms.tenantmanagement.client.util;
 
 import io.radien.api.entity.Page;
+import io.radien.api.util.StreamingJsonMapper;
 import io.radien.ms.tenantmanagement.client.entities.Tenant;
 import io.radien.ms.tenantmanagement.client.services.TenantFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.json.Json;
-import javax.json.JsonArray;
 import javax.json.JsonObject;
 import javax.json.JsonReader;
 import java.io.InputStream;
@@ -52,10 +52,7 @@ public class TenantModelMapper {
      * @return a list of tenant object based in the received information
      */
     public static List<? extends Tenant> mapList(InputStream is) throws ParseException {
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonArray jsonArray = jsonReader.readArray();
-            return TenantFactory.convert(jsonArray);
-        }
+        return StreamingJsonMapper.readList(is, TenantFactory::convert);
     }
 
     /**
@@ -76,10 +73,8 @@ public class TenantModelMapper {
      */
     public static Page<Tenant> mapToPage(InputStream is) {
         Page<Tenant> page = null;
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonObject jsonObject = jsonReader.readObject();
-
-            page = TenantFactory.convertJsonToPage(jsonObject);
+        try {
+            page = StreamingJsonMapper.readPage(is, TenantFactory::convert);
         } catch (ParseException e) {
             log.error(e.getMessage(),e);
         }
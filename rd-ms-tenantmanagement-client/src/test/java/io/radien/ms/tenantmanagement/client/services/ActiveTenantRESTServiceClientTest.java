@@ -442,6 +442,39 @@ public class ActiveTenantRESTServiceClientTest {
         assertFalse(target.deleteByTenantAndUser(2L,2L));
     }
 
+    /**
+     * Tests the deletion of all the active tenants of a user, with success and without success
+     * @throws MalformedURLException in case of issue connecting to the client
+     * @throws SystemException in case of token expiration or any other issue for the system
+     */
+    @Test
+    public void testDeleteByUser() throws MalformedURLException, SystemException {
+        ActiveTenantResourceClient activeTenantResourceClient = Mockito.mock(ActiveTenantResourceClient.class);
+        when(activeTenantResourceClient.deleteByUser(2L)).thenReturn(Response.ok(Boolean.TRUE).build());
+        when(activeTenantResourceClient.deleteByUser(3L)).thenReturn(Response.serverError().entity("teste").build());
+        when(clientServiceUtil.getActiveTenantResourceClient(getActiveTenantManagementUrl())).thenReturn(activeTenantResourceClient);
+        assertTrue(target.deleteByUser(2L));
+        assertFalse(target.deleteByUser(3L));
+    }
+
+    /**
+     * Test to delete the active tenants of a user with token exception being throw
+     * @throws Exception in case o token exception
+     */
+    @Test(expected = SystemException.class)
+    public void testDeleteByUserTokenExpiration() throws Exception {
+        ActiveTenantResourceClient client = Mockito.mock(ActiveTenantResourceClient.class);
+
+        when(clientServiceUtil.getActiveTenantResourceClient(getActiveTenantManagementUrl())).thenReturn(client);
+        when(client.deleteByUser(anyLong())).thenThrow(new TokenExpiredException("test"));
+
+        when(authorizationChecker.getUserClient()).thenReturn(userClient);
+        when(tokensPlaceHolder.getRefreshToken()).thenReturn("test");
+        when(userClient.refreshToken(anyString())).thenReturn(Response.ok().entity("test").build());
+
+        target.deleteByUser(2L);
+    }
+
 
     /**
      * Tests the access into the db and update of a active tenant
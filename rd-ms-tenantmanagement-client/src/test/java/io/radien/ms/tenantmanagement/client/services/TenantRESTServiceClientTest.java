@@ -15,6 +15,7 @@
  */
 package io.radien.ms.tenantmanagement.client.services;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.OAFAccess;
 import io.radien.api.OAFProperties;
 import io.radien.api.model.tenant.SystemTenant;
@@ -266,6 +267,63 @@ public class TenantRESTServiceClientTest {
         target.getTenantsByIds(ids);
     }
 
+    /**
+     * Test for methods getDescendants(Long tenantId, boolean includeSelf) and getAncestors(Long tenantId)
+     * Expected result (SUCCESS): Tenants retrieved
+     * @throws MalformedURLException for url informed incorrectly
+     * @throws SystemException in case of any communication issue
+     */
+    @Test
+    public void testGetDescendantsAndAncestors() throws MalformedURLException, SystemException {
+        Tenant t1 = new Tenant();
+        t1.setId(1L);
+        t1.setTenantType(TenantType.ROOT);
+
+        String json = Json.createArrayBuilder().add(TenantModelMapper.map(t1)).build().toString();
+
+        TenantResourceClient resourceClient = Mockito.mock(TenantResourceClient.class);
+        when(tenantServiceUtil.getTenantResourceClient(getTenantManagementUrl())).thenReturn(resourceClient);
+        when(resourceClient.getDescendants(1L, true)).thenReturn(Response.ok(new ByteArrayInputStream(json.getBytes())).build());
+        when(resourceClient.getAncestors(2L)).thenReturn(Response.ok(new ByteArrayInputStream(json.getBytes())).build());
+
+        assertEquals(1, target.getDescendants(1L, true).size());
+        assertEquals(1, target.getAncestors(2L).size());
+    }
+
+    /**
+     * Test for method getDescendants(Long tenantId, boolean includeSelf)
+     * It corresponds to the unsuccessful situation where exception occurs
+     * Expected result (FAIL): SystemException thrown
+     * @throws MalformedURLException for url informed incorrectly
+     * @throws SystemException in case of any communication issue
+     */
+    @Test(expected = SystemException.class)
+    public void testGetDescendantsException() throws MalformedURLException, SystemException {
+        when(tenantServiceUtil.getTenantResourceClient(getTenantManagementUrl())).thenThrow(new MalformedURLException());
+        target.getDescendants(1L, false);
+    }
+
+    /**
+     * Test for method getAncestors(Long tenantId)
+     * It corresponds to the unsuccessful situation where JWT expiration occurs and
+     * is not possible to recover from that
+     * Expected result (FAIL): SystemException thrown
+     * @throws MalformedURLException for url informed incorrectly
+     * @throws SystemException in case of any communication issue
+     */
+    @Test(expected = SystemException.class)
+    public void testGetAncestorsTokenExpiration() throws MalformedURLException, SystemException {
+        TenantResourceClient resourceClient = Mockito.mock(TenantResourceClient.class);
+        when(tenantServiceUtil.getTenantResourceClient(getTenantManagementUrl())).thenReturn(resourceClient);
+        when(resourceClient.getAncestors(2L)).thenThrow(new TokenExpiredException("test"));
+
+        when(authorizationChecker.getUserClient()).thenReturn(userClient);
+        when(tokensPlaceHolder.getRefreshToken()).thenReturn("test");
+        when(userClient.refreshToken(anyString())).thenReturn(Response.ok().entity("test").build());
+
+        target.getAncestors(2L);
+    }
+
     /**
      * Test for method getTenantsByIds(List ids)
      * It corresponds to the the case where is not possible to find Tenants
@@ -307,7 +365,7 @@ public class TenantRESTServiceClientTest {
 
         TenantResourceClient tenantResourceClient = Mockito.mock(TenantResourceClient.class);
 
-        when(tenantResourceClient.getAll(null,null, null,null,null,null,null,null,null,null,null,1, 10, null, false, true, true)).thenReturn(response);
+        when(tenantResourceClient.getAll(null,null, null,null,null,null,null,null,null,null,null,null,1, 10, null, false, true, true, CountMode.EXACT)).thenReturn(response);
 
         when(tenantServiceUtil.getTenantResourceClient(getTenantManagementUrl())).thenReturn(tenantResourceClient);
 
@@ -342,7 +400,7 @@ public class TenantRESTServiceClientTest {
     public void testGetAllWithTokenException() throws MalformedURLException, SystemException {
         TenantResourceClient resourceClient = Mockito.mock(TenantResourceClient.class);
         when(tenantServiceUtil.getTenantResourceClient(getTenantManagementUrl())).thenReturn(resourceClient);
-        when(resourceClient.getAll(any(),any(),any(),any(),any(),any(),any(),any(),any(),any(),any(),anyInt(),anyInt(),anyList(),anyBoolean(), anyBoolean(), anyBoolean())).
+        when(resourceClient.getAll(any(),any(),any(),any(),any(),any(),any(),any(),any(),any(),any(),anyInt(),anyInt(),anyList(),anyBoolean(), anyBoolean(), anyBoolean(), any())).
                 thenThrow(new TokenExpiredException("test"));
 
         when(authorizationChecker.getUserClient()).thenReturn(userClient);
@@ -716,7 +774,7 @@ public class TenantRESTServiceClientTest {
         TenantResourceClient tenantResourceClient = Mockito.mock(TenantResourceClient.class);
 
         when(tenantServiceUtil.getTenantResourceClient(getTenantManagementUrl())).thenReturn(tenantResourceClient);
-        when(tenantResourceClient.getAll(any(),any(),any(),any(),any(),any(),any(),any(),any(),any(),any(),anyInt(),anyInt(),any(),anyBoolean(), anyBoolean(), anyBoolean())).thenThrow(new TokenExpiredException("test"));
+        when(tenantResourceClient.getAll(any(),any(),any(),any(),any(),any(),any(),any(),any(),any(),any(),anyInt(),anyInt(),any(),anyBoolean(), anyBoolean(), anyBoolean(), any())).thenThrow(new TokenExpiredException("test"));
 
         when(authorizationChecker.getUserClient()).thenReturn(userClient);
         when(tokensPlaceHolder.getRefreshToken()).thenReturn("test");
@@ -45,6 +45,7 @@ import io.radien.api.model.tenant.SystemActiveTenant;
 import io.radien.api.model.tenant.SystemActiveTenantSearchFilter;
 import io.radien.api.service.tenant.ActiveTenantServiceAccess;
 import io.radien.api.service.tenant.exception.ActiveTenantException;
+import io.radien.api.util.ModelServiceUtil;
 import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.ms.tenantmanagement.client.entities.ActiveTenantSearchFilter;
 import io.radien.ms.tenantmanagement.entities.ActiveTenantEntity;
@@ -125,6 +126,39 @@ public class ActiveTenantService implements ActiveTenantServiceAccess {
 		return new Page<>(systemActiveTenants, pageNo, totalRecords, totalPages);
 	}
 
+	/**
+	 * Gets the active tenants into a pagination mode by cursor (keyset mode).
+	 *
+	 * @param tenantId tenant identifier (Optional)
+	 * @param userId user identifier (Optional)
+	 * @param cursor of the requested page, null or empty for the first page.
+	 * @param pageSize total number of records returned in the request.
+	 * @param sortBy sort filter criteria.
+	 * @param isAscending ascending filter criteria.
+	 * @param count if the total number of active tenants should be counted.
+	 * @return a page of system active tenants with the cursor of the next page.
+	 */
+	@Override
+	public Page<SystemActiveTenant> getAllByCursor(Long tenantId, Long userId, String cursor, int pageSize, List<String> sortBy, boolean isAscending, boolean count) {
+		EntityManager entityManager = emh.getEm();
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<ActiveTenantEntity> criteriaQuery = criteriaBuilder.createQuery(ActiveTenantEntity.class);
+		Root<ActiveTenantEntity> activeTenantRoot = criteriaQuery.from(ActiveTenantEntity.class);
+
+		criteriaQuery.select(activeTenantRoot);
+		Predicate global = criteriaBuilder.isTrue(criteriaBuilder.literal(true));
+		if (tenantId != null) {
+			global = criteriaBuilder.and(global, criteriaBuilder.equal(activeTenantRoot.get(
+					SystemVariables.TENANT_ID.getFieldName()), tenantId));
+		}
+		if (userId != null) {
+			global = criteriaBuilder.and(global, criteriaBuilder.equal(activeTenantRoot.get(
+					SystemVariables.USER_ID.getFieldName()), userId));
+		}
+		return ModelServiceUtil.getPageByCursor(entityManager, criteriaQuery, activeTenantRoot, global,
+				sortBy, isAscending, cursor, pageSize, count);
+	}
+
 	/**
 	 * Gets all the active tenants matching the given filter information
 	 *
@@ -16,18 +16,24 @@
 package io.radien.ms.tenantmanagement.datalayer;
 
 import io.radien.api.SystemVariables;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenant.SystemPagedTenantSearchFilter;
 import io.radien.api.model.tenant.SystemTenant;
 import io.radien.api.model.tenant.SystemTenantSearchFilter;
 import io.radien.api.model.user.SystemPagedUserSearchFilter;
 import io.radien.api.service.tenant.TenantServiceAccess;
+import io.radien.api.util.BatchSettings;
+import io.radien.api.util.ModelServiceUtil;
+import io.radien.api.util.PageCountCache;
 import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.exception.SystemException;
 import io.radien.exception.UniquenessConstraintException;
 import io.radien.ms.tenantmanagement.client.entities.TenantSearchFilter;
 import io.radien.ms.tenantmanagement.client.entities.TenantType;
+import io.radien.ms.tenantmanagement.entities.ActiveTenantEntity;
 import io.radien.ms.tenantmanagement.entities.TenantEntity;
+import io.radien.ms.tenantmanagement.entities.TenantHierarchyEntity;
 import io.radien.ms.tenantmanagement.util.EntityManagerHolder;
 import java.util.Objects;
 
@@ -41,10 +47,18 @@ import javax.persistence.criteria.Root;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Subquery;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -56,6 +70,10 @@ public class TenantService implements TenantServiceAccess {
 
     private static final long serialVersionUID = 5367539772479734994L;
 
+    private static final String HIERARCHY_ANCESTOR_ID = "ancestorId";
+    private static final String HIERARCHY_DESCENDANT_ID = "descendantId";
+    private static final String HIERARCHY_DEPTH = "depth";
+
     @Inject
     private EntityManagerHolder emh;
 
@@ -77,10 +95,12 @@ public class TenantService implements TenantServiceAccess {
      * @param pageSize total number of pages returned in the request.
      * @param sortBy sort filter criteria.
      * @param isAscending ascending filter criteria.
+     * @param countMode how the total number of tenants is counted.
      * @return a page of system tenants.
      */
     @Override
-    public Page<SystemTenant> getAll(SystemPagedTenantSearchFilter filter, int pageNo, int pageSize, List<String> sortBy, boolean isAscending) {
+    public Page<SystemTenant> getAll(SystemPagedTenantSearchFilter filter, int pageNo, int pageSize, List<String> sortBy,
+                                     boolean isAscending, CountMode countMode) {
         EntityManager entityManager = emh.getEm();
         CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
         CriteriaQuery<TenantEntity> criteriaQuery = criteriaBuilder.createQuery(TenantEntity.class);
@@ -88,10 +108,8 @@ public class TenantService implements TenantServiceAccess {
 
         criteriaQuery.select(tenantRoot);
 
-        Predicate global = generateFilterPredicate(filter, criteriaBuilder, tenantRoot);
-        if(global == null) {
-            global = criteriaBuilder.isTrue(criteriaBuilder.literal(true));
-        }
+        Predicate filterPredicate = generateFilterPredicate(filter, criteriaBuilder, criteriaQuery, tenantRoot);
+        Predicate global = filterPredicate != null ? filterPredicate : criteriaBuilder.isTrue(criteriaBuilder.literal(true));
         criteriaQuery.where(global);
 
         if(sortBy != null && !sortBy.isEmpty()){
@@ -110,10 +128,23 @@ public class TenantService implements TenantServiceAccess {
 
         List<? extends SystemTenant> systemTenants = q.getResultList();
 
-        int totalRecords = Math.toIntExact(getCount(global, tenantRoot));
-        int totalPages = totalRecords%pageSize==0 ? totalRecords/pageSize : totalRecords/pageSize+1;
+        return ModelServiceUtil.getPage(systemTenants, pageNo, pageSize, countMode, TenantEntity.class,
+                getCountFilter(filter), () -> getCount(global, tenantRoot));
+    }
 
-        return new Page<>(systemTenants, pageNo, totalRecords, totalPages);
+    /**
+     * Gets the filter values that identify a (cached) count of tenants
+     * @param filter paged search filter
+     * @return the filter values
+     */
+    private static List<Object> getCountFilter(SystemPagedTenantSearchFilter filter) {
+        if (filter == null) {
+            return null;
+        }
+        return Arrays.asList(filter.getIds(), filter.getName(), filter.getTenantKey(), filter.getTenantType(),
+                filter.getClientAddress(), filter.getClientZipCode(), filter.getClientCity(), filter.getClientCountry(),
+                filter.getClientPhoneNumber(), filter.getClientEmail(), filter.getParentId(), filter.getSubtreeOf(), filter.isExact(),
+                filter.isLogicConjunction());
     }
 
     /**
@@ -155,7 +186,10 @@ public class TenantService implements TenantServiceAccess {
         validateTenant(tenant);
         List<TenantEntity> alreadyExistentRecords = searchDuplicatedFields(tenant);
         if (alreadyExistentRecords.isEmpty()) {
-            emh.getEm().persist(tenant);
+            EntityManager em = emh.getEm();
+            em.persist(tenant);
+            addToHierarchy(tenant, em);
+            PageCountCache.current().invalidate(TenantEntity.class);
         } else {
             throw new UniquenessConstraintException(GenericErrorCodeMessage.DUPLICATED_FIELD.toString("Name"));
         }
@@ -172,7 +206,10 @@ public class TenantService implements TenantServiceAccess {
         validateTenant(tenant);
         List<TenantEntity> alreadyExistentRecords = searchDuplicatedFields(tenant);
         if (alreadyExistentRecords.isEmpty()) {
-            emh.getEm().merge(tenant);
+            EntityManager em = emh.getEm();
+            moveInHierarchy(tenant, em);
+            em.merge(tenant);
+            PageCountCache.current().invalidate(TenantEntity.class);
         } else {
             throw new UniquenessConstraintException(GenericErrorCodeMessage.DUPLICATED_FIELD.toString("Name"));
         }
@@ -202,17 +239,114 @@ public class TenantService implements TenantServiceAccess {
         Root<TenantEntity> userRoot = criteriaDelete.from(TenantEntity.class);
 
         criteriaDelete.where(userRoot.get("id").in(contractIds));
-        return em.createQuery(criteriaDelete).executeUpdate() > 0;
+        boolean deleted = em.createQuery(criteriaDelete).executeUpdate() > 0;
+        removeFromHierarchy(new ArrayList<>(contractIds), BatchSettings.getChunkSize(), em);
+        PageCountCache.current().invalidate(TenantEntity.class);
+        return deleted;
     }
 
     /**
-     * Requests the DB to delete all the children tenants of the requested tenant
+     * Requests the DB to delete the requested tenant, all its descendants and their active tenants.
+     * The hierarchy is retrieved by one query on the hierarchy (closure) index and deleted
+     * with set based statements, from the deepest tenants up to the requested one
      * @param id to be deleted and all his children
-     * @return true if deletion has been a success or false if there was an issue
+     * @return the ids of the deleted tenants (the requested tenant followed by its descendants, ordered by depth),
+     * or an empty list if the tenant was not deleted
+     */
+    public List<Long> deleteTenantHierarchy(Long id) {
+        EntityManager em = emh.getEm();
+        List<Long> ids = getDescendantIds(id, em);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int chunkSize = BatchSettings.getChunkSize();
+        delete(ActiveTenantEntity.class, SystemVariables.TENANT_ID.getFieldName(), ids, chunkSize, em);
+        PageCountCache.current().invalidate(ActiveTenantEntity.class);
+        removeFromHierarchy(ids, chunkSize, em);
+        List<Long> deepestFirst = new ArrayList<>(ids);
+        Collections.reverse(deepestFirst);
+        boolean deleted = delete(TenantEntity.class, SystemVariables.ID.getFieldName(), deepestFirst, chunkSize, em) > 0;
+        PageCountCache.current().invalidate(TenantEntity.class);
+        return deleted ? ids : Collections.emptyList();
+    }
+
+    /**
+     * Retrieves the identifiers of the requested tenant and all its descendants
+     * @param tenantId of the top tenant of the hierarchy
+     * @return the requested tenant id followed by the ids of its descendants (ordered by depth),
+     * or an empty list if the tenant does not exist
+     */
+    @Override
+    public List<Long> getHierarchyIds(Long tenantId) {
+        return getDescendantIds(tenantId, emh.getEm());
+    }
+
+    /**
+     * Retrieves all the descendants of the requested tenant using the hierarchy (closure) index
+     * @param tenantId of the top tenant of the hierarchy
+     * @param includeSelf if the requested tenant should be part of the result
+     * @return the descendant tenants, ordered by their depth bellow the requested tenant
+     */
+    @Override
+    public List<? extends SystemTenant> getDescendants(Long tenantId, boolean includeSelf) {
+        return getRelatives(HIERARCHY_ANCESTOR_ID, HIERARCHY_DESCENDANT_ID, tenantId, includeSelf, true);
+    }
+
+    /**
+     * Retrieves all the ancestors of the requested tenant using the hierarchy (closure) index
+     * @param tenantId of the tenant
+     * @return the ancestor tenants, starting with the top (root) tenant and ending with the direct parent
      */
-    public boolean deleteTenantHierarchy(Long id) {
+    @Override
+    public List<? extends SystemTenant> getAncestors(Long tenantId) {
+        return getRelatives(HIERARCHY_DESCENDANT_ID, HIERARCHY_ANCESTOR_ID, tenantId, false, false);
+    }
+
+    /**
+     * Rebuilds the hierarchy (closure) index from the tenant parent ids, in case it is not synchronized
+     * with the existing tenants (e.g. tenants created before the index was introduced)
+     * @return true if the index has been rebuilt, false if it was already synchronized
+     */
+    @Override
+    public boolean synchronizeHierarchy() {
         EntityManager em = emh.getEm();
-        return deleteChildren(id, em);
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> tenantCount = cb.createQuery(Long.class);
+        tenantCount.select(cb.count(tenantCount.from(TenantEntity.class)));
+        CriteriaQuery<Long> selfCount = cb.createQuery(Long.class);
+        Root<TenantHierarchyEntity> selfRoot = selfCount.from(TenantHierarchyEntity.class);
+        selfCount.select(cb.count(selfRoot)).where(cb.equal(selfRoot.get(HIERARCHY_DEPTH), 0));
+        if (em.createQuery(tenantCount).getSingleResult().equals(em.createQuery(selfCount).getSingleResult())) {
+            return false;
+        }
+
+        em.createQuery(cb.createCriteriaDelete(TenantHierarchyEntity.class)).executeUpdate();
+
+        CriteriaQuery<Object[]> parentsQuery = cb.createQuery(Object[].class);
+        Root<TenantEntity> tenantRoot = parentsQuery.from(TenantEntity.class);
+        parentsQuery.multiselect(tenantRoot.get(SystemVariables.ID.getFieldName()), tenantRoot.get("parentId"));
+        Map<Long, Long> parents = new HashMap<>();
+        for (Object[] row : em.createQuery(parentsQuery).getResultList()) {
+            parents.put((Long) row[0], (Long) row[1]);
+        }
+
+        int chunkSize = BatchSettings.getChunkSize();
+        int pending = 0;
+        for (Long tenantId : parents.keySet()) {
+            Long ancestorId = tenantId;
+            Set<Long> visited = new HashSet<>();
+            for (int depth = 0; ancestorId != null && parents.containsKey(ancestorId) && visited.add(ancestorId); depth++) {
+                em.persist(new TenantHierarchyEntity(ancestorId, tenantId, depth));
+                ancestorId = parents.get(ancestorId);
+                if (++pending % chunkSize == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+        }
+        em.flush();
+        em.clear();
+        return true;
     }
 
     /**
@@ -452,21 +586,156 @@ public class TenantService implements TenantServiceAccess {
     }
 
     /**
-     * Requests the DB to delete all the children tenants of the requested tenant
-     * @param tenantId to be deleted and all his children
+     * Retrieves the identifiers of the requested tenant and all its descendants with one single query
+     * on the ancestor index of the hierarchy (closure) table, in the same order as {@link #getDescendants(Long, boolean)}
+     * @param tenantId of the top tenant of the hierarchy
      * @param entityManager already created entity manager
-     * @return true if deletion has been a success or false if there was an issue
+     * @return the requested tenant id followed by the ids of its descendants, ordered by depth,
+     * or an empty list if the tenant does not exist
      */
-    protected boolean deleteChildren(Long tenantId, EntityManager entityManager) {
-        List<SystemTenant> children = getChildren(tenantId);
+    private static List<Long> getDescendantIds(Long tenantId, EntityManager entityManager) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteriaQuery = cb.createQuery(Long.class);
+        Root<TenantHierarchyEntity> hierarchyRoot = criteriaQuery.from(TenantHierarchyEntity.class);
+        Path<Long> descendantId = hierarchyRoot.get(HIERARCHY_DESCENDANT_ID);
+        criteriaQuery.select(descendantId).where(cb.equal(hierarchyRoot.get(HIERARCHY_ANCESTOR_ID), tenantId));
+        criteriaQuery.orderBy(cb.asc(hierarchyRoot.get(HIERARCHY_DEPTH)), cb.asc(descendantId));
+        return entityManager.createQuery(criteriaQuery).getResultList();
+    }
 
-        if (!children.isEmpty()) {
-            for (SystemTenant child: children) {
-                deleteChildren(child.getId(), entityManager);
+    /**
+     * Retrieves the tenants related with the requested one through the hierarchy (closure) index
+     * @param field hierarchy field matching the requested tenant
+     * @param relativeField hierarchy field containing the related tenants
+     * @param tenantId requested tenant
+     * @param includeSelf if the requested tenant should be part of the result
+     * @param ascending if the result should be ordered by ascending depth
+     * @return the related tenants
+     */
+    private List<? extends SystemTenant> getRelatives(String field, String relativeField, Long tenantId,
+                                                      boolean includeSelf, boolean ascending) {
+        EntityManager em = emh.getEm();
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<TenantEntity> criteriaQuery = cb.createQuery(TenantEntity.class);
+        Root<TenantEntity> tenantRoot = criteriaQuery.from(TenantEntity.class);
+        Root<TenantHierarchyEntity> hierarchyRoot = criteriaQuery.from(TenantHierarchyEntity.class);
+        Path<Integer> depth = hierarchyRoot.get(HIERARCHY_DEPTH);
+        criteriaQuery.select(tenantRoot).where(
+                cb.equal(hierarchyRoot.get(field), tenantId),
+                cb.equal(hierarchyRoot.get(relativeField), tenantRoot.get(SystemVariables.ID.getFieldName())),
+                includeSelf ? cb.ge(depth, 0) : cb.gt(depth, 0));
+        criteriaQuery.orderBy(ascending ? cb.asc(depth) : cb.desc(depth),
+                cb.asc(tenantRoot.get(SystemVariables.ID.getFieldName())));
+        return em.createQuery(criteriaQuery).getResultList();
+    }
+
+    /**
+     * Retrieves the hierarchy (closure) entries of the given tenant
+     * @param field hierarchy field matching the tenant (ancestor or descendant)
+     * @param tenantId tenant
+     * @param entityManager already created entity manager
+     * @return the hierarchy entries
+     */
+    private static List<TenantHierarchyEntity> getHierarchyEntries(String field, Long tenantId, EntityManager entityManager) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TenantHierarchyEntity> criteriaQuery = cb.createQuery(TenantHierarchyEntity.class);
+        Root<TenantHierarchyEntity> root = criteriaQuery.from(TenantHierarchyEntity.class);
+        criteriaQuery.select(root).where(cb.equal(root.get(field), tenantId));
+        return entityManager.createQuery(criteriaQuery).getResultList();
+    }
+
+    /**
+     * Adds a new tenant into the hierarchy (closure) index: one entry for the tenant itself
+     * and one entry for each one of the ancestors of its parent
+     * @param tenant created tenant
+     * @param entityManager already created entity manager
+     */
+    private static void addToHierarchy(SystemTenant tenant, EntityManager entityManager) {
+        entityManager.persist(new TenantHierarchyEntity(tenant.getId(), tenant.getId(), 0));
+        if (tenant.getParentId() != null) {
+            for (TenantHierarchyEntity entry : getHierarchyEntries(HIERARCHY_DESCENDANT_ID, tenant.getParentId(), entityManager)) {
+                entityManager.persist(new TenantHierarchyEntity(entry.getAncestorId(), tenant.getId(), entry.getDepth() + 1));
             }
         }
+    }
 
-        return delete(tenantId, entityManager);
+    /**
+     * Moves the subtree of an updated tenant in the hierarchy (closure) index, if its parent has been changed.
+     * The entries linking the subtree with the previous ancestors are removed and new entries linking it
+     * with the ancestors of the new parent are added
+     * @param tenant updated tenant
+     * @param entityManager already created entity manager
+     * @throws SystemException if the new parent belongs to the subtree of the tenant
+     */
+    private static void moveInHierarchy(SystemTenant tenant, EntityManager entityManager) throws SystemException {
+        List<TenantHierarchyEntity> ancestors = getHierarchyEntries(HIERARCHY_DESCENDANT_ID, tenant.getId(), entityManager);
+        Long previousParentId = ancestors.stream().filter(entry -> entry.getDepth() == 1)
+                .map(TenantHierarchyEntity::getAncestorId).findFirst().orElse(null);
+        if (ancestors.isEmpty() || Objects.equals(previousParentId, tenant.getParentId())) {
+            return;
+        }
+        List<TenantHierarchyEntity> subtree = getHierarchyEntries(HIERARCHY_ANCESTOR_ID, tenant.getId(), entityManager);
+        List<Long> subtreeIds = subtree.stream().map(TenantHierarchyEntity::getDescendantId).collect(Collectors.toList());
+        if (subtreeIds.contains(tenant.getParentId())) {
+            throw new SystemException(GenericErrorCodeMessage.TENANT_PARENT_IN_HIERARCHY.toString());
+        }
+
+        List<Long> previousAncestorIds = ancestors.stream().filter(entry -> entry.getDepth() > 0)
+                .map(TenantHierarchyEntity::getAncestorId).collect(Collectors.toList());
+        if (!previousAncestorIds.isEmpty()) {
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            int chunkSize = BatchSettings.getChunkSize();
+            for (int from = 0; from < subtreeIds.size(); from += chunkSize) {
+                CriteriaDelete<TenantHierarchyEntity> criteriaDelete = cb.createCriteriaDelete(TenantHierarchyEntity.class);
+                Root<TenantHierarchyEntity> root = criteriaDelete.from(TenantHierarchyEntity.class);
+                criteriaDelete.where(root.get(HIERARCHY_ANCESTOR_ID).in(previousAncestorIds),
+                        root.get(HIERARCHY_DESCENDANT_ID).in(subtreeIds.subList(from, Math.min(from + chunkSize, subtreeIds.size()))));
+                entityManager.createQuery(criteriaDelete).executeUpdate();
+            }
+        }
+
+        if (tenant.getParentId() != null) {
+            for (TenantHierarchyEntity ancestor : getHierarchyEntries(HIERARCHY_DESCENDANT_ID, tenant.getParentId(), entityManager)) {
+                for (TenantHierarchyEntity descendant : subtree) {
+                    entityManager.persist(new TenantHierarchyEntity(ancestor.getAncestorId(), descendant.getDescendantId(),
+                            ancestor.getDepth() + descendant.getDepth() + 1));
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the deleted tenants from the hierarchy (closure) index
+     * @param tenantIds deleted tenants
+     * @param chunkSize maximum number of values per statement
+     * @param entityManager already created entity manager
+     */
+    private static void removeFromHierarchy(List<Long> tenantIds, int chunkSize, EntityManager entityManager) {
+        delete(TenantHierarchyEntity.class, HIERARCHY_DESCENDANT_ID, tenantIds, chunkSize, entityManager);
+        delete(TenantHierarchyEntity.class, HIERARCHY_ANCESTOR_ID, tenantIds, chunkSize, entityManager);
+    }
+
+    /**
+     * Deletes, in chunks, the rows of the given entity having the given field in the requested values
+     * @param entityClass entity to be deleted
+     * @param field to be matched
+     * @param values to be deleted
+     * @param chunkSize maximum number of values per statement
+     * @param entityManager already created entity manager
+     * @param <T> entity type
+     * @return the number of deleted rows
+     */
+    private static <T> int delete(Class<T> entityClass, String field, List<Long> values, int chunkSize,
+                                  EntityManager entityManager) {
+        int deleted = 0;
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        for (int from = 0; from < values.size(); from += chunkSize) {
+            CriteriaDelete<T> criteriaDelete = cb.createCriteriaDelete(entityClass);
+            Root<T> root = criteriaDelete.from(entityClass);
+            criteriaDelete.where(root.get(field).in(values.subList(from, Math.min(from + chunkSize, values.size()))));
+            deleted += entityManager.createQuery(criteriaDelete).executeUpdate();
+        }
+        return deleted;
     }
 
     /**
@@ -481,10 +750,13 @@ public class TenantService implements TenantServiceAccess {
         Root<TenantEntity> userRoot = criteriaDelete.from(TenantEntity.class);
         criteriaDelete.where(cb.equal(userRoot.get("id"), tenantId));
         int ret = entityManager.createQuery(criteriaDelete).executeUpdate();
+        removeFromHierarchy(Collections.singletonList(tenantId), 1, entityManager);
+        PageCountCache.current().invalidate(TenantEntity.class);
         return ret > 0;
     }
 
-    private static Predicate generateFilterPredicate(SystemPagedTenantSearchFilter filter, CriteriaBuilder criteriaBuilder, Root<TenantEntity> tenantRoot) {
+    private static Predicate generateFilterPredicate(SystemPagedTenantSearchFilter filter, CriteriaBuilder criteriaBuilder,
+                                                     CriteriaQuery<?> criteriaQuery, Root<TenantEntity> tenantRoot) {
         Predicate global = null;
         if(filter != null) {
             List<Predicate> filtersList = new ArrayList<>();
@@ -521,6 +793,13 @@ public class TenantService implements TenantServiceAccess {
             if(filter.getParentId() != null) {
                 filtersList.add(criteriaBuilder.equal(tenantRoot.get("parentId"), filter.getParentId()));
             }
+            if(filter.getSubtreeOf() != null) {
+                Subquery<Long> subtree = criteriaQuery.subquery(Long.class);
+                Root<TenantHierarchyEntity> hierarchyRoot = subtree.from(TenantHierarchyEntity.class);
+                subtree.select(hierarchyRoot.get(HIERARCHY_DESCENDANT_ID))
+                        .where(criteriaBuilder.equal(hierarchyRoot.get(HIERARCHY_ANCESTOR_ID), filter.getSubtreeOf()));
+                filtersList.add(tenantRoot.get(SystemVariables.ID.getFieldName()).in(subtree));
+            }
             if(filter.isLogicConjunction()) {
                 filtersList.add(criteriaBuilder.isTrue(criteriaBuilder.literal(true)));
                 global = criteriaBuilder.and(filtersList.toArray(new Predicate[0]));
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.tenantmanagement.entities;
+
+import java.io.Serializable;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.TableGenerator;
+import javax.persistence.UniqueConstraint;
+
+/**
+ * JPA entity representing one entry of the tenant hierarchy closure table.
+ * There is one entry for every (ancestor, descendant) pair of the tenant hierarchy, including one
+ * entry of depth zero for each tenant itself, so that all the descendants (or ancestors) of a tenant
+ * are retrieved by one single indexed query
+ */
+@Entity
+@Table(name = "TNTHRC01",
+		uniqueConstraints = @UniqueConstraint(columnNames = {"ancestorId", "descendantId"}),
+		indexes = {
+				@Index(name = "IDX_TNTHRC01_ANCESTOR", columnList = "ancestorId,depth"),
+				@Index(name = "IDX_TNTHRC01_DESCENDANT", columnList = "descendantId,depth")
+		})
+public class TenantHierarchyEntity implements Serializable {
+
+	private static final long serialVersionUID = -1935218764632118530L;
+
+	private Long id;
+	private Long ancestorId;
+	private Long descendantId;
+	private int depth;
+
+	/**
+	 * Tenant hierarchy entity empty constructor
+	 */
+	public TenantHierarchyEntity() { }
+
+	/**
+	 * Tenant hierarchy entity constructor
+	 * @param ancestorId ancestor tenant id
+	 * @param descendantId descendant tenant id
+	 * @param depth distance between both tenants (zero for the tenant itself)
+	 */
+	public TenantHierarchyEntity(Long ancestorId, Long descendantId, int depth) {
+		this.ancestorId = ancestorId;
+		this.descendantId = descendantId;
+		this.depth = depth;
+	}
+
+	/**
+	 * Tenant hierarchy id table field getter
+	 * @return the tenant hierarchy entry id
+	 */
+	@Id
+	@TableGenerator(name = "GEN_SEQ_TNTHRC01", allocationSize = 100)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "GEN_SEQ_TNTHRC01")
+	public Long getId() {
+		return id;
+	}
+
+	/**
+	 * Tenant hierarchy id setter
+	 * @param id to be set
+	 */
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	/**
+	 * Tenant hierarchy ancestor id table field getter
+	 * @return the ancestor tenant id
+	 */
+	@Column(nullable = false)
+	public Long getAncestorId() {
+		return ancestorId;
+	}
+
+	/**
+	 * Tenant hierarchy ancestor id setter
+	 * @param ancestorId to be set
+	 */
+	public void setAncestorId(Long ancestorId) {
+		this.ancestorId = ancestorId;
+	}
+
+	/**
+	 * Tenant hierarchy descendant id table field getter
+	 * @return the descendant tenant id
+	 */
+	@Column(nullable = false)
+	public Long getDescendantId() {
+		return descendantId;
+	}
+
+	/**
+	 * Tenant hierarchy descendant id setter
+	 * @param descendantId to be set
+	 */
+	public void setDescendantId(Long descendantId) {
+		this.descendantId = descendantId;
+	}
+
+	/**
+	 * Tenant hierarchy depth table field getter
+	 * @return the distance between the ancestor and the descendant
+	 */
+	@Column(nullable = false)
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * Tenant hierarchy depth setter
+	 * @param depth to be set
+	 */
+	public void setDepth(int depth) {
+		this.depth = depth;
+	}
+}
@@ -17,6 +17,8 @@ package io.radien.ms.tenantmanagement.resource;
 
 import io.radien.api.model.tenant.SystemActiveTenant;
 import io.radien.api.model.tenant.SystemActiveTenantSearchFilter;
+import io.radien.exception.GenericErrorMessagesToResponseMapper;
+import io.radien.exception.InvalidPageCursorException;
 import io.radien.ms.openid.entities.Authenticated;
 import io.radien.ms.tenantmanagement.client.entities.ActiveTenant;
 import io.radien.ms.tenantmanagement.client.entities.ActiveTenantSearchFilter;
@@ -57,6 +59,30 @@ public class ActiveTenantResource implements ActiveTenantResourceClient {
 		return Response.ok(activeTenantBusinessService.getAll(tenantId, userId, pageNo, pageSize, sortBy, isAscending)).build();
 	}
 
+	/**
+	 * Gets the active tenant information into a paginated mode by cursor (keyset mode).
+	 *
+	 * @param tenantId tenant identifier (Optional)
+	 * @param userId user identifier (Optional)
+	 * @param cursor of the requested page, not informed for the first page.
+	 * @param pageSize total number of records returned in the request.
+	 * @param sortBy sort filter criteria.
+	 * @param isAscending ascending filter criteria.
+	 * @param count if the total number of active tenants should be counted.
+	 * @return a paginated response with the information and the cursor of the next page. 200 code message if success,
+	 * 400 code message in case of invalid cursor.
+	 */
+	@Override
+	public Response getAllByCursor(Long tenantId, Long userId, String cursor, int pageSize,
+								   List<String> sortBy, boolean isAscending, boolean count) {
+		try {
+			return Response.ok(activeTenantBusinessService.getAllByCursor(tenantId, userId, cursor, pageSize, sortBy,
+					isAscending, count)).build();
+		} catch (InvalidPageCursorException e) {
+			return GenericErrorMessagesToResponseMapper.getInvalidRequestResponse(e.getMessage());
+		}
+	}
+
 	/**
 	 * Gets a list of requested active tenants based on some filtered information
 	 * @param userId to be searched for
@@ -106,6 +132,16 @@ public class ActiveTenantResource implements ActiveTenantResourceClient {
 		return Response.ok().build();
 	}
 
+	/**
+	 * Requests to delete all the active tenants of a user
+	 * @param userId user id of the active tenants to be deleted
+	 * @return 200 code message in case of success or 500 in case of any error
+	 */
+	@Override
+	public Response deleteByUser(long userId) {
+		return Response.ok(activeTenantBusinessService.deleteByUser(userId)).build();
+	}
+
 	/**
 	 * Method to request a creation of a active tenant
 	 * @param activeTenant information to be created
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.tenantmanagement.resource;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.model.tenant.SystemPagedTenantSearchFilter;
 import io.radien.api.model.tenant.SystemTenantSearchFilter;
 import io.radien.ms.openid.entities.Authenticated;
@@ -46,11 +47,12 @@ public class TenantResource implements TenantResourceClient {
 	public Response getAll(Collection<Long> ids, String name, String tenantKey, TenantType tenantType,
 						   String clientAddress, String clientZipCode, String clientCity,
 						   String clientCountry, String clientPhoneNumber, String clientEmail,
-						   Long parentId, int pageNo, int pageSize, List<String> sortBy, boolean isAscending,
-						   boolean isExact, boolean isLogicalConjunction) {
+						   Long parentId, Long subtreeOf, int pageNo, int pageSize, List<String> sortBy, boolean isAscending,
+						   boolean isExact, boolean isLogicalConjunction, CountMode countMode) {
 		SystemPagedTenantSearchFilter filter = new PagedTenantSearchFilter(isLogicalConjunction, ids, name, tenantKey, tenantType, clientAddress,
 				clientZipCode, clientCity, clientCountry, clientPhoneNumber, clientEmail, parentId);
-		return Response.ok(tenantBusinessService.getAll(filter, pageNo, pageSize, sortBy, isAscending)).build();
+		filter.setSubtreeOf(subtreeOf);
+		return Response.ok(tenantBusinessService.getAll(filter, pageNo, pageSize, sortBy, isAscending, countMode)).build();
 	}
 
 	/**
@@ -62,6 +64,27 @@ public class TenantResource implements TenantResourceClient {
 		return Response.ok(tenantBusinessService.getChildren(tenantId)).build();
 	}
 
+	/**
+	 * Method to get all the descendants of the requested tenant
+	 * @param id of the top tenant of the hierarchy
+	 * @param includeSelf if the requested tenant should be part of the result
+	 * @return a list of the descendant tenants ordered by their depth
+	 */
+	@Override
+	public Response getDescendants(Long id, boolean includeSelf) {
+		return Response.ok(tenantBusinessService.getDescendants(id, includeSelf)).build();
+	}
+
+	/**
+	 * Method to get all the ancestors of the requested tenant
+	 * @param id of the tenant
+	 * @return a list of the ancestor tenants starting with the top (root) tenant
+	 */
+	@Override
+	public Response getAncestors(Long id) {
+		return Response.ok(tenantBusinessService.getAncestors(id)).build();
+	}
+
 	/**
 	 * Gets a list of requested tenants based on some filtered information
 	 * @param name to be searched for
@@ -57,6 +57,23 @@ public class ActiveTenantBusinessService implements Serializable {
         return activeTenantService.getAll(tenantId, userId, pageNo, pageSize, sortBy, isAscending);
     }
 
+    /**
+     * Gets the active tenants into a pagination mode by cursor (keyset mode).
+     *
+     * @param tenantId    tenant identifier
+     * @param userId      user identifier
+     * @param cursor      of the requested page, null or empty for the first page.
+     * @param pageSize    number of records to be returned in the response page.
+     * @param sortBy      sort filter criteria.
+     * @param isAscending ascending filter criteria.
+     * @param count       if the total number of active tenants should be counted.
+     * @return a page of system active tenants with the cursor of the next page.
+     */
+    public Page<SystemActiveTenant> getAllByCursor(Long tenantId, Long userId, String cursor,
+                                                   int pageSize, List<String> sortBy, boolean isAscending, boolean count) {
+        return activeTenantService.getAllByCursor(tenantId, userId, cursor, pageSize, sortBy, isAscending, count);
+    }
+
     /**
      * Returns the system active tenant with the specific required information search by the ID.
      * @param id to be search
@@ -156,6 +173,22 @@ public class ActiveTenantBusinessService implements Serializable {
         }
     }
 
+    /**
+     * Deletes all the ActiveTenants of a user (i.e. when the user is being offboarded).
+     * Not having any active tenant is not considered an error.
+     *
+     * @param userId user identifier
+     * @return true if any active tenant has been deleted
+     * @throws BadRequestException if the user identifier is not informed
+     */
+    public boolean deleteByUser(Long userId) {
+        try {
+            return activeTenantService.delete(null, userId);
+        } catch (SystemException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
     /**
      * Deletes a list of active tenants selected by his id.
      *
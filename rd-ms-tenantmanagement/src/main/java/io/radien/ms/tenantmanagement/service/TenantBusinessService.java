@@ -16,6 +16,7 @@
 
 package io.radien.ms.tenantmanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenant.SystemPagedTenantSearchFilter;
 import io.radien.api.model.tenant.SystemTenant;
@@ -23,7 +24,9 @@ import io.radien.api.model.tenant.SystemTenantSearchFilter;
 import io.radien.api.service.tenant.TenantServiceAccess;
 import io.radien.api.service.tenant.exception.TenantException;
 import io.radien.api.service.tenant.exception.TenantNotFoundException;
+import io.radien.api.service.tenantrole.TenantRoleRESTServiceAccess;
 import io.radien.exception.BadRequestException;
+import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.exception.SystemException;
 import io.radien.exception.UniquenessConstraintException;
 import io.radien.ms.tenantmanagement.client.entities.Tenant;
@@ -44,6 +47,9 @@ public class TenantBusinessService implements Serializable {
     @Inject
     private TenantServiceAccess tenantService;
 
+    @Inject
+    private TenantRoleRESTServiceAccess tenantRoleRESTServiceAccess;
+
     /**
      * Gets all the tenants into a pagination mode.
      * @param search name description for some tenant
@@ -51,10 +57,12 @@ public class TenantBusinessService implements Serializable {
      * @param pageSize total number of pages returned in the request.
      * @param sortBy sort filter criteria.
      * @param isAscending ascending filter criteria.
+     * @param countMode how the total number of tenants is counted.
      * @return a page of system tenants.
      */
-    public Page<SystemTenant> getAll(SystemPagedTenantSearchFilter filter, int pageNo, int pageSize, List<String> sortBy, boolean isAscending) {
-        return tenantService.getAll(filter, pageNo, pageSize, sortBy, isAscending);
+    public Page<SystemTenant> getAll(SystemPagedTenantSearchFilter filter, int pageNo, int pageSize, List<String> sortBy,
+                                     boolean isAscending, CountMode countMode) {
+        return tenantService.getAll(filter, pageNo, pageSize, sortBy, isAscending, countMode);
     }
 
     /**
@@ -66,6 +74,25 @@ public class TenantBusinessService implements Serializable {
         return tenantService.getChildren(tenantId);
     }
 
+    /**
+     * Method to get all the descendants of the requested tenant (the whole subtree bellow it)
+     * @param tenantId of the top tenant of the hierarchy
+     * @param includeSelf if the requested tenant should be part of the result
+     * @return a list of the descendant tenants ordered by their depth
+     */
+    public List<? extends SystemTenant> getDescendants(Long tenantId, boolean includeSelf) {
+        return tenantService.getDescendants(tenantId, includeSelf);
+    }
+
+    /**
+     * Method to get all the ancestors of the requested tenant
+     * @param tenantId of the tenant
+     * @return a list of the ancestor tenants starting with the top (root) tenant
+     */
+    public List<? extends SystemTenant> getAncestors(Long tenantId) {
+        return tenantService.getAncestors(tenantId);
+    }
+
     /**
      * Finds tenant by specified id
      * @param tenantId to be searched
@@ -152,14 +179,41 @@ public class TenantBusinessService implements Serializable {
     }
 
     /**
-     * Requests the DB to delete all the children tenants of the requested tenant
+     * Requests the DB to delete all the children tenants of the requested tenant (and their active tenants),
+     * followed by the deletion of the tenant roles of the whole hierarchy
      * @param tenantId to be deleted and all his children
      * @throws TenantNotFoundException if there was an issue with the deletion
+     * @throws TenantException if the tenant roles of the hierarchy could not be deleted
      */
     public void deleteTenantHierarchy(Long tenantId) {
-        if(!tenantService.deleteTenantHierarchy(tenantId)) {
+        List<Long> hierarchy = tenantService.deleteTenantHierarchy(tenantId);
+        if(hierarchy.isEmpty()) {
             throw new TenantNotFoundException(MessageFormat.format("Some tenants in the hierarchy of {0} have not been deleted", tenantId));
         }
+        deleteTenantRoles(tenantId, hierarchy);
+    }
+
+    /**
+     * Requests the role management to delete, with one single request, the tenant roles
+     * (and their users and permissions) of all the tenants of a deleted hierarchy
+     * @param tenantId top tenant of the hierarchy
+     * @param hierarchy ids of the deleted tenants
+     * @throws TenantException if the tenant roles could not be deleted
+     */
+    private void deleteTenantRoles(Long tenantId, List<Long> hierarchy) {
+        if (hierarchy == null || hierarchy.isEmpty()) {
+            return;
+        }
+        boolean deleted;
+        try {
+            deleted = Boolean.TRUE.equals(tenantRoleRESTServiceAccess.deleteByTenants(hierarchy));
+        } catch (SystemException e) {
+            deleted = false;
+        }
+        if (!deleted) {
+            throw new TenantException(GenericErrorCodeMessage.TENANT_HIERARCHY_ROLES_NOT_DELETED.toString(String.valueOf(tenantId)),
+                    Response.Status.INTERNAL_SERVER_ERROR);
+        }
     }
 
     /**
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.tenantmanagement.service;
+
+import io.radien.api.service.tenant.TenantServiceAccess;
+import javax.annotation.PostConstruct;
+import javax.ejb.Singleton;
+import javax.ejb.Startup;
+import javax.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Startup bean that fills the tenant hierarchy index for the tenants that were created before
+ * the index existed (or whenever it got out of sync with the tenant parent ids)
+ */
+@Startup
+@Singleton
+public class TenantHierarchyInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantHierarchyInitializer.class);
+
+    @Inject
+    private TenantServiceAccess tenantService;
+
+    /**
+     * Synchronizes the tenant hierarchy index. A failure is logged and does not prevent the application startup
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            if (tenantService.synchronizeHierarchy()) {
+                log.info("Tenant hierarchy index rebuilt");
+            }
+        } catch (RuntimeException e) {
+            log.error("Unable to synchronize the tenant hierarchy index", e);
+        }
+    }
+}
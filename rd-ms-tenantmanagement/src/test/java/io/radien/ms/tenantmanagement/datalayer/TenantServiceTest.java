@@ -15,6 +15,7 @@
  */
 package io.radien.ms.tenantmanagement.datalayer;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenant.SystemPagedTenantSearchFilter;
 import io.radien.api.model.tenant.SystemTenant;
@@ -40,6 +41,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
 
@@ -229,6 +231,94 @@ public class TenantServiceTest {
         assertNull(result);
     }
 
+    /**
+     * Retrieves and deletes a hierarchy of tenants (client and sub tenants).
+     * Expected result: the ids of the whole hierarchy, level by level, and no tenant of the hierarchy after the deletion.
+     * Tested methods: List getHierarchyIds(Long tenantId), List deleteTenantHierarchy(Long tenantId)
+     *
+     * @throws UniquenessConstraintException in case of requested action is not well constructed
+     */
+    @Test
+    public void testGetAndDeleteHierarchy() throws UniquenessConstraintException, SystemException {
+        SystemTenant client = createTenant("testGetAndDeleteHierarchy");
+        SystemTenant sub = createSubTenant("testGetAndDeleteHierarchySub", client, client);
+        SystemTenant subSub = createSubTenant("testGetAndDeleteHierarchySubSub", sub, client);
+
+        assertEquals(Arrays.asList(client.getId(), sub.getId(), subSub.getId()),
+                tenantServiceAccess.getHierarchyIds(client.getId()));
+        assertEquals(Arrays.asList(sub.getId(), subSub.getId()), tenantServiceAccess.getHierarchyIds(sub.getId()));
+
+        assertEquals(Arrays.asList(client.getId(), sub.getId(), subSub.getId()),
+                tenantServiceAccess.deleteTenantHierarchy(client.getId()));
+        assertNull(tenantServiceAccess.get(client.getId()));
+        assertNull(tenantServiceAccess.get(sub.getId()));
+        assertNull(tenantServiceAccess.get(subSub.getId()));
+
+        assertTrue(tenantServiceAccess.getHierarchyIds(client.getId()).isEmpty());
+        assertTrue(tenantServiceAccess.deleteTenantHierarchy(client.getId()).isEmpty());
+    }
+
+    /**
+     * Test of the hierarchy index
+     * Tested methods: List getDescendants(Long tenantId, boolean includeSelf), List getAncestors(Long tenantId),
+     * Page getAll(SystemPagedTenantSearchFilter filter, ...) filtering by subtree
+     *
+     * @throws UniquenessConstraintException in case of requested action is not well constructed
+     * @throws SystemException in case of any issue in the data
+     */
+    @Test
+    public void testGetDescendantsAndAncestors() throws UniquenessConstraintException, SystemException {
+        SystemTenant client = createTenant("testGetDescendantsAndAncestors");
+        SystemTenant sub = createSubTenant("testGetDescendantsAndAncestorsSub", client, client);
+        SystemTenant subSub = createSubTenant("testGetDescendantsAndAncestorsSubSub", sub, client);
+
+        List<? extends SystemTenant> descendants = tenantServiceAccess.getDescendants(client.getId(), true);
+        assertEquals(3, descendants.size());
+        assertEquals(client.getId(), descendants.get(0).getId());
+        assertEquals(subSub.getId(), descendants.get(2).getId());
+        assertEquals(2, tenantServiceAccess.getDescendants(client.getId(), false).size());
+        assertTrue(tenantServiceAccess.getDescendants(subSub.getId(), false).isEmpty());
+
+        List<? extends SystemTenant> ancestors = tenantServiceAccess.getAncestors(subSub.getId());
+        assertEquals(3, ancestors.size());
+        assertEquals(rootTenant.getId(), ancestors.get(0).getId());
+        assertEquals(sub.getId(), ancestors.get(2).getId());
+
+        SystemPagedTenantSearchFilter filter = new PagedTenantSearchFilter(true, null, null, null, null, null,
+                null, null, null, null, null, null);
+        filter.setSubtreeOf(sub.getId());
+        Page<SystemTenant> page = tenantServiceAccess.getAll(filter, 1, 10, null, true, CountMode.EXACT);
+        assertEquals(2, page.getTotalResults());
+    }
+
+    /**
+     * Test of the hierarchy index when a tenant is moved to a different parent
+     * Tested methods: void update(SystemTenant tenant)
+     *
+     * @throws UniquenessConstraintException in case of requested action is not well constructed
+     * @throws SystemException in case of any issue in the data
+     */
+    @Test
+    public void testUpdateMovesHierarchy() throws UniquenessConstraintException, SystemException {
+        SystemTenant client = createTenant("testUpdateMovesHierarchy");
+        SystemTenant sub1 = createSubTenant("testUpdateMovesHierarchySub1", client, client);
+        SystemTenant sub2 = createSubTenant("testUpdateMovesHierarchySub2", client, client);
+        SystemTenant subSub = createSubTenant("testUpdateMovesHierarchySubSub", sub1, client);
+
+        sub1.setParentId(sub2.getId());
+        tenantServiceAccess.update(sub1);
+
+        List<? extends SystemTenant> ancestors = tenantServiceAccess.getAncestors(subSub.getId());
+        assertEquals(Arrays.asList(rootTenant.getId(), client.getId(), sub2.getId(), sub1.getId()),
+                ancestors.stream().map(SystemTenant::getId).collect(Collectors.toList()));
+        assertEquals(3, tenantServiceAccess.getDescendants(sub2.getId(), true).size());
+
+        sub2.setParentId(subSub.getId());
+        SystemException e = assertThrows(SystemException.class, () -> tenantServiceAccess.update(sub2));
+        assertEquals(GenericErrorCodeMessage.TENANT_PARENT_IN_HIERARCHY.toString(), e.getMessage());
+        sub2.setParentId(client.getId());
+    }
+
     /**
      * Test updates the tenant information.
      * @throws Exception in case of tenant to be updated not found
@@ -261,6 +351,26 @@ public class TenantServiceTest {
         return tenant;
     }
 
+    /**
+     * Creation of sub tenants
+     * @param name of the sub tenant to create
+     * @param parent tenant
+     * @param client tenant
+     * @return system tenant
+     * @throws UniquenessConstraintException in case of duplicates
+     * @throws SystemException in case of any issue in the data
+     */
+    private SystemTenant createSubTenant(String name, SystemTenant parent, SystemTenant client) throws UniquenessConstraintException, SystemException {
+        SystemTenant tenant = new TenantEntity();
+        tenant.setName(name);
+        tenant.setTenantType(TenantType.SUB);
+        tenant.setParentId(parent.getId());
+        tenant.setClientId(client.getId());
+        tenant.setTenantKey(RandomStringUtils.randomAlphabetic(4));
+        tenantServiceAccess.create(tenant);
+        return tenant;
+    }
+
     /**
      * Test of get all the children from a tenant
      * @throws UniquenessConstraintException in case of duplicates
@@ -276,7 +386,7 @@ public class TenantServiceTest {
         c.setParentId(rootTenant.getId());
         c.setTenantKey(RandomStringUtils.randomAlphabetic(4));
         tenantServiceAccess.create(c);
-        Page<SystemTenant> result = tenantServiceAccess.getAll(null,1,10,null,false);
+        Page<SystemTenant> result = tenantServiceAccess.getAll(null,1,10,null,false, CountMode.EXACT);
         assertNotNull(result);
         assertNotEquals(result.getResults().size(), 0);
     }
@@ -284,7 +394,7 @@ public class TenantServiceTest {
     public void testGetAllWithFilter() throws UniquenessConstraintException, SystemException {
         SystemPagedTenantSearchFilter filter = new PagedTenantSearchFilter(true, Collections.singletonList(1L), "name", "key", TenantType.CLIENT, "address",
                 "zipCode", "city", "country", "phoneNumber", "email", 1L);
-        Page<SystemTenant> result = tenantServiceAccess.getAll(filter,1,10,null,false);
+        Page<SystemTenant> result = tenantServiceAccess.getAll(filter,1,10,null,false, CountMode.EXACT);
         assertNotNull(result);
         assertTrue(result.getResults().isEmpty());
     }
@@ -347,7 +457,7 @@ public class TenantServiceTest {
         sortBy.add("name");
 
         SystemPagedTenantSearchFilter filter = new PagedTenantSearchFilter(false, null, "testGetAll2", null, null, null, null, null, null, null, null, null);
-        Page<SystemTenant> result = tenantServiceAccess.getAll(filter,1,10,sortBy,false);
+        Page<SystemTenant> result = tenantServiceAccess.getAll(filter,1,10,sortBy,false, CountMode.EXACT);
         assertNotNull(result);
     }
 
@@ -671,7 +781,7 @@ public class TenantServiceTest {
         tenantServiceAccess.create(tenant);
 
         // Page size = 100 -> Overkill!!
-        Page<SystemTenant> page = tenantServiceAccess.getAll(null,1,100,null,false);
+        Page<SystemTenant> page = tenantServiceAccess.getAll(null,1,100,null,false, CountMode.EXACT);
         assertTrue(page.getTotalResults()>2);
     }
 
@@ -124,6 +124,15 @@ public class ActiveTenantResourceTest {
         assertEquals(Response.Status.OK.getStatusCode(),response.getStatus());
     }
 
+    /**
+     * Deletion of all the records of a user with success, should return a 200 code message
+     */
+    @Test
+    public void testDeleteByUser() {
+        Response response = activeTenantResource.deleteByUser(1L);
+        assertEquals(Response.Status.OK.getStatusCode(),response.getStatus());
+    }
+
     /**
      * Creation with success of a record. Should return a 200 code message
      */
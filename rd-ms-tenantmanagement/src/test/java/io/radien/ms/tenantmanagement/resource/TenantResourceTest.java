@@ -15,6 +15,8 @@
  */
 package io.radien.ms.tenantmanagement.resource;
 
+import io.radien.api.entity.CountMode;
+import io.radien.api.model.tenant.SystemPagedTenantSearchFilter;
 import io.radien.api.model.tenant.SystemTenantSearchFilter;
 import io.radien.api.service.tenant.exception.TenantException;
 import io.radien.api.service.tenant.exception.TenantNotFoundException;
@@ -23,6 +25,7 @@ import io.radien.ms.tenantmanagement.entities.TenantEntity;
 import io.radien.ms.tenantmanagement.service.TenantBusinessService;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -30,8 +33,10 @@ import org.mockito.MockitoAnnotations;
 import javax.ws.rs.core.Response;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -65,10 +70,25 @@ public class TenantResourceTest {
      */
     @Test
     public void testGetAll() {
-        Response response = tenantResource.getAll(null,null,null,null,null,null,null,null,null,null,null, 1, 10, null, false, true, true);
+        Response response = tenantResource.getAll(null,null,null,null,null,null,null,null,null,null,null,null, 1, 10, null, false, true, true, CountMode.EXACT);
         assertEquals(Response.Status.OK.getStatusCode(),response.getStatus());
     }
 
+    /**
+     * Test the Get All request restricted to the subtree of a tenant, which should hand the subtree root
+     * over to the search filter.
+     */
+    @Test
+    public void testGetAllSubtreeOf() {
+        Response response = tenantResource.getAll(null,null,null,null,null,null,null,null,null,null,null,2L, 1, 10, null, false, true, true, CountMode.EXACT);
+        assertEquals(Response.Status.OK.getStatusCode(),response.getStatus());
+
+        ArgumentCaptor<SystemPagedTenantSearchFilter> captor = ArgumentCaptor.forClass(SystemPagedTenantSearchFilter.class);
+        verify(tenantBusinessService).getAll(captor.capture(), eq(1), eq(10), isNull(), eq(false), eq(CountMode.EXACT));
+        assertEquals(Long.valueOf(2L), captor.getValue().getSubtreeOf());
+        assertNull(captor.getValue().getParentId());
+    }
+
     /**
      * Test the Get Children request which will return a success message code 200.
      */
@@ -78,6 +98,24 @@ public class TenantResourceTest {
         assertEquals(Response.Status.OK.getStatusCode(),response.getStatus());
     }
 
+    /**
+     * Test the Get Descendants request which will return a success message code 200.
+     */
+    @Test
+    public void testGetDescendants() {
+        Response response = tenantResource.getDescendants(2L, true);
+        assertEquals(Response.Status.OK.getStatusCode(),response.getStatus());
+    }
+
+    /**
+     * Test the Get Ancestors request which will return a success message code 200.
+     */
+    @Test
+    public void testGetAncestors() {
+        Response response = tenantResource.getAncestors(2L);
+        assertEquals(Response.Status.OK.getStatusCode(),response.getStatus());
+    }
+
     /**
      * Test that will test the error message 404 User Not Found
      */
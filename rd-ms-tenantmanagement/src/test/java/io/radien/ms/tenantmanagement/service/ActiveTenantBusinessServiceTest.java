@@ -38,6 +38,7 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -162,6 +163,20 @@ public class ActiveTenantBusinessServiceTest {
         businessService.delete(1L, 1L);
     }
 
+    @Test
+    public void testDeleteByUser() throws SystemException {
+        when(activeTenantService.delete(null, 1L)).thenReturn(true);
+        when(activeTenantService.delete(null, 2L)).thenReturn(false);
+        assertTrue(businessService.deleteByUser(1L));
+        assertFalse(businessService.deleteByUser(2L));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testDeleteByUserBadRequest() throws SystemException {
+        when(activeTenantService.delete(null, null)).thenThrow(new SystemException("error"));
+        businessService.deleteByUser(null);
+    }
+
     @Test
     public void testDeleteCollection() {
         when(activeTenantService.delete(anyList())).thenReturn(true);
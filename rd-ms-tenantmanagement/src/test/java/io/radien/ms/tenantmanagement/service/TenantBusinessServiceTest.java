@@ -16,12 +16,14 @@
 
 package io.radien.ms.tenantmanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenant.SystemTenant;
 import io.radien.api.model.tenant.SystemTenantSearchFilter;
 import io.radien.api.service.tenant.TenantServiceAccess;
 import io.radien.api.service.tenant.exception.TenantException;
 import io.radien.api.service.tenant.exception.TenantNotFoundException;
+import io.radien.api.service.tenantrole.TenantRoleRESTServiceAccess;
 import io.radien.exception.BadRequestException;
 import io.radien.exception.SystemException;
 import io.radien.exception.UniquenessConstraintException;
@@ -50,7 +52,9 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -61,15 +65,17 @@ public class TenantBusinessServiceTest {
     public TenantBusinessService businessService;
     @Mock
     public TenantServiceAccess tenantService;
+    @Mock
+    public TenantRoleRESTServiceAccess tenantRoleRESTServiceAccess;
 
     @Test
     public void testGetAll() {
         SystemTenant resultTenant = new Tenant();
         Page<SystemTenant> result = new Page<>(Collections.singletonList(resultTenant), 1, 1, 1);
-        when(tenantService.getAll(any(), anyInt(), anyInt(), anyList(), anyBoolean()))
+        when(tenantService.getAll(any(), anyInt(), anyInt(), anyList(), anyBoolean(), any()))
                 .thenReturn(result);
 
-        assertEquals(result, businessService.getAll(null, 1, 1, new ArrayList<>(), false));
+        assertEquals(result, businessService.getAll(null, 1, 1, new ArrayList<>(), false, CountMode.EXACT));
     }
 
     @Test
@@ -89,6 +95,17 @@ public class TenantBusinessServiceTest {
         assertEquals(expectedChildren, businessService.getChildren(parentId));
     }
 
+    @Test
+    public void testGetDescendantsAndAncestors(){
+        List<SystemTenant> tenants = Arrays.asList(new Tenant(), new Tenant());
+
+        doReturn(tenants).when(tenantService).getDescendants(2L, true);
+        doReturn(tenants).when(tenantService).getAncestors(3L);
+
+        assertEquals(tenants, businessService.getDescendants(2L, true));
+        assertEquals(tenants, businessService.getAncestors(3L));
+    }
+
     @Test
     public void testGet() {
         SystemTenant tenant = new Tenant();
@@ -181,14 +198,33 @@ public class TenantBusinessServiceTest {
 
     @Test
     public void testDeleteHierarchy() {
-        when(tenantService.deleteTenantHierarchy(anyLong())).thenReturn(true);
+        when(tenantService.deleteTenantHierarchy(anyLong())).thenReturn(Collections.singletonList(1L));
+        when(tenantRoleRESTServiceAccess.deleteByTenants(anyList())).thenReturn(true);
         businessService.deleteTenantHierarchy(1L);
         verify(tenantService).deleteTenantHierarchy(1L);
     }
 
     @Test(expected = TenantNotFoundException.class)
     public void testDeleteHierarchyNotFound() {
-        when(tenantService.deleteTenantHierarchy(anyLong())).thenReturn(false);
+        when(tenantService.deleteTenantHierarchy(anyLong())).thenReturn(Collections.emptyList());
+        businessService.deleteTenantHierarchy(1L);
+    }
+
+    @Test
+    public void testDeleteHierarchyWithTenantRoles() throws SystemException {
+        List<Long> hierarchy = Arrays.asList(1L, 2L, 3L);
+        when(tenantService.deleteTenantHierarchy(anyLong())).thenReturn(hierarchy);
+        when(tenantRoleRESTServiceAccess.deleteByTenants(hierarchy)).thenReturn(true);
+        businessService.deleteTenantHierarchy(1L);
+        verify(tenantService).deleteTenantHierarchy(1L);
+        verify(tenantService, never()).getHierarchyIds(anyLong());
+        verify(tenantRoleRESTServiceAccess).deleteByTenants(hierarchy);
+    }
+
+    @Test(expected = TenantException.class)
+    public void testDeleteHierarchyTenantRolesNotDeleted() throws SystemException {
+        when(tenantService.deleteTenantHierarchy(anyLong())).thenReturn(Arrays.asList(1L, 2L));
+        when(tenantRoleRESTServiceAccess.deleteByTenants(anyList())).thenThrow(new SystemException("error"));
         businessService.deleteTenantHierarchy(1L);
     }
 
@@ -71,5 +71,18 @@ public interface TicketResourceClient {
                            @QueryParam("sortBy") List<String> sortBy,
                            @DefaultValue("true") @QueryParam("asc") boolean isAscending);
 
+    @GET
+    @Path("/find/cursor")
+    public Response getAllByCursor(@QueryParam("userId") Long userId,
+                                   @QueryParam("ticketType") Long ticketType,
+                                   @QueryParam("expireDate") LocalDate expireDate,
+                                   @QueryParam("token") String token,
+                                   @QueryParam("data") String data,
+                                   @QueryParam("isLogicalConjunction") boolean isLogicalConjunction,
+                                   @QueryParam("cursor") String cursor,
+                                   @DefaultValue("10") @QueryParam("pageSize") int pageSize,
+                                   @QueryParam("sortBy") List<String> sortBy,
+                                   @DefaultValue("true") @QueryParam("asc") boolean isAscending,
+                                   @DefaultValue("false") @QueryParam("count") boolean count);
 
 }
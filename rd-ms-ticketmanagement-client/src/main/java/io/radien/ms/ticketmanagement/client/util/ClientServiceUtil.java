@@ -11,17 +11,16 @@
 
 package io.radien.ms.ticketmanagement.client.util;
 
+import io.radien.api.util.RestClientRegistry;
 import io.radien.ms.ticketmanagement.client.TicketResponseExceptionMapper;
 import io.radien.ms.ticketmanagement.client.providers.TicketMessageBodyWriter;
 import io.radien.ms.ticketmanagement.client.services.TicketResourceClient;
-import org.eclipse.microprofile.rest.client.RestClientBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.enterprise.context.RequestScoped;
 import javax.inject.Named;
 import java.net.MalformedURLException;
-import java.net.URL;
 
 @RequestScoped
 @Named("TicketClientServiceUtil")
@@ -31,12 +30,7 @@ public class ClientServiceUtil {
 
     public TicketResourceClient getTicketResourceClient(String urlStr) throws MalformedURLException {
         log.info(urlStr);
-        URL url = new URL(urlStr);
-        return RestClientBuilder.
-                newBuilder()
-                .baseUrl(url)
-                .register(TicketResponseExceptionMapper.class)
-                .register(TicketMessageBodyWriter.class)
-                .build(TicketResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, TicketResourceClient.class,
+                TicketResponseExceptionMapper.class, TicketMessageBodyWriter.class);
     }
 }
@@ -22,6 +22,7 @@ import io.radien.api.model.ticket.SystemTicketSearchFilter;
 import io.radien.api.service.ticket.TicketServiceAccess;
 import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.exception.GenericErrorMessagesToResponseMapper;
+import io.radien.exception.InvalidPageCursorException;
 import io.radien.exception.TicketException;
 import io.radien.exception.UniquenessConstraintException;
 import io.radien.ms.openid.entities.Authenticated;
@@ -136,4 +137,20 @@ public class TicketResource implements TicketResourceClient {
                     .build();
         }
     }
+
+    @Override
+    public Response getAllByCursor(Long userId, Long ticketType, LocalDate expireDate, String token, String data, boolean isLogicalConjunction,
+                                   String cursor, int pageSize, List<String> sortBy, boolean isAscending, boolean count) {
+        try {
+            SystemTicketSearchFilter filter = new TicketSearchFilter(userId, ticketType, expireDate, token, data, isLogicalConjunction);
+            return Response.ok(ticketService.getAllByCursor(filter, cursor, pageSize, sortBy, isAscending, count)).build();
+        } catch (InvalidPageCursorException e) {
+            return GenericErrorMessagesToResponseMapper.getInvalidRequestResponse(e.getMessage());
+        } catch(Exception e) {
+            log.error(GenericErrorCodeMessage.ERROR_RETRIEVING_TICKETS.toString(), e);
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(GenericErrorCodeMessage.ERROR_RETRIEVING_TICKETS + e.getMessage())
+                    .build();
+        }
+    }
 }
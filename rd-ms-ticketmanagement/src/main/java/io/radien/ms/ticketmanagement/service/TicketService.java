@@ -22,6 +22,7 @@ import io.radien.api.entity.Page;
 import io.radien.api.model.ticket.SystemTicket;
 import io.radien.api.model.ticket.SystemTicketSearchFilter;
 import io.radien.api.service.ticket.TicketServiceAccess;
+import io.radien.api.util.ModelServiceUtil;
 import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.exception.TicketException;
 import io.radien.exception.UniquenessConstraintException;
@@ -91,25 +92,8 @@ public class TicketService implements TicketServiceAccess {
         Root<TicketEntity> ticketRoot = criteriaQuery.from(TicketEntity.class);
 
         criteriaQuery.select(ticketRoot);
-        Predicate global = criteriaBuilder.isTrue(criteriaBuilder.literal(true));
+        Predicate global = getFilterPredicate(filter, criteriaBuilder, ticketRoot);
         if(filter!= null) {
-            List<Predicate> filtersList = new ArrayList<>();
-            if(filter.getUserId() != null) {
-                filtersList.add(criteriaBuilder.like(ticketRoot.get(SystemVariables.USER_ID.getFieldName()), filter.getUserId().toString()));
-            }
-            if(filter.getData() != null) {
-                filtersList.add(criteriaBuilder.like(ticketRoot.get(SystemVariables.DATA.getFieldName()), filter.getData()));
-            }
-            if(filter.getTicketType() != null) {
-                filtersList.add(criteriaBuilder.like(ticketRoot.get(SystemVariables.TICKET_TYPE.getFieldName()), filter.getTicketType().toString()));
-            }
-            if(filter.isLogicConjunction()) {
-                filtersList.add(criteriaBuilder.isTrue(criteriaBuilder.literal(true)));
-                global = criteriaBuilder.and(filtersList.toArray(new Predicate[0]));
-            } else {
-                filtersList.add(criteriaBuilder.isTrue(criteriaBuilder.literal(false)));
-                global = criteriaBuilder.or(filtersList.toArray(new Predicate[0]));
-            }
             criteriaQuery.where(global);
         }
         if(sortBy != null && !sortBy.isEmpty()){
@@ -136,6 +120,59 @@ public class TicketService implements TicketServiceAccess {
         return new Page<>(systemTickets, pageNo, totalRecords, totalPages);
     }
 
+    /**
+     * Gets the tickets into a pagination mode by cursor (keyset mode).
+     * @param filter ticket search filter (Optional)
+     * @param cursor of the requested page, null or empty for the first page
+     * @param pageSize total number of records returned in the request
+     * @param sortBy sort filter criteria
+     * @param isAscending ascending filter criteria
+     * @param count if the total number of tickets should be counted
+     * @return a page of system tickets with the cursor of the next page
+     */
+    @Override
+    public Page<SystemTicket> getAllByCursor(SystemTicketSearchFilter filter, String cursor, int pageSize, List<String> sortBy, boolean isAscending, boolean count) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TicketEntity> criteriaQuery = criteriaBuilder.createQuery(TicketEntity.class);
+        Root<TicketEntity> ticketRoot = criteriaQuery.from(TicketEntity.class);
+
+        criteriaQuery.select(ticketRoot);
+        Predicate global = getFilterPredicate(filter, criteriaBuilder, ticketRoot);
+
+        return ModelServiceUtil.getPageByCursor(entityManager, criteriaQuery, ticketRoot, global, sortBy, isAscending, cursor, pageSize, count);
+    }
+
+    /**
+     * Builds the query predicate for the given ticket search filter
+     * @param filter ticket search filter (Optional)
+     * @param criteriaBuilder query builder
+     * @param ticketRoot ticket entity root
+     * @return the filter predicate
+     */
+    private Predicate getFilterPredicate(SystemTicketSearchFilter filter, CriteriaBuilder criteriaBuilder, Root<TicketEntity> ticketRoot) {
+        Predicate global = criteriaBuilder.isTrue(criteriaBuilder.literal(true));
+        if(filter!= null) {
+            List<Predicate> filtersList = new ArrayList<>();
+            if(filter.getUserId() != null) {
+                filtersList.add(criteriaBuilder.like(ticketRoot.get(SystemVariables.USER_ID.getFieldName()), filter.getUserId().toString()));
+            }
+            if(filter.getData() != null) {
+                filtersList.add(criteriaBuilder.like(ticketRoot.get(SystemVariables.DATA.getFieldName()), filter.getData()));
+            }
+            if(filter.getTicketType() != null) {
+                filtersList.add(criteriaBuilder.like(ticketRoot.get(SystemVariables.TICKET_TYPE.getFieldName()), filter.getTicketType().toString()));
+            }
+            if(filter.isLogicConjunction()) {
+                filtersList.add(criteriaBuilder.isTrue(criteriaBuilder.literal(true)));
+                global = criteriaBuilder.and(filtersList.toArray(new Predicate[0]));
+            } else {
+                filtersList.add(criteriaBuilder.isTrue(criteriaBuilder.literal(false)));
+                global = criteriaBuilder.or(filtersList.toArray(new Predicate[0]));
+            }
+        }
+        return global;
+    }
+
     @Override
     public void update(SystemTicket ticket) throws TicketException, UniquenessConstraintException {
         validateEmptyToken(ticket);
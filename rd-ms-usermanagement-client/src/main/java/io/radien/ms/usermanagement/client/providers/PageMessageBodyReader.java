@@ -16,7 +16,9 @@
 package io.radien.ms.usermanagement.client.providers;
 
 import io.radien.api.entity.Page;
+import io.radien.ms.usermanagement.client.entities.User;
 import io.radien.ms.usermanagement.client.util.PageModelMapper;
+import io.radien.ms.usermanagement.client.util.UserModelMapper;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.WebApplicationException;
@@ -26,6 +28,7 @@ import javax.ws.rs.ext.MessageBodyReader;
 import javax.ws.rs.ext.Provider;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
 /**
@@ -51,7 +54,8 @@ public class PageMessageBodyReader implements MessageBodyReader<Page> {
 	}
 
 	/**
-	 * Will call the user page model mapper to convert the given object
+	 * Will call the user page model mapper to convert the given object. When the expected type is a page of users
+	 * the results are decoded (streaming) directly into users, otherwise they are kept as json values
 	 * @param type of the object
 	 * @param genericType generic type of the received object
 	 * @param annotations annotation
@@ -64,6 +68,10 @@ public class PageMessageBodyReader implements MessageBodyReader<Page> {
 	 */
 	@Override
 	public Page<?> readFrom(Class<Page> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws WebApplicationException {
+		if (genericType instanceof ParameterizedType &&
+				User.class.equals(((ParameterizedType) genericType).getActualTypeArguments()[0])) {
+			return UserModelMapper.mapToPage(entityStream);
+		}
 		return PageModelMapper.map(entityStream);
 	}
 }
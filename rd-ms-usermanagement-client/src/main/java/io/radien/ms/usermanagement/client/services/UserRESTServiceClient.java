@@ -34,6 +34,7 @@ import javax.ws.rs.ProcessingException;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.security.TokensPlaceHolder;
 import io.radien.api.service.batch.BatchSummary;
@@ -312,14 +313,32 @@ public class UserRESTServiceClient extends AuthorizationChecker implements UserR
     public Page<? extends SystemUser> getAll(String sub, String email, String logon, String firstName, String lastName,
                                              Boolean enabled, Boolean processingLocked, Collection<Long> ids, int pageNo, int pageSize, List<String> sortBy,
                                              boolean isAscending, boolean isExact, boolean isLogicalConjunction) {
+        return getAll(sub, email, logon, firstName, lastName, enabled, processingLocked, ids, pageNo, pageSize, sortBy,
+                isAscending, isExact, isLogicalConjunction, CountMode.EXACT);
+    }
+
+    /**
+     * Returns all the existent System Users into a pagination format
+     * @param search in case there should only be returned a specific type of users
+     * @param pageNo where the user currently is
+     * @param pageSize number of records to be show by page
+     * @param sortBy any specific column
+     * @param isAscending true in case records should be filter in ascending order
+     * @param countMode how the total number of users is counted
+     * @return a page of all the requested system users
+     */
+    @Override
+    public Page<? extends SystemUser> getAll(String sub, String email, String logon, String firstName, String lastName,
+                                             Boolean enabled, Boolean processingLocked, Collection<Long> ids, int pageNo, int pageSize, List<String> sortBy,
+                                             boolean isAscending, boolean isExact, boolean isLogicalConjunction, CountMode countMode) {
         Page<User> pageUsers = null;
         try {
-            pageUsers = getPageUsers(sub, email, logon, firstName, lastName, enabled, processingLocked, ids, pageNo, pageSize, sortBy, isAscending, isExact, isLogicalConjunction);
+            pageUsers = getPageUsers(sub, email, logon, firstName, lastName, enabled, processingLocked, ids, pageNo, pageSize, sortBy, isAscending, isExact, isLogicalConjunction, countMode);
         } catch (TokenExpiredException e) {
 
             try {
                 refreshToken();
-                pageUsers = getPageUsers(sub, email, logon, firstName, lastName, enabled, processingLocked, ids, pageNo, pageSize, sortBy, isAscending, isExact, isLogicalConjunction);
+                pageUsers = getPageUsers(sub, email, logon, firstName, lastName, enabled, processingLocked, ids, pageNo, pageSize, sortBy, isAscending, isExact, isLogicalConjunction, countMode);
             } catch (SystemException | TokenExpiredException tokenExpiredException) {
                 log.error(tokenExpiredException.getMessage(), tokenExpiredException);
             }
@@ -334,17 +353,18 @@ public class UserRESTServiceClient extends AuthorizationChecker implements UserR
      * @param pageSize number of records to be show by page
      * @param sortBy any specific column
      * @param isAscending true in case records should be filter in ascending order
+     * @param countMode how the total number of users is counted
      * @return a page of all the requested system users
      * @throws TokenExpiredException in case of any issue while attempting communication with the client side
      */
     private Page<User> getPageUsers(String sub, String email, String logon, String firstName, String lastName,
                                     Boolean enabled, Boolean processingLocked, Collection<Long> ids, int pageNo, int pageSize, List<String> sortBy,
-                                    boolean isAscending, boolean isExact, boolean isLogicalConjunction) throws TokenExpiredException {
+                                    boolean isAscending, boolean isExact, boolean isLogicalConjunction, CountMode countMode) throws TokenExpiredException {
         Page<User> page = new Page<>();
         try {
             UserResourceClient client = clientServiceUtil.getUserResourceClient(oaf.getProperty(OAFProperties.SYSTEM_MS_ENDPOINT_USERMANAGEMENT));
             //WEB APPLICATION EXCEPTION jax rs
-            Response response = client.getAll(sub, email, logon, firstName, lastName, enabled, processingLocked, ids, pageNo, pageSize, sortBy, isAscending, isExact, isLogicalConjunction);
+            Response response = client.getAll(sub, email, logon, firstName, lastName, enabled, processingLocked, ids, pageNo, pageSize, sortBy, isAscending, isExact, isLogicalConjunction, countMode);
 
             page = UserModelMapper.mapToPage((InputStream) response.getEntity());
 
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.usermanagement.client.services;
 
+import io.radien.api.entity.CountMode;
 import io.radien.ms.usermanagement.client.entities.UserPasswordChanging;
 import java.util.Collection;
 import java.util.List;
@@ -62,6 +63,7 @@ public interface UserResourceClient {
      * @param pageSize max number of pages of results
      * @param sortBy criteria field to be sorted
      * @param isAscending boolean value to show the values ascending or descending way
+     * @param countMode how the total number of users is counted
      * @return Ok message if it has success. Returns error 500 Code to the user in case of resource is not existent.
      */
     @GET
@@ -78,7 +80,36 @@ public interface UserResourceClient {
                            @QueryParam("sortBy") List<String> sortBy,
                            @DefaultValue("true") @QueryParam("asc") boolean isAscending,
                            @DefaultValue("true") @QueryParam("isExact") boolean isExact,
-                           @DefaultValue("true") @QueryParam("isLogicalConjunction") boolean isLogicalConjunction);
+                           @DefaultValue("true") @QueryParam("isLogicalConjunction") boolean isLogicalConjunction,
+                           @DefaultValue("EXACT") @QueryParam("countMode") CountMode countMode);
+
+    /**
+     * Will request the service to retrieve the users into a paginated response by cursor (keyset mode).
+     * The page contains the cursor of the next page, to be sent in the following request.
+     *
+     * @param cursor of the page to be retrieved, not informed for the first page
+     * @param pageSize max number of records of the page
+     * @param sortBy criteria field to be sorted
+     * @param isAscending boolean value to show the values ascending or descending way
+     * @param count boolean value to count the total number of records
+     * @return Ok message if it has success. Returns error 400 Code in case of invalid cursor.
+     */
+    @GET
+    @Path("cursor")
+    Response getAllByCursor(@QueryParam("sub") String sub,
+                            @QueryParam("userEmail") String email,
+                            @QueryParam("logon") String logon,
+                            @QueryParam("firstName") String firstName,
+                            @QueryParam("lastName") String lastName,
+                            @QueryParam("enabled") Boolean enabled,
+                            @QueryParam("processingLocked") Boolean processingLocked,
+                            @QueryParam("ids") Collection<Long> ids,
+                            @QueryParam("cursor") String cursor,
+                            @DefaultValue("10") @QueryParam("pageSize") int pageSize,
+                            @QueryParam("sortBy") List<String> sortBy,
+                            @DefaultValue("true") @QueryParam("asc") boolean isAscending,
+                            @DefaultValue("false") @QueryParam("count") boolean count,
+                            @DefaultValue("true") @QueryParam("isLogicalConjunction") boolean isLogicalConjunction);
 
     /**
      * Retrieves multiple users into a response in base of a search filter criteria
@@ -15,16 +15,15 @@
  */
 package io.radien.ms.usermanagement.client.util;
 
+import io.radien.api.util.RestClientRegistry;
 import io.radien.exception.TokenExpiredException;
 import io.radien.ms.usermanagement.client.UserResponseExceptionMapper;
 import io.radien.ms.usermanagement.client.providers.UserMessageBodyWriter;
 import io.radien.ms.usermanagement.client.services.JobshopResourceClient;
 import io.radien.ms.usermanagement.client.services.UserResourceClient;
 import javax.enterprise.context.RequestScoped;
-import org.eclipse.microprofile.rest.client.RestClientBuilder;
 
 import java.net.MalformedURLException;
-import java.net.URL;
 
 /**
  * Utility class that produces Rest Clients for User management
@@ -42,20 +41,11 @@ public class ClientServiceUtil {
      * @throws TokenExpiredException  in case of JWT token expiration
      */
     public UserResourceClient getUserResourceClient(String urlStr) throws MalformedURLException , TokenExpiredException {
-        URL url = new URL(urlStr);
-        return RestClientBuilder.
-                 newBuilder()
-                .baseUrl(url)
-                .register(UserResponseExceptionMapper.class)
-                .register(UserMessageBodyWriter.class)
-                .build(UserResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, UserResourceClient.class,
+                UserResponseExceptionMapper.class, UserMessageBodyWriter.class);
     }
 
     public JobshopResourceClient getStudentIdentityResourceClient(String urlStr) throws MalformedURLException , TokenExpiredException {
-        URL url = new URL(urlStr);
-        return RestClientBuilder.
-                newBuilder()
-                .baseUrl(url)
-                .build(JobshopResourceClient.class);
+        return RestClientRegistry.getInstance().getClient(urlStr, JobshopResourceClient.class);
     }
 }
@@ -17,11 +17,9 @@
 package io.radien.ms.usermanagement.client.util;
 
 import io.radien.api.model.user.SystemUser;
+import io.radien.api.util.StreamingJsonMapper;
 import io.radien.ms.usermanagement.client.services.UserFactory;
 
-import javax.json.Json;
-import javax.json.JsonArray;
-import javax.json.JsonReader;
 import java.io.InputStream;
 import java.util.List;
 
@@ -38,9 +36,6 @@ public class ListUserModelMapper {
      * @return a list of system users information
      */
     public static List<? extends SystemUser> map(InputStream is) {
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonArray jsonArray = jsonReader.readArray();
-            return UserFactory.convert(jsonArray);
-        }
+        return StreamingJsonMapper.readList(is, UserFactory::convert);
     }
 }
@@ -16,6 +16,7 @@
 package io.radien.ms.usermanagement.client.util;
 
 import io.radien.api.entity.Page;
+import io.radien.api.util.StreamingJsonMapper;
 import io.radien.ms.usermanagement.client.entities.User;
 import io.radien.ms.usermanagement.client.services.UserFactory;
 
@@ -75,10 +76,6 @@ public class UserModelMapper {
      * @return a page of user mapped from the input stream
      */
     public static Page<User> mapToPage(InputStream is) {
-        try(JsonReader jsonReader = Json.createReader(is)) {
-            JsonObject jsonObject = jsonReader.readObject();
-
-            return UserFactory.convertJsonToPage(jsonObject);
-        }
+        return StreamingJsonMapper.readPage(is, UserFactory::convert);
     }
 }
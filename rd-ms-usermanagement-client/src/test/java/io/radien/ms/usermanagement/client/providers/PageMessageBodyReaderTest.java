@@ -25,10 +25,14 @@ import javax.json.JsonObject;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for the class
@@ -79,4 +83,25 @@ public class PageMessageBodyReaderTest {
         assertEquals(28L,(long) u.getId());
         assertFalse(u.isEnabled());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test method readForm()
+     * Scenario: Expected type is a page of users
+     * Asserts results decoded directly into users
+     */
+    @Test
+    public void testReadFromUserPage() throws IOException {
+        String example = "{\"currentPage\": 1, \"results\": [{\"firstname\": \"a\", \"id\": 28," +
+                "\"logon\": \"aa34433@email.tt\"}], \"totalPages\": 1, \"totalResults\": 1}";
+        ParameterizedType genericType = mock(ParameterizedType.class);
+        when(genericType.getActualTypeArguments()).thenReturn(new Type[]{User.class});
+        PageMessageBodyReader target = new PageMessageBodyReader();
+        InputStream in = new ByteArrayInputStream(example.getBytes());
+        Page<?> page = target.readFrom(Page.class,genericType,null,null,null,in);
+        assertEquals(1,page.getTotalResults());
+        assertEquals(1,page.getResults().size());
+        User u = (User) page.getResults().get(0);
+        assertEquals("a",u.getFirstname());
+        assertEquals(28L,(long) u.getId());
+    }
+}
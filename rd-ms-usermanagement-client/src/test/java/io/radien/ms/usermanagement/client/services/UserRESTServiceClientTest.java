@@ -333,7 +333,7 @@ public class UserRESTServiceClientTest {
 
         UserResourceClient resourceClient = Mockito.mock(UserResourceClient.class);
         when(clientServiceUtil.getUserResourceClient(getUserManagementUrl())).thenReturn(resourceClient);
-        when(resourceClient.getAll(any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt(), any(), anyBoolean(), anyBoolean(), anyBoolean()))
+        when(resourceClient.getAll(any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt(), any(), anyBoolean(), anyBoolean(), anyBoolean(), any()))
                 .thenReturn(expectedResponse);
 
         Page<? extends SystemUser> receivedPage = target.getAll(null, null, null, null, null, null, null, null, 1, 10, null, false, false, false);
@@ -381,7 +381,7 @@ public class UserRESTServiceClientTest {
 
         UserResourceClient resourceClient = Mockito.mock(UserResourceClient.class);
         when(clientServiceUtil.getUserResourceClient(getUserManagementUrl())).thenReturn(resourceClient);
-        when(resourceClient.getAll(any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt(), any(), anyBoolean(), anyBoolean(), anyBoolean()))
+        when(resourceClient.getAll(any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt(), any(), anyBoolean(), anyBoolean(), anyBoolean(), any()))
                 .thenThrow(new TokenExpiredException());
 
         when(tokensPlaceHolder.getRefreshToken()).thenReturn("refreshToken");
@@ -413,7 +413,7 @@ public class UserRESTServiceClientTest {
 
         UserResourceClient resourceClient = Mockito.mock(UserResourceClient.class);
         when(clientServiceUtil.getUserResourceClient(getUserManagementUrl())).thenReturn(resourceClient);
-        when(resourceClient.getAll(any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt(), any(), anyBoolean(), anyBoolean(), anyBoolean()))
+        when(resourceClient.getAll(any(), any(), any(), any(), any(), any(), any(), any(), anyInt(), anyInt(), any(), anyBoolean(), anyBoolean(), anyBoolean(), any()))
                 .thenThrow(new TokenExpiredException()).thenReturn(expectedResponse);
 
         when(tokensPlaceHolder.getRefreshToken()).thenReturn("refreshToken");
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.usermanagement.client.util;
+
+import io.radien.api.entity.Page;
+import io.radien.ms.usermanagement.client.entities.User;
+import io.radien.ms.usermanagement.client.services.UserFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Micro benchmark comparing the tree based (json reader) page mapping with the streaming one
+ * used by {@link UserModelMapper#mapToPage(java.io.InputStream)}.
+ * Not part of the unit tests, to be executed through its main method (test classpath).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserModelMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private byte[] content;
+
+    @Setup
+    public void setup() {
+        JsonArrayBuilder results = Json.createArrayBuilder();
+        for (long i = 0; i < pageSize; i++) {
+            User user = UserFactory.create("first" + i, "last" + i, "logon" + i, "sub" + i,
+                    "user" + i + "@radien.io", "+35100000" + i, 1L, false);
+            user.setId(i);
+            results.add(UserFactory.convertToJsonObject(user));
+        }
+        content = Json.createObjectBuilder()
+                .add("results", results)
+                .add("currentPage", 1)
+                .add("totalResults", pageSize)
+                .add("totalPages", 1)
+                .build().toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Page<User> treeMapping() {
+        try (JsonReader jsonReader = Json.createReader(new ByteArrayInputStream(content))) {
+            return UserFactory.convertJsonToPage(jsonReader.readObject());
+        }
+    }
+
+    @Benchmark
+    public Page<User> streamingMapping() {
+        return UserModelMapper.mapToPage(new ByteArrayInputStream(content));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UserModelMapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
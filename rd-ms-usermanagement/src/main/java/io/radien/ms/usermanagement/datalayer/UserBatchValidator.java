@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.usermanagement.datalayer;
+
+import io.radien.api.SystemVariables;
+import io.radien.api.model.user.SystemUser;
+import io.radien.api.service.batch.DataIssue;
+import io.radien.exception.GenericErrorCodeMessage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Uniqueness validation of the users of a batch (logon, email and subject).
+ * Repeated values inside the batch are found in memory, the values already in use are searched by chunk,
+ * with one single (set based) lookup per chunk for all the fields, and mapped back to the rows of the batch.
+ * The cost of the validation grows with the number of chunks, not with the number of rows.
+ */
+public class UserBatchValidator {
+
+    private static final String LOGON = SystemVariables.LOGON.getFieldName();
+    private static final String USER_EMAIL = SystemVariables.USER_EMAIL.getFieldName();
+    private static final String SUB = SystemVariables.SUB.getFieldName();
+
+    /**
+     * Lookup of the values already in use
+     */
+    @FunctionalInterface
+    public interface ExistingValues {
+        /**
+         * Searches which of the given values are already in use
+         * @param valuesByField values to be searched, by field name (only fields with values are informed)
+         * @return the values in use, by field name
+         */
+        Map<String, Set<String>> find(Map<String, Collection<String>> valuesByField);
+    }
+
+    private final int chunkSize;
+    private final ExistingValues existingValues;
+
+    /**
+     * User batch validator constructor
+     * @param chunkSize maximum number of rows searched per lookup
+     * @param existingValues lookup of the values already in use
+     */
+    public UserBatchValidator(int chunkSize, ExistingValues existingValues) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.chunkSize = chunkSize;
+        this.existingValues = existingValues;
+    }
+
+    /**
+     * Validates the users of the batch. Empty (null) values are not considered as repeated
+     * @param users to be validated
+     * @return the issues found, by (zero based) index of the user in the batch
+     */
+    public Map<Integer, DataIssue> validate(List<? extends SystemUser> users) {
+        Map<Integer, DataIssue> issuesByRow = new TreeMap<>();
+
+        // Searching for repeated elements inside the batch
+        Map<String, Set<String>> batchValues = new HashMap<>();
+        for (int index = 0; index < users.size(); index++) {
+            SystemUser u = users.get(index);
+            findRepeated(LOGON, u.getLogon(), index, issuesByRow, batchValues);
+            findRepeated(SUB, u.getSub(), index, issuesByRow, batchValues);
+            findRepeated(USER_EMAIL, u.getUserEmail(), index, issuesByRow, batchValues);
+        }
+
+        // Searching for values already in use, one lookup per chunk
+        for (int from = 0; from < users.size(); from += chunkSize) {
+            List<? extends SystemUser> chunk = users.subList(from, Math.min(from + chunkSize, users.size()));
+            Map<String, Set<String>> inUse = existingValues.find(getValues(chunk));
+            for (int index = 0; index < chunk.size(); index++) {
+                SystemUser u = chunk.get(index);
+                findInUse(LOGON, u.getLogon(), from + index, issuesByRow, inUse);
+                findInUse(USER_EMAIL, u.getUserEmail(), from + index, issuesByRow, inUse);
+                findInUse(SUB, u.getSub(), from + index, issuesByRow, inUse);
+            }
+        }
+        return issuesByRow;
+    }
+
+    private static Map<String, Collection<String>> getValues(List<? extends SystemUser> chunk) {
+        Map<String, Collection<String>> values = new LinkedHashMap<>();
+        addValues(values, LOGON, chunk, SystemUser::getLogon);
+        addValues(values, USER_EMAIL, chunk, SystemUser::getUserEmail);
+        addValues(values, SUB, chunk, SystemUser::getSub);
+        return values;
+    }
+
+    private static void addValues(Map<String, Collection<String>> values, String field,
+                                  List<? extends SystemUser> chunk, Function<SystemUser, String> getter) {
+        Set<String> fieldValues = new HashSet<>();
+        for (SystemUser u : chunk) {
+            String value = getter.apply(u);
+            if (value != null) {
+                fieldValues.add(value);
+            }
+        }
+        if (!fieldValues.isEmpty()) {
+            values.put(field, new ArrayList<>(fieldValues));
+        }
+    }
+
+    private static void findRepeated(String field, String value, int index, Map<Integer, DataIssue> issuesByRow,
+                                     Map<String, Set<String>> batchValues) {
+        if (value != null && !batchValues.computeIfAbsent(field, k -> new HashSet<>()).add(value)) {
+            addIssue(index, issuesByRow, field);
+        }
+    }
+
+    private static void findInUse(String field, String value, int index, Map<Integer, DataIssue> issuesByRow,
+                                  Map<String, Set<String>> inUse) {
+        Set<String> values = inUse.get(field);
+        if (value != null && values != null && values.contains(value)) {
+            addIssue(index, issuesByRow, field);
+        }
+    }
+
+    private static void addIssue(int index, Map<Integer, DataIssue> issuesByRow, String field) {
+        String description = GenericErrorCodeMessage.DUPLICATED_FIELD.toString(field);
+        DataIssue issue = issuesByRow.get(index);
+        if (issue == null) {
+            issuesByRow.put(index, new DataIssue(index + 1L, description));
+        } else {
+            issue.addReason(description);
+        }
+    }
+}
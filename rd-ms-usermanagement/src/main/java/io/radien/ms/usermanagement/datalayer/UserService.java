@@ -21,6 +21,7 @@ import io.radien.exception.UniquenessConstraintException;
 import io.radien.exception.UserNotFoundException;
 import io.radien.exception.GenericErrorCodeMessage;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 import java.util.HashSet;
@@ -41,18 +42,22 @@ import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Order;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.radien.api.SystemVariables;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.user.SystemUser;
 import io.radien.api.model.user.SystemUserSearchFilter;
 import io.radien.api.service.batch.BatchSummary;
 import io.radien.api.service.batch.DataIssue;
 import io.radien.api.service.user.UserServiceAccess;
+import io.radien.api.util.BatchSettings;
 import io.radien.api.util.ModelServiceUtil;
+import io.radien.api.util.PageCountCache;
 
 import io.radien.ms.usermanagement.entities.UserEntity;
 import io.radien.ms.usermanagement.client.entities.UserSearchFilter;
@@ -140,20 +145,20 @@ public class UserService extends ModelServiceUtil implements UserServiceAccess {
 	 * @param pageSize total number of pages returned in the request.
 	 * @param sortBy sort filter criteria.
 	 * @param isAscending ascending filter criteria.
+	 * @param countMode how the total number of users is counted.
 	 * @return a page of system users.
 	 */
 	@Override
-	public Page<SystemUser> getAll(SystemPagedUserSearchFilter filter, int pageNo, int pageSize, List<String> sortBy, boolean isAscending) {
+	public Page<SystemUser> getAll(SystemPagedUserSearchFilter filter, int pageNo, int pageSize, List<String> sortBy,
+								   boolean isAscending, CountMode countMode) {
 		CriteriaBuilder criteriaBuilder = em.getCriteriaBuilder();
 		CriteriaQuery<UserEntity> criteriaQuery = criteriaBuilder.createQuery( UserEntity.class);
 		Root<UserEntity> userRoot = criteriaQuery.from(UserEntity.class);
 
 		criteriaQuery.select(userRoot);
 
-		Predicate global = generateFilterPredicate(filter, criteriaBuilder, userRoot);
-		if(global == null) {
-			global = criteriaBuilder.isTrue(criteriaBuilder.literal(true));
-		}
+		Predicate filterPredicate = generateFilterPredicate(filter, criteriaBuilder, userRoot);
+		Predicate global = filterPredicate != null ? filterPredicate : criteriaBuilder.isTrue(criteriaBuilder.literal(true));
 		criteriaQuery.where(global);
 
 		if(sortBy != null && !sortBy.isEmpty()){
@@ -168,10 +173,49 @@ public class UserService extends ModelServiceUtil implements UserServiceAccess {
 
 		List<? extends SystemUser> systemUsers = q.getResultList();
 
-		int totalRecords = Math.toIntExact(getCount(global, userRoot));
-		int totalPages = totalRecords%pageSize==0 ? totalRecords/pageSize : totalRecords/pageSize+1;
+		return getPage(systemUsers, pageNo, pageSize, countMode, UserEntity.class, getCountFilter(filter),
+				() -> getCount(global, userRoot));
+	}
 
-		return new Page<>(systemUsers, pageNo, totalRecords, totalPages);
+	/**
+	 * Gets the filter values that identify a (cached) count of users
+	 * @param filter paged search filter
+	 * @return the filter values
+	 */
+	private static List<Object> getCountFilter(SystemPagedUserSearchFilter filter) {
+		if (filter == null) {
+			return null;
+		}
+		return Arrays.asList(filter.getIds(), filter.getSub(), filter.getFirstName(), filter.getLastName(),
+				filter.getEmail(), filter.getLogon(), filter.isEnabled(), filter.isProcessingLocked(),
+				filter.isExact(), filter.isLogicConjunction());
+	}
+
+	/**
+	 * Gets the users into a pagination mode by cursor (keyset mode).
+	 * Pages are sought after the given cursor, instead of skipping all the previous records.
+	 * @param filter search filter
+	 * @param cursor of the requested page, null or empty for the first page
+	 * @param pageSize total number of records returned in the request.
+	 * @param sortBy sort filter criteria.
+	 * @param isAscending ascending filter criteria.
+	 * @param count if the total number of users should be counted.
+	 * @return a page of system users with the cursor of the next page.
+	 */
+	@Override
+	public Page<SystemUser> getAllByCursor(SystemPagedUserSearchFilter filter, String cursor, int pageSize, List<String> sortBy, boolean isAscending, boolean count) {
+		CriteriaBuilder criteriaBuilder = em.getCriteriaBuilder();
+		CriteriaQuery<UserEntity> criteriaQuery = criteriaBuilder.createQuery(UserEntity.class);
+		Root<UserEntity> userRoot = criteriaQuery.from(UserEntity.class);
+
+		criteriaQuery.select(userRoot);
+
+		Predicate global = generateFilterPredicate(filter, criteriaBuilder, userRoot);
+		if(global == null) {
+			global = criteriaBuilder.isTrue(criteriaBuilder.literal(true));
+		}
+
+		return getPageByCursor(em, criteriaQuery, userRoot, global, sortBy, isAscending, cursor, pageSize, count);
 	}
 
 	private static Predicate generateFilterPredicate(SystemPagedUserSearchFilter filter, CriteriaBuilder criteriaBuilder, Root<UserEntity> userRoot) {
@@ -232,6 +276,7 @@ public class UserService extends ModelServiceUtil implements UserServiceAccess {
 		List<UserEntity> alreadyExistentRecords = searchDuplicatedEmailOrLogon(user);
 		validateUniquenessRecords(alreadyExistentRecords, user);
 		em.persist(user);
+		PageCountCache.current().invalidate(UserEntity.class);
 	}
 
 	/**
@@ -249,6 +294,7 @@ public class UserService extends ModelServiceUtil implements UserServiceAccess {
 		List<UserEntity> alreadyExistentRecords = searchDuplicatedEmailOrLogon(user);
 		validateUniquenessRecords(alreadyExistentRecords, user);
 		em.merge(user);
+		PageCountCache.current().invalidate(UserEntity.class);
 	}
 
 
@@ -313,6 +359,7 @@ public class UserService extends ModelServiceUtil implements UserServiceAccess {
 
 		criteriaDelete.where(cb.equal(userRoot.get(SystemVariables.ID.getFieldName()),userId));
 		em.createQuery(criteriaDelete).executeUpdate();
+		PageCountCache.current().invalidate(UserEntity.class);
 	}
 
 	/**
@@ -327,6 +374,7 @@ public class UserService extends ModelServiceUtil implements UserServiceAccess {
 
 		criteriaDelete.where(userRoot.get(SystemVariables.ID.getFieldName()).in(userIds));
 		em.createQuery(criteriaDelete).executeUpdate();
+		PageCountCache.current().invalidate(UserEntity.class);
 	}
 
 	@Override
@@ -410,7 +458,9 @@ public class UserService extends ModelServiceUtil implements UserServiceAccess {
 	}
 
 	/**
-	 * Batch creation method, will delete all the received users from the db
+	 * Batch creation method, will delete all the received users from the db.
+	 * Users are written in chunks ({@link BatchSettings#getChunkSize()}), the persistence context being flushed
+	 * and cleared after each chunk, so memory usage does not grow with the number of users
 	 * @param users list of users to be deleted
 	 * @return a batch summary with a report saying which records have been or not been deleted
 	 */
@@ -426,14 +476,46 @@ public class UserService extends ModelServiceUtil implements UserServiceAccess {
 				filter(index -> !issues.containsKey(index)).
 				mapToObj(users::get).collect(Collectors.toList());
 
+		int chunkSize = BatchSettings.getChunkSize();
+		int pending = 0;
 		for (SystemUser u: insertion) {
 			em.persist(u);
+			if (++pending == chunkSize) {
+				em.flush();
+				em.clear();
+				pending = 0;
+			}
 		}
+		em.flush();
+		em.clear();
+		PageCountCache.current().invalidate(UserEntity.class);
 		batchSummary.addNonProcessedItems(issues.values());
 
 		return batchSummary;
 	}
 
+	/**
+	 * Batch update of the user subjects. Users are loaded (and updated) in chunks, one query per chunk
+	 * @param subsById subjects to be set, by user id
+	 */
+	@Override
+	public void updateSubs(Map<Long, String> subsById) {
+		List<Long> ids = new ArrayList<>(subsById.keySet());
+		int chunkSize = BatchSettings.getChunkSize();
+		for (int from = 0; from < ids.size(); from += chunkSize) {
+			CriteriaBuilder criteriaBuilder = em.getCriteriaBuilder();
+			CriteriaQuery<UserEntity> criteriaQuery = criteriaBuilder.createQuery(UserEntity.class);
+			Root<UserEntity> userRoot = criteriaQuery.from(UserEntity.class);
+			criteriaQuery.select(userRoot).where(userRoot.get(SystemVariables.ID.getFieldName()).
+					in(ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+			for (UserEntity user : em.createQuery(criteriaQuery).getResultList()) {
+				user.setSub(subsById.get(user.getId()));
+			}
+			em.flush();
+			em.clear();
+		}
+	}
+
 	/**
 	 * Translates a given list of system users that have been tried to be inserted via batch mode
 	 * and will understand individually which one what was the issue for not being inserted in the batch
@@ -443,109 +525,42 @@ public class UserService extends ModelServiceUtil implements UserServiceAccess {
 	 */
 	private Map<Integer, DataIssue> retrieveIssues(
 			List<? extends SystemUser> insertionUsers) {
-
-		Map<Integer, DataIssue> issuesByRow = new HashMap<>();
-
-		Set<String> logonsAsParameter = new HashSet<>();
-		Set<String> emailsAsParameter = new HashSet<>();
-		Set<String> subsAsParameter = new HashSet<>();
-
-		// Searching for repeated elements and gathering params for Query
-		for (int index=0; index<insertionUsers.size(); index++) {
-			SystemUser u = insertionUsers.get(index);
-			populateParametersAndFindIssues(SystemVariables.LOGON.getFieldName(), u.getLogon(), index, issuesByRow, logonsAsParameter);
-			populateParametersAndFindIssues(SystemVariables.SUB.getFieldName(), u.getSub(), index, issuesByRow, subsAsParameter);
-			populateParametersAndFindIssues(SystemVariables.USER_EMAIL.getFieldName(), u.getUserEmail(), index, issuesByRow, emailsAsParameter);
-		}
-
-		// Search for already inserted elements (sub, userEmail and logon) on the database
-		Set<String> emailsAlreadyInserted = new HashSet<>(
-				retrieveDataFromDB(SystemVariables.USER_EMAIL.getFieldName(), emailsAsParameter));
-		Set<String> logonsAlreadyInserted = new HashSet<>(
-				retrieveDataFromDB(SystemVariables.LOGON.getFieldName(), logonsAsParameter));
-		Set<String> subsAlreadyInserted = new HashSet<>(
-				retrieveDataFromDB(SystemVariables.SUB.getFieldName(), subsAsParameter));
-
-		for (int index=0; index<insertionUsers.size(); index++) {
-			SystemUser u = insertionUsers.get(index);
-			seekForIssue(SystemVariables.LOGON.getFieldName(), u.getLogon(), index, issuesByRow, logonsAlreadyInserted);
-			seekForIssue(SystemVariables.USER_EMAIL.getFieldName(),  u.getUserEmail(), index, issuesByRow, emailsAlreadyInserted);
-			seekForIssue(SystemVariables.SUB.getFieldName(),  u.getSub(), index, issuesByRow, subsAlreadyInserted);
-		}
-
-		return issuesByRow;
+		return new UserBatchValidator(BatchSettings.getChunkSize(), this::retrieveDataFromDB).validate(insertionUsers);
 	}
 
 	/**
-	 * Method to populate new found issues to be validated and/or filtered in the future
-	 * @param field to be searched
-	 * @param value to be searched
-	 * @param index of the hashmap of issues
-	 * @param issuesByRow hashmap with all the issue information
-	 * @param parameterSet areas to be set
+	 * Retrieval method of the values already in use from multiple fields, with one single query
+	 * (rows matching any of the given values)
+	 * @param parameters values to be compared, by field (logon, user email and/or sub)
+	 * @return the found values, by field
 	 */
-	private void populateParametersAndFindIssues(String field,
-												 String value,
-												 int index,
-												 Map<Integer, DataIssue> issuesByRow,
-												 Set<String> parameterSet) {
-
-		if (!parameterSet.add(value)){
-			addNewFoundIssue(index, issuesByRow,
-					GenericErrorCodeMessage.DUPLICATED_FIELD.toString(field));
-		}
-	}
-
-	/**
-	 * Method that will try to find specific issue and specific description in the list
-	 * @param field to be searched
-	 * @param value to be searched
-	 * @param index of the hashmap of issues
-	 * @param issuesByRow hashmap with all the issue information
-	 * @param searchArea possible multiple areas to be search
-	 */
-	private void seekForIssue(String field,
-							  String value,
-							  int index,
-							  Map<Integer, DataIssue> issuesByRow,
-							  Set<String> searchArea) {
-
-		if (searchArea.contains(value)){
-			addNewFoundIssue(index, issuesByRow,
-					GenericErrorCodeMessage.DUPLICATED_FIELD.toString(field));
+	private Map<String, Set<String>> retrieveDataFromDB(Map<String, Collection<String>> parameters) {
+		Map<String, Set<String>> results = new HashMap<>();
+		if (parameters.isEmpty()) {
+			return results;
 		}
-	}
-
-	/**
-	 * Retrieval method from a given specific field from multiple rows
-	 * @param property to be retrieved
-	 * @param parameters to be compared
-	 * @return list of all the found values
-	 */
-	private List<String> retrieveDataFromDB(String property, Collection<String> parameters) {
+		List<String> fields = Arrays.asList(SystemVariables.LOGON.getFieldName(),
+				SystemVariables.USER_EMAIL.getFieldName(), SystemVariables.SUB.getFieldName());
 		CriteriaBuilder criteriaBuilder = em.getCriteriaBuilder();
-		CriteriaQuery<String> criteriaQuery = criteriaBuilder.createQuery(String.class);
+		CriteriaQuery<Object[]> criteriaQuery = criteriaBuilder.createQuery(Object[].class);
 		Root<UserEntity> userRoot = criteriaQuery.from( UserEntity.class);
 
-		criteriaQuery.select(userRoot.get(property)).where(userRoot.get(property).in(parameters));
-		TypedQuery<String> typedQuery = em.createQuery(criteriaQuery);
-		return typedQuery.getResultList();
-	}
-
-	/**
-	 * Adds reason to the list of reasons
-	 * @param index of the hashmap of issues
-	 * @param map hashmap with all the issue information
-	 * @param issueDescription the issue description
-	 */
-	private void addNewFoundIssue (Integer index, Map<Integer, DataIssue> map, String issueDescription) {
-		DataIssue di = map.get(index);
-		if (di == null) {
-			di = new DataIssue(index+1L, issueDescription);
-			map.put(index, di);
+		List<Predicate> predicates = new ArrayList<>();
+		List<Selection<?>> selections = new ArrayList<>();
+		for (String field : fields) {
+			if (parameters.containsKey(field)) {
+				predicates.add(userRoot.get(field).in(parameters.get(field)));
+			}
+			selections.add(userRoot.get(field));
 		}
-		else {
-			di.addReason(issueDescription);
+		criteriaQuery.multiselect(selections).where(criteriaBuilder.or(predicates.toArray(new Predicate[0])));
+		for (Object[] row : em.createQuery(criteriaQuery).getResultList()) {
+			for (int i = 0; i < fields.size(); i++) {
+				if (row[i] != null) {
+					results.computeIfAbsent(fields.get(i), k -> new HashSet<>()).add((String) row[i]);
+				}
+			}
 		}
+		return results;
 	}
 }
\ No newline at end of file
@@ -15,6 +15,7 @@
  */
 package io.radien.ms.usermanagement.resource;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.model.user.SystemPagedUserSearchFilter;
 import io.radien.api.service.permission.SystemActionsEnum;
 import io.radien.api.service.permission.SystemResourcesEnum;
@@ -38,6 +39,7 @@ import io.radien.api.service.batch.BatchSummary;
 import io.radien.api.model.user.SystemUserSearchFilter;
 import io.radien.api.service.role.SystemRolesEnum;
 import io.radien.exception.GenericErrorMessagesToResponseMapper;
+import io.radien.exception.InvalidPageCursorException;
 import io.radien.exception.SystemException;
 import io.radien.exception.UniquenessConstraintException;
 import io.radien.ms.authz.security.AuthorizationChecker;
@@ -96,13 +98,14 @@ public class UserResource extends AuthorizationChecker implements UserResourceCl
 	 * @param pageSize max number of pages of results
 	 * @param sortBy criteria field to be sorted
 	 * @param isAscending boolean value to show the values ascending or descending way
+	 * @param countMode how the total number of users is counted
 	 * @return Ok message if it has success. Returns error 500 Code to the user in case of resource is not existent.
 	 */
 	@Override
 	public Response getAll(String sub, String email, String logon, String firstName, String lastName,
 						   Boolean enabled, Boolean processingLocked, Collection<Long> ids,
 						   int pageNo, int pageSize, List<String> sortBy, boolean isAscending,
-						   boolean isExact, boolean isLogicalConjunction) {
+						   boolean isExact, boolean isLogicalConjunction, CountMode countMode) {
 		try {
 			if (!checkUserRoles()) {
 				return GenericErrorMessagesToResponseMapper.getForbiddenResponse();
@@ -111,7 +114,46 @@ public class UserResource extends AuthorizationChecker implements UserResourceCl
 			return getResponseFromException(e);
 		}
 		SystemPagedUserSearchFilter filter = new PagedUserSearchFilter(isLogicalConjunction, ids, sub, firstName, lastName, email, logon, enabled, processingLocked);
-		return Response.ok(userBusinessService.getAll(filter, pageNo, pageSize, sortBy, isAscending)).build();
+		return Response.ok(userBusinessService.getAll(filter, pageNo, pageSize, sortBy, isAscending, countMode)).build();
+	}
+
+	/**
+	 * Will request the service to retrieve the users into a paginated response by cursor (keyset mode).
+	 *
+	 * @param sub to be filtered
+	 * @param email to be filtered
+	 * @param logon to be filtered
+	 * @param firstName to be filtered
+	 * @param lastName to be filtered
+	 * @param enabled to be filtered
+	 * @param processingLocked to be filtered
+	 * @param ids user ids to be filtered
+	 * @param cursor of the page to be retrieved, not informed for the first page
+	 * @param pageSize max number of records of the page, at least 1
+	 * @param sortBy criteria field to be sorted
+	 * @param isAscending boolean value to show the values ascending or descending way
+	 * @param count boolean value to count the total number of records
+	 * @param isLogicalConjunction specifies if the filter fields are combined with and (conjunction) or or (disjunction)
+	 * @return Ok message if it has success. Returns error 400 Code in case of invalid cursor or page size.
+	 */
+	@Override
+	public Response getAllByCursor(String sub, String email, String logon, String firstName, String lastName,
+								   Boolean enabled, Boolean processingLocked, Collection<Long> ids,
+								   String cursor, int pageSize, List<String> sortBy, boolean isAscending,
+								   boolean count, boolean isLogicalConjunction) {
+		try {
+			if (!checkUserRoles()) {
+				return GenericErrorMessagesToResponseMapper.getForbiddenResponse();
+			}
+		} catch (Exception e) {
+			return getResponseFromException(e);
+		}
+		SystemPagedUserSearchFilter filter = new PagedUserSearchFilter(isLogicalConjunction, ids, sub, firstName, lastName, email, logon, enabled, processingLocked);
+		try {
+			return Response.ok(userBusinessService.getAllByCursor(filter, cursor, pageSize, sortBy, isAscending, count)).build();
+		} catch (InvalidPageCursorException e) {
+			return GenericErrorMessagesToResponseMapper.getInvalidRequestResponse(e.getMessage());
+		}
 	}
 
 	/**
@@ -21,7 +21,14 @@ import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.ms.usermanagement.client.exceptions.RemoteResourceException;
 import io.radien.ms.usermanagement.util.KeycloakClientFactory;
 import io.radien.ms.usermanagement.util.KeycloakFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import javax.ejb.Stateless;
 import javax.inject.Inject;
 import org.keycloak.representations.idm.UserRepresentation;
@@ -60,6 +67,72 @@ public class KeycloakBusinessService {
         return sub;
     }
 
+    /**
+     * Request to the keycloak client to create the given users, with at most the given number of concurrent
+     * creations. The subject of each created user is set on the user
+     * @param users to be created
+     * @param parallelism maximum number of users being created at the same time
+     * @return the creation failures by index of the user in the given list
+     */
+    public Map<Integer, RuntimeException> createUsers(List<? extends SystemUser> users, int parallelism) {
+        KeycloakClient client = keycloakClientFactory.getKeycloakClient();
+        Semaphore permits = new Semaphore(parallelism);
+        Map<Integer, RuntimeException> failures = new ConcurrentHashMap<>();
+        List<CompletableFuture<String>> creations = new ArrayList<>(users.size());
+        for (int index = 0; index < users.size(); index++) {
+            SystemUser user = users.get(index);
+            int row = index;
+            permits.acquireUninterruptibly();
+            CompletableFuture<String> creation;
+            try {
+                creation = createUserAsync(client, user);
+            } catch (RuntimeException e) {
+                permits.release();
+                failures.put(row, e);
+                continue;
+            }
+            creations.add(creation.whenComplete((sub, e) -> {
+                permits.release();
+                if (e == null) {
+                    user.setSub(sub);
+                } else {
+                    failures.put(row, unwrap(e));
+                }
+            }));
+        }
+        CompletableFuture.allOf(creations.toArray(new CompletableFuture[0])).handle((v, e) -> v).join();
+        return failures;
+    }
+
+    /**
+     * Creates the user and sends the update password email, deleting the user if the email can not be sent
+     * @param client keycloak client
+     * @param user to be created
+     * @return future completed with the newly created user subject
+     */
+    private CompletableFuture<String> createUserAsync(KeycloakClient client, SystemUser user) {
+        UserRepresentation userRepresentation = KeycloakFactory.convertToUserRepresentation(user);
+        userRepresentation.setEmailVerified(false);
+        return client.createUserAsync(userRepresentation).thenCompose(sub -> client.sendUpdatePasswordEmailAsync(sub)
+                .handle((v, e) -> e)
+                .thenCompose(e -> {
+                    if (e == null) {
+                        return CompletableFuture.completedFuture(sub);
+                    }
+                    return client.deleteUserAsync(sub).handle((v, deletion) -> {
+                        if (deletion != null) {
+                            log.error("Unable to delete user {} after failure", sub, unwrap(deletion));
+                        }
+                        throw new CompletionException(unwrap(e));
+                    });
+                }));
+    }
+
+    private static RuntimeException unwrap(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+    }
+
     /**
      * Method to request keycloak to delete specific user
      * @param sub of the user to be deleted
@@ -15,14 +15,18 @@
  */
 package io.radien.ms.usermanagement.service;
 
+import io.radien.api.util.LatencyHistogram;
 import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.ms.usermanagement.client.exceptions.RemoteResourceException;
 
 
 import io.radien.ms.usermanagement.config.KeycloakEmailActions;
 import kong.unirest.Headers;
+import kong.unirest.HttpRequestWithBody;
 import kong.unirest.HttpResponse;
-import kong.unirest.Unirest;
+import kong.unirest.MultipartBody;
+import kong.unirest.RequestBodyEntity;
+import kong.unirest.UnirestInstance;
 
 
 import kong.unirest.UnirestParsingException;
@@ -40,9 +44,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
- * Keycloak client side configuration constructor class
+ * Keycloak client side configuration constructor class.
+ * The admin (client credentials) token is kept by a {@link KeycloakTokenHolder} and reused by all the
+ * admin requests, which are retried once with a new token if the current one is rejected (401).
+ * The requests are performed through a {@link KeycloakHttpClient} (pooled connections and latency histograms
+ * per operation), and the operations used in bulk (user creation, password changes and credentials validation)
+ * are also available in a non blocking form.
  *
  * @author Nuno Santana
  */
@@ -55,9 +66,11 @@ public class KeycloakClient {
     private static final String CLIENT_SECRET="client_secret";
     private static final String PASSWORD = "password";
     private static final String USERNAME = "username";
+    private static final String BEARER = "Bearer ";
     private static final String JSON_BODY_AS_STRING = "{\"value\": \"%s\",\"type\": \"password\"}";
 
-    private HashMap<String, String> result;
+    private KeycloakTokenHolder adminToken;
+    private KeycloakHttpClient httpClient;
     private String idpUrl;
     private String clientId;
     private String clientSecret;
@@ -165,12 +178,40 @@ public class KeycloakClient {
         return this;
     }
 
+    /**
+     * Keycloak admin token holder setter with getter
+     * @param adminToken holder of the admin token to be shared
+     * @return the current client
+     */
+    public synchronized KeycloakClient adminToken(KeycloakTokenHolder adminToken) {
+        this.adminToken = adminToken;
+        return this;
+    }
+
+    /**
+     * Keycloak http client setter with getter
+     * @param httpClient http transport to be shared
+     * @return the current client
+     */
+    public synchronized KeycloakClient httpClient(KeycloakHttpClient httpClient) {
+        this.httpClient = httpClient;
+        return this;
+    }
+
+    /**
+     * Gets the latency histograms of the operations performed against Keycloak
+     * @return the latency histograms per operation
+     */
+    public Map<String, LatencyHistogram> getLatencies() {
+        return getHttpClient().getLatencies();
+    }
+
     /**
      * Keycloak access token getter
      * @return the current active and request access token
      */
     public String getAccessToken() {
-        return result.get("access_token");
+        return getAdminToken().getAccessToken();
     }
 
     /**
@@ -178,27 +219,33 @@ public class KeycloakClient {
      * @return the current active and request refresh token
      */
     public String getRefreshToken() {
-        return result.get(REFRESH_TOKEN);
+        return getAdminToken().getRefreshToken();
     }
 
     /**
-     * Keycloak login process and field filler
+     * Keycloak login process, making sure that a valid admin token is available
+     * (only requested to the token endpoint if there is none or if it has expired)
      * @throws RemoteResourceException exceptions that may occur during the execution of a remote method call.
      */
     public void login() {
-        if(environment.equalsIgnoreCase("LOCAL")){
-            Unirest.config().verifySsl(false);
-        }
+        getAdminToken().getAccessToken();
+    }
 
-        HttpResponse<?> response = Unirest.post(idpUrl + tokenPath)
+    /**
+     * Requests a new admin token (client credentials) to the token endpoint
+     * @return the token endpoint response
+     * @throws RemoteResourceException exceptions that may occur during the execution of a remote method call.
+     */
+    public Map<?, ?> requestAdminToken() {
+        HttpResponse<?> response = getHttpClient().execute("requestAdminToken", () -> unirest().post(idpUrl + tokenPath)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED)
                 .field(CLIENT_ID, clientId)
                 //.field("redirect_uri", "https://localhost:8443/web/login")
                 .field(GRANT_TYPE, "client_credentials")
                 .field(CLIENT_SECRET, clientSecret)
-                .asObject(HashMap.class);
+                .asObject(HashMap.class));
         if (response.isSuccess()) {
-            result = (HashMap<String, String>) response.getBody();
+            return (Map<?, ?>) response.getBody();
         } else {
             throw new RemoteResourceException("Error on login", Response.Status.fromStatusCode(response.getStatus()));
         }
@@ -211,15 +258,33 @@ public class KeycloakClient {
      * @return true if the combination matches, otherwise return false
      */
     public boolean validateCredentials(String username, String password) {
-        String url = this.idpUrl + this.radienTokenPath;
-        HttpResponse<?> response = Unirest.post(url)
+        return isValidCredentials(getHttpClient().execute("validateCredentials",
+                () -> credentialsRequest(username, password).asObject(HashMap.class)));
+    }
+
+    /**
+     * Validate credentials against KeyCloak, without blocking the calling thread
+     * @param username user logon
+     * @param password user pass
+     * @return future completed with true if the combination matches, otherwise with false
+     */
+    public CompletableFuture<Boolean> validateCredentialsAsync(String username, String password) {
+        return getHttpClient().executeAsync("validateCredentials",
+                () -> credentialsRequest(username, password).asObjectAsync(HashMap.class))
+                .thenApply(this::isValidCredentials);
+    }
+
+    private MultipartBody credentialsRequest(String username, String password) {
+        return unirest().post(this.idpUrl + this.radienTokenPath)
                 .header("Content-Type", "application/x-www-form-urlencoded")
                 .field(CLIENT_ID, this.radienClientId)
                 .field(CLIENT_SECRET,this.radienSecret)
                 .field(GRANT_TYPE, PASSWORD)
                 .field(USERNAME, username)
-                .field(PASSWORD, password)
-                .asObject(HashMap.class);
+                .field(PASSWORD, password);
+    }
+
+    private boolean isValidCredentials(HttpResponse<?> response) {
         if (response.isSuccess()) {
             return true;
         }
@@ -239,15 +304,31 @@ public class KeycloakClient {
      * @throws RemoteResourceException in case of any issue regarding KeyCloak communication
      */
     public void changePassword(String subject, String newPassword) {
-        String url = this.idpUrl + this.userPath + "/" + subject + "/reset-password";
-        String body = String.format(JSON_BODY_AS_STRING, newPassword);
+        checkPasswordChanged(executeAuthorized("changePassword",
+                authorization -> changePasswordRequest(authorization, subject, newPassword).asObject(String.class)));
+    }
+
+    /**
+     * Change user password on keycloak, without blocking the calling thread
+     * @param subject User identifier on KeyCloak
+     * @param newPassword New password value
+     * @return future completed when the password is changed, or exceptionally with a {@link RemoteResourceException}
+     * in case of any issue regarding KeyCloak communication
+     */
+    public CompletableFuture<Void> changePasswordAsync(String subject, String newPassword) {
+        return executeAuthorizedAsync("changePassword",
+                authorization -> changePasswordRequest(authorization, subject, newPassword).asObjectAsync(String.class))
+                .thenAccept(this::checkPasswordChanged);
+    }
 
-        HttpResponse<String> response = Unirest.put(url)
-                .header(HttpHeaders.AUTHORIZATION, getAuthorization())
+    private RequestBodyEntity changePasswordRequest(String authorization, String subject, String newPassword) {
+        return unirest().put(this.idpUrl + this.userPath + "/" + subject + "/reset-password")
+                .header(HttpHeaders.AUTHORIZATION, authorization)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
-                .body(body)
-                .asObject(String.class);
+                .body(String.format(JSON_BODY_AS_STRING, newPassword));
+    }
 
+    private void checkPasswordChanged(HttpResponse<String> response) {
         if (!response.isSuccess()) {
             throw new RemoteResourceException(
                     GenericErrorCodeMessage.ERROR_CHANGE_PASSWORD.toString(response.getStatusText(), response.getBody()),
@@ -263,12 +344,36 @@ public class KeycloakClient {
      * @throws RemoteResourceException exceptions that may occur during the execution of a remote method call.
      */
     public String createUser(UserRepresentation userRepresentation) {
-        HttpResponse<String> response = Unirest.post(idpUrl + userPath)
-                .header(HttpHeaders.AUTHORIZATION, getAuthorization())
+        return getSubject(executeAuthorized("createUser",
+                authorization -> createUserRequest(authorization, userRepresentation).asObject(String.class)));
+    }
+
+    /**
+     * Keycloak user creation process, without blocking the calling thread
+     * @param userRepresentation to be created
+     * @return future completed with the created user subject, or exceptionally with a {@link RemoteResourceException}
+     * if the user could not be created
+     */
+    public CompletableFuture<String> createUserAsync(UserRepresentation userRepresentation) {
+        return executeAuthorizedAsync("createUser",
+                authorization -> createUserRequest(authorization, userRepresentation).asObjectAsync(String.class))
+                .thenApply(this::getSubject);
+    }
+
+    private RequestBodyEntity createUserRequest(String authorization, UserRepresentation userRepresentation) {
+        return unirest().post(idpUrl + userPath)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
-                .body(userRepresentation)
-                .asObject(String.class);
+                .body(userRepresentation);
+    }
 
+    /**
+     * Extracts the subject of the created user from the location of the user creation response
+     * @param response user creation response
+     * @return the created user subject
+     * @throws RemoteResourceException if the user was not created
+     */
+    private String getSubject(HttpResponse<String> response) {
         if (response.isSuccess()) {
             Headers headers = response.getHeaders();
             if (headers != null && !headers.get(HttpHeaders.LOCATION).isEmpty() && headers.get(HttpHeaders.LOCATION).get(0) != null) {
@@ -295,11 +400,30 @@ public class KeycloakClient {
      * @throws RemoteResourceException exceptions that may occur during the execution of a remote method call.
      */
     public void sendUpdatePasswordEmail(String sub) {
-        HttpResponse<String> response = Unirest.put(idpUrl + userPath + "/" + sub + "/execute-actions-email")
-                .header(HttpHeaders.AUTHORIZATION, getAuthorization())
+        checkUpdatePasswordEmailSent(executeAuthorized("sendUpdatePasswordEmail",
+                authorization -> updatePasswordEmailRequest(authorization, sub).asObject(String.class)));
+    }
+
+    /**
+     * Method to send a new password via email to the requested user, without blocking the calling thread
+     * @param sub of the user to be found
+     * @return future completed when the email is sent, or exceptionally with a {@link RemoteResourceException}
+     * if the email could not be sent
+     */
+    public CompletableFuture<Void> sendUpdatePasswordEmailAsync(String sub) {
+        return executeAuthorizedAsync("sendUpdatePasswordEmail",
+                authorization -> updatePasswordEmailRequest(authorization, sub).asObjectAsync(String.class))
+                .thenAccept(this::checkUpdatePasswordEmailSent);
+    }
+
+    private RequestBodyEntity updatePasswordEmailRequest(String authorization, String sub) {
+        return unirest().put(idpUrl + userPath + "/" + sub + "/execute-actions-email")
+                .header(HttpHeaders.AUTHORIZATION, authorization)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
-                .body("[\"" + KeycloakEmailActions.UPDATE_PASSWORD + "\"]")
-                .asObject(String.class);
+                .body("[\"" + KeycloakEmailActions.UPDATE_PASSWORD + "\"]");
+    }
+
+    private void checkUpdatePasswordEmailSent(HttpResponse<String> response) {
         if (!response.isSuccess()) {
             log.error("status {},body {}",response.getStatus(),response.getBody());
             throw new RemoteResourceException(
@@ -315,10 +439,29 @@ public class KeycloakClient {
      * @throws RemoteResourceException exceptions that may occur during the execution of a remote method call.
      */
     public void deleteUser(String sub) {
-        HttpResponse<HashMap> response = Unirest.delete(idpUrl + userPath + "/" + sub)
-                .header(HttpHeaders.AUTHORIZATION, getAuthorization())
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
-                .asObject(HashMap.class);
+        checkUserDeleted(executeAuthorized("deleteUser",
+                authorization -> deleteUserRequest(authorization, sub).asObject(HashMap.class)));
+    }
+
+    /**
+     * Keycloak method to delete requested user, without blocking the calling thread
+     * @param sub subject of the user to be deleted
+     * @return future completed when the user is deleted (or not found), or exceptionally with a
+     * {@link RemoteResourceException} if the user could not be deleted
+     */
+    public CompletableFuture<Void> deleteUserAsync(String sub) {
+        return executeAuthorizedAsync("deleteUser",
+                authorization -> deleteUserRequest(authorization, sub).asObjectAsync(HashMap.class))
+                .thenAccept(this::checkUserDeleted);
+    }
+
+    private HttpRequestWithBody deleteUserRequest(String authorization, String sub) {
+        return unirest().delete(idpUrl + userPath + "/" + sub)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+    }
+
+    private void checkUserDeleted(HttpResponse<HashMap> response) {
         if (!response.isSuccess()) {
 
             if(response.getStatus()==404 && "User not found".equalsIgnoreCase((String)response.getBody().get("error")) ){
@@ -331,21 +474,11 @@ public class KeycloakClient {
     }
 
     /**
-     * Keycloak refresh active access token
+     * Keycloak refresh active access token (a new admin token replaces the current one)
      * @throws RemoteResourceException exceptions that may occur during the execution of a remote method call.
      */
     public void refreshToken() {
-        HttpResponse<?> response = Unirest.post(idpUrl + tokenPath)
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED)
-                .field(CLIENT_ID, clientId)
-                .field(GRANT_TYPE, REFRESH_TOKEN)
-                .field(REFRESH_TOKEN, getRefreshToken())
-                .asObject(HashMap.class);
-        if (response.isSuccess()) {
-            result = (HashMap<String, String>) response.getBody();
-        } else {
-            throw new RemoteResourceException("Unable to refresh token", Response.Status.fromStatusCode(response.getStatus()));
-        }
+        getAdminToken().refresh();
     }
 
     /**
@@ -355,16 +488,15 @@ public class KeycloakClient {
      * @throws RemoteResourceException exceptions that may occur during the execution of a remote method call.
      */
     public String refreshToken(String refreshToken) {
-        HttpResponse<?> response = Unirest.post(idpUrl + radienTokenPath)
+        HttpResponse<?> response = getHttpClient().execute("refreshToken", () -> unirest().post(idpUrl + radienTokenPath)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED)
                 .field(CLIENT_ID, radienClientId)
                 .field(CLIENT_SECRET, radienSecret)
                 .field(GRANT_TYPE, REFRESH_TOKEN)
                 .field(REFRESH_TOKEN, refreshToken)
-                .asObject(HashMap.class);
+                .asObject(HashMap.class));
         if (response.isSuccess()) {
-            result = (HashMap<String, String>) response.getBody();
-            return result.get("access_token");
+            return (String) ((Map<?, ?>) response.getBody()).get("access_token");
         } else {
             if(response.getBody() != null) {
                 String msg = response.getBody().toString();
@@ -382,11 +514,11 @@ public class KeycloakClient {
      * @throws RemoteResourceException exceptions that may occur during the execution of a remote method call.
      */
     public void updateUser(String sub,UserRepresentation userRepresentation) {
-        HttpResponse<String> response = Unirest.put(idpUrl + userPath + "/" + sub)
-                .header(HttpHeaders.AUTHORIZATION, getAuthorization())
+        HttpResponse<String> response = executeAuthorized("updateUser", authorization -> unirest().put(idpUrl + userPath + "/" + sub)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
                 .body(userRepresentation)
-                .asString();
+                .asString());
         if(!response.isSuccess()){
             throw new RemoteResourceException("Unable to update user", Response.Status.fromStatusCode(response.getStatus()));
         }
@@ -399,11 +531,11 @@ public class KeycloakClient {
      * @throws RemoteResourceException exceptions that may occur during the execution of a remote method call.
      */
     public void updateEmailAndExecuteActionEmailVerify(String sub, UserRepresentation userRepresentation) {
-        HttpResponse<String> response = Unirest.put(idpUrl + userPath + "/" + sub)
-                .header(HttpHeaders.AUTHORIZATION, getAuthorization())
+        HttpResponse<String> response = executeAuthorized("updateEmail", authorization -> unirest().put(idpUrl + userPath + "/" + sub)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
                 .body(userRepresentation)
-                .asString();
+                .asString());
         if(!response.isSuccess()){
             throw new RemoteResourceException(
                     GenericErrorCodeMessage.ERROR_SEND_UPDATE_EMAIL_VERIFY.toString(),
@@ -418,11 +550,11 @@ public class KeycloakClient {
      * @throws RemoteResourceException exceptions that may occur during the execution of a remote method call.
      */
     public void sendUpdatedEmailToVerify(String sub) {
-        HttpResponse<String> response = Unirest.put(idpUrl + userPath + "/" + sub + "/execute-actions-email")
-                .header(HttpHeaders.AUTHORIZATION, getAuthorization())
+        HttpResponse<String> response = executeAuthorized("sendUpdatedEmailToVerify", authorization -> unirest().put(idpUrl + userPath + "/" + sub + "/execute-actions-email")
+                .header(HttpHeaders.AUTHORIZATION, authorization)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
                 .body("[\"" + KeycloakEmailActions.VERIFY_EMAIL+ "\"]")
-                .asObject(String.class);
+                .asObject(String.class));
         if (!response.isSuccess()) {
             log.error( "status {},body {}", response.getStatus(), response.getBody() );
             throw new RemoteResourceException(
@@ -438,10 +570,10 @@ public class KeycloakClient {
      * @throws RemoteResourceException exceptions that may occur during the execution of a remote method call.
      */
     public Optional<String> getSubFromEmail(String email) {
-        HttpResponse<ArrayList> response = Unirest.get(idpUrl + userPath + "?email=" + email)
-                .header(HttpHeaders.AUTHORIZATION, getAuthorization())
+        HttpResponse<ArrayList> response = executeAuthorized("getSubFromEmail", authorization -> unirest().get(idpUrl + userPath + "?email=" + email)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
-                .asObject(ArrayList.class);
+                .asObject(ArrayList.class));
         if (response.isSuccess()) {
             List<Map<String, Object>> results = (List<Map<String, Object>>) response.getBody();
             if(results.isEmpty()){
@@ -462,10 +594,70 @@ public class KeycloakClient {
     }
 
     /**
-     * Method to get the access token/authorization token
-     * @return the authorization token in use
+     * Retrieves the admin token holder, creating a dedicated one if none was informed
+     * @return the admin token holder
+     */
+    private synchronized KeycloakTokenHolder getAdminToken() {
+        if (adminToken == null) {
+            adminToken = new KeycloakTokenHolder(this::requestAdminToken, KeycloakTokenHolder.DEFAULT_REFRESH_AHEAD);
+        }
+        return adminToken;
+    }
+
+    /**
+     * Retrieves the http client, creating a dedicated one if none was informed
+     * (skipping the certificates verification on LOCAL env)
+     * @return the http client
+     */
+    private synchronized KeycloakHttpClient getHttpClient() {
+        if (httpClient == null) {
+            httpClient = new KeycloakHttpClient(!"LOCAL".equalsIgnoreCase(environment));
+        }
+        return httpClient;
+    }
+
+    private UnirestInstance unirest() {
+        return getHttpClient().getUnirest();
+    }
+
+    /**
+     * Executes an admin request with the current admin token. If the token is rejected (401) it is discarded
+     * and the request is retried (once) with a new one
+     * @param operation name of the operation (latency measurement)
+     * @param request admin request receiving the authorization header value
+     * @param <T> response body type
+     * @return the response
+     */
+    private <T> HttpResponse<T> executeAuthorized(String operation, Function<String, HttpResponse<T>> request) {
+        String accessToken = getAdminToken().getAccessToken();
+        HttpResponse<T> response = getHttpClient().execute(operation, () -> request.apply(BEARER + accessToken));
+        if (response.getStatus() == Response.Status.UNAUTHORIZED.getStatusCode()) {
+            log.warn("Keycloak admin token rejected, requesting a new one");
+            getAdminToken().invalidate(accessToken);
+            response = getHttpClient().execute(operation, () -> request.apply(BEARER + getAdminToken().getAccessToken()));
+        }
+        return response;
+    }
+
+    /**
+     * Asynchronous version of {@link #executeAuthorized(String, Function)}. The new token (on 401) is
+     * requested by the token holder executor, never by the http callback thread
+     * @param operation name of the operation (latency measurement)
+     * @param request admin request receiving the authorization header value
+     * @param <T> response body type
+     * @return the future response
      */
-    private String getAuthorization() {
-        return "Bearer " + getAccessToken();
+    private <T> CompletableFuture<HttpResponse<T>> executeAuthorizedAsync(String operation,
+                                                                         Function<String, CompletableFuture<HttpResponse<T>>> request) {
+        String accessToken = getAdminToken().getAccessToken();
+        return getHttpClient().executeAsync(operation, () -> request.apply(BEARER + accessToken))
+                .thenCompose(response -> {
+                    if (response.getStatus() != Response.Status.UNAUTHORIZED.getStatusCode()) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    log.warn("Keycloak admin token rejected, requesting a new one");
+                    return getAdminToken().renewAsync(accessToken).thenCompose(renewed ->
+                            getHttpClient().executeAsync(operation, () -> request.apply(BEARER + renewed)));
+                });
     }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.usermanagement.service;
+
+import io.radien.api.util.LatencyHistogram;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import kong.unirest.HttpResponse;
+import kong.unirest.Unirest;
+import kong.unirest.UnirestInstance;
+
+/**
+ * Http transport dedicated to Keycloak. Holds its own Unirest instance (instead of the static and global
+ * one) with a bounded pool of keep alive connections and the configured timeouts, and measures the latency
+ * of each operation performed against the IdP.
+ */
+public class KeycloakHttpClient {
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 50;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+    public static final int DEFAULT_CONNECT_TIMEOUT = 5000;
+    public static final int DEFAULT_SOCKET_TIMEOUT = 30000;
+    public static final long DEFAULT_CONNECTION_TTL = 60000L;
+
+    private final UnirestInstance unirest;
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+    /**
+     * Keycloak http client constructor, using the default settings
+     * @param verifySsl indicates if the IdP certificates should be verified (disabled for self signed ones)
+     */
+    public KeycloakHttpClient(boolean verifySsl) {
+        this(DEFAULT_MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS_PER_ROUTE, DEFAULT_CONNECT_TIMEOUT,
+                DEFAULT_SOCKET_TIMEOUT, DEFAULT_CONNECTION_TTL, verifySsl);
+    }
+
+    /**
+     * Keycloak http client constructor
+     * @param maxConnections maximum number of pooled connections
+     * @param maxConnectionsPerRoute maximum number of pooled connections per route
+     * @param connectTimeout connection timeout in milliseconds
+     * @param socketTimeout socket (read) timeout in milliseconds
+     * @param connectionTtl time (in milliseconds) a pooled connection is kept alive
+     * @param verifySsl indicates if the IdP certificates should be verified (disabled for self signed ones)
+     */
+    public KeycloakHttpClient(int maxConnections, int maxConnectionsPerRoute, int connectTimeout, int socketTimeout,
+                              long connectionTtl, boolean verifySsl) {
+        this.unirest = Unirest.spawnInstance();
+        this.unirest.config()
+                .concurrency(maxConnections, maxConnectionsPerRoute)
+                .connectTimeout(connectTimeout)
+                .socketTimeout(socketTimeout)
+                .connectionTTL(connectionTtl, TimeUnit.MILLISECONDS)
+                .verifySsl(verifySsl);
+    }
+
+    /**
+     * Gets the Unirest instance used to perform the requests
+     * @return the Unirest instance
+     */
+    public UnirestInstance getUnirest() {
+        return unirest;
+    }
+
+    /**
+     * Executes (and measures) a blocking request
+     * @param operation name of the operation
+     * @param request request to be executed
+     * @param <T> response body type
+     * @return the response
+     */
+    public <T> HttpResponse<T> execute(String operation, Supplier<HttpResponse<T>> request) {
+        long start = System.nanoTime();
+        HttpResponse<T> response = null;
+        try {
+            response = request.get();
+            return response;
+        } finally {
+            getLatency(operation).record(System.nanoTime() - start, response == null || !response.isSuccess());
+        }
+    }
+
+    /**
+     * Starts (and measures, until its completion) an asynchronous request
+     * @param operation name of the operation
+     * @param request request to be started
+     * @param <T> response body type
+     * @return the future response
+     */
+    public <T> CompletableFuture<HttpResponse<T>> executeAsync(String operation,
+                                                             Supplier<CompletableFuture<HttpResponse<T>>> request) {
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> future;
+        try {
+            future = request.get();
+        } catch (RuntimeException e) {
+            getLatency(operation).record(System.nanoTime() - start, true);
+            throw e;
+        }
+        return future.whenComplete((response, e) -> getLatency(operation).record(System.nanoTime() - start,
+                e != null || !response.isSuccess()));
+    }
+
+    /**
+     * Gets the latency histograms per operation
+     * @return the latency histograms
+     */
+    public Map<String, LatencyHistogram> getLatencies() {
+        return Collections.unmodifiableMap(latencies);
+    }
+
+    /**
+     * Closes the pooled connections
+     */
+    public void shutDown() {
+        unirest.shutDown();
+    }
+
+    private LatencyHistogram getLatency(String operation) {
+        return latencies.computeIfAbsent(operation, k -> new LatencyHistogram());
+    }
+}
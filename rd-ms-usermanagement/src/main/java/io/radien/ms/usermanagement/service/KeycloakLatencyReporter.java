@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.usermanagement.service;
+
+import io.radien.api.util.LatencyHistogram;
+import io.radien.ms.usermanagement.util.KeycloakClientFactory;
+import java.util.Map;
+import javax.annotation.PreDestroy;
+import javax.ejb.Schedule;
+import javax.ejb.Singleton;
+import javax.ejb.Startup;
+import javax.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Startup bean that publishes, every five minutes, a summary of the latency histograms of the operations
+ * performed against Keycloak, and a last one when the application is stopped
+ */
+@Startup
+@Singleton
+public class KeycloakLatencyReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(KeycloakLatencyReporter.class);
+
+    @Inject
+    private KeycloakClientFactory keycloakClientFactory;
+
+    /**
+     * Logs one summary line per Keycloak operation that has been measured
+     */
+    @Schedule(minute = "*/5", hour = "*", persistent = false)
+    public void report() {
+        report(keycloakClientFactory.getLatencies());
+    }
+
+    /**
+     * Logs one summary line per measured operation
+     * @param latencies latency histograms per operation
+     */
+    void report(Map<String, LatencyHistogram> latencies) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        latencies.forEach((operation, latency) -> {
+            if (latency.getCount() > 0) {
+                log.info("Keycloak {} latency: {}", operation, latency);
+            }
+        });
+    }
+
+    /**
+     * Publishes the last summary (the pooled Keycloak connections are closed by the {@link KeycloakClientFactory})
+     */
+    @PreDestroy
+    public void shutDown() {
+        report();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.usermanagement.service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Thread safe holder of the Keycloak admin (client credentials) token.
+ * The token is reused until it expires. Once it enters the refresh ahead window (shortly before expiring)
+ * a new token is requested in background while the current one keeps being served, so callers only wait
+ * for the token endpoint on the first request or when the token has already expired (or was rejected).
+ */
+public class KeycloakTokenHolder {
+
+    private static final Logger log = LoggerFactory.getLogger(KeycloakTokenHolder.class);
+
+    public static final long DEFAULT_REFRESH_AHEAD = 30000L;
+    /** Lifetime assumed (in seconds) when the token response does not inform it */
+    static final long DEFAULT_EXPIRES_IN = 60L;
+
+    private static final String ACCESS_TOKEN = "access_token";
+    private static final String REFRESH_TOKEN = "refresh_token";
+    private static final String EXPIRES_IN = "expires_in";
+
+    private final Supplier<Map<?, ?>> tokenRequest;
+    private final long refreshAhead;
+    private final Executor executor;
+    private final LongSupplier clock;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Token token;
+
+    /**
+     * Keycloak token holder constructor, refreshing ahead in a background (daemon) thread
+     * @param tokenRequest requests a new token, returning the token endpoint response
+     * @param refreshAhead time (in milliseconds) before expiring in which the token is refreshed
+     */
+    public KeycloakTokenHolder(Supplier<Map<?, ?>> tokenRequest, long refreshAhead) {
+        this(tokenRequest, refreshAhead, Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "keycloak-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }), System::currentTimeMillis);
+    }
+
+    /**
+     * Keycloak token holder constructor
+     * @param tokenRequest requests a new token, returning the token endpoint response
+     * @param refreshAhead time (in milliseconds) before expiring in which the token is refreshed
+     * @param executor executor of the background refreshes
+     * @param clock source of the current time (epoch milliseconds)
+     */
+    public KeycloakTokenHolder(Supplier<Map<?, ?>> tokenRequest, long refreshAhead, Executor executor,
+                               LongSupplier clock) {
+        this.tokenRequest = tokenRequest;
+        this.refreshAhead = refreshAhead;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * Retrieves a valid access token, requesting it only if there is none (or it has expired)
+     * @return the access token
+     */
+    public String getAccessToken() {
+        Token current = token;
+        long now = clock.getAsLong();
+        if (current == null || now >= current.expiresAt) {
+            return login(current).accessToken;
+        }
+        if (now >= current.expiresAt - refreshAhead) {
+            refreshAhead(current);
+        }
+        return current.accessToken;
+    }
+
+    /**
+     * Retrieves the refresh token of the current token (if informed by the token endpoint)
+     * @return the refresh token or null
+     */
+    public String getRefreshToken() {
+        Token current = token;
+        return current != null ? current.refreshToken : null;
+    }
+
+    /**
+     * Requests a new token, replacing the current one
+     * @return the new access token
+     */
+    public String refresh() {
+        return login(token).accessToken;
+    }
+
+    /**
+     * Discards the given token (Ex: rejected with 401), so the next invocation requests a new one.
+     * Tokens already replaced by other threads are kept.
+     * @param accessToken access token to be discarded
+     */
+    public synchronized void invalidate(String accessToken) {
+        if (token != null && Objects.equals(token.accessToken, accessToken)) {
+            token = null;
+        }
+    }
+
+    /**
+     * Discards the given (rejected) token and retrieves a valid one in the background executor, so the
+     * caller (Ex: an asynchronous http callback) never waits for the token endpoint
+     * @param accessToken access token to be discarded
+     * @return the future valid access token
+     */
+    public CompletableFuture<String> renewAsync(String accessToken) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                invalidate(accessToken);
+                return getAccessToken();
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    /**
+     * Requests a new token, unless the stale one was already replaced by another thread
+     * @param stale token known by the caller when it decided to login
+     * @return the valid token
+     */
+    private synchronized Token login(Token stale) {
+        Token current = token;
+        if (current != null && current != stale && clock.getAsLong() < current.expiresAt) {
+            return current;
+        }
+        long requestedAt = clock.getAsLong();
+        Map<?, ?> response = tokenRequest.get();
+        current = new Token(getString(response, ACCESS_TOKEN), getString(response, REFRESH_TOKEN),
+                requestedAt + getExpiresIn(response) * 1000L);
+        token = current;
+        return current;
+    }
+
+    private void refreshAhead(Token current) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    login(current);
+                } catch (RuntimeException e) {
+                    log.warn("Unable to refresh the keycloak admin token ahead of expiration", e);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private static String getString(Map<?, ?> response, String key) {
+        Object value = response != null ? response.get(key) : null;
+        return value != null ? value.toString() : null;
+    }
+
+    private static long getExpiresIn(Map<?, ?> response) {
+        Object value = response != null ? response.get(EXPIRES_IN) : null;
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        try {
+            return value != null ? (long) Double.parseDouble(value.toString()) : DEFAULT_EXPIRES_IN;
+        } catch (NumberFormatException e) {
+            return DEFAULT_EXPIRES_IN;
+        }
+    }
+
+    /**
+     * Access token and the moment it expires
+     */
+    private static class Token {
+        private final String accessToken;
+        private final String refreshToken;
+        private final long expiresAt;
+
+        private Token(String accessToken, String refreshToken, long expiresAt) {
+            this.accessToken = accessToken;
+            this.refreshToken = refreshToken;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -15,15 +15,19 @@
  */
 package io.radien.ms.usermanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.user.SystemPagedUserSearchFilter;
 import io.radien.api.model.user.SystemUser;
 import io.radien.api.model.user.SystemUserSearchFilter;
 import io.radien.api.service.batch.BatchSummary;
+import io.radien.api.service.batch.DataIssue;
 import io.radien.api.service.i18n.I18NRESTServiceAccess;
 import io.radien.api.service.notification.SQSProducerAccess;
 import io.radien.api.service.user.UserServiceAccess;
+import io.radien.api.util.BatchSettings;
 import io.radien.exception.BadRequestException;
+import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.exception.ProcessingLockedException;
 import io.radien.exception.SystemException;
 import io.radien.exception.UniquenessConstraintException;
@@ -37,11 +41,16 @@ import io.radien.ms.usermanagement.entities.UserEntity;
 
 import java.text.MessageFormat;
 import javax.ejb.Stateless;
+import javax.ejb.TransactionAttribute;
+import javax.ejb.TransactionAttributeType;
 import javax.inject.Inject;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.radien.api.SystemVariables.LOGON;
 import static io.radien.api.SystemVariables.NEW_PASSWORD;
@@ -89,10 +98,27 @@ public class UserBusinessService implements Serializable {
 	 * @param pageSize max number of pages of results
 	 * @param sortBy criteria field to be sorted
 	 * @param isAscending boolean value to show the values ascending or descending way
+	 * @param countMode how the total number of users is counted
 	 * @return Ok message if it has success. Returns error 500 Code to the user in case of resource is not existent.
 	 */
-	public Page<? extends SystemUser> getAll(SystemPagedUserSearchFilter search, int pageNo, int pageSize, List<String> sortBy, boolean isAscending){
-		return userServiceAccess.getAll(search,pageNo,pageSize,sortBy,isAscending);
+	public Page<? extends SystemUser> getAll(SystemPagedUserSearchFilter search, int pageNo, int pageSize, List<String> sortBy,
+											 boolean isAscending, CountMode countMode){
+		return userServiceAccess.getAll(search,pageNo,pageSize,sortBy,isAscending,countMode);
+	}
+
+	/**
+	 * Will request the service to retrieve the users into a paginated response by cursor (keyset mode).
+	 *
+	 * @param search criteria to be found, can be used to multiple fields
+	 * @param cursor of the page to be retrieved, null or empty for the first page
+	 * @param pageSize max number of records of the page
+	 * @param sortBy criteria field to be sorted
+	 * @param isAscending boolean value to show the values ascending or descending way
+	 * @param count boolean value to count the total number of records
+	 * @return page of users with the cursor of the next page
+	 */
+	public Page<? extends SystemUser> getAllByCursor(SystemPagedUserSearchFilter search, String cursor, int pageSize, List<String> sortBy, boolean isAscending, boolean count){
+		return userServiceAccess.getAllByCursor(search,cursor,pageSize,sortBy,isAscending,count);
 	}
 
 	/**
@@ -239,12 +265,77 @@ public class UserBusinessService implements Serializable {
 	}
 
 	/**
-	 * Creates in a batch mode all the requested given users existent in the given list
+	 * Creates in a batch mode all the requested given users existent in the given list.
+	 * Users are processed in chunks ({@link BatchSettings#getChunkSize()}), each chunk being written in its own
+	 * transaction. The users of the chunk that are not of delegated creation are then created in keycloak, at most
+	 * {@link BatchSettings#getParallelism()} at the same time, the ones that could not be created being removed
+	 * and reported as issues of their rows
 	 * @param users to be created
 	 * @return a batch summary with the resumed information with success or failure
 	 */
+	@TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
 	public BatchSummary create(List<? extends SystemUser> users) {
-		return userServiceAccess.create(users);
+		BatchSummary batchSummary = new BatchSummary(users.size());
+		int chunkSize = BatchSettings.getChunkSize();
+		int parallelism = BatchSettings.getParallelism();
+		for (int from = 0; from < users.size(); from += chunkSize) {
+			List<? extends SystemUser> chunk = users.subList(from, Math.min(from + chunkSize, users.size()));
+			BatchSummary chunkSummary = userServiceAccess.create(chunk);
+
+			Set<Long> rowsWithIssues = new HashSet<>();
+			for (DataIssue issue : chunkSummary.getNonProcessedItems()) {
+				rowsWithIssues.add(issue.getRowId());
+				batchSummary.addNonProcessedItem(new DataIssue(from + issue.getRowId(), issue.getReasons()));
+			}
+
+			List<Long> rows = new ArrayList<>();
+			List<SystemUser> provisioning = new ArrayList<>();
+			for (int index = 0; index < chunk.size(); index++) {
+				SystemUser user = chunk.get(index);
+				if (!rowsWithIssues.contains(index + 1L) && !user.isDelegatedCreation()) {
+					rows.add(from + index + 1L);
+					provisioning.add(user);
+				}
+			}
+			if (!provisioning.isEmpty()) {
+				batchSummary.addNonProcessedItems(provision(provisioning, rows, parallelism));
+			}
+			log.info("Batch user creation, {} of {} rows processed", from + chunk.size(), users.size());
+		}
+		return batchSummary;
+	}
+
+	/**
+	 * Creates the given (already written) users in keycloak, updating their subjects
+	 * @param users to be created in keycloak
+	 * @param rows batch row of each one of the users
+	 * @param parallelism maximum number of users being created at the same time
+	 * @return the issues of the users that could not be created (and that were removed)
+	 */
+	private List<DataIssue> provision(List<SystemUser> users, List<Long> rows, int parallelism) {
+		Map<Integer, RuntimeException> failures = keycloakBusinessService.createUsers(users, parallelism);
+		Map<Long, String> subsById = new HashMap<>();
+		List<Long> failedIds = new ArrayList<>();
+		List<DataIssue> issues = new ArrayList<>();
+		for (int index = 0; index < users.size(); index++) {
+			SystemUser user = users.get(index);
+			RuntimeException failure = failures.get(index);
+			if (failure == null) {
+				subsById.put(user.getId(), user.getSub());
+			} else {
+				log.error("Unable to create user {} in keycloak", user.getLogon(), failure);
+				failedIds.add(user.getId());
+				issues.add(new DataIssue(rows.get(index),
+						GenericErrorCodeMessage.ERROR_CREATE_USER.toString(failure.getMessage())));
+			}
+		}
+		if (!subsById.isEmpty()) {
+			userServiceAccess.updateSubs(subsById);
+		}
+		if (!failedIds.isEmpty()) {
+			userServiceAccess.delete(failedIds);
+		}
+		return issues;
 	}
 
 	/**
@@ -17,9 +17,15 @@ package io.radien.ms.usermanagement.util;
 
 import io.radien.api.KeycloakConfigs;
 import io.radien.api.SystemProperties;
+import io.radien.api.util.LatencyHistogram;
 import io.radien.ms.usermanagement.client.exceptions.RemoteResourceException;
 import io.radien.ms.usermanagement.service.KeycloakClient;
-import javax.ejb.Stateless;
+import io.radien.ms.usermanagement.service.KeycloakHttpClient;
+import io.radien.ms.usermanagement.service.KeycloakTokenHolder;
+import java.util.Collections;
+import java.util.Map;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.slf4j.Logger;
@@ -28,12 +34,18 @@ import org.slf4j.LoggerFactory;
 import static io.radien.api.OAFProperties.RADIEN_ENV;
 
 /**
- * Component responsible for build/create KeyCloakClient instances in a decoupled way
+ * Component responsible for build/create KeyCloakClient instances in a decoupled way.
+ * All the built clients share the same admin token holder, so the admin token is only requested
+ * to the IdP when it is about to expire (instead of once per operation), and the same http client
+ * (pool of keep alive connections to the IdP), which is closed when the application is stopped.
  * @author newton carvalho
  */
-@Stateless
+@ApplicationScoped
 public class KeycloakClientFactory {
 
+    private KeycloakTokenHolder adminToken;
+    private KeycloakHttpClient httpClient;
+
     private Config config;
 
     private static final Logger log = LoggerFactory.getLogger(KeycloakClientFactory.class);
@@ -48,6 +60,7 @@ public class KeycloakClientFactory {
         String tokenPath= getProperty(KeycloakConfigs.TOKEN_PATH);
         String userPath = getProperty(KeycloakConfigs.USER_PATH);
         String clientId = getProperty(KeycloakConfigs.ADMIN_CLIENT_ID);
+        String environment = getPropertyWithDefault(RADIEN_ENV, "PROD");
         log.info("Idp url:{} tokenPath:{} userPath:{} clientId:{}",idpUrl,tokenPath,userPath,clientId);
         KeycloakClient client = new KeycloakClient()
                 .clientId(clientId)
@@ -58,11 +71,64 @@ public class KeycloakClientFactory {
                 .radienClientId(getProperty(KeycloakConfigs.RADIEN_CLIENT_ID))
                 .radienSecret(getProperty(KeycloakConfigs.RADIEN_SECRET))
                 .radienTokenPath(getProperty(KeycloakConfigs.RADIEN_TOKEN_PATH))
-                .environment(getPropertyWithDefault(RADIEN_ENV, "PROD"));
-        client.login();
+                .environment(environment)
+                .httpClient(getHttpClient(environment));
+        client.adminToken(getAdminToken(client));
         return client;
     }
 
+    /**
+     * Retrieves the shared admin token holder, creating it in the first invocation
+     * @param client client used to request the admin tokens
+     * @return the shared admin token holder
+     */
+    private synchronized KeycloakTokenHolder getAdminToken(KeycloakClient client) {
+        if (adminToken == null) {
+            long refreshAhead = Long.parseLong(getPropertyWithDefault(KeycloakConfigs.ADMIN_TOKEN_REFRESH_AHEAD,
+                    String.valueOf(KeycloakTokenHolder.DEFAULT_REFRESH_AHEAD)));
+            adminToken = new KeycloakTokenHolder(client::requestAdminToken, refreshAhead);
+        }
+        return adminToken;
+    }
+
+    /**
+     * Retrieves the shared http client, creating it in the first invocation
+     * @param environment current environment (self signed certificates are accepted on LOCAL env)
+     * @return the shared http client
+     */
+    private synchronized KeycloakHttpClient getHttpClient(String environment) {
+        if (httpClient == null) {
+            httpClient = new KeycloakHttpClient(
+                    getIntProperty(KeycloakConfigs.HTTP_MAX_CONNECTIONS, KeycloakHttpClient.DEFAULT_MAX_CONNECTIONS),
+                    getIntProperty(KeycloakConfigs.HTTP_MAX_CONNECTIONS_PER_ROUTE, KeycloakHttpClient.DEFAULT_MAX_CONNECTIONS_PER_ROUTE),
+                    getIntProperty(KeycloakConfigs.HTTP_CONNECT_TIMEOUT, KeycloakHttpClient.DEFAULT_CONNECT_TIMEOUT),
+                    getIntProperty(KeycloakConfigs.HTTP_SOCKET_TIMEOUT, KeycloakHttpClient.DEFAULT_SOCKET_TIMEOUT),
+                    Long.parseLong(getPropertyWithDefault(KeycloakConfigs.HTTP_CONNECTION_TTL,
+                            String.valueOf(KeycloakHttpClient.DEFAULT_CONNECTION_TTL))),
+                    !"LOCAL".equalsIgnoreCase(environment));
+        }
+        return httpClient;
+    }
+
+    /**
+     * Gets the latency histograms of the operations performed against Keycloak through the shared http client
+     * @return the latency histograms per operation, empty if no client has been built yet
+     */
+    public synchronized Map<String, LatencyHistogram> getLatencies() {
+        return httpClient == null ? Collections.emptyMap() : httpClient.getLatencies();
+    }
+
+    /**
+     * Closes the pooled connections of the shared http client, if it has been created
+     */
+    @PreDestroy
+    public synchronized void shutDown() {
+        if (httpClient != null) {
+            httpClient.shutDown();
+            httpClient = null;
+        }
+    }
+
 
     /**
      * Method to retrieve the keycloak client configuration
@@ -82,6 +148,16 @@ public class KeycloakClientFactory {
         return getConfig().getOptionalValue(cfg.propKey(),String.class).orElse(defaultValue);
     }
 
+    /**
+     * Method to retrieve a numeric keycloak client configuration
+     * @param cfg to be retrieved
+     * @param defaultValue value to be used if the property is not defined
+     * @return the int value of the keycloak property configuration
+     */
+    private int getIntProperty(SystemProperties cfg, int defaultValue) {
+        return Integer.parseInt(getPropertyWithDefault(cfg, String.valueOf(defaultValue)));
+    }
+
     private Config getConfig() {
         if(config == null){
             config = ConfigProvider.getConfig();
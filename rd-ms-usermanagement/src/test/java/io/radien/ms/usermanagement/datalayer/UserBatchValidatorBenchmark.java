@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.usermanagement.datalayer;
+
+import io.radien.api.OAFProperties;
+import io.radien.api.model.user.SystemUser;
+import io.radien.api.service.batch.BatchSummary;
+import io.radien.api.service.user.UserServiceAccess;
+import io.radien.ms.usermanagement.client.services.UserFactory;
+import io.radien.ms.usermanagement.entities.UserEntity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import javax.ejb.embeddable.EJBContainer;
+import javax.naming.NamingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the batch uniqueness validation ({@link UserBatchValidator}) against the test persistence unit
+ * (embedded container with an in memory HSQLDB database, as in {@link UserServiceTest}), reporting the time per
+ * batch (the 10000 rows case being the time per 10k rows).
+ * The database is seeded with the users of the batch, so every row is already in use: the batch creation
+ * ({@link UserService#create(List)}) inserts nothing and the measured time is the validation, one set based
+ * lookup per chunk.
+ * Not part of the unit tests, to be executed through its main method (test classpath).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserBatchValidatorBenchmark {
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    @Param({"500", "1000"})
+    private int chunkSize;
+
+    private EJBContainer container;
+    private UserServiceAccess userServiceAccess;
+    private List<SystemUser> users;
+
+    @Setup
+    public void setup() throws NamingException {
+        System.setProperty(OAFProperties.SYSTEM_BATCH_CHUNK_SIZE.propKey(), String.valueOf(chunkSize));
+        Properties p = new Properties();
+        p.put("appframeDatabase", "new://Resource?type=DataSource");
+        p.put("appframeDatabase.JdbcDriver", "org.hsqldb.jdbcDriver");
+        p.put("appframeDatabase.JdbcUrl", "jdbc:hsqldb:mem:radienbenchmark" + rows + "_" + chunkSize);
+        p.put("appframeDatabase.userName", "sa");
+        p.put("appframeDatabase.password", "");
+        p.put("openejb.exclude-include.order", "include-exclude");
+        p.put("openejb.deployments.classpath.include",".*usermanagement.*");
+        p.put("openejb.deployments.classpath.exclude",".*client.*");
+        p.put("openejb.cdi.activated-on-ejb", "false");
+
+        container = EJBContainer.createEJBContainer(p);
+        userServiceAccess = (UserServiceAccess) container.getContext()
+                .lookup("java:global/rd-ms-usermanagement//UserService");
+
+        users = new ArrayList<>(rows);
+        List<SystemUser> seed = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            users.add(UserFactory.create("first" + i, "last" + i, "logon" + i, "sub" + i,
+                    "user" + i + "@radien.io", "951", 1L, false));
+            seed.add(new UserEntity(UserFactory.create("first" + i, "last" + i, "logon" + i, "sub" + i,
+                    "user" + i + "@radien.io", "951", 1L, false)));
+        }
+        userServiceAccess.create(seed);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.close();
+        System.clearProperty(OAFProperties.SYSTEM_BATCH_CHUNK_SIZE.propKey());
+    }
+
+    @Benchmark
+    public BatchSummary validate() {
+        return userServiceAccess.create(users);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UserBatchValidatorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.usermanagement.datalayer;
+
+import io.radien.api.SystemVariables;
+import io.radien.api.model.user.SystemUser;
+import io.radien.api.service.batch.DataIssue;
+import io.radien.ms.usermanagement.client.services.UserFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class that aggregates UnitTest cases for UserBatchValidator
+ */
+public class UserBatchValidatorTest {
+
+    private static List<SystemUser> createUsers(int size) {
+        List<SystemUser> users = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            users.add(UserFactory.create("first", "last", "logon" + i, null, "user" + i + "@radien.io",
+                    "951", 1L, false));
+        }
+        return users;
+    }
+
+    /**
+     * Test for method {@link UserBatchValidator#validate(List)}
+     * Expected outcome: Repeated values and values already in use reported by row, one lookup per chunk
+     */
+    @Test
+    public void testValidate() {
+        List<SystemUser> users = createUsers(5);
+        users.get(2).setLogon("logon1");
+        users.get(3).setUserEmail("existing@radien.io");
+        users.get(4).setSub("sub");
+        List<Map<String, Collection<String>>> lookups = new ArrayList<>();
+        UserBatchValidator validator = new UserBatchValidator(2, values -> {
+            lookups.add(values);
+            Map<String, Set<String>> inUse = new HashMap<>();
+            if (values.get(SystemVariables.USER_EMAIL.getFieldName()).contains("existing@radien.io")) {
+                inUse.put(SystemVariables.USER_EMAIL.getFieldName(), Collections.singleton("existing@radien.io"));
+            }
+            return inUse;
+        });
+
+        Map<Integer, DataIssue> issues = validator.validate(users);
+        assertEquals(3, lookups.size());
+        assertFalse(lookups.get(0).containsKey(SystemVariables.SUB.getFieldName()));
+        assertTrue(lookups.get(2).containsKey(SystemVariables.SUB.getFieldName()));
+        assertEquals(2, issues.size());
+        assertEquals(3L, issues.get(2).getRowId());
+        assertEquals(4L, issues.get(3).getRowId());
+        assertEquals(1, issues.get(3).getReasons().size());
+    }
+
+    /**
+     * Test for method {@link UserBatchValidator#validate(List)}
+     * Scenario: Users without subject
+     * Expected outcome: Empty values not considered repeated
+     */
+    @Test
+    public void testValidateEmptyValues() {
+        Set<String> searched = new HashSet<>();
+        UserBatchValidator validator = new UserBatchValidator(100, values -> {
+            searched.addAll(values.keySet());
+            return Collections.emptyMap();
+        });
+        assertTrue(validator.validate(createUsers(10)).isEmpty());
+        assertFalse(searched.contains(SystemVariables.SUB.getFieldName()));
+        assertThrows(IllegalArgumentException.class, () -> new UserBatchValidator(0, values -> null));
+    }
+}
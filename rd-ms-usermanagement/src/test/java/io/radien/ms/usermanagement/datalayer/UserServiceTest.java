@@ -15,12 +15,14 @@
  */
 package io.radien.ms.usermanagement.datalayer;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.user.SystemUser;
 import io.radien.api.service.batch.BatchSummary;
 import io.radien.api.service.batch.DataIssue;
 import io.radien.api.service.user.UserServiceAccess;
 import io.radien.exception.GenericErrorCodeMessage;
+import io.radien.exception.InvalidPageCursorException;
 import io.radien.exception.NotFoundException;
 import io.radien.exception.SystemException;
 import io.radien.exception.UniquenessConstraintException;
@@ -33,8 +35,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.stream.Collectors;
 import javax.ejb.embeddable.EJBContainer;
 import javax.naming.Context;
 import javax.naming.NamingException;
@@ -86,7 +90,7 @@ public class UserServiceTest {
 
         String sub = "270e0461-416d-4faf-af9f-d6b45619ed62";
 
-        Page<? extends SystemUser> userPage = userServiceAccess.getAll(null, 1, 10, null, true);
+        Page<? extends SystemUser> userPage = userServiceAccess.getAll(null, 1, 10, null, true, CountMode.EXACT);
         if(userPage.getTotalResults()>0) {
             uTest = userPage.getResults().get(0);
         } else {
@@ -532,25 +536,117 @@ public class UserServiceTest {
         List<String> orderby = new ArrayList<>();
         orderby.add("firstname");
 
-        Page<? extends SystemUser> userPage = userServiceAccess.getAll(null, 1, 10, orderby, true);
+        Page<? extends SystemUser> userPage = userServiceAccess.getAll(null, 1, 10, orderby, true, CountMode.EXACT);
 
         assertTrue(userPage.getTotalResults()>=2);
 
         assertEquals("a",userPage.getResults().get(0).getFirstname());
 
-        userPage = userServiceAccess.getAll(null, 1, 10, orderby, false);
+        userPage = userServiceAccess.getAll(null, 1, 10, orderby, false, CountMode.EXACT);
         assertTrue(userPage.getTotalResults()>=2);
         assertEquals("zzz",userPage.getResults().get(0).getFirstname());
 
         List<String> stringList = new ArrayList<>();
         PagedUserSearchFilter filter = new PagedUserSearchFilter();
         filter.setEmail("aGetAllSort@email.pt");
-        Page<? extends SystemUser> userPageWhere = userServiceAccess.getAll(filter, 1, 10, stringList, true);
+        Page<? extends SystemUser> userPageWhere = userServiceAccess.getAll(filter, 1, 10, stringList, true, CountMode.EXACT);
         assertEquals(1, userPageWhere.getTotalResults());
 
         assertEquals("a",userPageWhere.getResults().get(0).getFirstname());
     }
 
+    /**
+     * Test to get all the users by cursor (keyset mode), going through all the pages
+     * @throws UniquenessConstraintException in case of duplicated data
+     */
+    @Test
+    public void testGetAllByCursor() throws UniquenessConstraintException {
+        String[] firstNames = {"k1", "k3", "k1", "k2", "k3"};
+        for (int i = 0; i < firstNames.length; i++) {
+            userServiceAccess.create(new UserEntity(UserFactory.create(firstNames[i], "keysetLastName", "keyset" + i,
+                    "keysetSub" + i, "keyset" + i + "@email.pt", "951", 2L, false)));
+        }
+        PagedUserSearchFilter filter = new PagedUserSearchFilter();
+        filter.setLastName("keysetLastName");
+        List<String> orderBy = new ArrayList<>();
+        orderBy.add("firstname");
+
+        Page<? extends SystemUser> page = userServiceAccess.getAllByCursor(filter, null, 2, orderBy, true, true);
+        assertEquals(5, page.getTotalResults());
+        assertEquals(3, page.getTotalPages());
+
+        List<SystemUser> users = new ArrayList<>(page.getResults());
+        int pages = 1;
+        while (page.getNextCursor() != null) {
+            page = userServiceAccess.getAllByCursor(filter, page.getNextCursor(), 2, orderBy, true, false);
+            assertEquals(Page.UNKNOWN, page.getTotalResults());
+            users.addAll(page.getResults());
+            pages++;
+        }
+        assertEquals(3, pages);
+        assertEquals(5, users.size());
+        assertEquals(5, users.stream().map(SystemUser::getId).distinct().count());
+        for (int i = 1; i < users.size(); i++) {
+            SystemUser previous = users.get(i - 1);
+            SystemUser current = users.get(i);
+            int comparison = previous.getFirstname().compareTo(current.getFirstname());
+            assertTrue(comparison < 0 || (comparison == 0 && previous.getId() < current.getId()));
+        }
+
+        page = userServiceAccess.getAllByCursor(filter, null, 10, orderBy, false, false);
+        assertEquals("k3", page.getResults().get(0).getFirstname());
+        assertNull(page.getNextCursor());
+
+        assertThrows(InvalidPageCursorException.class, () -> userServiceAccess.getAllByCursor(filter, "invalid", 2, orderBy, true, false));
+    }
+
+    /**
+     * Test to get all the users by cursor (keyset mode) sorted by a key with null values,
+     * in both directions. Null values are expected first in ascending order and last in descending order
+     * @throws UniquenessConstraintException in case of duplicated data
+     */
+    @Test
+    public void testGetAllByCursorNullSortKeys() throws UniquenessConstraintException {
+        String[] firstNames = {"n1", null, "n2", null, "n1"};
+        for (int i = 0; i < firstNames.length; i++) {
+            userServiceAccess.create(new UserEntity(UserFactory.create(firstNames[i], "keysetNullLastName", "keysetNull" + i,
+                    "keysetNullSub" + i, "keysetNull" + i + "@email.pt", "951", 2L, false)));
+        }
+        PagedUserSearchFilter filter = new PagedUserSearchFilter();
+        filter.setLastName("keysetNullLastName");
+        List<String> orderBy = new ArrayList<>();
+        orderBy.add("firstname");
+
+        for (boolean isAscending : new boolean[] {true, false}) {
+            Page<? extends SystemUser> page = userServiceAccess.getAllByCursor(filter, null, 2, orderBy, isAscending, false);
+            List<SystemUser> users = new ArrayList<>(page.getResults());
+            while (page.getNextCursor() != null) {
+                page = userServiceAccess.getAllByCursor(filter, page.getNextCursor(), 2, orderBy, isAscending, false);
+                users.addAll(page.getResults());
+            }
+            assertEquals(5, users.size());
+            assertEquals(5, users.stream().map(SystemUser::getId).distinct().count());
+            List<String> expected = isAscending ? Arrays.asList(null, null, "n1", "n1", "n2") :
+                    Arrays.asList("n2", "n1", "n1", null, null);
+            assertEquals(expected, users.stream().map(SystemUser::getFirstname).collect(Collectors.toList()));
+            for (int i = 1; i < users.size(); i++) {
+                if (Objects.equals(users.get(i - 1).getFirstname(), users.get(i).getFirstname())) {
+                    assertEquals(isAscending, users.get(i - 1).getId() < users.get(i).getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Test to get all the users by cursor (keyset mode) with an invalid page size
+     */
+    @Test
+    public void testGetAllByCursorInvalidPageSize() {
+        PagedUserSearchFilter filter = new PagedUserSearchFilter();
+        assertThrows(InvalidPageCursorException.class, () -> userServiceAccess.getAllByCursor(filter, null, 0, null, true, false));
+        assertThrows(InvalidPageCursorException.class, () -> userServiceAccess.getAllByCursor(filter, null, -1, null, true, false));
+    }
+
     @Test
     public void testCount() {
         Long result = userServiceAccess.count();
@@ -622,7 +718,7 @@ public class UserServiceTest {
 
         PagedUserSearchFilter filter = new PagedUserSearchFilter();
         filter.setLogon("userb.%");
-        Page<? extends SystemUser> page = userServiceAccess.getAll(filter, 1, 200, null, true);
+        Page<? extends SystemUser> page = userServiceAccess.getAll(filter, 1, 200, null, true, CountMode.EXACT);
         assertNotNull(page);
         assertEquals(batchSummary.getTotalProcessed(), page.getTotalResults());
     }
@@ -701,7 +797,7 @@ public class UserServiceTest {
 
         PagedUserSearchFilter filter = new PagedUserSearchFilter();
         filter.setSub("userbatch%");
-        Page<? extends SystemUser> page = userServiceAccess.getAll(filter, 1, 200, null, true);
+        Page<? extends SystemUser> page = userServiceAccess.getAll(filter, 1, 200, null, true, CountMode.EXACT);
         assertNotNull(page);
         assertEquals((firstSetSize + secondSetSize) - 6, page.getTotalResults());
 
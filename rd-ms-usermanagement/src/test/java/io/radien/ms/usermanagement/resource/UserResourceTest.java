@@ -15,6 +15,7 @@
  */
 package io.radien.ms.usermanagement.resource;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.security.TokensPlaceHolder;
 import io.radien.api.service.batch.BatchSummary;
 import io.radien.api.service.batch.DataIssue;
@@ -45,6 +46,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
@@ -129,7 +131,7 @@ public class UserResourceTest {
         doReturn(expectedAuthGranted).when(tenantRoleClient).checkPermissions(
                 1001L, roleList, null);
 
-        Response response = userResource.getAll(null, null, null, null, null,null, null, null, 1,10, null, true, false, false);
+        Response response = userResource.getAll(null, null, null, null, null,null, null, null, 1,10, null, true, false, false, CountMode.EXACT);
         assertEquals(200,response.getStatus());
     }
 
@@ -149,7 +151,7 @@ public class UserResourceTest {
         doReturn(expectedAuthGranted).when(tenantRoleClient).checkPermissions(
                 1001L, roleList, null);
 
-        Response response = userResource.getAll(null, null, null, null, null,null, null, null, 1,10, null, true, false, false);
+        Response response = userResource.getAll(null, null, null, null, null,null, null, null, 1,10, null, true, false, false, CountMode.EXACT);
         assertEquals(403,response.getStatus());
     }
 
@@ -161,12 +163,58 @@ public class UserResourceTest {
 
         HttpSession session = mock(HttpSession.class);
         when(servletRequest.getSession()).thenReturn(session);
-        when(userBusinessService.getAll(null,1,10,null,true))
+        when(userBusinessService.getAll(null,1,10,null,true, CountMode.EXACT))
                 .thenThrow(new RuntimeException());
-        Response response = userResource.getAll(null, null, null, null, null,null, null, null, 1,10, null, true, false, false);
+        Response response = userResource.getAll(null, null, null, null, null,null, null, null, 1,10, null, true, false, false, CountMode.EXACT);
         assertEquals(500,response.getStatus());
     }
 
+    /**
+     * Test the Get All by cursor request which will return a success message code 200,
+     * or 400 in case of invalid cursor.
+     */
+    @Test
+    public void testGetAllByCursor() {
+        preProcessAuthentication();
+
+        Response expectedAuthGranted = Response.ok().entity(Boolean.TRUE).build();
+        doReturn("token-yyz").when(tokensPlaceHolder).getAccessToken();
+        List<String> roleList = new ArrayList<>();
+        roleList.add(SystemRolesEnum.SYSTEM_ADMINISTRATOR.getRoleName());
+        roleList.add(SystemRolesEnum.USER_ADMINISTRATOR.getRoleName());
+
+        doReturn(expectedAuthGranted).when(tenantRoleClient).checkPermissions(
+                1001L, roleList, null);
+
+        Response response = userResource.getAllByCursor(null, null, null, null, null,null, null, null, null,10, null, true, false, true);
+        assertEquals(200,response.getStatus());
+
+        when(userBusinessService.getAllByCursor(any(), any(), anyInt(), any(), anyBoolean(), anyBoolean()))
+                .thenThrow(new InvalidPageCursorException("invalid"));
+        response = userResource.getAllByCursor(null, null, null, null, null,null, null, null, "invalid",10, null, true, false, true);
+        assertEquals(400,response.getStatus());
+    }
+
+    /**
+     * Test the Get All by cursor for cases in which the current logged user do not have Authorization.
+     */
+    @Test
+    public void testGetAllByCursorWithNoAuthorization() {
+        preProcessAuthentication();
+
+        Response expectedAuthGranted = Response.ok().entity(Boolean.FALSE).build();
+        doReturn("token-yyz").when(tokensPlaceHolder).getAccessToken();
+        List<String> roleList = new ArrayList<>();
+        roleList.add(SystemRolesEnum.SYSTEM_ADMINISTRATOR.getRoleName());
+        roleList.add(SystemRolesEnum.USER_ADMINISTRATOR.getRoleName());
+
+        doReturn(expectedAuthGranted).when(tenantRoleClient).checkPermissions(
+                1001L, roleList, null);
+
+        Response response = userResource.getAllByCursor(null, null, null, null, null,null, null, null, null,10, null, true, false, true);
+        assertEquals(403,response.getStatus());
+    }
+
     /**
      * Test that will test the error message 404 User Not Found
      */
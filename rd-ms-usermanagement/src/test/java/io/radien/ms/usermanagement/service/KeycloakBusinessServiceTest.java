@@ -21,7 +21,11 @@ import io.radien.ms.usermanagement.client.exceptions.RemoteResourceException;
 import io.radien.ms.usermanagement.client.services.UserFactory;
 import io.radien.ms.usermanagement.entities.UserEntity;
 import io.radien.ms.usermanagement.util.KeycloakClientFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -39,6 +43,8 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class KeycloakBusinessServiceTest {
@@ -91,6 +97,31 @@ public class KeycloakBusinessServiceTest {
         assertTrue(success);
     }
 
+    @Test
+    public void testCreateUsers() {
+        List<SystemUser> users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            users.add(UserFactory.create("a", "b", "logon" + i, null, "a" + i + "@b.pt", "951", 0L, false));
+        }
+        CompletableFuture<String> conflict = new CompletableFuture<>();
+        conflict.completeExceptionally(new RemoteResourceException("conflict"));
+        CompletableFuture<Void> emailFailure = new CompletableFuture<>();
+        emailFailure.completeExceptionally(new RemoteResourceException("email"));
+        when(client.createUserAsync(any())).thenReturn(CompletableFuture.completedFuture("sub0"), conflict,
+                CompletableFuture.completedFuture("sub2"));
+        when(client.sendUpdatePasswordEmailAsync("sub0")).thenReturn(CompletableFuture.completedFuture(null));
+        when(client.sendUpdatePasswordEmailAsync("sub2")).thenReturn(emailFailure);
+        when(client.deleteUserAsync("sub2")).thenReturn(CompletableFuture.completedFuture(null));
+
+        Map<Integer, RuntimeException> failures = target.createUsers(users, 2);
+        assertEquals(2, failures.size());
+        assertEquals("conflict", failures.get(1).getMessage());
+        assertEquals("email", failures.get(2).getMessage());
+        assertEquals("sub0", users.get(0).getSub());
+        verify(client).deleteUserAsync("sub2");
+        verify(client, never()).deleteUser(any());
+    }
+
     @Test
     public void testUpdateUser() throws Exception {
         doReturn(EMPTY_MOCK_RESPONSE).when(client).createUser(any());
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.usermanagement.service;
+
+import io.radien.api.util.LatencyHistogram;
+import io.radien.ms.usermanagement.util.KeycloakClientFactory;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Class that aggregates UnitTest cases for KeycloakLatencyReporter
+ */
+public class KeycloakLatencyReporterTest {
+
+    @InjectMocks
+    KeycloakLatencyReporter reporter;
+
+    @Spy
+    KeycloakClientFactory keycloakClientFactory;
+
+    @Rule
+    public MockitoRule rule = MockitoJUnit.rule();
+
+    /**
+     * Test for method {@link KeycloakLatencyReporter#report(Map)}
+     * Expected outcome: Measured and not measured operations summarized without changing the histograms
+     */
+    @Test
+    public void testReport() {
+        LatencyHistogram measured = new LatencyHistogram();
+        measured.record(3000000L, false);
+        Map<String, LatencyHistogram> latencies = new HashMap<>();
+        latencies.put("createUser", measured);
+        latencies.put("deleteUser", new LatencyHistogram());
+
+        reporter.report(latencies);
+        assertEquals(1, measured.getCount());
+        assertEquals(0, latencies.get("deleteUser").getCount());
+    }
+
+    /**
+     * Test for method {@link KeycloakLatencyReporter#shutDown()}
+     * Scenario: No Keycloak client has been built
+     * Expected outcome: Nothing reported and nothing to close, repeatable
+     */
+    @Test
+    public void testShutDownWithoutClient() {
+        reporter.shutDown();
+        reporter.shutDown();
+        keycloakClientFactory.shutDown();
+        verify(keycloakClientFactory, times(2)).getLatencies();
+        assertTrue(keycloakClientFactory.getLatencies().isEmpty());
+    }
+}
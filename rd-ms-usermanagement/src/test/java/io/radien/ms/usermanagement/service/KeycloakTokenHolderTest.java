@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.ms.usermanagement.service;
+
+import io.radien.ms.usermanagement.client.exceptions.RemoteResourceException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Class that aggregates UnitTest cases for KeycloakTokenHolder
+ */
+public class KeycloakTokenHolderTest {
+
+    private final AtomicLong now = new AtomicLong(0L);
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<Runnable> background = new ArrayList<>();
+    private KeycloakTokenHolder holder;
+
+    @Before
+    public void setUp() {
+        holder = new KeycloakTokenHolder(() -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put("access_token", "token" + requests.incrementAndGet());
+            response.put("expires_in", 300);
+            return response;
+        }, 30000L, background::add, now::get);
+    }
+
+    /**
+     * Test for method {@link KeycloakTokenHolder#getAccessToken()}
+     * Expected outcome: Token requested once and reused until the refresh ahead window
+     */
+    @Test
+    public void testGetAccessTokenReused() {
+        assertEquals("token1", holder.getAccessToken());
+        now.set(269999L);
+        assertEquals("token1", holder.getAccessToken());
+        assertEquals(1, requests.get());
+        assertNull(holder.getRefreshToken());
+    }
+
+    /**
+     * Test for method {@link KeycloakTokenHolder#getAccessToken()}
+     * Scenario: Token about to expire
+     * Expected outcome: Current token served while a single refresh is executed in background
+     */
+    @Test
+    public void testRefreshAhead() {
+        holder.getAccessToken();
+        now.set(280000L);
+        assertEquals("token1", holder.getAccessToken());
+        assertEquals("token1", holder.getAccessToken());
+        assertEquals(1, background.size());
+
+        background.get(0).run();
+        assertEquals(2, requests.get());
+        assertEquals("token2", holder.getAccessToken());
+    }
+
+    /**
+     * Test for method {@link KeycloakTokenHolder#getAccessToken()}
+     * Scenario: Token expired
+     * Expected outcome: New token requested synchronously
+     */
+    @Test
+    public void testExpired() {
+        holder.getAccessToken();
+        now.set(300000L);
+        assertEquals("token2", holder.getAccessToken());
+        assertEquals(0, background.size());
+    }
+
+    /**
+     * Test for method {@link KeycloakTokenHolder#invalidate(String)}
+     * Expected outcome: Rejected token replaced, already replaced tokens kept
+     */
+    @Test
+    public void testInvalidate() {
+        holder.getAccessToken();
+        holder.invalidate("token1");
+        assertEquals("token2", holder.getAccessToken());
+        holder.invalidate("token1");
+        assertEquals("token2", holder.getAccessToken());
+        assertEquals(2, requests.get());
+        assertEquals("token3", holder.refresh());
+    }
+
+    /**
+     * Test for method {@link KeycloakTokenHolder#renewAsync(String)}
+     * Expected outcome: Rejected token replaced by the background executor, not by the caller
+     */
+    @Test
+    public void testRenewAsync() throws Exception {
+        holder.getAccessToken();
+        CompletableFuture<String> renewed = holder.renewAsync("token1");
+        assertFalse(renewed.isDone());
+        assertEquals(1, requests.get());
+
+        background.get(0).run();
+        assertEquals("token2", renewed.get());
+        assertEquals("token2", holder.getAccessToken());
+        assertEquals(2, requests.get());
+    }
+
+    /**
+     * Test for method {@link KeycloakTokenHolder#getAccessToken()}
+     * Scenario: Token endpoint failure
+     * Expected outcome: Exception propagated, nothing kept
+     */
+    @Test
+    public void testLoginFailure() {
+        KeycloakTokenHolder failing = new KeycloakTokenHolder(() -> {
+            throw new RemoteResourceException("Error on login");
+        }, 30000L, Runnable::run, now::get);
+        assertThrows(RemoteResourceException.class, failing::getAccessToken);
+        assertNull(failing.getRefreshToken());
+    }
+}
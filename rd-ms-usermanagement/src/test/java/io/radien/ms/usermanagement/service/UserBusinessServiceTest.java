@@ -15,11 +15,13 @@
  */
 package io.radien.ms.usermanagement.service;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.user.SystemPagedUserSearchFilter;
 import io.radien.api.model.user.SystemUser;
 import io.radien.api.model.user.SystemUserSearchFilter;
 import io.radien.api.service.batch.BatchSummary;
+import io.radien.api.service.batch.DataIssue;
 import io.radien.api.service.i18n.I18NRESTServiceAccess;
 import io.radien.api.service.notification.SQSProducerAccess;
 import io.radien.api.service.user.UserServiceAccess;
@@ -53,6 +55,7 @@ import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
@@ -112,8 +115,8 @@ public class UserBusinessServiceTest {
     public void testGetAll() {
         SystemPagedUserSearchFilter search = new PagedUserSearchFilter();
         Page<SystemUser> p = new Page<>(new ArrayList<>(),-1,0,0);
-        when(userServiceAccess.getAll(search,1,2,null,true)).thenReturn(p);
-        Page<? extends SystemUser> result = userBusinessService.getAll(search,1,2,null,true);
+        when(userServiceAccess.getAll(search,1,2,null,true, CountMode.EXACT)).thenReturn(p);
+        Page<? extends SystemUser> result = userBusinessService.getAll(search,1,2,null,true, CountMode.EXACT);
         Assert.assertEquals( p, result );
     }
 
@@ -635,6 +638,7 @@ public class UserBusinessServiceTest {
 
         List<SystemUser> listOfUsers = new ArrayList<>();
         listOfUsers.add(user);
+        when(userServiceAccess.create(anyList())).thenReturn(new BatchSummary(1));
 
         boolean success = true;
         try{
@@ -645,6 +649,40 @@ public class UserBusinessServiceTest {
         assertTrue(success);
     }
 
+    /**
+     * Test method for {@link UserBusinessService#create(List)}
+     * Scenario: Users with issues, of delegated creation and failing in keycloak
+     * Expected outcome: Issues reported by batch row, subjects updated and users failing in keycloak removed
+     */
+    @Test
+    public void testCreateWithKeycloak() {
+        List<SystemUser> users = new ArrayList<>();
+        for (long i = 1; i <= 4; i++) {
+            SystemUser user = UserFactory.create("a", "b", "l" + i, null, "e" + i, "951", 1L, false);
+            user.setId(i);
+            user.setDelegatedCreation(i == 2);
+            users.add(user);
+        }
+        when(userServiceAccess.create(anyList())).thenReturn(new BatchSummary(4,
+                new ArrayList<>(Collections.singletonList(new DataIssue(3L, "duplicated")))));
+        when(keycloakBusinessService.createUsers(anyList(), anyInt())).thenAnswer(invocation -> {
+            List<SystemUser> provisioning = invocation.getArgument(0);
+            assertEquals(2, provisioning.size());
+            provisioning.get(0).setSub("sub1");
+            return Collections.singletonMap(1, new RemoteResourceException("conflict"));
+        });
+
+        BatchSummary batchSummary = userBusinessService.create(users);
+        assertEquals(4, batchSummary.getTotal());
+        assertEquals(2, batchSummary.getTotalNonProcessed());
+        assertEquals(BatchSummary.ProcessingStatus.PARTIAL_SUCCESS, batchSummary.getInternalStatus());
+        List<DataIssue> issues = new ArrayList<>(batchSummary.getNonProcessedItems());
+        assertEquals(3L, issues.get(0).getRowId());
+        assertEquals(4L, issues.get(1).getRowId());
+        verify(userServiceAccess).updateSubs(Collections.singletonMap(1L, "sub1"));
+        verify(userServiceAccess).delete(Collections.singletonList(4L));
+    }
+
     /**
      * Test method for {@link UserBusinessService#sendUpdatePasswordEmail(User)}
      */
@@ -18,15 +18,14 @@ package io.radien.security.openid.validation;
 import com.auth0.jwk.Jwk;
 import com.auth0.jwk.JwkException;
 import com.auth0.jwk.JwkProvider;
-import com.auth0.jwk.UrlJwkProvider;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSObject;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.crypto.RSASSAVerifier;
+import io.radien.api.security.CachingJwkProvider;
 import io.radien.exception.InvalidAccessTokenException;
 import java.net.MalformedURLException;
-import java.net.URL;
 import java.security.interfaces.RSAPublicKey;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -89,13 +88,13 @@ public class OpenIdTokenValidator implements TokenValidator {
     }
 
     /**
-     * Build a {@link JwkProvider} for a given jwkUrl paramter
+     * Retrieves the (shared and caching) {@link JwkProvider} for the configured jwkUrl
      * @return instance of {@link JwkProvider}
      * @throws MalformedURLException in case of invalid url
      */
     protected JwkProvider getProvider() throws MalformedURLException {
         if (provider == null) {
-             provider = new UrlJwkProvider(new URL(openIdConfig.getJwkUrl()));
+             provider = CachingJwkProvider.forUrl(openIdConfig.getJwkUrl());
         }
         return provider;
     }
@@ -24,6 +24,7 @@ import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSObject;
 import com.nimbusds.jose.Payload;
 import com.nimbusds.jose.crypto.RSASSAVerifier;
+import io.radien.api.security.CachingJwkProvider;
 import io.radien.exception.InvalidAccessTokenException;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -46,6 +47,7 @@ import org.mockito.junit.MockitoRule;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -272,6 +274,7 @@ public class OpenIdTokenValidatorTest {
         openIdTokenValidator.setProvider(null);
         when(openIdConfig.getJwkUrl()).thenReturn("http://test.io.net");
         assertNotNull(openIdTokenValidator.getProvider());
+        assertSame(CachingJwkProvider.forUrl("http://test.io.net"), openIdTokenValidator.getProvider());
     }
 
     /**
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.persistence.jpa;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Report of a batch write ({@link EntityManagerUtil#saveOrUpdate(List, javax.persistence.EntityManager, int)}),
+ * with the number of inserted and updated entities and the timings of each one of the written chunks
+ */
+public class BatchWriteReport {
+
+    /**
+     * Written chunk, all its entities being of the same operation (insert or update)
+     */
+    public static class Chunk {
+        private final boolean insert;
+        private final int size;
+        private final long elapsedTime;
+
+        /**
+         * Chunk constructor
+         * @param insert true for inserted entities, false for updated ones
+         * @param size number of entities of the chunk
+         * @param elapsedTime time (in milliseconds) spent writing (and flushing) the chunk
+         */
+        public Chunk(boolean insert, int size, long elapsedTime) {
+            this.insert = insert;
+            this.size = size;
+            this.elapsedTime = elapsedTime;
+        }
+
+        /**
+         * Indicates if the chunk entities were inserted (or updated)
+         * @return true for inserted entities
+         */
+        public boolean isInsert() {
+            return insert;
+        }
+
+        /**
+         * Gets the number of entities of the chunk
+         * @return the chunk size
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Gets the time (in milliseconds) spent writing the chunk
+         * @return the elapsed time
+         */
+        public long getElapsedTime() {
+            return elapsedTime;
+        }
+
+        @Override
+        public String toString() {
+            return (insert ? "insert" : "update") + " size=" + size + " elapsed=" + elapsedTime + "ms";
+        }
+    }
+
+    private final List<Chunk> chunks = new ArrayList<>();
+
+    /**
+     * Adds a written chunk
+     * @param chunk written chunk
+     */
+    public void addChunk(Chunk chunk) {
+        chunks.add(chunk);
+    }
+
+    /**
+     * Gets the written chunks
+     * @return the chunks, in the order they were written
+     */
+    public List<Chunk> getChunks() {
+        return Collections.unmodifiableList(chunks);
+    }
+
+    /**
+     * Gets the number of inserted entities
+     * @return the inserted count
+     */
+    public int getInserted() {
+        return count(true);
+    }
+
+    /**
+     * Gets the number of updated entities
+     * @return the updated count
+     */
+    public int getUpdated() {
+        return count(false);
+    }
+
+    /**
+     * Gets the total time (in milliseconds) spent writing the chunks
+     * @return the elapsed time
+     */
+    public long getElapsedTime() {
+        long elapsedTime = 0;
+        for (Chunk chunk : chunks) {
+            elapsedTime += chunk.getElapsedTime();
+        }
+        return elapsedTime;
+    }
+
+    private int count(boolean insert) {
+        int count = 0;
+        for (Chunk chunk : chunks) {
+            if (chunk.isInsert() == insert) {
+                count += chunk.getSize();
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "inserted=" + getInserted() + " updated=" + getUpdated() + " chunks=" + chunks.size() +
+                " elapsed=" + getElapsedTime() + "ms";
+    }
+}
@@ -17,6 +17,7 @@ package io.radien.persistence.jpa;
 
 import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.exception.SystemException;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.persistence.EntityManager;
@@ -26,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.radien.api.Model;
+import io.radien.api.util.BatchSettings;
 
 /**
  * Generic methods for JPA entities
@@ -90,39 +92,113 @@ public class EntityManagerUtil {
 		}
 	}
 
+	/**
+	 * Persists or updates a list of {@link Model} implementations in batch mode (see
+	 * {@link EntityManagerUtil#saveOrUpdate(List, EntityManager, int)}), with the configured chunk size
+	 *
+	 * @param entities
+	 *                   The entities to be persisted or updated
+	 * @param em
+	 *                   the entityManager injected by the CDI
+	 */
 	public static void saveOrUpdate(List<? extends Model> entities, EntityManager em) {
-		EntityTransaction transaction = em.getTransaction();
-		try {
-			boolean hadTransaction = true;
-			if(entities.isEmpty()){
-				return;
+		saveOrUpdate(entities, em, BatchSettings.getChunkSize());
+	}
+
+	/**
+	 * Persists or updates a list of {@link Model} implementations in batch mode. New entities (without id) are
+	 * inserted first and then the existing ones are updated, so the statements of each chunk are all of the same
+	 * kind and can be grouped by the JDBC statement batching of the provider (eclipselink.jdbc.batch-writing).
+	 * When this method starts the transaction, the entity manager is flushed and cleared after each chunk, so the
+	 * memory used does not grow with the number of entities (the given entities are detached after the write).
+	 * When the caller's transaction is joined (resource local or container managed), the persistence context is
+	 * left untouched and the statements are written, still batched, when the caller flushes or commits
+	 *
+	 * @param entities
+	 *                   The entities to be persisted or updated
+	 * @param em
+	 *                   the entityManager injected by the CDI
+	 * @param chunkSize
+	 *                   number of entities written between each flush and clear
+	 * @return the report of the written chunks, empty if the entities could not be written
+	 */
+	public static BatchWriteReport saveOrUpdate(List<? extends Model> entities, EntityManager em, int chunkSize) {
+		BatchWriteReport report = new BatchWriteReport();
+		if(entities.isEmpty()){
+			return report;
+		}
+		List<Model> inserts = new ArrayList<>();
+		List<Model> updates = new ArrayList<>();
+		for(Model entity:entities) {
+			if (entity.getId() == null) {
+				inserts.add(entity);
+			} else {
+				updates.add(entity);
 			}
-			if(!transaction.isActive()) {
+		}
+		EntityTransaction transaction = getResourceLocalTransaction(em);
+		boolean ownTransaction = transaction != null && !transaction.isActive();
+		try {
+			if(ownTransaction) {
 				transaction.begin();
-				hadTransaction = false;
 			}
-			for(Model entity:entities) {
-				if (entity.getId() == null) {
+			writeChunks(inserts, true, em, Math.max(chunkSize, 1), ownTransaction, report);
+			writeChunks(updates, false, em, Math.max(chunkSize, 1), ownTransaction, report);
+			if(ownTransaction) {
+				transaction.commit();
+			}
+			if(log.isInfoEnabled()){
+				log.info("{} entities of class {} written: {}", entities.size(),
+						entities.get(0).getClass().getSimpleName(), report);
+			}
+		} catch (Exception e) {
+			if (ownTransaction && transaction.isActive()) {
+				transaction.rollback();
+			}
+			log.error("Error saving entities of class {}: {}", entities.get(0).getClass().getSimpleName(),
+					e.getMessage());
+			return new BatchWriteReport();
+		}
+		return report;
+	}
+
+	/**
+	 * Returns the resource local transaction of the entity manager
+	 *
+	 * @param em
+	 *                   the entityManager injected by the CDI
+	 * @return the resource local transaction, or null if the entity manager is container managed (JTA)
+	 */
+	private static EntityTransaction getResourceLocalTransaction(EntityManager em) {
+		try {
+			return em.getTransaction();
+		} catch (IllegalStateException e) {
+			return null;
+		}
+	}
+
+	private static void writeChunks(List<Model> entities, boolean insert, EntityManager em, int chunkSize,
+									boolean ownTransaction, BatchWriteReport report) {
+		for (int from = 0; from < entities.size(); from += chunkSize) {
+			long start = System.currentTimeMillis();
+			List<Model> chunk = entities.subList(from, Math.min(from + chunkSize, entities.size()));
+			for (Model entity : chunk) {
+				if (insert) {
 					em.persist(entity);
 				} else {
 					em.merge(entity);
 				}
 			}
-			if(!hadTransaction) {
-				transaction.commit();
+			if (ownTransaction) {
+				em.flush();
+				em.clear();
 			}
-			if(entities.size()>1) {
-				if(log.isInfoEnabled()){
-					log.info(GenericErrorCodeMessage.LIST_ENTITY_SAVED.toString(), entities.get(0).getClass().getSimpleName());
-				}
-			}else if(entities.size() == 1 && log.isInfoEnabled()){
-				log.info(GenericErrorCodeMessage.INFO_ENTITY_SAVED.toString(), entities.get(0).getClass().getSimpleName());
-			}
-		} catch (Exception e) {
-			if (transaction.isActive()) {
-				transaction.rollback();
+			BatchWriteReport.Chunk written = new BatchWriteReport.Chunk(insert, chunk.size(),
+					System.currentTimeMillis() - start);
+			report.addChunk(written);
+			if (log.isDebugEnabled()) {
+				log.debug("Chunk {} written: {}", report.getChunks().size(), written);
 			}
-			log.error(GenericErrorCodeMessage.ERROR_SAVING_ENTITY.toString(e.getMessage()));
 		}
 	}
 
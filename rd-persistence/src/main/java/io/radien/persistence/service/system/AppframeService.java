@@ -24,6 +24,7 @@ import javax.persistence.PersistenceContextType;
 import javax.persistence.Query;
 
 import io.radien.persistence.entities.system.Appframe;
+import io.radien.persistence.jpa.EntityManagerUtil;
 
 /**
  * @author Marco Weiland <m.weiland@radien.io>
@@ -38,6 +39,10 @@ public class AppframeService {
         entityManager.persist(appframe);
     }
 
+    public void addAppframes(List<Appframe> appframes) {
+        EntityManagerUtil.saveOrUpdate(appframes, entityManager);
+    }
+
     public void deleteAppframe(Appframe appframe) {
         entityManager.remove(appframe);
     }
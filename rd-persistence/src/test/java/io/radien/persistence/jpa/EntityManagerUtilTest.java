@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.persistence.jpa;
+
+import io.radien.persistence.entities.system.Appframe;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityTransaction;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class that aggregates UnitTest cases for EntityManagerUtil
+ */
+public class EntityManagerUtilTest {
+
+    private final List<String> calls = new ArrayList<>();
+    private boolean active;
+
+    private EntityManager createEntityManager() {
+        EntityTransaction transaction = (EntityTransaction) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{EntityTransaction.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "isActive":
+                            return active;
+                        case "begin":
+                            active = true;
+                            break;
+                        case "commit":
+                        case "rollback":
+                            active = false;
+                            break;
+                        default:
+                            break;
+                    }
+                    calls.add(method.getName());
+                    return null;
+                });
+        return (EntityManager) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{EntityManager.class}, (proxy, method, args) -> {
+                    if ("getTransaction".equals(method.getName())) {
+                        return transaction;
+                    }
+                    calls.add(method.getName());
+                    return "merge".equals(method.getName()) ? args[0] : null;
+                });
+    }
+
+    /**
+     * Test for method {@link EntityManagerUtil#saveOrUpdate(List, EntityManager, int)}
+     * Expected outcome: Inserts written before the updates, flush and clear after each chunk, one transaction
+     */
+    @Test
+    public void testSaveOrUpdateBatch() {
+        List<Appframe> entities = Arrays.asList(new Appframe(1L, "1.0"), new Appframe(null, "2.0"),
+                new Appframe(null, "3.0"), new Appframe(4L, "4.0"), new Appframe(null, "5.0"));
+
+        BatchWriteReport report = EntityManagerUtil.saveOrUpdate(entities, createEntityManager(), 2);
+        assertEquals(3, report.getInserted());
+        assertEquals(2, report.getUpdated());
+        assertEquals(3, report.getChunks().size());
+        assertTrue(report.getChunks().get(1).isInsert());
+        assertFalse(report.getChunks().get(2).isInsert());
+        assertEquals(Arrays.asList("begin", "persist", "persist", "flush", "clear", "persist", "flush", "clear",
+                "merge", "merge", "flush", "clear", "commit"), calls);
+    }
+
+    /**
+     * Test for method {@link EntityManagerUtil#saveOrUpdate(List, EntityManager, int)}
+     * Scenario: Transaction already active
+     * Expected outcome: Entities written in the current transaction, without flushing or clearing its persistence context
+     */
+    @Test
+    public void testSaveOrUpdateBatchWithTransaction() {
+        active = true;
+        BatchWriteReport report = EntityManagerUtil.saveOrUpdate(Arrays.asList(new Appframe(null, "1.0")),
+                createEntityManager(), 10);
+        assertEquals(1, report.getInserted());
+        assertEquals(Arrays.asList("persist"), calls);
+        assertTrue(EntityManagerUtil.saveOrUpdate(new ArrayList<Appframe>(), createEntityManager(), 10)
+                .getChunks().isEmpty());
+    }
+
+    /**
+     * Test for method {@link EntityManagerUtil#saveOrUpdate(List, EntityManager, int)}
+     * Scenario: Container managed (JTA) entity manager
+     * Expected outcome: Entities written in the container transaction, without flushing or clearing its persistence context
+     */
+    @Test
+    public void testSaveOrUpdateBatchWithContainerTransaction() {
+        EntityManager em = (EntityManager) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{EntityManager.class}, (proxy, method, args) -> {
+                    if ("getTransaction".equals(method.getName())) {
+                        throw new IllegalStateException("JTA entity manager");
+                    }
+                    calls.add(method.getName());
+                    return "merge".equals(method.getName()) ? args[0] : null;
+                });
+        BatchWriteReport report = EntityManagerUtil.saveOrUpdate(Arrays.asList(new Appframe(null, "1.0"),
+                new Appframe(2L, "2.0")), em, 10);
+        assertEquals(1, report.getInserted());
+        assertEquals(1, report.getUpdated());
+        assertEquals(Arrays.asList("persist", "merge"), calls);
+    }
+}
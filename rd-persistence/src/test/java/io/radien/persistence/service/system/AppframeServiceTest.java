@@ -16,10 +16,13 @@
 package io.radien.persistence.service.system;
 
 import io.radien.persistence.entities.system.Appframe;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 import javax.ejb.embeddable.EJBContainer;
 import javax.naming.Context;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -30,12 +33,13 @@ import static org.junit.Assert.assertEquals;
  */
 public class AppframeServiceTest {
 
-	Properties p;
+	static EJBContainer container;
 
-	AppframeService appframeService;
+	static AppframeService appframeService;
 
-	public AppframeServiceTest() throws Exception  {
-		p = new Properties();
+	@BeforeClass
+	public static void start() throws Exception  {
+		Properties p = new Properties();
         p.put("appframeDatabase", "new://Resource?type=DataSource");
         p.put("appframeDatabase.JdbcDriver", "org.hsqldb.jdbcDriver");
         p.put("appframeDatabase.JdbcUrl", "jdbc:hsqldb:mem:appframedb");
@@ -43,11 +47,17 @@ public class AppframeServiceTest {
         p.put("appframeDatabase.password", "");
 
 
-        final Context context = EJBContainer.createEJBContainer(p).getContext();
+        container = EJBContainer.createEJBContainer(p);
+        final Context context = container.getContext();
 
         appframeService = (AppframeService) context.lookup("java:global/rd-persistence//AppframeService");
 	}
 
+	@AfterClass
+	public static void stop() {
+		container.close();
+	}
+
 	@Test
 	public void testDeleteAppframe() {
 		appframeService.addAppframe(new Appframe(1L,"1.0"));
@@ -63,4 +73,16 @@ public class AppframeServiceTest {
 
         assertEquals("AppframeService.getAppframe()", 0, appframeService.getAppframes().size());
     }
+
+	@Test
+	public void testAddAppframes() {
+		appframeService.addAppframes(Arrays.asList(new Appframe(10L,"10.0"), new Appframe(11L,"11.0")));
+
+		List<Appframe> list = appframeService.getAppframes();
+		assertEquals("List.size()", 2, list.size());
+
+		for (Appframe appframe : list) {
+			appframeService.deleteAppframe(appframe);
+		}
+	}
 }
@@ -16,6 +16,7 @@
 package io.radien.webapp;
 
 import io.radien.api.Model;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.exception.SystemException;
 import org.primefaces.model.FilterMeta;
@@ -34,6 +35,8 @@ public abstract class LazyAbstractDataModel<T extends Model> extends LazyDataMod
 
     protected List<? extends T> datasource;
 
+    private CountMode countMode = CountMode.EXACT;
+
     private static final transient Logger log = LoggerFactory.getLogger(LazyAbstractDataModel.class);
 
     @Override
@@ -51,6 +54,22 @@ public abstract class LazyAbstractDataModel<T extends Model> extends LazyDataMod
         return String.valueOf(obj.getId());
     }
 
+    /**
+     * Count mode requested to the service when loading the pages, {@link CountMode#EXACT} by default
+     * @return the count mode of the data model
+     */
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
+    /**
+     * Changes the count mode requested to the service when loading the pages
+     * @param countMode the count mode to be used
+     */
+    public void setCountMode(CountMode countMode) {
+        this.countMode = countMode;
+    }
+
     public abstract Page<? extends T> getData(int offset, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) throws SystemException;
 
     @Override
@@ -61,7 +80,7 @@ public abstract class LazyAbstractDataModel<T extends Model> extends LazyDataMod
 
             datasource = pagedInformation.getResults();
 
-            rowCount = (long) pagedInformation.getTotalResults();
+            rowCount = getRowCount(offset, pageSize, pagedInformation);
         } catch (SystemException e) {
             log.error(e.getMessage(),e);
         }
@@ -70,4 +89,22 @@ public abstract class LazyAbstractDataModel<T extends Model> extends LazyDataMod
 
         return datasource != null ? new ArrayList<>(datasource) : new ArrayList<>();
     }
+
+    /**
+     * Calculates the row count of the table. When the total was not counted (or is an estimation that
+     * does not cover the loaded rows) the count is extrapolated from the loaded rows, allowing to
+     * navigate to the next page while the current one is full
+     * @param offset offset of the loaded page
+     * @param pageSize size of the loaded page
+     * @param page loaded page
+     * @return the row count
+     */
+    protected long getRowCount(int offset, int pageSize, Page<? extends T> page) {
+        long loaded = page.getResults() != null ? page.getResults().size() : 0;
+        long rowCount = page.getTotalResults();
+        if (page.getCountMode() == CountMode.NONE || rowCount < offset + loaded) {
+            rowCount = offset + loaded + (loaded == pageSize ? pageSize : 0);
+        }
+        return rowCount;
+    }
 }
@@ -42,7 +42,7 @@ public class LazyActionsDataModel extends LazyAbstractDataModel<SystemAction> {
 
     @Override
     public Page<? extends SystemAction> getData(int offset, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) throws SystemException {
-        return service.getAll(null, (offset/pageSize) + 1, pageSize, null, true);
+        return service.getAll(null, (offset/pageSize) + 1, pageSize, null, true, getCountMode());
     }
 }
 
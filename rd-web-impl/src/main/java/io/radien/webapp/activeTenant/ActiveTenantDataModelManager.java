@@ -17,8 +17,10 @@ package io.radien.webapp.activeTenant;
 
 import io.radien.api.service.tenantrole.TenantRoleUserRESTServiceAccess;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.RequestScoped;
@@ -61,6 +63,9 @@ public class ActiveTenantDataModelManager extends AbstractManager implements Ser
     
     @Inject
     private TenantRESTServiceAccess tenantRESTServiceAccess;
+
+    @Inject
+    private TenantNameCache tenantNameCache;
     
     private List<? extends SystemTenant> userAvailableTenants;
 
@@ -84,10 +89,8 @@ public class ActiveTenantDataModelManager extends AbstractManager implements Ser
                 SystemActiveTenant actTenant = userActiveTenants.get(0);
                 activeTenant = actTenant;
                 activeTenantTenantId = actTenant.getTenantId().toString();
-                Optional<SystemTenant> nameValue = tenantRESTServiceAccess.getTenantById(actTenant.getTenantId());
-                if(nameValue.isPresent()) {
-                    activeTenantTenantName = nameValue.get().getName();
-                }
+                activeTenantTenantName = getTenantNames(userActiveTenants.stream()
+                        .map(SystemActiveTenant::getTenantId).collect(Collectors.toList())).get(actTenant.getTenantId());
                 if(userActiveTenants.size() > 1) {
                     log.error("User has more than 1 active tenant!");
                 }
@@ -106,7 +109,34 @@ public class ActiveTenantDataModelManager extends AbstractManager implements Ser
     public List<? extends SystemTenant> getUserTenants() throws SystemException {
         SystemUser user = userSession.getUser();
         Long userId = user.getId();
-        return tenantRoleUserRESTServiceAccess.getTenants(userId, null);
+        List<? extends SystemTenant> tenants = tenantRoleUserRESTServiceAccess.getTenants(userId, null);
+        tenantNameCache.putAll(tenants);
+        return tenants;
+    }
+
+    /**
+     * Gets the names of the requested tenants. The names already known in the session are taken
+     * from the cache, the missing ones are retrieved all together with one single request
+     * @param tenantIds tenant identifiers
+     * @return map containing the tenant names by tenant id
+     * @throws SystemException in case of token expiration or any other exception
+     */
+    protected Map<Long, String> getTenantNames(List<Long> tenantIds) throws SystemException {
+        Map<Long, String> names = tenantNameCache.getAll(tenantIds);
+        List<Long> missing = new ArrayList<>();
+        for (Long tenantId : tenantIds) {
+            if (!names.containsKey(tenantId) && !missing.contains(tenantId)) {
+                missing.add(tenantId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            List<? extends SystemTenant> tenants = tenantRESTServiceAccess.getTenantsByIds(missing);
+            tenantNameCache.putAll(tenants);
+            for (SystemTenant tenant : tenants) {
+                names.put(tenant.getId(), tenant.getName());
+            }
+        }
+        return names;
     }
 
     /**
@@ -128,6 +158,7 @@ public class ActiveTenantDataModelManager extends AbstractManager implements Ser
                 if(activeTenant != null) {
                     //if he had another then set the value to deactivate before changing
                     deactivateTenant(activeTenant);
+                    tenantNameCache.invalidate();
                     redirectToHomePage();
                 }
                 activeTenant = null;
@@ -144,6 +175,7 @@ public class ActiveTenantDataModelManager extends AbstractManager implements Ser
                 }
                 //then we check if it still exists the association for the user if so then...
                 validateCorrectTenantAndActivateItToUser(valueChange);
+                tenantNameCache.invalidate();
                 //check if we are at users listing screen
                 if (isOnUsersListingScreen()) {
                     redirectToPage(DataModelEnum.USERS_DISPATCH_PATH.getValue());
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.webapp.activeTenant;
+
+import io.radien.api.model.tenant.SystemTenant;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.enterprise.context.SessionScoped;
+
+/**
+ * Small per session cache of tenant names (by tenant id), so the names of the tenants of the
+ * logged user are not requested to the tenant management again on every request.
+ * Names are kept until a tenant is changed (or deleted) or the active tenant is switched in the session.
+ */
+@SessionScoped
+public class TenantNameCache implements Serializable {
+    private static final long serialVersionUID = 2931573457052817644L;
+
+    /** Maximum number of cached names, the cache is reset once reached */
+    static final int MAX_ENTRIES = 200;
+
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the cached name of a tenant
+     * @param tenantId tenant identifier
+     * @return the tenant name or null if not cached
+     */
+    public String get(Long tenantId) {
+        return tenantId != null ? names.get(tenantId) : null;
+    }
+
+    /**
+     * Gets the cached names of the given tenants
+     * @param tenantIds tenant identifiers
+     * @return map containing the names (by tenant id) of the cached tenants only
+     */
+    public Map<Long, String> getAll(Collection<Long> tenantIds) {
+        Map<Long, String> result = new HashMap<>();
+        for (Long tenantId : tenantIds) {
+            String name = get(tenantId);
+            if (name != null) {
+                result.put(tenantId, name);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Caches the names of the given tenants
+     * @param tenants tenants to be cached
+     */
+    public void putAll(Collection<? extends SystemTenant> tenants) {
+        if (tenants == null) {
+            return;
+        }
+        for (SystemTenant tenant : tenants) {
+            if (tenant != null && tenant.getId() != null && tenant.getName() != null) {
+                if (names.size() >= MAX_ENTRIES && !names.containsKey(tenant.getId())) {
+                    names.clear();
+                }
+                names.put(tenant.getId(), tenant.getName());
+            }
+        }
+    }
+
+    /**
+     * Removes all the cached names
+     */
+    public void invalidate() {
+        names.clear();
+    }
+}
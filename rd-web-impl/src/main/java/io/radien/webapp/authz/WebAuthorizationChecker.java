@@ -22,6 +22,8 @@ import io.radien.exception.GenericErrorCodeMessage;
 import io.radien.exception.SystemException;
 import io.radien.ms.authz.security.AuthorizationChecker;
 import io.radien.ms.openid.service.PrincipalFactory;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import io.radien.webapp.JSFUtil;
@@ -117,16 +119,13 @@ public class WebAuthorizationChecker extends AuthorizationChecker {
                 log.error("Checking if has permission without being logged in");
                 return false;
             }
-            boolean result = false;
             Optional<Long> idForAction = permissionRESTServiceAccess.getIdByResourceAndAction(resource, action);
             Optional<Long> idForAll = permissionRESTServiceAccess.getIdByResourceAndAction(resource, "ALL");
 
-            if (idForAction.isPresent()) {
-                 result = hasGrant(idForAction.get(), tenant);
-            }
-            if(!result && idForAll.isPresent()) {
-                result = hasGrant(idForAll.get(), tenant);
-            }
+            List<Long> permissionIds = new ArrayList<>();
+            idForAction.ifPresent(permissionIds::add);
+            idForAll.ifPresent(permissionIds::add);
+            boolean result = !permissionIds.isEmpty() && !getGrantedPermissions(tenant, permissionIds).isEmpty();
             log.info("Permission {} for resource {} and action {}", result ? "found" : "not found", resource, action);
             return result;
         }
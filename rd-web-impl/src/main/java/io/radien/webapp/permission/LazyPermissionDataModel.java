@@ -99,7 +99,7 @@ public class LazyPermissionDataModel extends LazyAbstractDataModel<SystemPermiss
      */
     @Override
     public Page<? extends SystemPermission> getData(int offset, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) throws SystemException {
-        Page<? extends SystemPermission> page = service.getAll(null, (offset/pageSize) + 1, pageSize, null, true);
+        Page<? extends SystemPermission> page = service.getAll(null, (offset/pageSize) + 1, pageSize, null, true, getCountMode());
         // Get the action ids
         List<Long> actionIds = page.getResults().stream().map(SystemPermission::getActionId).
                 distinct().collect(Collectors.toList());
@@ -41,7 +41,7 @@ public class LazyResourcesDataModel extends LazyAbstractDataModel<SystemResource
 
     @Override
     public Page<? extends SystemResource> getData(int offset, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) throws SystemException {
-        return service.getAll(null, (offset/pageSize) + 1, pageSize, null, true);
+        return service.getAll(null, (offset/pageSize) + 1, pageSize, null, true, getCountMode());
     }
 }
 
@@ -42,7 +42,7 @@ public class LazyRoleDataModel extends LazyAbstractDataModel<SystemRole> {
 
     @Override
     public Page<? extends SystemRole> getData(int offset, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) throws SystemException {
-        return service.getAll(null,(offset/pageSize)+1, pageSize, null, false);
+        return service.getAll(null,(offset/pageSize)+1, pageSize, null, false, getCountMode());
     }
 
 
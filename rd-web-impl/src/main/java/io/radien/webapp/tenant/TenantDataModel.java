@@ -30,6 +30,7 @@ import io.radien.webapp.DataModelEnum;
 import io.radien.webapp.JSFUtil;
 import io.radien.webapp.activeTenant.ActiveTenantDataModelManager;
 import io.radien.webapp.activeTenant.ActiveTenantMandatory;
+import io.radien.webapp.activeTenant.TenantNameCache;
 import io.radien.webapp.security.UserSession;
 import org.primefaces.event.SelectEvent;
 import org.primefaces.model.LazyDataModel;
@@ -70,6 +71,9 @@ public class TenantDataModel extends AbstractManager implements Serializable {
     @Inject
     private ActiveTenantDataModelManager activeTenantDataModelManager;
 
+    @Inject
+    private TenantNameCache tenantNameCache;
+
     private LazyDataModel<? extends SystemTenant> lazyModel;
 
     private SystemTenant selectedTenant;
@@ -121,6 +125,7 @@ public class TenantDataModel extends AbstractManager implements Serializable {
                 this.service.create(systemTenantToSave);
             } else {
                 this.service.update(systemTenantToSave);
+                tenantNameCache.invalidate();
             }
             handleMessage(FacesMessage.SEVERITY_INFO,
                     JSFUtil.getMessage(DataModelEnum.SAVE_SUCCESS_MESSAGE.getValue()),
@@ -239,6 +244,7 @@ public class TenantDataModel extends AbstractManager implements Serializable {
         try {
             if (selectedTenant != null) {
                 service.deleteTenantHierarchy(selectedTenant.getId());
+                tenantNameCache.invalidate();
                 handleMessage(FacesMessage.SEVERITY_INFO,
                         JSFUtil.getMessage(DataModelEnum.DELETE_SUCCESS.getValue()),
                         JSFUtil.getMessage(DataModelEnum.TENANT_RD_TENANT.getValue()));
@@ -364,6 +370,7 @@ public class TenantDataModel extends AbstractManager implements Serializable {
     public String edit(SystemTenant systemTenantToEdit) throws IOException {
         try {
             this.service.update(systemTenantToEdit);
+            tenantNameCache.invalidate();
         } catch (Exception e) {
             handleError(e, JSFUtil.getMessage(DataModelEnum.EDIT_ERROR_MESSAGE.getValue()),
                     JSFUtil.getMessage(DataModelEnum.TENANT_RD_TENANT.getValue()));
@@ -92,7 +92,7 @@ public class LazyTenantRoleUserDataModel extends LazyAbstractDataModel<SystemTen
         // Just retrieve if we have tenant or role information
         if (tenantRoleId != null) {
             page = service.getAll(tenantRoleId, null,
-                    (offset/pageSize)+1, pageSize, null, true);
+                    (offset/pageSize)+1, pageSize, null, true, getCountMode());
             // Get the user ids
             List<Long> userIds = page.getResults().stream().map(SystemTenantRoleUser::getUserId).
                     distinct().collect(Collectors.toList());
@@ -80,11 +80,12 @@ public class LazyTenantingUserDataModel extends LazyAbstractDataModel<SystemUser
         // Just retrieve if we have tenant or role information
         if (tenantId != null ) {
             Page<Long> pageIds = service.getUsersIds(tenantId, null,
-                    (offset/pageSize)+1, pageSize);
+                    (offset/pageSize)+1, pageSize, getCountMode());
 
             page.setTotalResults(pageIds.getTotalResults());
             page.setCurrentPage(pageIds.getCurrentPage());
             page.setTotalPages(pageIds.getTotalPages());
+            page.setCountMode(pageIds.getCountMode());
 
             List<? extends SystemUser> systemUsers = userService.
                     getUsersByIds((List<Long>) pageIds.getResults());
@@ -16,7 +16,6 @@
 package io.radien.webapp.user;
 
 import io.radien.api.model.tenant.SystemActiveTenant;
-import io.radien.api.model.tenantrole.SystemTenantRoleUser;
 import io.radien.api.model.user.SystemUser;
 import io.radien.api.security.UserSessionEnabled;
 import io.radien.api.service.permission.SystemActionsEnum;
@@ -277,15 +276,8 @@ public class UserDataModel extends AbstractManager implements Serializable {
                     Long userId = selectedUser.getId();
                     service.deleteUser(userId);
 
-                    List<? extends SystemTenantRoleUser> tenantRolesUser = tenantRoleUserRESTServiceAccess.getTenantRoleUsers(null, userId, false);
-                    for (SystemTenantRoleUser systemTenantRoleUser : tenantRolesUser) {
-                        tenantRoleUserRESTServiceAccess.delete(systemTenantRoleUser.getTenantRoleId());
-                    }
-
-                    List<? extends SystemActiveTenant> activeTenants = activeTenantRESTServiceAccess.getActiveTenantByFilter(userId, null);
-                    for (SystemActiveTenant systemActiveTenant : activeTenants) {
-                        activeTenantRESTServiceAccess.delete(systemActiveTenant.getId());
-                    }
+                    tenantRoleUserRESTServiceAccess.deleteByUser(userId);
+                    activeTenantRESTServiceAccess.deleteByUser(userId);
 
                     handleMessage(FacesMessage.SEVERITY_INFO, JSFUtil.getMessage(DataModelEnum.DELETE_SUCCESS.getValue()), JSFUtil.getMessage(DataModelEnum.USER_MESSAGE.getValue()));
                 }else {
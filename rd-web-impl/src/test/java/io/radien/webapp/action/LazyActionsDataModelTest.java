@@ -15,6 +15,7 @@
  */
 package io.radien.webapp.action;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemAction;
 import io.radien.api.service.permission.ActionRESTServiceAccess;
@@ -72,7 +73,7 @@ public class LazyActionsDataModelTest {
     @Test
     public void testGetData() throws SystemException {
         doReturn(new Page<SystemAction>(systemActions, 1, 1, 1))
-                .when(service).getAll(null, 1, 1, null, true);
+                .when(service).getAll(null, 1, 1, null, true, CountMode.EXACT);
 
         assertNotNull(lazyActionsDataModel.getData(0, 1, sortBy, filterBy));
     }
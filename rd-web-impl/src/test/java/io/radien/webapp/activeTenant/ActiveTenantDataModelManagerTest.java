@@ -47,6 +47,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnit;
@@ -59,6 +60,8 @@ import javax.faces.context.FacesContext;
 import javax.faces.context.Flash;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertTrue;
@@ -73,6 +76,8 @@ import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * Active Tenant Data Model Manager Test
@@ -97,6 +102,9 @@ public class ActiveTenantDataModelManagerTest {
     @Mock
     private TenantRoleUserRESTServiceAccess tenantRoleUserRESTServiceAccess;
 
+    @Spy
+    private TenantNameCache tenantNameCache = new TenantNameCache();
+
     private FacesContext facesContext;
 
     private static MockedStatic<FacesContext> facesContextMockedStatic;
@@ -164,6 +172,57 @@ public class ActiveTenantDataModelManagerTest {
         assertEquals(newActiveActiveTenant.getUserId(), activeTenantDataModelManager.getActiveTenant().getUserId());
     }
 
+    /**
+     * Test for method {@link ActiveTenantDataModelManager#init()}
+     * Expected: tenant name requested once (with one single request), then taken from the session cache
+     * @throws SystemException in case of any issue regarding REST API communication
+     */
+    @Test
+    public void testInitTenantNameCache() throws SystemException {
+        SystemUser user = new User();
+        when(userSession.getUser()).thenReturn(user);
+
+        doReturn(Collections.singletonList(ActiveTenantFactory.create(10L, 11L)))
+                .when(activeTenantRESTServiceAccess).getActiveTenantByFilter(any(), any());
+        Tenant tenant = new Tenant();
+        tenant.setId(11L);
+        tenant.setName("tenant11");
+        doReturn(Collections.singletonList(tenant)).when(tenantRESTServiceAccess).getTenantsByIds(Collections.singletonList(11L));
+
+        activeTenantDataModelManager.init();
+        assertEquals("tenant11", tenantNameCache.get(11L));
+
+        activeTenantDataModelManager.init();
+        assertEquals("tenant11", tenantNameCache.get(11L));
+
+        verify(tenantRESTServiceAccess).getTenantsByIds(Collections.singletonList(11L));
+        verify(tenantRESTServiceAccess, never()).getTenantById(any());
+    }
+
+    /**
+     * Test for method {@link ActiveTenantDataModelManager#init()}
+     * Expected: names of the available tenants cached, no additional request to resolve the active tenant name
+     * @throws SystemException in case of any issue regarding REST API communication
+     */
+    @Test
+    public void testInitTenantNameFromAvailableTenants() throws SystemException {
+        SystemUser user = new User();
+        when(userSession.getUser()).thenReturn(user);
+
+        Tenant tenant = new Tenant();
+        tenant.setId(12L);
+        tenant.setName("tenant12");
+        doReturn(Arrays.asList(tenant)).when(tenantRoleUserRESTServiceAccess).getTenants(any(), any());
+        activeTenantDataModelManager.getUserTenants();
+
+        doReturn(Collections.singletonList(ActiveTenantFactory.create(10L, 12L)))
+                .when(activeTenantRESTServiceAccess).getActiveTenantByFilter(any(), any());
+        activeTenantDataModelManager.init();
+
+        assertEquals("tenant12", tenantNameCache.get(12L));
+        verify(tenantRESTServiceAccess, never()).getTenantsByIds(any());
+    }
+
     @Test(expected = Exception.class)
     public void testInitException() throws SystemException {
         SystemUser user = new User();
@@ -296,6 +355,7 @@ public class ActiveTenantDataModelManagerTest {
         activeTenantDataModelManager.tenantChangedValidationMethod(JSFUtil.getMessage(DataModelEnum.NO_ACTIVE_TENANT_MESSAGE.getValue()));
         
         assertNull(activeTenantDataModelManager.getActiveTenant());
+        verify(tenantNameCache).invalidate();
     }
 
     @Test
@@ -317,6 +377,7 @@ public class ActiveTenantDataModelManagerTest {
         activeTenantDataModelManager.tenantChangedValidationMethod("1");
         
         assertNotNull(activeTenantDataModelManager.getActiveTenant());
+        verify(tenantNameCache).invalidate();
     }
     
     @Test
@@ -338,6 +399,7 @@ public class ActiveTenantDataModelManagerTest {
         activeTenantDataModelManager.tenantChangedValidationMethod("2");
         
         assertNotNull(activeTenantDataModelManager.getActiveTenant());
+        verify(tenantNameCache, never()).invalidate();
     }
     
     @Test
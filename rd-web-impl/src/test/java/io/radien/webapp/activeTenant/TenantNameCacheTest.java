@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2006-present radien GmbH & its legal owners. All rights reserved.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.radien.webapp.activeTenant;
+
+import io.radien.ms.tenantmanagement.client.entities.Tenant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Class that aggregates UnitTest cases for TenantNameCache
+ */
+public class TenantNameCacheTest {
+
+    private static Tenant tenant(long id, String name) {
+        Tenant tenant = new Tenant();
+        tenant.setId(id);
+        tenant.setName(name);
+        return tenant;
+    }
+
+    /**
+     * Test for methods {@link TenantNameCache#putAll(java.util.Collection)} and {@link TenantNameCache#getAll(java.util.Collection)}
+     * Expected outcome: only the cached names are returned
+     */
+    @Test
+    public void testPutAndGet() {
+        TenantNameCache cache = new TenantNameCache();
+        cache.putAll(Arrays.asList(tenant(1L, "a"), tenant(2L, "b"), null));
+        cache.putAll(null);
+
+        Map<Long, String> names = cache.getAll(Arrays.asList(1L, 2L, 3L));
+        assertEquals(2, names.size());
+        assertEquals("b", names.get(2L));
+        assertNull(cache.get(3L));
+        assertNull(cache.get(null));
+
+        cache.invalidate();
+        assertNull(cache.get(1L));
+    }
+
+    /**
+     * Test for method {@link TenantNameCache#putAll(java.util.Collection)}
+     * Scenario: more tenants than the maximum number of entries
+     * Expected outcome: cache reset, most recent names kept
+     */
+    @Test
+    public void testMaxEntries() {
+        TenantNameCache cache = new TenantNameCache();
+        List<Tenant> tenants = new ArrayList<>();
+        for (long i = 0; i <= TenantNameCache.MAX_ENTRIES; i++) {
+            tenants.add(tenant(i, "t" + i));
+        }
+        cache.putAll(tenants);
+        assertNull(cache.get(0L));
+        assertEquals("t" + TenantNameCache.MAX_ENTRIES, cache.get((long) TenantNameCache.MAX_ENTRIES));
+    }
+}
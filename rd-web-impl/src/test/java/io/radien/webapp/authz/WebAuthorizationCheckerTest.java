@@ -23,6 +23,7 @@ import io.radien.exception.SystemException;
 import io.radien.ms.authz.client.TenantRoleClient;
 import io.radien.ms.authz.client.UserClient;
 import io.radien.ms.openid.entities.Principal;
+import java.util.Collections;
 import java.util.Optional;
 import javax.faces.context.FacesContext;
 import javax.servlet.http.HttpServletRequest;
@@ -306,9 +307,10 @@ public class WebAuthorizationCheckerTest extends JSFUtilAndFaceContextMessagesTe
         when(permissionRESTServiceAccess.getIdByResourceAndAction(resourceName, actionName)).
                 then(i -> Optional.of(permissionId));
         doReturn("token-yyz").when(tokensPlaceHolder).getAccessToken();
-        Response expectedResponse = Response.ok().entity(response).build();
-        doReturn(expectedResponse).when(tenantRoleClient).isPermissionExistentForUser(
-                userId, permissionId, tenantId);
+        Response expectedResponse = Response.ok().entity(response ? Collections.singletonList(permissionId) :
+                Collections.emptyList()).build();
+        doReturn(expectedResponse).when(tenantRoleClient).getGrantedPermissions(
+                userId, Collections.singletonList(permissionId), tenantId);
 
         when(userSession.isActive()).thenReturn(true);
 
@@ -324,9 +326,10 @@ public class WebAuthorizationCheckerTest extends JSFUtilAndFaceContextMessagesTe
         when(permissionRESTServiceAccess.getIdByResourceAndAction(resourceName, actionName)).
                 then(i -> Optional.of(permissionId));
         doReturn("token-yyz").when(tokensPlaceHolder).getAccessToken();
-        Response expectedResponse = Response.ok().entity(response).build();
-        doReturn(expectedResponse).when(tenantRoleClient).isPermissionExistentForUser(
-                userId, permissionId, tenantId);
+        Response expectedResponse = Response.ok().entity(response ? Collections.singletonList(permissionId) :
+                Collections.emptyList()).build();
+        doReturn(expectedResponse).when(tenantRoleClient).getGrantedPermissions(
+                userId, Collections.singletonList(permissionId), tenantId);
         when(userSession.isActive()).thenReturn(true);
 
        return webAuthorizationChecker.hasPermissionToUpdateUserEmail(tenantId);
@@ -360,8 +363,8 @@ public class WebAuthorizationCheckerTest extends JSFUtilAndFaceContextMessagesTe
                 getIdByResourceAndAction(any(),any())).thenReturn(Optional.of(1l));
 
         doReturn("token-yyz").when(tokensPlaceHolder).getAccessToken();
-        Response expectedResponse = Response.ok().entity(true).build();
-        doReturn(expectedResponse).when(tenantRoleClient).isPermissionExistentForUser(any(), any(), any());
+        Response expectedResponse = Response.ok().entity(Collections.singletonList(1L)).build();
+        doReturn(expectedResponse).when(tenantRoleClient).getGrantedPermissions(any(), any(), any());
 
         assertFalse(webAuthorizationChecker.redirectOnMissingPermission("Employee","Read",null,"Dest"));
     }
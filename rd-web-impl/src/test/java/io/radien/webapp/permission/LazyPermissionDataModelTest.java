@@ -19,6 +19,7 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.permission.SystemAction;
 import io.radien.api.model.permission.SystemResource;
@@ -151,7 +152,7 @@ public class LazyPermissionDataModelTest {
         List<Long> ids = LongStream.rangeClosed(1, pageSize)
                 .boxed().collect(Collectors.toList());
 
-        when(service.getAll(null,pageNo+1, pageSize, null, true)).
+        when(service.getAll(null,pageNo+1, pageSize, null, true, CountMode.EXACT)).
                 then(i -> setupMockedPage(pageSize));
         when(actionService.getActionsByIds(ids)).then(i -> setupMockedActionList(ids));
         when(resourceService.getResourcesByIds(ids)).then(i -> setupMockedResourceList(ids));
@@ -208,7 +209,7 @@ public class LazyPermissionDataModelTest {
 
         // Mocking the processing
         List<Long> ids = Collections.singletonList(1L);
-        when(service.getAll(null,pageNo+1, pageSize, null, true)).then(i -> setupMockedPage(pageSize));
+        when(service.getAll(null,pageNo+1, pageSize, null, true, CountMode.EXACT)).then(i -> setupMockedPage(pageSize));
         when(resourceService.getResourcesByIds(ids)).then(i -> setupMockedResourceList(ids));
         when(actionService.getActionsByIds(ids)).thenThrow(new SystemException(msgError));
 
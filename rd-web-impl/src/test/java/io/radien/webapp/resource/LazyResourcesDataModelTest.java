@@ -18,6 +18,7 @@ package io.radien.webapp.resource;
 import io.radien.api.model.permission.SystemResource;
 import io.radien.exception.SystemException;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.service.permission.ResourceRESTServiceAccess;
 
@@ -70,7 +71,7 @@ public class LazyResourcesDataModelTest {
     @Test
     public void testGetData() throws SystemException {
         doReturn(new Page<SystemResource>(systemActions, 1, 1, 1))
-                .when(service).getAll(null, 1, 1, null, true);
+                .when(service).getAll(null, 1, 1, null, true, CountMode.EXACT);
 
         assertNotNull(lazyResourcesDataModel.getData(0, 1, sortBy, filterBy));
     }
@@ -17,10 +17,13 @@ package io.radien.webapp.role;
 
 import io.radien.exception.SystemException;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.service.role.RoleRESTServiceAccess;
 
+import io.radien.ms.rolemanagement.client.entities.Role;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -34,6 +37,7 @@ import org.mockito.MockitoAnnotations;
 import org.primefaces.model.FilterMeta;
 import org.primefaces.model.SortMeta;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.doReturn;
 /**
@@ -69,7 +73,7 @@ public class LazyRoleDataModelTest {
     @Test
     public void testGetData() throws SystemException {
         doReturn(new Page<SystemRole>(systemRoles, 1, 1, 1))
-                .when(service).getAll(null,1, 1, null, true);
+                .when(service).getAll(null,1, 1, null, true, CountMode.EXACT);
 
         assertNull(lazyRoleDataModel.getData(0, 1, sortBy, filterBy));
     }
@@ -84,4 +88,31 @@ public class LazyRoleDataModelTest {
         lazyRoleDataModel.getData(1, 0, null, null);
     }
 
-}
\ No newline at end of file
+    /**
+     * Test method load() when the total was not counted
+     * Asserts row count extrapolated from the loaded rows
+     * @throws SystemException if any error
+     */
+    @Test
+    public void testLoadWithoutCount() throws SystemException {
+        Role role1 = new Role();
+        role1.setId(1L);
+        Role role2 = new Role();
+        role2.setId(2L);
+        Page<SystemRole> page = new Page<>(Arrays.asList(role1, role2), 2, Page.UNKNOWN, Page.UNKNOWN);
+        page.setCountMode(CountMode.NONE);
+        doReturn(page).when(service).getAll(null, 2, 2, null, false, CountMode.EXACT);
+
+        assertEquals(2, lazyRoleDataModel.load(2, 2, null, null).size());
+        assertEquals(6, lazyRoleDataModel.getRowCount());
+
+        page.setResults(Arrays.asList(role1));
+        assertEquals(1, lazyRoleDataModel.load(2, 2, null, null).size());
+        assertEquals(3, lazyRoleDataModel.getRowCount());
+
+        page.setCountMode(CountMode.CACHED);
+        page.setTotalResults(10);
+        lazyRoleDataModel.load(2, 2, null, null);
+        assertEquals(10, lazyRoleDataModel.getRowCount());
+    }
+}
@@ -17,6 +17,7 @@ package io.radien.webapp.tenant;
 
 import io.radien.exception.SystemException;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenant.SystemTenant;
 import io.radien.api.service.tenant.TenantRESTServiceAccess;
@@ -69,7 +70,7 @@ public class LazyTenantDataModelTest {
     @Test
     public void testGetData() throws SystemException {
         doReturn(new Page<SystemTenant>(systemTenants, 1, 1, 1))
-                .when(service).getAll(null,null,null,null,null,null,null,null,null,null,null,1, 1, null, true, true, true);
+                .when(service).getAll(null,null,null,null,null,null,null,null,null,null,null,null,1, 1, null, true, true, true, CountMode.EXACT);
 
         assertNull(lazyTenantDataModel.getData(0, 1, sortBy, filterBy));
     }
@@ -28,6 +28,7 @@ import io.radien.ms.tenantmanagement.client.entities.TenantType;
 import io.radien.webapp.DataModelEnum;
 import io.radien.webapp.JSFUtil;
 import io.radien.webapp.activeTenant.ActiveTenantDataModelManager;
+import io.radien.webapp.activeTenant.TenantNameCache;
 import io.radien.webapp.security.UserSession;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -80,6 +81,9 @@ public class TenantDataModelTest {
     @Mock
     private UserSession userSession;
 
+    @Mock
+    private TenantNameCache tenantNameCache;
+
     FacesContext facesContext;
 
     Tenant tenant;
@@ -177,6 +181,7 @@ public class TenantDataModelTest {
         tenant.setId(2L);
         doReturn(true).when(service).update(any());
         tenantDataModel.save(tenant);
+        verify(tenantNameCache).invalidate();
 
         ArgumentCaptor<FacesMessage> facesMessageCaptor = ArgumentCaptor.forClass(FacesMessage.class);
         verify(facesContext).addMessage(nullable(String.class), facesMessageCaptor.capture());
@@ -410,6 +415,7 @@ public class TenantDataModelTest {
         doReturn(true).when(service).deleteTenantHierarchy(anyLong());
 
         tenantDataModel.deleteTenantHierarchy();
+        verify(tenantNameCache).invalidate();
 
         ArgumentCaptor<FacesMessage> facesMessageCaptor = ArgumentCaptor.forClass(FacesMessage.class);
         verify(facesContext).addMessage(nullable(String.class), facesMessageCaptor.capture());
@@ -469,6 +475,7 @@ public class TenantDataModelTest {
         doReturn(true).when(service).update(any());
 
         assertEquals(DataModelEnum.TENANT_MAIN_PAGE.getValue(), tenantDataModel.edit(clientTenant));
+        verify(tenantNameCache).invalidate();
     }
 
     @Test
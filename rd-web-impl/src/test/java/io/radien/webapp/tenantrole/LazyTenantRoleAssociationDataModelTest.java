@@ -19,6 +19,7 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.role.SystemRole;
 import io.radien.api.model.tenant.SystemTenant;
@@ -155,7 +156,7 @@ public class LazyTenantRoleAssociationDataModelTest {
         List<Long> ids = LongStream.rangeClosed(1, pageSize)
                 .boxed().collect(Collectors.toList());
 
-        when(service.getAll(null,null,pageNo+1, pageSize,null,false)).then(i -> setupMockedPage(pageSize));
+        when(service.getAll(null,null,pageNo+1, pageSize,null,false, CountMode.EXACT)).then(i -> setupMockedPage(pageSize));
         when(roleService.getRolesByIds(ids)).then(i -> setupMockedRoleList(ids));
         when(tenantService.getTenantsByIds(ids)).then(i -> setupMockedTenantList(ids));
 
@@ -211,7 +212,7 @@ public class LazyTenantRoleAssociationDataModelTest {
 
         // Mocking the processing
         List<Long> ids = Collections.singletonList(1L);
-        when(service.getAll(null,null,pageNo+1, pageSize,null,false)).then(i -> setupMockedPage(pageSize));
+        when(service.getAll(null,null,pageNo+1, pageSize,null,false, CountMode.EXACT)).then(i -> setupMockedPage(pageSize));
         when(tenantService.getTenantsByIds(ids)).then(i -> setupMockedTenantList(ids));
         when(roleService.getRolesByIds(ids)).thenThrow(new SystemException(msgError));
 
@@ -15,6 +15,7 @@
  */
 package io.radien.webapp.tenantrole;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.tenantrole.SystemTenantRoleUser;
 import io.radien.api.model.user.SystemUser;
@@ -126,7 +127,7 @@ public class LazyTenantRoleUserDataModelTest {
         Long tenantRoleId = 111L;
         List<Long> ids = LongStream.rangeClosed(1, pageSize).boxed().collect(Collectors.toList());
 
-        when(service.getAll(tenantRoleId, null,pageNo+1, pageSize, null, true)).then(i -> setupMockedPage(pageSize));
+        when(service.getAll(tenantRoleId, null,pageNo+1, pageSize, null, true, CountMode.EXACT)).then(i -> setupMockedPage(pageSize));
         when(userService.getUsersByIds(ids)).then(i -> setupMockedUsers(ids));
 
         LazyTenantRoleUserDataModel lazyModel = new LazyTenantRoleUserDataModel(service, userService);
@@ -15,6 +15,7 @@
  */
 package io.radien.webapp.tenantrole;
 
+import io.radien.api.entity.CountMode;
 import io.radien.api.entity.Page;
 import io.radien.api.model.user.SystemUser;
 import io.radien.api.service.tenantrole.TenantRoleUserRESTServiceAccess;
@@ -121,7 +122,7 @@ public class LazyTenantingUserDataModelTest {
         Long tenantId = 111L;
         List<Long> ids = LongStream.rangeClosed(1, pageSize).boxed().collect(Collectors.toList());
 
-        when(service.getUsersIds(tenantId, null, pageNo+1, pageSize)).then(i -> setupMockedPage(pageSize));
+        when(service.getUsersIds(tenantId, null, pageNo+1, pageSize, CountMode.EXACT)).then(i -> setupMockedPage(pageSize));
         when(userService.getUsersByIds(ids)).then(i -> setupMockedUsers(ids));
 
         LazyTenantingUserDataModel lazyModel = new LazyTenantingUserDataModel(service, userService);
@@ -16,8 +16,6 @@
 
 package io.radien.webapp.user;
 
-import io.radien.api.model.tenant.SystemActiveTenant;
-import io.radien.api.model.tenantrole.SystemTenantRoleUser;
 import io.radien.api.model.user.SystemUser;
 import io.radien.api.security.UserSessionEnabled;
 import io.radien.api.service.permission.SystemActionsEnum;
@@ -27,7 +25,6 @@ import io.radien.api.service.tenantrole.TenantRoleUserRESTServiceAccess;
 import io.radien.api.service.user.UserRESTServiceAccess;
 
 import io.radien.exception.SystemException;
-import io.radien.ms.rolemanagement.client.entities.TenantRoleUser;
 import io.radien.ms.tenantmanagement.client.entities.ActiveTenant;
 import io.radien.ms.usermanagement.client.entities.User;
 
@@ -39,7 +36,6 @@ import io.radien.webapp.authz.WebAuthorizationChecker;
 import io.radien.webapp.tenantrole.LazyTenantingUserDataModel;
 
 import java.text.MessageFormat;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -572,16 +568,15 @@ public class UserDataModelTest extends JSFUtilAndFaceContextMessagesTest {
         userDataModel.setSelectedUser(user);
         when(userRESTServiceAccess.deleteUser(user.getId())).thenReturn(true);
         
-        List<? extends SystemTenantRoleUser> tenantRoleUsers = getTenantRoleUsersForDeleteUser(user.getId());
-        doReturn(tenantRoleUsers).when(tenantRoleUserRESTServiceAccess).getTenantRoleUsers(null, user.getId(), false);
-        when(tenantRoleUserRESTServiceAccess.delete(anyLong())).thenReturn(true);
+        when(tenantRoleUserRESTServiceAccess.deleteByUser(user.getId())).thenReturn(true);
+        when(activeTenantRESTServiceAccess.deleteByUser(user.getId())).thenReturn(true);
 
-        List<? extends SystemActiveTenant> systemActiveTenants = getActiveTenantForDeleteUser(user.getId());
-        doReturn(systemActiveTenants).when(activeTenantRESTServiceAccess).getActiveTenantByFilter(user.getId(), null);
-        when(activeTenantRESTServiceAccess.delete(anyLong())).thenReturn(true);
-        
         userDataModel.deleteUser();
         assertNotNull(userDataModel.getSelectedUser());
+        verify(tenantRoleUserRESTServiceAccess).deleteByUser(user.getId());
+        verify(activeTenantRESTServiceAccess).deleteByUser(user.getId());
+        verify(tenantRoleUserRESTServiceAccess, never()).delete(anyLong());
+        verify(activeTenantRESTServiceAccess, never()).delete(anyLong());
 
         userDataModel.setSelectedUser(null);
         userDataModel.deleteUser();
@@ -603,32 +598,6 @@ public class UserDataModelTest extends JSFUtilAndFaceContextMessagesTest {
         verify(userRESTServiceAccess, never()).deleteUser(anyLong());
     }
 
-    private List<? extends SystemTenantRoleUser> getTenantRoleUsersForDeleteUser(Long userId) {
-        List<SystemTenantRoleUser> result = new ArrayList<>();
-        
-        SystemTenantRoleUser stru = new TenantRoleUser();
-        stru.setId(1L);
-        stru.setTenantRoleId(1L);
-        stru.setUserId(userId);
-        
-        result.add(stru);
-        
-        return result;
-    }
-
-    private List<? extends SystemActiveTenant> getActiveTenantForDeleteUser(Long userId) {
-        List<SystemActiveTenant> result = new ArrayList<>();
-        
-        SystemActiveTenant sat = new ActiveTenant();
-        sat.setId(1L);
-        sat.setTenantId(2L);
-        sat.setUserId(userId);
-        
-        result.add(sat);
-        
-        return result;
-    }
-
     /**
      * Test for method {@link UserDataModel#deleteUser()}
      */